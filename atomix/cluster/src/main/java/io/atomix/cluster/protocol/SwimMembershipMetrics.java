@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.protocol;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+final class SwimMembershipMetrics {
+
+  private static final Histogram PROBE_LATENCY =
+      Histogram.build()
+          .namespace("atomix")
+          .name("swim_probe_latency")
+          .help("Round trip time of the successful direct probes of a member (in seconds)")
+          .buckets(0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5)
+          .register();
+
+  private static final Counter PROBES =
+      Counter.build()
+          .namespace("atomix")
+          .name("swim_probes_total")
+          .help("Number of direct probes of a member, by their result")
+          .labelNames("result")
+          .register();
+
+  private static final Counter SUSPICION_EVENTS =
+      Counter.build()
+          .namespace("atomix")
+          .name("swim_suspicion_events_total")
+          .help(
+              "Number of suspicion events: a member became suspect, was confirmed suspect by a "
+                  + "peer, was declared dead or became alive again, or the local member refuted a "
+                  + "suspicion about itself")
+          .labelNames("event")
+          .register();
+
+  private static final Histogram GOSSIP_MESSAGE_SIZE =
+      Histogram.build()
+          .namespace("atomix")
+          .name("swim_gossip_message_size")
+          .help("Size of the sent gossip messages (in bytes)")
+          .buckets(128, 256, 512, 1024, 2048, 4096, 8192, 16384, 32768, 65536)
+          .register();
+
+  private static final Histogram GOSSIP_MESSAGE_UPDATES =
+      Histogram.build()
+          .namespace("atomix")
+          .name("swim_gossip_message_updates")
+          .help("Number of member updates piggybacked on the sent gossip messages")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .register();
+
+  private static final Gauge PENDING_UPDATES =
+      Gauge.build()
+          .namespace("atomix")
+          .name("swim_gossip_pending_updates")
+          .help("Number of member updates which are still to be gossiped")
+          .register();
+
+  private static final Gauge LOCAL_HEALTH =
+      Gauge.build()
+          .namespace("atomix")
+          .name("swim_local_health")
+          .help(
+              "Local health score of the member, which scales its probe interval and timeout; "
+                  + "0 is healthy")
+          .register();
+
+  void probeSucceeded(final long latencyMillis) {
+    PROBES.labels("success").inc();
+    PROBE_LATENCY.observe(latencyMillis / 1000d);
+  }
+
+  void probeFailed() {
+    PROBES.labels("failure").inc();
+  }
+
+  void memberSuspected() {
+    SUSPICION_EVENTS.labels("suspect").inc();
+  }
+
+  void suspicionConfirmed() {
+    SUSPICION_EVENTS.labels("confirm").inc();
+  }
+
+  void suspicionRefuted() {
+    SUSPICION_EVENTS.labels("refute").inc();
+  }
+
+  void memberAlive() {
+    SUSPICION_EVENTS.labels("alive").inc();
+  }
+
+  void memberDead() {
+    SUSPICION_EVENTS.labels("dead").inc();
+  }
+
+  void gossipMessage(final int sizeInBytes, final int updates) {
+    GOSSIP_MESSAGE_SIZE.observe(sizeInBytes);
+    GOSSIP_MESSAGE_UPDATES.observe(updates);
+  }
+
+  void pendingUpdates(final int updates) {
+    PENDING_UPDATES.set(updates);
+  }
+
+  void localHealth(final int score) {
+    LOCAL_HEALTH.set(score);
+  }
+}
@@ -36,11 +36,12 @@ import io.atomix.utils.net.Address;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -90,7 +91,8 @@ public class SwimMembershipProtocol
   private final AtomicBoolean started = new AtomicBoolean();
   private final Map<MemberId, SwimMember> members = Maps.newConcurrentMap();
   private final List<SwimMember> randomMembers = Lists.newCopyOnWriteArrayList();
-  private final Map<MemberId, ImmutableMember> updates = new LinkedHashMap<>();
+  private final SwimUpdateQueue updates = new SwimUpdateQueue();
+  private final SwimMembershipMetrics metrics = new SwimMembershipMetrics();
   private final List<SwimMember> syncMembers = new ArrayList<>();
   private final ScheduledExecutorService swimScheduler =
       Executors.newSingleThreadScheduledExecutor(
@@ -110,8 +112,9 @@ public class SwimMembershipProtocol
   private final BiFunction<Address, byte[], byte[]> probeHandler =
       (address, payload) -> SERIALIZER.encode(handleProbe(SERIALIZER.decode(payload)));
   private final BiConsumer<Address, byte[]> gossipListener =
-      (address, payload) -> handleGossipUpdates(SERIALIZER.decode(payload));
+      (address, payload) -> handleGossipUpdates(address, SERIALIZER.decode(payload));
   private volatile Properties localProperties = new Properties();
+  private volatile int localHealth;
   private ScheduledFuture<?> gossipFuture;
   private ScheduledFuture<?> probeFuture;
   private ScheduledFuture<?> syncFuture;
@@ -303,6 +306,7 @@ public class SwimMembershipProtocol
       // If the updated state is SUSPECT, post a REACHABILITY_CHANGED event and record an update.
       if (member.state() == State.SUSPECT) {
         LOGGER.debug("{} - Member unreachable {}", localMember.id(), swimMember);
+        metrics.memberSuspected();
         post(
             new GroupMembershipEvent(
                 GroupMembershipEvent.Type.REACHABILITY_CHANGED, swimMember.copy()));
@@ -343,6 +347,7 @@ public class SwimMembershipProtocol
     }
     swimMember.setState(State.SUSPECT);
     LOGGER.debug("{} - Member unreachable {}", localMember.id(), swimMember);
+    metrics.memberSuspected();
     post(
         new GroupMembershipEvent(
             GroupMembershipEvent.Type.REACHABILITY_CHANGED, swimMember.copy()));
@@ -355,6 +360,7 @@ public class SwimMembershipProtocol
       final ImmutableMember member, final SwimMember swimMember) {
     swimMember.setState(State.ALIVE);
     LOGGER.debug("{} - Member reachable {}", localMember.id(), swimMember);
+    metrics.memberAlive();
     post(
         new GroupMembershipEvent(
             GroupMembershipEvent.Type.REACHABILITY_CHANGED, swimMember.copy()));
@@ -371,15 +377,23 @@ public class SwimMembershipProtocol
    * @param member the updated member
    */
   private void recordUpdate(final ImmutableMember member) {
-    updates.put(member.id(), member);
+    updates.add(member);
   }
 
   /** Checks suspect nodes for failures. */
   private void checkFailures() {
+    final int memberCount = members.size();
+    final int expectedConfirmations = Math.min(config.getSuspectProbes() - 1, memberCount - 2);
+
     for (final SwimMember member : members.values()) {
       if (member.getState() == State.SUSPECT
           && System.currentTimeMillis() - member.getUpdated()
-              > config.getFailureTimeout().toMillis()) {
+              > suspicionTimeout(
+                  config.getFailureTimeout().toMillis(),
+                  config.getMaxSuspicionTimeoutMultiplier(),
+                  memberCount,
+                  expectedConfirmations,
+                  member.getSuspicionConfirmations())) {
         member.setState(State.DEAD);
 
         tryRemoveMember(member);
@@ -388,12 +402,46 @@ public class SwimMembershipProtocol
     }
   }
 
+  /**
+   * Returns the time after which a suspect member is declared dead. The failure timeout grows
+   * logarithmically with the cluster size, since updates need more gossip rounds to reach all
+   * members of a larger cluster. If the maximum multiplier is greater than 1, the timeout starts at
+   * the maximum and decreases logarithmically towards the minimum with every independent
+   * confirmation of the suspicion, until the expected number of confirmations is reached.
+   *
+   * @param failureTimeout the configured failure timeout in milliseconds
+   * @param maxMultiplier the multiplier of the timeout without any confirmation
+   * @param memberCount the number of members, including the local member
+   * @param expectedConfirmations the number of confirmations after which the minimum is used
+   * @param confirmations the number of confirmations of the suspicion so far
+   * @return the suspicion timeout in milliseconds
+   */
+  static long suspicionTimeout(
+      final long failureTimeout,
+      final int maxMultiplier,
+      final int memberCount,
+      final int expectedConfirmations,
+      final int confirmations) {
+    final long minTimeout =
+        Math.round(failureTimeout * Math.max(1.0, Math.log10(Math.max(1, memberCount))));
+    if (maxMultiplier <= 1 || expectedConfirmations < 1) {
+      return minTimeout;
+    }
+
+    final long maxTimeout = minTimeout * maxMultiplier;
+    final double progress =
+        Math.log(Math.min(confirmations, expectedConfirmations) + 1.0)
+            / Math.log(expectedConfirmations + 1.0);
+    return Math.max(minTimeout, Math.round(maxTimeout - (maxTimeout - minTimeout) * progress));
+  }
+
   private void tryRemoveMember(final SwimMember member) {
     final var deadMember = members.remove(member.id());
     if (deadMember != null) {
       randomMembers.remove(member);
       Collections.shuffle(randomMembers);
       LOGGER.debug("{} - Member removed {}", localMember.id(), member);
+      metrics.memberDead();
       post(new GroupMembershipEvent(GroupMembershipEvent.Type.MEMBER_REMOVED, member.copy()));
     }
   }
@@ -499,6 +547,7 @@ public class SwimMembershipProtocol
    */
   private void probe(final ImmutableMember member) {
     LOGGER.trace("{} - Probing {}", localMember.id(), member);
+    final long startTime = System.currentTimeMillis();
     bootstrapService
         .getMessagingService()
         .sendAndReceive(
@@ -506,13 +555,16 @@ public class SwimMembershipProtocol
             MEMBERSHIP_PROBE,
             SERIALIZER.encode(Pair.of(localMember.copy(), member)),
             false,
-            config.getProbeTimeout())
+            getProbeTimeout())
         .whenCompleteAsync(
             (response, error) -> {
               if (error == null) {
+                metrics.probeSucceeded(System.currentTimeMillis() - startTime);
+                updateLocalHealth(-1);
                 updateState(SERIALIZER.decode(response));
               } else {
                 LOGGER.debug("{} - Failed to probe {}", localMember.id(), member, error);
+                metrics.probeFailed();
                 // Verify that the local member term has not changed and request probes from peers.
                 final SwimMember swimMember = members.get(member.id());
                 if (swimMember != null
@@ -550,6 +602,9 @@ public class SwimMembershipProtocol
     // If the probe indicates this member is suspect, increment the local term and respond.
     else if (localMember.state() == State.SUSPECT) {
       this.localMember.setIncarnationNumber(this.localMember.getIncarnationNumber() + 1);
+      // Being suspected although alive hints that this member is slow to respond to probes.
+      metrics.suspicionRefuted();
+      updateLocalHealth(1);
       if (config.isBroadcastDisputes()) {
         broadcast(this.localMember.copy());
       }
@@ -575,10 +630,17 @@ public class SwimMembershipProtocol
                   if (error == null && success) {
                     succeeded.set(true);
                   }
-                  // If the count is equal to the number of probe peers and no probe has succeeded,
-                  // the node is unreachable.
-                  else if (count == members.size() && !succeeded.get()) {
-                    failProbes(suspect);
+
+                  if (count == members.size()) {
+                    // If a probe of the peers has succeeded, the node is reachable but the local
+                    // member failed to probe it in time, so it may be slow itself.
+                    if (succeeded.get()) {
+                      updateLocalHealth(1);
+                    }
+                    // If no probe has succeeded, the node is unreachable.
+                    else {
+                      failProbes(suspect);
+                    }
                   }
                 },
                 swimScheduler);
@@ -614,7 +676,7 @@ public class SwimMembershipProtocol
             MEMBERSHIP_PROBE_REQUEST,
             SERIALIZER.encode(suspect),
             false,
-            config.getProbeTimeout().multipliedBy(2))
+            getProbeTimeout().multipliedBy(2))
         .<Boolean>thenApply(SERIALIZER::decode)
         .exceptionally(e -> false)
         .thenApply(
@@ -686,26 +748,15 @@ public class SwimMembershipProtocol
    * @param update the update to broadcast
    */
   private void broadcast(final ImmutableMember update) {
+    final List<ImmutableMember> updates = Lists.newArrayList(update);
+    final byte[] payload = SERIALIZER.encode(updates);
     for (final SwimMember member : members.values()) {
       if (!localMember.id().equals(member.id())) {
-        unicast(member, update);
+        gossip(member, updates, payload);
       }
     }
   }
 
-  /**
-   * Unicasts the given update to the given member.
-   *
-   * @param member the member to which to unicast the update
-   * @param update the update to unicast
-   */
-  private void unicast(final SwimMember member, final ImmutableMember update) {
-    bootstrapService
-        .getUnicastService()
-        .unicast(
-            member.address(), MEMBERSHIP_GOSSIP, SERIALIZER.encode(Lists.newArrayList(update)));
-  }
-
   /** Gossips pending updates to the cluster. */
   private void gossip() {
     // Check suspect nodes for failure timeouts.
@@ -714,18 +765,25 @@ public class SwimMembershipProtocol
     // Check local metadata for changes.
     checkMetadata();
 
-    // Copy and clear the list of pending updates.
+    // Take the next batch of pending updates and gossip it to peers.
     if (!updates.isEmpty()) {
-      final List<ImmutableMember> updates = Lists.newArrayList(this.updates.values());
-      this.updates.clear();
-
-      // Gossip the pending updates to peers.
-      gossip(updates);
+      gossip(updates.next(config.getMaxGossipUpdates(), getGossipRetransmits()));
     }
+    metrics.pendingUpdates(updates.size());
 
     scheduleGossip();
   }
 
+  /**
+   * Returns the number of gossip rounds in which an update is gossiped. It grows logarithmically
+   * with the cluster size, so that an update reaches all members of a large cluster even if some
+   * gossip messages are lost.
+   */
+  private int getGossipRetransmits() {
+    final int retransmitScale = (int) Math.ceil(Math.log10(members.size() + 1));
+    return config.getGossipRetransmitMultiplier() * Math.max(1, retransmitScale);
+  }
+
   /**
    * Gossips this node's pending updates with a random set of peers.
    *
@@ -738,8 +796,10 @@ public class SwimMembershipProtocol
     final List<SwimMember> members = Lists.newArrayList(randomMembers);
     if (!members.isEmpty()) {
       Collections.shuffle(members);
+      // The same message is sent to all selected peers, so it is encoded only once.
+      final byte[] payload = SERIALIZER.encode(updates);
       for (int i = 0; i < Math.min(members.size(), config.getGossipFanout()); i++) {
-        gossip(members.get(i), updates);
+        gossip(members.get(i), updates, payload);
       }
     }
   }
@@ -751,19 +811,60 @@ public class SwimMembershipProtocol
    * @param updates the updated members to gossip
    */
   private void gossip(final SwimMember member, final Collection<ImmutableMember> updates) {
+    gossip(member, updates, SERIALIZER.encode(updates));
+  }
+
+  private void gossip(
+      final SwimMember member, final Collection<ImmutableMember> updates, final byte[] payload) {
     LOGGER.trace("{} - Gossipping updates {} to {}", localMember.id(), updates, member);
-    bootstrapService
-        .getUnicastService()
-        .unicast(member.address(), MEMBERSHIP_GOSSIP, SERIALIZER.encode(updates));
+    metrics.gossipMessage(payload.length, updates.size());
+    bootstrapService.getUnicastService().unicast(member.address(), MEMBERSHIP_GOSSIP, payload);
   }
 
   /** Handles a gossip message from a peer. */
-  private void handleGossipUpdates(final Collection<ImmutableMember> updates) {
+  private void handleGossipUpdates(
+      final Address address, final Collection<ImmutableMember> updates) {
     for (final ImmutableMember update : updates) {
-      updateState(update);
+      if (!updateState(update)) {
+        confirmSuspicion(address, update);
+      }
     }
   }
 
+  /**
+   * Counts the given update as a confirmation of the suspicion of the member if it is suspect with
+   * the same incarnation number, and the peer didn't confirm it before.
+   */
+  private void confirmSuspicion(final Address address, final ImmutableMember update) {
+    final SwimMember swimMember = members.get(update.id());
+    if (swimMember != null
+        && update.state() == State.SUSPECT
+        && swimMember.getState() == State.SUSPECT
+        && swimMember.getIncarnationNumber() == update.incarnationNumber()
+        && swimMember.confirmSuspicion(address)) {
+      LOGGER.trace("{} - Suspicion of {} confirmed by {}", localMember.id(), swimMember, address);
+      metrics.suspicionConfirmed();
+    }
+  }
+
+  /**
+   * Changes the local health score by the given delta, within the bounds given by the maximum local
+   * health multiplier. The probe interval and timeout are multiplied by the score plus one.
+   */
+  private void updateLocalHealth(final int delta) {
+    final int maxScore = config.getMaxLocalHealthMultiplier() - 1;
+    final int score = Math.max(0, Math.min(maxScore, localHealth + delta));
+    if (score != localHealth) {
+      localHealth = score;
+      LOGGER.debug("{} - Local health score changed to {}", localMember.id(), score);
+      metrics.localHealth(score);
+    }
+  }
+
+  private Duration getProbeTimeout() {
+    return config.getProbeTimeout().multipliedBy(localHealth + 1L);
+  }
+
   /**
    * Handles a member location event.
    *
@@ -843,7 +944,9 @@ public class SwimMembershipProtocol
   private void scheduleProbe() {
     probeFuture =
         swimScheduler.schedule(
-            (Runnable) this::probe, config.getProbeInterval().toMillis(), TimeUnit.MILLISECONDS);
+            (Runnable) this::probe,
+            config.getProbeInterval().toMillis() * (localHealth + 1),
+            TimeUnit.MILLISECONDS);
   }
 
   /** Bootstrap member location provider type. */
@@ -940,6 +1043,7 @@ public class SwimMembershipProtocol
     private volatile State state;
     private volatile long incarnationNumber;
     private volatile long updated;
+    private final Set<Address> suspicionConfirmations = new HashSet<>();
 
     SwimMember(final MemberId id, final Address address) {
       super(id, address);
@@ -994,9 +1098,29 @@ public class SwimMembershipProtocol
       if (this.state != state) {
         this.state = state;
         setUpdated(System.currentTimeMillis());
+        suspicionConfirmations.clear();
       }
     }
 
+    /**
+     * Records that the given peer confirmed the suspicion of the member.
+     *
+     * @param peer the address of the peer
+     * @return true if the peer didn't confirm the suspicion before
+     */
+    boolean confirmSuspicion(final Address peer) {
+      return suspicionConfirmations.add(peer);
+    }
+
+    /**
+     * Returns the number of peers which confirmed the suspicion of the member.
+     *
+     * @return the number of suspicion confirmations
+     */
+    int getSuspicionConfirmations() {
+      return suspicionConfirmations.size();
+    }
+
     @Override
     public boolean isActive() {
       return state.isActive();
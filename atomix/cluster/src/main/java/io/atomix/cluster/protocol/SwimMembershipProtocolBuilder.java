@@ -133,6 +133,54 @@ public class SwimMembershipProtocolBuilder extends GroupMembershipProtocolBuilde
     return this;
   }
 
+  /**
+   * Sets the maximum number of member updates which are piggybacked on a gossip message.
+   *
+   * @param maxGossipUpdates the maximum number of member updates per gossip message
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withMaxGossipUpdates(final int maxGossipUpdates) {
+    config.setMaxGossipUpdates(maxGossipUpdates);
+    return this;
+  }
+
+  /**
+   * Sets the multiplier of the number of gossip rounds in which a member update is gossiped.
+   *
+   * @param gossipRetransmitMultiplier the gossip retransmit multiplier
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withGossipRetransmitMultiplier(
+      final int gossipRetransmitMultiplier) {
+    config.setGossipRetransmitMultiplier(gossipRetransmitMultiplier);
+    return this;
+  }
+
+  /**
+   * Sets the maximum multiplier of the probe interval and timeout if the local member is unhealthy.
+   *
+   * @param maxLocalHealthMultiplier the maximum local health multiplier
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withMaxLocalHealthMultiplier(
+      final int maxLocalHealthMultiplier) {
+    config.setMaxLocalHealthMultiplier(maxLocalHealthMultiplier);
+    return this;
+  }
+
+  /**
+   * Sets the maximum multiplier of the failure timeout of a suspect member which is not confirmed
+   * suspect by other members.
+   *
+   * @param maxSuspicionTimeoutMultiplier the maximum suspicion timeout multiplier
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withMaxSuspicionTimeoutMultiplier(
+      final int maxSuspicionTimeoutMultiplier) {
+    config.setMaxSuspicionTimeoutMultiplier(maxSuspicionTimeoutMultiplier);
+    return this;
+  }
+
   @Override
   public GroupMembershipProtocol build() {
     return new SwimMembershipProtocol(config);
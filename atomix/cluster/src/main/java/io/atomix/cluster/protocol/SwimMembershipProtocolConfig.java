@@ -33,6 +33,10 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
   private static final int DEFAULT_SUSPECT_PROBES = 3;
   private static final int DEFAULT_FAILURE_TIMEOUT = 10000;
   private static final int DEFAULT_SYNC_INTERVAL = 10_000;
+  private static final int DEFAULT_MAX_GOSSIP_UPDATES = 32;
+  private static final int DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER = 1;
+  private static final int DEFAULT_MAX_LOCAL_HEALTH_MULTIPLIER = 8;
+  private static final int DEFAULT_MAX_SUSPICION_TIMEOUT_MULTIPLIER = 1;
 
   private boolean broadcastUpdates = DEFAULT_BROADCAST_UPDATES;
   private boolean broadcastDisputes = DEFAULT_BROADCAST_DISPUTES;
@@ -44,6 +48,10 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
   private int suspectProbes = DEFAULT_SUSPECT_PROBES;
   private Duration failureTimeout = Duration.ofMillis(DEFAULT_FAILURE_TIMEOUT);
   private Duration syncInterval = Duration.ofMillis(DEFAULT_SYNC_INTERVAL);
+  private int maxGossipUpdates = DEFAULT_MAX_GOSSIP_UPDATES;
+  private int gossipRetransmitMultiplier = DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER;
+  private int maxLocalHealthMultiplier = DEFAULT_MAX_LOCAL_HEALTH_MULTIPLIER;
+  private int maxSuspicionTimeoutMultiplier = DEFAULT_MAX_SUSPICION_TIMEOUT_MULTIPLIER;
 
   /**
    * Returns whether to broadcast member updates to all peers.
@@ -260,6 +268,106 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
     return this;
   }
 
+  /**
+   * Returns the maximum number of member updates which are piggybacked on a gossip message.
+   *
+   * @return the maximum number of member updates per gossip message
+   */
+  public int getMaxGossipUpdates() {
+    return maxGossipUpdates;
+  }
+
+  /**
+   * Sets the maximum number of member updates which are piggybacked on a gossip message. Further
+   * pending updates are gossiped in the next gossip rounds, the least transmitted and most recent
+   * updates first.
+   *
+   * @param maxGossipUpdates the maximum number of member updates per gossip message
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setMaxGossipUpdates(final int maxGossipUpdates) {
+    checkArgument(maxGossipUpdates > 0, "maxGossipUpdates must be positive");
+    this.maxGossipUpdates = maxGossipUpdates;
+    return this;
+  }
+
+  /**
+   * Returns the gossip retransmit multiplier.
+   *
+   * @return the gossip retransmit multiplier
+   */
+  public int getGossipRetransmitMultiplier() {
+    return gossipRetransmitMultiplier;
+  }
+
+  /**
+   * Sets the gossip retransmit multiplier. A member update is gossiped in {@code multiplier *
+   * ceil(log10(n + 1))} gossip rounds, where {@code n} is the number of members, so that it still
+   * reaches all members of a large cluster if some gossip messages are lost.
+   *
+   * @param gossipRetransmitMultiplier the gossip retransmit multiplier
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setGossipRetransmitMultiplier(
+      final int gossipRetransmitMultiplier) {
+    checkArgument(gossipRetransmitMultiplier > 0, "gossipRetransmitMultiplier must be positive");
+    this.gossipRetransmitMultiplier = gossipRetransmitMultiplier;
+    return this;
+  }
+
+  /**
+   * Returns the maximum local health multiplier.
+   *
+   * @return the maximum local health multiplier
+   */
+  public int getMaxLocalHealthMultiplier() {
+    return maxLocalHealthMultiplier;
+  }
+
+  /**
+   * Sets the maximum local health multiplier. The probe interval and timeout of the local member
+   * are multiplied by its local health score plus one, which grows up to this multiplier if its
+   * probes fail while the probes of other members succeed, or if it has to refute a suspicion about
+   * itself. This keeps a slow or overloaded member from declaring healthy members as suspect. A
+   * value of 1 disables the scaling.
+   *
+   * @param maxLocalHealthMultiplier the maximum local health multiplier
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setMaxLocalHealthMultiplier(
+      final int maxLocalHealthMultiplier) {
+    checkArgument(maxLocalHealthMultiplier > 0, "maxLocalHealthMultiplier must be positive");
+    this.maxLocalHealthMultiplier = maxLocalHealthMultiplier;
+    return this;
+  }
+
+  /**
+   * Returns the maximum suspicion timeout multiplier.
+   *
+   * @return the maximum suspicion timeout multiplier
+   */
+  public int getMaxSuspicionTimeoutMultiplier() {
+    return maxSuspicionTimeoutMultiplier;
+  }
+
+  /**
+   * Sets the maximum suspicion timeout multiplier. A suspect member is declared dead after the
+   * failure timeout, scaled by {@code max(1, log10(n))} where {@code n} is the number of members.
+   * With a multiplier greater than 1, the timeout starts at the scaled failure timeout times this
+   * multiplier and decreases towards the scaled failure timeout as other members confirm the
+   * suspicion.
+   *
+   * @param maxSuspicionTimeoutMultiplier the maximum suspicion timeout multiplier
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setMaxSuspicionTimeoutMultiplier(
+      final int maxSuspicionTimeoutMultiplier) {
+    checkArgument(
+        maxSuspicionTimeoutMultiplier > 0, "maxSuspicionTimeoutMultiplier must be positive");
+    this.maxSuspicionTimeoutMultiplier = maxSuspicionTimeoutMultiplier;
+    return this;
+  }
+
   @Override
   public GroupMembershipProtocol.Type getType() {
     return SwimMembershipProtocol.TYPE;
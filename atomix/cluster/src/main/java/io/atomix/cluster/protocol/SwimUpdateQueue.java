@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.protocol;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.protocol.SwimMembershipProtocol.ImmutableMember;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queue of the member updates which are piggybacked on the gossip messages. It holds at most one
+ * update per member, since a newer update of a member supersedes the older one.
+ *
+ * <p>Every gossip round takes a bounded batch of updates, preferring the updates which were
+ * transmitted the least often and, among those, the most recent ones. An update is dropped after it
+ * was transmitted the given number of times.
+ *
+ * <p>The queue is not thread-safe; it must only be accessed from the SWIM scheduler.
+ */
+final class SwimUpdateQueue {
+
+  private static final Comparator<Entry> TRANSMIT_ORDER =
+      Comparator.<Entry>comparingInt(entry -> entry.transmissions)
+          .thenComparing(entry -> entry.sequence, Comparator.reverseOrder());
+
+  private final Map<MemberId, Entry> entries = new HashMap<>();
+  private long sequence;
+
+  /** Adds the update, replacing any pending update of the same member. */
+  void add(final ImmutableMember update) {
+    entries.put(update.id(), new Entry(update, sequence++));
+  }
+
+  /**
+   * Takes the next batch of updates to gossip and counts it as transmitted.
+   *
+   * @param maxUpdates the maximum number of updates in the batch
+   * @param maxTransmissions the number of times an update is transmitted before it is dropped
+   * @return the updates to gossip, or an empty list if there are no pending updates
+   */
+  List<ImmutableMember> next(final int maxUpdates, final int maxTransmissions) {
+    if (entries.isEmpty()) {
+      return List.of();
+    }
+
+    final List<Entry> pending = new ArrayList<>(entries.values());
+    pending.sort(TRANSMIT_ORDER);
+
+    final int batchSize = Math.min(maxUpdates, pending.size());
+    final List<ImmutableMember> batch = new ArrayList<>(batchSize);
+    for (final Entry entry : pending.subList(0, batchSize)) {
+      batch.add(entry.update);
+
+      entry.transmissions += 1;
+      if (entry.transmissions >= maxTransmissions) {
+        entries.remove(entry.update.id());
+      }
+    }
+
+    return batch;
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  private static final class Entry {
+    private final ImmutableMember update;
+    private final long sequence;
+    private int transmissions;
+
+    private Entry(final ImmutableMember update, final long sequence) {
+      this.update = update;
+      this.sequence = sequence;
+    }
+  }
+}
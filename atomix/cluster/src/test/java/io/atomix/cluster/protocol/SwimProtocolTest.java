@@ -320,6 +320,60 @@ public class SwimProtocolTest extends ConcurrentTestCase {
     Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> hasNewProperty(protocol3));
   }
 
+  @Test
+  public void shouldPropagateUpdatesWithBoundedGossipMessages() throws InterruptedException {
+    // given
+    final UnaryOperator<SwimMembershipProtocolConfig> configurator =
+        config -> config.setMaxGossipUpdates(1).setGossipRetransmitMultiplier(3);
+    startProtocol(member1, configurator);
+    startProtocol(member2, configurator);
+    startProtocol(member3, configurator);
+
+    awaitMembers(member3, member1, member2, member3);
+    awaitMembers(member2, member1, member2, member3);
+    awaitMembers(member1, member1, member2, member3);
+
+    clearEvents(member1, member2, member3);
+
+    // when
+    member1.properties().put("foo", "bar");
+    member2.properties().put("foo", "baz");
+
+    // then
+    for (final Member member : members) {
+      checkEvents(
+          member,
+          new GroupMembershipEvent(METADATA_CHANGED, member1),
+          new GroupMembershipEvent(METADATA_CHANGED, member2));
+    }
+  }
+
+  @Test
+  public void shouldScaleSuspicionTimeoutWithClusterSize() {
+    // when
+    final long smallClusterTimeout = SwimMembershipProtocol.suspicionTimeout(1_000, 1, 3, 1, 0);
+    final long largeClusterTimeout = SwimMembershipProtocol.suspicionTimeout(1_000, 1, 100, 2, 0);
+
+    // then
+    assertThat(smallClusterTimeout).isEqualTo(1_000);
+    assertThat(largeClusterTimeout).isEqualTo(2_000);
+  }
+
+  @Test
+  public void shouldDecreaseSuspicionTimeoutWithConfirmations() {
+    // when
+    final long unconfirmedTimeout = SwimMembershipProtocol.suspicionTimeout(1_000, 4, 5, 2, 0);
+    final long confirmedOnceTimeout = SwimMembershipProtocol.suspicionTimeout(1_000, 4, 5, 2, 1);
+    final long confirmedTimeout = SwimMembershipProtocol.suspicionTimeout(1_000, 4, 5, 2, 2);
+    final long overConfirmedTimeout = SwimMembershipProtocol.suspicionTimeout(1_000, 4, 5, 2, 5);
+
+    // then
+    assertThat(unconfirmedTimeout).isEqualTo(4_000);
+    assertThat(confirmedOnceTimeout).isLessThan(unconfirmedTimeout).isGreaterThan(1_000);
+    assertThat(confirmedTimeout).isEqualTo(1_000);
+    assertThat(overConfirmedTimeout).isEqualTo(1_000);
+  }
+
   private boolean hasNewProperty(final SwimMembershipProtocol protocol3) {
     final var memberOne = protocol3.getMember(member1.id());
 
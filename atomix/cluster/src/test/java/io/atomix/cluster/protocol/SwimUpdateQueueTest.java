@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.protocol.SwimMembershipProtocol.ImmutableMember;
+import io.atomix.cluster.protocol.SwimMembershipProtocol.State;
+import io.atomix.utils.net.Address;
+import java.util.Properties;
+import org.junit.Test;
+
+public final class SwimUpdateQueueTest {
+
+  private final SwimUpdateQueue queue = new SwimUpdateQueue();
+
+  @Test
+  public void shouldLimitUpdatesPerBatch() {
+    // given
+    queue.add(update("1", 1));
+    queue.add(update("2", 1));
+    queue.add(update("3", 1));
+
+    // when
+    final var batch = queue.next(2, 1);
+
+    // then
+    assertThat(batch).hasSize(2);
+    assertThat(queue.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldPreferMostRecentUpdates() {
+    // given
+    queue.add(update("1", 1));
+    queue.add(update("2", 1));
+    queue.add(update("3", 1));
+
+    // when
+    final var batch = queue.next(2, 1);
+
+    // then
+    assertThat(batch).extracting(ImmutableMember::id).containsExactly(id("3"), id("2"));
+    assertThat(queue.next(2, 1)).extracting(ImmutableMember::id).containsExactly(id("1"));
+  }
+
+  @Test
+  public void shouldPreferLeastTransmittedUpdates() {
+    // given
+    queue.add(update("1", 1));
+    queue.next(1, 3);
+
+    // when
+    queue.add(update("2", 1));
+    final var batch = queue.next(1, 3);
+
+    // then
+    assertThat(batch).extracting(ImmutableMember::id).containsExactly(id("2"));
+  }
+
+  @Test
+  public void shouldRetransmitUpdatesUpToLimit() {
+    // given
+    queue.add(update("1", 1));
+
+    // when
+    final var firstBatch = queue.next(1, 2);
+    final var secondBatch = queue.next(1, 2);
+    final var thirdBatch = queue.next(1, 2);
+
+    // then
+    assertThat(firstBatch).hasSize(1);
+    assertThat(secondBatch).hasSize(1);
+    assertThat(thirdBatch).isEmpty();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldReplacePendingUpdateOfSameMember() {
+    // given
+    queue.add(update("1", 1));
+    queue.next(1, 2);
+
+    // when
+    queue.add(update("1", 2));
+
+    // then
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.next(1, 2)).extracting(ImmutableMember::incarnationNumber).containsExactly(2L);
+    assertThat(queue.next(1, 2)).hasSize(1);
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  private static MemberId id(final String id) {
+    return MemberId.from(id);
+  }
+
+  private static ImmutableMember update(final String id, final long incarnationNumber) {
+    return new ImmutableMember(
+        id(id),
+        new Address("localhost", 5000),
+        null,
+        null,
+        null,
+        new Properties(),
+        null,
+        0,
+        State.ALIVE,
+        incarnationNumber);
+  }
+}
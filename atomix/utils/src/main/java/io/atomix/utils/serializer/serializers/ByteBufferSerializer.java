@@ -30,8 +30,14 @@ public class ByteBufferSerializer extends Serializer<ByteBuffer> {
     output.writeBoolean(object.isDirect());
     output.writeBoolean(ByteOrder.LITTLE_ENDIAN.equals(object.order()));
     output.writeInt(object.remaining());
-    for (int i = object.position(); i < object.limit(); i++) {
-      output.writeByte(object.get(i));
+
+    if (object.hasArray()) {
+      output.writeBytes(
+          object.array(), object.arrayOffset() + object.position(), object.remaining());
+    } else {
+      for (int i = object.position(); i < object.limit(); i++) {
+        output.writeByte(object.get(i));
+      }
     }
   }
 
@@ -55,8 +61,12 @@ public class ByteBufferSerializer extends Serializer<ByteBuffer> {
       buffer.order(ByteOrder.BIG_ENDIAN);
     }
 
-    for (int i = 0; i < capacity; i++) {
-      buffer.put(i, input.readByte());
+    if (buffer.hasArray()) {
+      input.readBytes(buffer.array(), buffer.arrayOffset(), capacity);
+    } else {
+      for (int i = 0; i < capacity; i++) {
+        buffer.put(i, input.readByte());
+      }
     }
 
     return buffer;
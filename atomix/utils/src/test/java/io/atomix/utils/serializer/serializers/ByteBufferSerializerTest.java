@@ -120,6 +120,25 @@ public class ByteBufferSerializerTest {
     assertEquals(value, deserialized.getLong(0));
   }
 
+  @Test
+  public void shouldSerializeSlicedHeapBuffer() {
+    // given
+    final int value = 1;
+    final int capacity = Long.BYTES;
+    final ByteBuffer original =
+        ByteBuffer.allocate(capacity * 2).putLong(capacity, value).position(capacity).slice();
+
+    // when
+    KRYO.writeObject(output, original);
+    buffer.flip();
+    final ByteBuffer deserialized = KRYO.readObject(input, ByteBuffer.class);
+
+    // then
+    assertEquals(capacity, deserialized.remaining());
+    assertEquals(capacity, deserialized.capacity());
+    assertEquals(value, deserialized.getLong(0));
+  }
+
   @Test
   public void shouldSerializeLittleEndianBuffer() {
     // given
@@ -64,6 +64,10 @@ public final class AtomixFactory {
             .withNotifySuspect(membershipCfg.isNotifySuspect())
             .withSuspectProbes(membershipCfg.getSuspectProbes())
             .withSyncInterval(membershipCfg.getSyncInterval())
+            .withMaxGossipUpdates(membershipCfg.getMaxGossipUpdates())
+            .withGossipRetransmitMultiplier(membershipCfg.getGossipRetransmitMultiplier())
+            .withMaxLocalHealthMultiplier(membershipCfg.getMaxLocalHealthMultiplier())
+            .withMaxSuspicionTimeoutMultiplier(membershipCfg.getMaxSuspicionTimeoutMultiplier())
             .build();
 
     final AtomixBuilder atomixBuilder =
@@ -17,14 +17,17 @@ import io.zeebe.broker.PartitionListener;
 import io.zeebe.broker.system.configuration.ClusterCfg;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.impl.encoding.TopologyDelta;
 import io.zeebe.util.LogUtil;
 import io.zeebe.util.VersionUtil;
 import io.zeebe.util.health.HealthStatus;
 import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.function.Function;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
@@ -40,6 +43,9 @@ public final class TopologyManagerImpl extends Actor
 
   private final List<TopologyPartitionListener> topologyPartitionListeners = new ArrayList<>();
   private final String actorName;
+  private final TopologyDelta topologyDelta = new TopologyDelta();
+  // starts at the current time so that the versions of a restarted broker are still increasing
+  private long topologyVersion = System.currentTimeMillis();
 
   public TopologyManagerImpl(
       final Atomix atomix, final BrokerInfo localBroker, final ClusterCfg clusterCfg) {
@@ -96,6 +102,7 @@ public final class TopologyManagerImpl extends Actor
           partitionLeaders.put(partitionId, localBroker);
           localBroker.setLeaderForPartition(partitionId, term);
           publishTopologyChanges();
+          publishLeaderDelta(partitionId, term);
           notifyPartitionLeaderUpdated(partitionId, localBroker);
         });
   }
@@ -240,10 +247,25 @@ public final class TopologyManagerImpl extends Actor
 
   // Propagate local partition info to other nodes through Atomix member properties
   private void publishTopologyChanges() {
+    topologyVersion += 1;
     final Properties memberProperties = atomix.getMembershipService().getLocalMember().properties();
     localBroker.writeIntoProperties(memberProperties);
   }
 
+  // Send the new leader directly to the subscribers (i.e. the gateways), since it takes a few
+  // gossip rounds until the member properties reach them
+  private void publishLeaderDelta(final int partitionId, final long term) {
+    topologyDelta
+        .setNodeId(localBroker.getNodeId())
+        .setVersion(topologyVersion)
+        .setTimestamp(ActorClock.currentTimeMillis())
+        .setPartitionId(partitionId)
+        .setTerm(term);
+    atomix
+        .getEventService()
+        .broadcast(TopologyDelta.TOPIC, topologyDelta.toBytes(), Function.identity());
+  }
+
   @Override
   public void removeTopologyPartitionListener(final TopologyPartitionListener listener) {
     actor.run(() -> topologyPartitionListeners.remove(listener));
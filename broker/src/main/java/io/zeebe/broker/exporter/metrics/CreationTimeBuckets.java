@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import org.agrona.collections.Long2LongHashMap;
+
+/**
+ * Keeps the creation time of keys in a ring of buckets of one second each, by the creation time.
+ * Expired entries are dropped with their whole bucket, either when the bucket is reused for a newer
+ * second or on {@link #expire(long)}, instead of one by one.
+ *
+ * <p>A key is looked up in the buckets from the newest to the oldest one, since most entries are
+ * removed shortly after they are created.
+ */
+final class CreationTimeBuckets {
+
+  static final long MISSING = -1;
+
+  private static final long BUCKET_DURATION_MS = 1000;
+  private static final long NO_BUCKET = Long.MIN_VALUE;
+
+  private final Long2LongHashMap[] buckets;
+  private final long[] bucketIds;
+  private long latestBucketId = NO_BUCKET;
+
+  CreationTimeBuckets(final Duration timeToLive) {
+    final int bucketCount = (int) (timeToLive.toMillis() / BUCKET_DURATION_MS) + 1;
+    buckets = new Long2LongHashMap[bucketCount];
+    bucketIds = new long[bucketCount];
+
+    for (int i = 0; i < bucketCount; i++) {
+      buckets[i] = new Long2LongHashMap(MISSING);
+    }
+    Arrays.fill(bucketIds, NO_BUCKET);
+  }
+
+  /**
+   * Stores the creation time of the key. It is ignored if it is older than the time to live,
+   * relative to the newest creation time.
+   */
+  void put(final long key, final long creationTime) {
+    final long bucketId = creationTime / BUCKET_DURATION_MS;
+    if (latestBucketId == NO_BUCKET || bucketId > latestBucketId) {
+      latestBucketId = bucketId;
+    } else if (bucketId <= latestBucketId - buckets.length) {
+      return;
+    }
+
+    final int index = index(bucketId);
+    if (bucketIds[index] != bucketId) {
+      // the bucket belongs to an expired second
+      buckets[index].clear();
+      bucketIds[index] = bucketId;
+    }
+    buckets[index].put(key, creationTime);
+  }
+
+  /** @return the creation time of the key, or {@link #MISSING} if it is not stored */
+  long get(final long key) {
+    return lookup(key, false);
+  }
+
+  /** @return the creation time of the removed key, or {@link #MISSING} if it is not stored */
+  long remove(final long key) {
+    return lookup(key, true);
+  }
+
+  /** Drops the buckets which are older than the time to live, relative to the given time. */
+  void expire(final long currentTimeMillis) {
+    final long oldestBucketId = currentTimeMillis / BUCKET_DURATION_MS - buckets.length + 1;
+    for (int i = 0; i < buckets.length; i++) {
+      if (bucketIds[i] != NO_BUCKET && bucketIds[i] < oldestBucketId) {
+        buckets[i].clear();
+        bucketIds[i] = NO_BUCKET;
+      }
+    }
+  }
+
+  void clear() {
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i].clear();
+      bucketIds[i] = NO_BUCKET;
+    }
+    latestBucketId = NO_BUCKET;
+  }
+
+  int size() {
+    int size = 0;
+    for (final Long2LongHashMap bucket : buckets) {
+      size += bucket.size();
+    }
+    return size;
+  }
+
+  private long lookup(final long key, final boolean remove) {
+    if (latestBucketId == NO_BUCKET) {
+      return MISSING;
+    }
+
+    for (int i = 0; i < buckets.length; i++) {
+      final long bucketId = latestBucketId - i;
+      final int index = index(bucketId);
+      if (bucketIds[index] == bucketId) {
+        final Long2LongHashMap bucket = buckets[index];
+        final long creationTime = remove ? bucket.remove(key) : bucket.get(key);
+        if (creationTime != MISSING) {
+          return creationTime;
+        }
+      }
+    }
+    return MISSING;
+  }
+
+  private int index(final long bucketId) {
+    return (int) Math.floorMod(bucketId, (long) buckets.length);
+  }
+}
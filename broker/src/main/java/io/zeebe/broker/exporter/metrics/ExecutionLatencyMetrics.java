@@ -8,15 +8,25 @@
 package io.zeebe.broker.exporter.metrics;
 
 import io.prometheus.client.Histogram;
+import java.util.HashSet;
+import java.util.Set;
 
 public class ExecutionLatencyMetrics {
 
+  /**
+   * The max number of distinct BPMN process ids and job types which are used as label, to bound the
+   * number of time series; other values are observed as {@link #OTHER_LABEL_VALUE}.
+   */
+  static final int MAX_LABEL_VALUES = 100;
+
+  static final String OTHER_LABEL_VALUE = "other";
+
   private static final Histogram WORKFLOW_INSTANCE_EXECUTION =
       Histogram.build()
           .namespace("zeebe")
           .name("workflow_instance_execution_time")
           .help("The execution time of processing a complete workflow instance")
-          .labelNames("partition")
+          .labelNames("partition", "bpmnProcessId")
           .register();
 
   private static final Histogram JOB_LIFE_TIME =
@@ -24,7 +34,7 @@ public class ExecutionLatencyMetrics {
           .namespace("zeebe")
           .name("job_life_time")
           .help("The life time of an job")
-          .labelNames("partition")
+          .labelNames("partition", "jobType")
           .register();
 
   private static final Histogram JOB_ACTIVATION_TIME =
@@ -32,30 +42,50 @@ public class ExecutionLatencyMetrics {
           .namespace("zeebe")
           .name("job_activation_time")
           .help("The time until an job was activated")
-          .labelNames("partition")
+          .labelNames("partition", "jobType")
           .register();
 
+  private final Set<String> bpmnProcessIds = new HashSet<>();
+  private final Set<String> jobTypes = new HashSet<>();
+
   public void observeWorkflowInstanceExecutionTime(
-      final int partitionId, final long creationTimeMs, final long completionTimeMs) {
+      final int partitionId,
+      final String bpmnProcessId,
+      final long creationTimeMs,
+      final long completionTimeMs) {
     WORKFLOW_INSTANCE_EXECUTION
-        .labels(Integer.toString(partitionId))
+        .labels(Integer.toString(partitionId), boundedLabel(bpmnProcessIds, bpmnProcessId))
         .observe(latencyInSeconds(creationTimeMs, completionTimeMs));
   }
 
   public void observeJobLifeTime(
-      final int partitionId, final long creationTimeMs, final long completionTimeMs) {
+      final int partitionId,
+      final String jobType,
+      final long creationTimeMs,
+      final long completionTimeMs) {
     JOB_LIFE_TIME
-        .labels(Integer.toString(partitionId))
+        .labels(Integer.toString(partitionId), boundedLabel(jobTypes, jobType))
         .observe(latencyInSeconds(creationTimeMs, completionTimeMs));
   }
 
   public void observeJobActivationTime(
-      final int partitionId, final long creationTimeMs, final long activationTimeMs) {
+      final int partitionId,
+      final String jobType,
+      final long creationTimeMs,
+      final long activationTimeMs) {
     JOB_ACTIVATION_TIME
-        .labels(Integer.toString(partitionId))
+        .labels(Integer.toString(partitionId), boundedLabel(jobTypes, jobType))
         .observe(latencyInSeconds(creationTimeMs, activationTimeMs));
   }
 
+  private static String boundedLabel(final Set<String> knownValues, final String value) {
+    if (knownValues.contains(value)
+        || (knownValues.size() < MAX_LABEL_VALUES && knownValues.add(value))) {
+      return value;
+    }
+    return OTHER_LABEL_VALUE;
+  }
+
   /**
    * Takes start and end time in milliseconds and calculates the difference (latency) in seconds.
    *
@@ -18,32 +18,23 @@ import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.protocol.record.value.BpmnElementType;
 import io.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.zeebe.protocol.record.value.JobRecordValue;
 import io.zeebe.protocol.record.value.WorkflowInstanceRecordValue;
 import java.time.Duration;
-import java.util.NavigableMap;
-import java.util.TreeMap;
-import org.agrona.collections.Long2LongHashMap;
 
 public class MetricsExporter implements Exporter {
 
   public static final Duration TIME_TO_LIVE = Duration.ofSeconds(10);
   private final ExecutionLatencyMetrics executionLatencyMetrics;
-  private final Long2LongHashMap jobKeyToCreationTimeMap;
-  private final Long2LongHashMap workflowInstanceKeyToCreationTimeMap;
-
-  // only used to keep track of how long the entries are existing and to clean up the corresponding
-  // maps
-  private final NavigableMap<Long, Long> creationTimeToJobKeyNavigableMap;
-  private final NavigableMap<Long, Long> creationTimeToWorkflowInstanceKeyNavigableMap;
+  private final CreationTimeBuckets jobCreationTimes;
+  private final CreationTimeBuckets workflowInstanceCreationTimes;
 
   private Controller controller;
 
   public MetricsExporter() {
     executionLatencyMetrics = new ExecutionLatencyMetrics();
-    jobKeyToCreationTimeMap = new Long2LongHashMap(-1);
-    workflowInstanceKeyToCreationTimeMap = new Long2LongHashMap(-1);
-    creationTimeToJobKeyNavigableMap = new TreeMap<>();
-    creationTimeToWorkflowInstanceKeyNavigableMap = new TreeMap<>();
+    jobCreationTimes = new CreationTimeBuckets(TIME_TO_LIVE);
+    workflowInstanceCreationTimes = new CreationTimeBuckets(TIME_TO_LIVE);
   }
 
   @Override
@@ -55,10 +46,8 @@ public class MetricsExporter implements Exporter {
 
   @Override
   public void close() {
-    jobKeyToCreationTimeMap.clear();
-    workflowInstanceKeyToCreationTimeMap.clear();
-    creationTimeToJobKeyNavigableMap.clear();
-    creationTimeToWorkflowInstanceKeyNavigableMap.clear();
+    jobCreationTimes.clear();
+    workflowInstanceCreationTimes.clear();
   }
 
   @Override
@@ -89,29 +78,31 @@ public class MetricsExporter implements Exporter {
 
     if (currentIntent == WorkflowInstanceIntent.ELEMENT_ACTIVATING
         && isWorkflowInstanceRecord(record)) {
-      storeWorkflowInstanceCreation(record.getTimestamp(), recordKey);
+      workflowInstanceCreationTimes.put(recordKey, record.getTimestamp());
     } else if (currentIntent == WorkflowInstanceIntent.ELEMENT_COMPLETED
         && isWorkflowInstanceRecord(record)) {
-      final var creationTime = workflowInstanceKeyToCreationTimeMap.remove(recordKey);
-      executionLatencyMetrics.observeWorkflowInstanceExecutionTime(
-          partitionId, creationTime, record.getTimestamp());
+      final var creationTime = workflowInstanceCreationTimes.remove(recordKey);
+      if (creationTime != CreationTimeBuckets.MISSING) {
+        final var value = (WorkflowInstanceRecordValue) record.getValue();
+        executionLatencyMetrics.observeWorkflowInstanceExecutionTime(
+            partitionId, value.getBpmnProcessId(), creationTime, record.getTimestamp());
+      }
     }
   }
 
-  private void storeWorkflowInstanceCreation(final long creationTime, final long recordKey) {
-    workflowInstanceKeyToCreationTimeMap.put(recordKey, creationTime);
-    creationTimeToWorkflowInstanceKeyNavigableMap.put(creationTime, recordKey);
-  }
-
   private void handleJobRecord(
       final Record<?> record, final int partitionId, final long recordKey) {
     final var currentIntent = record.getIntent();
 
     if (currentIntent == JobIntent.CREATED) {
-      storeJobCreation(record.getTimestamp(), recordKey);
+      jobCreationTimes.put(recordKey, record.getTimestamp());
     } else if (currentIntent == JobIntent.COMPLETED) {
-      final var creationTime = jobKeyToCreationTimeMap.remove(recordKey);
-      executionLatencyMetrics.observeJobLifeTime(partitionId, creationTime, record.getTimestamp());
+      final var creationTime = jobCreationTimes.remove(recordKey);
+      if (creationTime != CreationTimeBuckets.MISSING) {
+        final var value = (JobRecordValue) record.getValue();
+        executionLatencyMetrics.observeJobLifeTime(
+            partitionId, value.getType(), creationTime, record.getTimestamp());
+      }
     }
   }
 
@@ -120,44 +111,24 @@ public class MetricsExporter implements Exporter {
 
     if (currentIntent == JobBatchIntent.ACTIVATED) {
       final var value = (JobBatchRecordValue) record.getValue();
-      for (long jobKey : value.getJobKeys()) {
-        final var creationTime = jobKeyToCreationTimeMap.get(jobKey);
-        executionLatencyMetrics.observeJobActivationTime(
-            partitionId, creationTime, record.getTimestamp());
+      for (final long jobKey : value.getJobKeys()) {
+        final var creationTime = jobCreationTimes.get(jobKey);
+        if (creationTime != CreationTimeBuckets.MISSING) {
+          executionLatencyMetrics.observeJobActivationTime(
+              partitionId, value.getType(), creationTime, record.getTimestamp());
+        }
       }
     }
   }
 
-  private void storeJobCreation(final long creationTime, final long recordKey) {
-    jobKeyToCreationTimeMap.put(recordKey, creationTime);
-    creationTimeToJobKeyNavigableMap.put(creationTime, recordKey);
-  }
-
   private void cleanUp() {
     final var currentTimeMillis = System.currentTimeMillis();
-
-    final var deadTime = currentTimeMillis - TIME_TO_LIVE.toMillis();
-    clearMaps(deadTime, creationTimeToJobKeyNavigableMap, jobKeyToCreationTimeMap);
-    clearMaps(
-        deadTime,
-        creationTimeToWorkflowInstanceKeyNavigableMap,
-        workflowInstanceKeyToCreationTimeMap);
+    jobCreationTimes.expire(currentTimeMillis);
+    workflowInstanceCreationTimes.expire(currentTimeMillis);
 
     controller.scheduleTask(TIME_TO_LIVE, this::cleanUp);
   }
 
-  private void clearMaps(
-      final long deadTime,
-      final NavigableMap<Long, Long> timeToKeyMap,
-      final Long2LongHashMap keyToTimestampMap) {
-    final var outOfScopeInstances = timeToKeyMap.headMap(deadTime);
-
-    for (final Long key : outOfScopeInstances.values()) {
-      keyToTimestampMap.remove(key);
-    }
-    outOfScopeInstances.clear();
-  }
-
   public static ExporterCfg defaultConfig() {
     final ExporterCfg exporterCfg = new ExporterCfg();
     exporterCfg.setClassName(MetricsExporter.class.getName());
@@ -82,7 +82,12 @@ public final class ExporterDirector extends Actor {
   }
 
   public ActorFuture<Void> startAsync(final ActorScheduler actorScheduler) {
-    return actorScheduler.submitActor(this, SchedulingHints.ioBound());
+    // exporters may block on I/O, so the director stays in the I/O thread group and doesn't share
+    // a thread with the stream processor and appender; the affinity key only keeps the director
+    // of a partition on the same I/O thread to keep its caches warm
+    final int hints =
+        SchedulingHints.setAffinityKey(logStream.getPartitionId(), SchedulingHints.ioBound());
+    return actorScheduler.submitActor(this, hints);
   }
 
   public ActorFuture<Void> stopAsync() {
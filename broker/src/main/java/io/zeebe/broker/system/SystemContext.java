@@ -134,10 +134,20 @@ public final class SystemContext {
     final int cpuThreads = cfg.getCpuThreadCount();
     final int ioThreads = cfg.getIoThreadCount();
 
+    final int[] cpuThreadAffinity =
+        cfg.getCpuThreadAffinity().stream().mapToInt(Integer::intValue).toArray();
+
     return ActorScheduler.newActorScheduler()
         .setActorClock(clock)
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
+        .setWorkStealingIdleThreshold(cfg.getWorkStealingIdleThreshold())
+        .setCpuBoundActorThreadAffinity(cpuThreadAffinity)
+        .setCpuBoundIdleStrategy(cfg.getCpuIdleStrategy())
+        .setIoBoundIdleStrategy(cfg.getIoIdleStrategy())
+        .setMaxIdleParkPeriod(cfg.getMaxIdleParkPeriod())
+        .setActorProfilingEnabled(cfg.isActorProfilingEnabled())
+        .setSlowJobThreshold(cfg.getSlowJobThreshold())
         .setSchedulerName(brokerId)
         .build();
   }
@@ -21,11 +21,15 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   private static final boolean DEFAULT_DETECT_REPROCESSING_INCONSISTENCY = false;
+  private static final boolean DEFAULT_PIPELINED_REPROCESSING = false;
+  private static final int DEFAULT_WORKFLOW_CACHE_CAPACITY = 1_000;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private boolean detectReprocessingInconsistency = DEFAULT_DETECT_REPROCESSING_INCONSISTENCY;
+  private boolean pipelinedReprocessing = DEFAULT_PIPELINED_REPROCESSING;
+  private int workflowCacheCapacity = DEFAULT_WORKFLOW_CACHE_CAPACITY;
   private RocksdbCfg rocksdb = new RocksdbCfg();
 
   @Override
@@ -69,6 +73,22 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.detectReprocessingInconsistency = detectReprocessingInconsistency;
   }
 
+  public boolean isPipelinedReprocessing() {
+    return pipelinedReprocessing;
+  }
+
+  public void setPipelinedReprocessing(final boolean pipelinedReprocessing) {
+    this.pipelinedReprocessing = pipelinedReprocessing;
+  }
+
+  public int getWorkflowCacheCapacity() {
+    return workflowCacheCapacity;
+  }
+
+  public void setWorkflowCacheCapacity(final int workflowCacheCapacity) {
+    this.workflowCacheCapacity = workflowCacheCapacity;
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -88,6 +108,10 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + disableExplicitRaftFlush
         + ", detectReprocessingInconsistency="
         + detectReprocessingInconsistency
+        + ", pipelinedReprocessing="
+        + pipelinedReprocessing
+        + ", workflowCacheCapacity="
+        + workflowCacheCapacity
         + ", rocksdb="
         + rocksdb
         + '}';
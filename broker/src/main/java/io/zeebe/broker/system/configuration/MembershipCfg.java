@@ -21,6 +21,10 @@ public final class MembershipCfg implements ConfigurationEntry {
   private static final int DEFAULT_SUSPECT_PROBES = 3;
   private static final Duration DEFAULT_FAILURE_TIMEOUT = Duration.ofMillis(10_000);
   private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10_000);
+  private static final int DEFAULT_MAX_GOSSIP_UPDATES = 32;
+  private static final int DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER = 1;
+  private static final int DEFAULT_MAX_LOCAL_HEALTH_MULTIPLIER = 8;
+  private static final int DEFAULT_MAX_SUSPICION_TIMEOUT_MULTIPLIER = 1;
 
   private boolean broadcastUpdates = DEFAULT_BROADCAST_UPDATES;
   private boolean broadcastDisputes = DEFAULT_BROADCAST_DISPUTES;
@@ -32,6 +36,10 @@ public final class MembershipCfg implements ConfigurationEntry {
   private int suspectProbes = DEFAULT_SUSPECT_PROBES;
   private Duration failureTimeout = DEFAULT_FAILURE_TIMEOUT;
   private Duration syncInterval = DEFAULT_SYNC_INTERVAL;
+  private int maxGossipUpdates = DEFAULT_MAX_GOSSIP_UPDATES;
+  private int gossipRetransmitMultiplier = DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER;
+  private int maxLocalHealthMultiplier = DEFAULT_MAX_LOCAL_HEALTH_MULTIPLIER;
+  private int maxSuspicionTimeoutMultiplier = DEFAULT_MAX_SUSPICION_TIMEOUT_MULTIPLIER;
 
   public boolean isBroadcastUpdates() {
     return broadcastUpdates;
@@ -123,6 +131,42 @@ public final class MembershipCfg implements ConfigurationEntry {
     return this;
   }
 
+  public int getMaxGossipUpdates() {
+    return maxGossipUpdates;
+  }
+
+  public MembershipCfg setMaxGossipUpdates(final int maxGossipUpdates) {
+    this.maxGossipUpdates = maxGossipUpdates;
+    return this;
+  }
+
+  public int getGossipRetransmitMultiplier() {
+    return gossipRetransmitMultiplier;
+  }
+
+  public MembershipCfg setGossipRetransmitMultiplier(final int gossipRetransmitMultiplier) {
+    this.gossipRetransmitMultiplier = gossipRetransmitMultiplier;
+    return this;
+  }
+
+  public int getMaxLocalHealthMultiplier() {
+    return maxLocalHealthMultiplier;
+  }
+
+  public MembershipCfg setMaxLocalHealthMultiplier(final int maxLocalHealthMultiplier) {
+    this.maxLocalHealthMultiplier = maxLocalHealthMultiplier;
+    return this;
+  }
+
+  public int getMaxSuspicionTimeoutMultiplier() {
+    return maxSuspicionTimeoutMultiplier;
+  }
+
+  public MembershipCfg setMaxSuspicionTimeoutMultiplier(final int maxSuspicionTimeoutMultiplier) {
+    this.maxSuspicionTimeoutMultiplier = maxSuspicionTimeoutMultiplier;
+    return this;
+  }
+
   @Override
   public String toString() {
     return "MembershipCfg{"
@@ -146,6 +190,14 @@ public final class MembershipCfg implements ConfigurationEntry {
         + failureTimeout
         + ", syncInterval="
         + syncInterval
+        + ", maxGossipUpdates="
+        + maxGossipUpdates
+        + ", gossipRetransmitMultiplier="
+        + gossipRetransmitMultiplier
+        + ", maxLocalHealthMultiplier="
+        + maxLocalHealthMultiplier
+        + ", maxSuspicionTimeoutMultiplier="
+        + maxSuspicionTimeoutMultiplier
         + '}';
   }
 }
@@ -7,9 +7,21 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import io.zeebe.util.sched.ActorIdleStrategy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private Duration workStealingIdleThreshold = Duration.ZERO;
+  private List<Integer> cpuThreadAffinity = Collections.emptyList();
+  private ActorIdleStrategy cpuIdleStrategy = ActorIdleStrategy.ADAPTIVE;
+  private ActorIdleStrategy ioIdleStrategy = ActorIdleStrategy.ADAPTIVE;
+  private Duration maxIdleParkPeriod = ActorIdleStrategy.DEFAULT_MAX_PARK_PERIOD;
+  private boolean actorProfilingEnabled = false;
+  private Duration slowJobThreshold = Duration.ofMillis(100);
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +39,62 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public Duration getWorkStealingIdleThreshold() {
+    return workStealingIdleThreshold;
+  }
+
+  public void setWorkStealingIdleThreshold(final Duration workStealingIdleThreshold) {
+    this.workStealingIdleThreshold = workStealingIdleThreshold;
+  }
+
+  public List<Integer> getCpuThreadAffinity() {
+    return cpuThreadAffinity;
+  }
+
+  public void setCpuThreadAffinity(final List<Integer> cpuThreadAffinity) {
+    this.cpuThreadAffinity = cpuThreadAffinity;
+  }
+
+  public ActorIdleStrategy getCpuIdleStrategy() {
+    return cpuIdleStrategy;
+  }
+
+  public void setCpuIdleStrategy(final ActorIdleStrategy cpuIdleStrategy) {
+    this.cpuIdleStrategy = cpuIdleStrategy;
+  }
+
+  public ActorIdleStrategy getIoIdleStrategy() {
+    return ioIdleStrategy;
+  }
+
+  public void setIoIdleStrategy(final ActorIdleStrategy ioIdleStrategy) {
+    this.ioIdleStrategy = ioIdleStrategy;
+  }
+
+  public Duration getMaxIdleParkPeriod() {
+    return maxIdleParkPeriod;
+  }
+
+  public void setMaxIdleParkPeriod(final Duration maxIdleParkPeriod) {
+    this.maxIdleParkPeriod = maxIdleParkPeriod;
+  }
+
+  public boolean isActorProfilingEnabled() {
+    return actorProfilingEnabled;
+  }
+
+  public void setActorProfilingEnabled(final boolean actorProfilingEnabled) {
+    this.actorProfilingEnabled = actorProfilingEnabled;
+  }
+
+  public Duration getSlowJobThreshold() {
+    return slowJobThreshold;
+  }
+
+  public void setSlowJobThreshold(final Duration slowJobThreshold) {
+    this.slowJobThreshold = slowJobThreshold;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +102,20 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", workStealingIdleThreshold="
+        + workStealingIdleThreshold
+        + ", cpuThreadAffinity="
+        + cpuThreadAffinity
+        + ", cpuIdleStrategy="
+        + cpuIdleStrategy
+        + ", ioIdleStrategy="
+        + ioIdleStrategy
+        + ", maxIdleParkPeriod="
+        + maxIdleParkPeriod
+        + ", actorProfilingEnabled="
+        + actorProfilingEnabled
+        + ", slowJobThreshold="
+        + slowJobThreshold
         + '}';
   }
 }
@@ -73,6 +73,8 @@ public class StreamProcessorPartitionStep implements PartitionStep {
         .commandResponseWriter(state.getCommandApiService().newCommandResponseWriter())
         .detectReprocessingInconsistency(
             state.getBrokerCfg().getExperimental().isDetectReprocessingInconsistency())
+        .pipelinedReprocessing(state.getBrokerCfg().getExperimental().isPipelinedReprocessing())
+        .workflowCacheCapacity(state.getBrokerCfg().getExperimental().getWorkflowCacheCapacity())
         .onProcessedListener(
             state.getCommandApiService().getOnProcessedListener(state.getPartitionId()))
         .streamProcessorFactory(
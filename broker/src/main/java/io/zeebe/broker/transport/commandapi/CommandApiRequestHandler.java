@@ -10,9 +10,12 @@ package io.zeebe.broker.transport.commandapi;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.transport.backpressure.BackpressureMetrics;
 import io.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -22,6 +25,7 @@ import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCreationRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.zeebe.protocol.record.MessageHeaderDecoder;
 import io.zeebe.protocol.record.RecordType;
@@ -35,6 +39,7 @@ import java.util.Queue;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.slf4j.Logger;
 
@@ -47,7 +52,14 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final Queue<Runnable> cmdQueue = new ManyToOneConcurrentLinkedQueue<>();
   private final Consumer<Runnable> cmdConsumer = Runnable::run;
 
+  private final ExecuteCommandBatchRequest executeCommandBatchRequest =
+      new ExecuteCommandBatchRequest();
+  private final IntArrayList acceptedCommands = new IntArrayList();
+  private final CommandBatchResponseCollector responseCollector;
+
   private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leadingBatchWriters =
+      new Int2ObjectHashMap<>();
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
   private final RecordMetadata eventMetadata = new RecordMetadata();
@@ -58,7 +70,13 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final BackpressureMetrics metrics;
   private boolean isDiskSpaceAvailable = true;
 
-  CommandApiRequestHandler() {
+  // the currently decoded command, see #readCommand
+  private long commandKey;
+  private int commandOffset;
+  private int commandLength;
+
+  CommandApiRequestHandler(final CommandBatchResponseCollector responseCollector) {
+    this.responseCollector = responseCollector;
     metrics = new BackpressureMetrics();
     initEventTypeMap();
   }
@@ -78,38 +96,158 @@ final class CommandApiRequestHandler implements RequestHandler {
       final ServerOutput output,
       final int partitionId,
       final long requestId,
-      final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
-      final int messageOffset,
-      final int messageLength) {
+      final int messageOffset) {
 
     if (!isDiskSpaceAvailable) {
+      writeDiskSpaceExhausted(output, partitionId, requestId);
+      return;
+    }
+
+    final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
+    if (logStreamWriter == null) {
       errorResponseWriter
-          .resourceExhausted(
-              String.format(
-                  "Cannot accept requests for partition %d. Broker is out of disk space",
-                  partitionId))
-          .tryWriteResponse(output, partitionId, requestId);
+          .partitionLeaderMismatch(partitionId)
+          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
       return;
     }
 
-    executeCommandRequestDecoder.wrap(
-        buffer,
-        messageOffset + messageHeaderDecoder.encodedLength(),
-        messageHeaderDecoder.blockLength(),
-        messageHeaderDecoder.version());
+    if (!readCommand(output, partitionId, requestId, buffer, messageOffset)
+        || !tryAcquire(output, partitionId, requestId)) {
+      return;
+    }
 
-    final long key = executeCommandRequestDecoder.key();
+    writeCommand(partitionId, requestId, buffer, logStreamWriter);
+  }
 
-    final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
+  /**
+   * Handles a batch of commands for the same partition. All commands which pass the validation are
+   * appended to the log with a single batch write. Every command is answered on its own through the
+   * {@link CommandBatchResponseCollector}, which sends the collected responses back as one batch
+   * response.
+   */
+  private void handleExecuteCommandBatchRequest(
+      final ServerOutput output,
+      final int partitionId,
+      final long requestId,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length) {
 
-    if (logStreamWriter == null) {
+    if (!isDiskSpaceAvailable) {
+      writeDiskSpaceExhausted(output, partitionId, requestId);
+      return;
+    }
+
+    final LogStreamBatchWriter batchWriter = leadingBatchWriters.get(partitionId);
+    if (batchWriter == null) {
       errorResponseWriter
           .partitionLeaderMismatch(partitionId)
           .tryWriteResponseOrLogFailure(output, partitionId, requestId);
       return;
     }
 
+    executeCommandBatchRequest.wrap(buffer, offset, length);
+    final int commandCount = executeCommandBatchRequest.getCommandCount();
+    if (commandCount == 0) {
+      errorResponseWriter
+          .malformedRequest(new IllegalArgumentException("Expected at least one command in batch"))
+          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+      return;
+    }
+
+    final long firstRequestId =
+        responseCollector.registerBatch(partitionId, requestId, commandCount);
+
+    batchWriter.reset();
+    acceptedCommands.clear();
+
+    for (int i = 0; i < commandCount; i++) {
+      final DirectBuffer command = executeCommandBatchRequest.getCommand(i);
+      final long commandRequestId = firstRequestId + i;
+
+      if (!readHeader(responseCollector, partitionId, commandRequestId, command, 0)
+          || !readCommand(responseCollector, partitionId, commandRequestId, command, 0)
+          || !tryAcquire(responseCollector, partitionId, commandRequestId)) {
+        continue;
+      }
+
+      final LogEntryBuilder event = batchWriter.event();
+      if (commandKey != ExecuteCommandRequestDecoder.keyNullValue()) {
+        event.key(commandKey);
+      } else {
+        event.keyNull();
+      }
+      event.metadataWriter(eventMetadata).value(command, commandOffset, commandLength).done();
+      acceptedCommands.add(i);
+    }
+
+    if (acceptedCommands.isEmpty()) {
+      return;
+    }
+
+    boolean written = false;
+    try {
+      written = batchWriter.tryWrite() >= 0;
+    } catch (final Exception ex) {
+      LOG.debug("Failed to append batch of {} commands, retry one by one", commandCount, ex);
+    }
+
+    if (!written) {
+      // e.g. the batch exceeds the max fragment length; fall back to the single command path
+      batchWriter.reset();
+      final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
+      for (int i = 0; i < acceptedCommands.size(); i++) {
+        final int index = acceptedCommands.getInt(i);
+        final DirectBuffer command = executeCommandBatchRequest.getCommand(index);
+        final long commandRequestId = firstRequestId + index;
+
+        // the command was already validated and holds a limiter permit, so we only decode it again
+        readHeader(responseCollector, partitionId, commandRequestId, command, 0);
+        readCommand(responseCollector, partitionId, commandRequestId, command, 0);
+        if (!writeCommand(partitionId, commandRequestId, command, logStreamWriter)) {
+          // answer the command, otherwise the batch would never be complete and the responses of
+          // the commands which were written would be lost
+          errorResponseWriter
+              .resourceExhausted(
+                  String.format(
+                      "Failed to write command %s to the log of partition %d",
+                      eventMetadata.getIntent(), partitionId))
+              .tryWriteResponse(responseCollector, partitionId, commandRequestId);
+        }
+      }
+    }
+  }
+
+  private void writeDiskSpaceExhausted(
+      final ServerOutput output, final int partitionId, final long requestId) {
+    errorResponseWriter
+        .resourceExhausted(
+            String.format(
+                "Cannot accept requests for partition %d. Broker is out of disk space",
+                partitionId))
+        .tryWriteResponse(output, partitionId, requestId);
+  }
+
+  /**
+   * Decodes and validates a single command frame and fills the event metadata. If the command can
+   * not be accepted, an error response is written and false is returned. On success, the command
+   * value is referenced by {@link #commandOffset} and {@link #commandLength}.
+   */
+  private boolean readCommand(
+      final ServerOutput output,
+      final int partitionId,
+      final long requestId,
+      final DirectBuffer buffer,
+      final int messageOffset) {
+    executeCommandRequestDecoder.wrap(
+        buffer,
+        messageOffset + messageHeaderDecoder.encodedLength(),
+        messageHeaderDecoder.blockLength(),
+        messageHeaderDecoder.version());
+
+    commandKey = executeCommandRequestDecoder.key();
+
     final ValueType eventType = executeCommandRequestDecoder.valueType();
     final short intent = executeCommandRequestDecoder.intent();
     final UnpackedObject event = recordsByType.get(eventType);
@@ -118,25 +256,25 @@ final class CommandApiRequestHandler implements RequestHandler {
       errorResponseWriter
           .unsupportedMessage(eventType.name(), recordsByType.keySet().toArray())
           .tryWriteResponseOrLogFailure(output, partitionId, requestId);
-      return;
+      return false;
     }
 
-    final int eventOffset =
+    commandOffset =
         executeCommandRequestDecoder.limit() + ExecuteCommandRequestDecoder.valueHeaderLength();
-    final int eventLength = executeCommandRequestDecoder.valueLength();
+    commandLength = executeCommandRequestDecoder.valueLength();
 
     event.reset();
 
     try {
       // verify that the event / command is valid
-      event.wrap(buffer, eventOffset, eventLength);
+      event.wrap(buffer, commandOffset, commandLength);
     } catch (final RuntimeException e) {
       LOG.error("Failed to deserialize message of type {} in client API", eventType.name(), e);
 
       errorResponseWriter
           .malformedRequest(e)
           .tryWriteResponseOrLogFailure(output, partitionId, requestId);
-      return;
+      return false;
     }
 
     eventMetadata.recordType(RecordType.COMMAND);
@@ -144,6 +282,12 @@ final class CommandApiRequestHandler implements RequestHandler {
     eventMetadata.intent(eventIntent);
     eventMetadata.valueType(eventType);
 
+    return true;
+  }
+
+  private boolean tryAcquire(
+      final ServerOutput output, final int partitionId, final long requestId) {
+    final Intent eventIntent = eventMetadata.getIntent();
     metrics.receivedRequest(partitionId);
     final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
     if (!limiter.tryAcquire(partitionId, requestId, eventIntent)) {
@@ -155,52 +299,55 @@ final class CommandApiRequestHandler implements RequestHandler {
           limiter.getInflightCount(),
           requestId);
       errorResponseWriter.resourceExhausted().tryWriteResponse(output, partitionId, requestId);
-      return;
+      return false;
     }
 
+    return true;
+  }
+
+  /** @return true if the command was written to the log */
+  private boolean writeCommand(
+      final int partitionId,
+      final long requestId,
+      final DirectBuffer buffer,
+      final LogStreamRecordWriter logStreamWriter) {
     boolean written = false;
     try {
-      written = writeCommand(eventMetadata, buffer, key, logStreamWriter, eventOffset, eventLength);
+      logStreamWriter.reset();
+
+      if (commandKey != ExecuteCommandRequestDecoder.keyNullValue()) {
+        logStreamWriter.key(commandKey);
+      } else {
+        logStreamWriter.keyNull();
+      }
+
+      final long eventPosition =
+          logStreamWriter
+              .metadataWriter(eventMetadata)
+              .value(buffer, commandOffset, commandLength)
+              .tryWrite();
+
+      written = eventPosition >= 0;
     } catch (final Exception ex) {
-      LOG.error("Unexpected error on writing {} command", eventIntent, ex);
+      LOG.error("Unexpected error on writing {} command", eventMetadata.getIntent(), ex);
     } finally {
       if (!written) {
-        limiter.onIgnore(partitionId, requestId);
+        partitionLimiters.get(partitionId).onIgnore(partitionId, requestId);
       }
     }
-  }
-
-  private boolean writeCommand(
-      final RecordMetadata eventMetadata,
-      final DirectBuffer buffer,
-      final long key,
-      final LogStreamRecordWriter logStreamWriter,
-      final int eventOffset,
-      final int eventLength) {
-    logStreamWriter.reset();
-
-    if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
-      logStreamWriter.key(key);
-    } else {
-      logStreamWriter.keyNull();
-    }
 
-    final long eventPosition =
-        logStreamWriter
-            .metadataWriter(eventMetadata)
-            .value(buffer, eventOffset, eventLength)
-            .tryWrite();
-
-    return eventPosition >= 0;
+    return written;
   }
 
   void addPartition(
       final int partitionId,
       final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter batchWriter,
       final RequestLimiter<Intent> limiter) {
     cmdQueue.add(
         () -> {
           leadingStreams.put(partitionId, logStreamWriter);
+          leadingBatchWriters.put(partitionId, batchWriter);
           partitionLimiters.put(partitionId, limiter);
         });
   }
@@ -209,7 +356,9 @@ final class CommandApiRequestHandler implements RequestHandler {
     cmdQueue.add(
         () -> {
           leadingStreams.remove(partitionId);
+          leadingBatchWriters.remove(partitionId);
           partitionLimiters.remove(partitionId);
+          responseCollector.removePartition(partitionId);
         });
   }
 
@@ -235,6 +384,28 @@ final class CommandApiRequestHandler implements RequestHandler {
       final int length) {
     drainCommandQueue();
 
+    if (!readHeader(output, partitionId, requestId, buffer, offset)) {
+      return;
+    }
+
+    final int templateId = messageHeaderDecoder.templateId();
+    if (templateId == ExecuteCommandRequestDecoder.TEMPLATE_ID) {
+      handleExecuteCommandRequest(output, partitionId, requestId, buffer, offset);
+    } else {
+      handleExecuteCommandBatchRequest(output, partitionId, requestId, buffer, offset, length);
+    }
+  }
+
+  /**
+   * Reads the message header of a request frame and prepares the event metadata for it. If the
+   * frame can not be handled, an error response is written and false is returned.
+   */
+  private boolean readHeader(
+      final ServerOutput output,
+      final int partitionId,
+      final long requestId,
+      final DirectBuffer buffer,
+      final int offset) {
     messageHeaderDecoder.wrap(buffer, offset);
 
     final int templateId = messageHeaderDecoder.templateId();
@@ -244,23 +415,25 @@ final class CommandApiRequestHandler implements RequestHandler {
       errorResponseWriter
           .invalidClientVersion(Protocol.PROTOCOL_VERSION, clientVersion)
           .tryWriteResponse(output, partitionId, requestId);
-      return;
+      return false;
+    }
+
+    // batches may only contain single commands, nested batches are not supported
+    final boolean isBatchedCommand =
+        requestId >= CommandBatchResponseCollector.BATCH_REQUEST_ID_OFFSET;
+    if (templateId != ExecuteCommandRequestDecoder.TEMPLATE_ID
+        && (isBatchedCommand || templateId != ExecuteCommandBatchRequestDecoder.TEMPLATE_ID)) {
+      errorResponseWriter
+          .invalidMessageTemplate(templateId, ExecuteCommandRequestDecoder.TEMPLATE_ID)
+          .tryWriteResponse(output, partitionId, requestId);
+      return false;
     }
 
     eventMetadata.reset();
     eventMetadata.protocolVersion(clientVersion);
     eventMetadata.requestId(requestId);
     eventMetadata.requestStreamId(partitionId);
-
-    if (templateId == ExecuteCommandRequestDecoder.TEMPLATE_ID) {
-      handleExecuteCommandRequest(
-          output, partitionId, requestId, eventMetadata, buffer, offset, length);
-      return;
-    }
-
-    errorResponseWriter
-        .invalidMessageTemplate(templateId, ExecuteCommandRequestDecoder.TEMPLATE_ID)
-        .tryWriteResponse(output, partitionId, requestId);
+    return true;
   }
 
   private void drainCommandQueue() {
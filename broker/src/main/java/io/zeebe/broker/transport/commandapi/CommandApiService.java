@@ -31,6 +31,7 @@ public final class CommandApiService extends Actor
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
   private final CommandApiRequestHandler requestHandler;
+  private final CommandBatchResponseCollector responseCollector;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final String actorName;
 
@@ -40,7 +41,8 @@ public final class CommandApiService extends Actor
       final PartitionAwareRequestLimiter limiter) {
     this.serverTransport = serverTransport;
     this.limiter = limiter;
-    requestHandler = new CommandApiRequestHandler();
+    responseCollector = new CommandBatchResponseCollector(serverTransport);
+    requestHandler = new CommandApiRequestHandler(responseCollector);
     actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
   }
 
@@ -71,28 +73,39 @@ public final class CommandApiService extends Actor
           leadPartitions.add(partitionId);
           limiter.addPartition(partitionId);
 
+          final var batchWriterFuture = logStream.newLogStreamBatchWriter();
           logStream
               .newLogStreamRecordWriter()
               .onComplete(
                   (recordWriter, error) -> {
                     if (error == null) {
-
-                      final var requestLimiter = limiter.getLimiter(partitionId);
-                      requestHandler.addPartition(partitionId, recordWriter, requestLimiter);
-                      serverTransport.subscribe(partitionId, requestHandler);
-                      future.complete(null);
+                      batchWriterFuture.onComplete(
+                          (batchWriter, batchWriterError) -> {
+                            if (batchWriterError == null) {
+                              final var requestLimiter = limiter.getLimiter(partitionId);
+                              requestHandler.addPartition(
+                                  partitionId, recordWriter, batchWriter, requestLimiter);
+                              serverTransport.subscribe(partitionId, requestHandler);
+                              future.complete(null);
+                            } else {
+                              onWriterError(partitionId, batchWriterError, future);
+                            }
+                          });
                     } else {
-                      Loggers.SYSTEM_LOGGER.error(
-                          "Error on retrieving write buffer from log stream {}",
-                          partitionId,
-                          error);
-                      future.completeExceptionally(error);
+                      onWriterError(partitionId, error, future);
                     }
                   });
         });
     return future;
   }
 
+  private void onWriterError(
+      final int partitionId, final Throwable error, final CompletableActorFuture<Void> future) {
+    Loggers.SYSTEM_LOGGER.error(
+        "Error on retrieving write buffer from log stream {}", partitionId, error);
+    future.completeExceptionally(error);
+  }
+
   @Override
   public ActorFuture<Void> onBecomingInactive(final int partitionId, final long term) {
     return removeLeaderHandlersAsync(partitionId);
@@ -117,7 +130,7 @@ public final class CommandApiService extends Actor
   }
 
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(responseCollector);
   }
 
   public Consumer<TypedRecord> getOnProcessedListener(final int partitionId) {
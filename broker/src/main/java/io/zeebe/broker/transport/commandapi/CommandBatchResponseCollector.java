@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.impl.ServerResponseImpl;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Decorates the server output to answer batched command requests. Every command of a batch gets its
+ * own request id, such that the stream processor responds to it like to any other command. The
+ * responses are collected here and, once all commands of a batch are answered, sent back as a
+ * single batch response on the original request.
+ *
+ * <p>Responses to requests which are not part of a batch are passed through unchanged.
+ */
+final class CommandBatchResponseCollector implements ServerOutput {
+
+  /**
+   * Batched commands use request ids from a separate range, so they never collide with the ids the
+   * transport assigns to incoming requests.
+   */
+  static final long BATCH_REQUEST_ID_OFFSET = 1L << 62;
+
+  private final ServerOutput output;
+  private final AtomicLong requestIdGenerator = new AtomicLong(BATCH_REQUEST_ID_OFFSET);
+  private final Map<Long, PendingBatch> pendingRequests = new ConcurrentHashMap<>();
+
+  CommandBatchResponseCollector(final ServerOutput output) {
+    this.output = output;
+  }
+
+  /**
+   * Registers a new batch.
+   *
+   * @return the request id of the first command; the following commands use consecutive ids
+   */
+  long registerBatch(final int partitionId, final long requestId, final int commandCount) {
+    final long firstRequestId = requestIdGenerator.getAndAdd(commandCount);
+    final PendingBatch batch =
+        new PendingBatch(partitionId, requestId, firstRequestId, commandCount);
+
+    for (int i = 0; i < commandCount; i++) {
+      pendingRequests.put(firstRequestId + i, batch);
+    }
+
+    return firstRequestId;
+  }
+
+  /** Drops all pending batches of the given partition, e.g. after the leadership was lost. */
+  void removePartition(final int partitionId) {
+    pendingRequests.values().removeIf(batch -> batch.partitionId == partitionId);
+  }
+
+  @Override
+  public void sendResponse(final ServerResponse response) {
+    final long requestId = response.getRequestId();
+    final PendingBatch batch = pendingRequests.remove(requestId);
+
+    if (batch == null) {
+      output.sendResponse(response);
+      return;
+    }
+
+    // the response object is reused by the caller, so we need to copy it
+    final byte[] bytes = new byte[response.getLength()];
+    response.write(new UnsafeBuffer(bytes), 0);
+
+    if (batch.complete((int) (requestId - batch.firstRequestId), bytes)) {
+      output.sendResponse(batch.toServerResponse());
+    }
+  }
+
+  private static final class PendingBatch {
+    private final int partitionId;
+    private final long requestId;
+    private final long firstRequestId;
+    private final byte[][] responses;
+    private final AtomicInteger remaining;
+
+    private PendingBatch(
+        final int partitionId,
+        final long requestId,
+        final long firstRequestId,
+        final int commandCount) {
+      this.partitionId = partitionId;
+      this.requestId = requestId;
+      this.firstRequestId = firstRequestId;
+      responses = new byte[commandCount][];
+      remaining = new AtomicInteger(commandCount);
+    }
+
+    /** @return true if this was the last missing response of the batch */
+    private boolean complete(final int index, final byte[] response) {
+      responses[index] = response;
+      return remaining.decrementAndGet() == 0;
+    }
+
+    private ServerResponse toServerResponse() {
+      final ExecuteCommandBatchResponse batchResponse =
+          new ExecuteCommandBatchResponse().setPartitionId(partitionId);
+      for (final byte[] response : responses) {
+        batchResponse.addResponse(new UnsafeBuffer(response));
+      }
+
+      return new ServerResponseImpl()
+          .setPartitionId(partitionId)
+          .setRequestId(requestId)
+          .writer(batchResponse);
+    }
+  }
+}
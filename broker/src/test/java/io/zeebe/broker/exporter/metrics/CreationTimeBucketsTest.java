@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public final class CreationTimeBucketsTest {
+
+  private static final Duration TIME_TO_LIVE = Duration.ofSeconds(10);
+  private static final long NOW = 1_600_000_000_000L;
+
+  private final CreationTimeBuckets creationTimes = new CreationTimeBuckets(TIME_TO_LIVE);
+
+  @Test
+  public void shouldKeepCreationTimesOfSameMillisecond() {
+    // when
+    creationTimes.put(1, NOW);
+    creationTimes.put(2, NOW);
+
+    // then
+    assertThat(creationTimes.get(1)).isEqualTo(NOW);
+    assertThat(creationTimes.get(2)).isEqualTo(NOW);
+    assertThat(creationTimes.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRemoveCreationTime() {
+    // given
+    creationTimes.put(1, NOW);
+    creationTimes.put(2, NOW + 2_500);
+
+    // when
+    final long creationTime = creationTimes.remove(1);
+
+    // then
+    assertThat(creationTime).isEqualTo(NOW);
+    assertThat(creationTimes.get(1)).isEqualTo(CreationTimeBuckets.MISSING);
+    assertThat(creationTimes.remove(1)).isEqualTo(CreationTimeBuckets.MISSING);
+    assertThat(creationTimes.get(2)).isEqualTo(NOW + 2_500);
+  }
+
+  @Test
+  public void shouldReturnMissingForUnknownKey() {
+    assertThat(creationTimes.get(1)).isEqualTo(CreationTimeBuckets.MISSING);
+    assertThat(creationTimes.remove(1)).isEqualTo(CreationTimeBuckets.MISSING);
+  }
+
+  @Test
+  public void shouldDropBucketWhenItIsReused() {
+    // given
+    creationTimes.put(1, NOW);
+
+    // when
+    creationTimes.put(2, NOW + TIME_TO_LIVE.toMillis() + 1_000);
+
+    // then
+    assertThat(creationTimes.get(1)).isEqualTo(CreationTimeBuckets.MISSING);
+    assertThat(creationTimes.get(2)).isEqualTo(NOW + TIME_TO_LIVE.toMillis() + 1_000);
+    assertThat(creationTimes.size()).isOne();
+  }
+
+  @Test
+  public void shouldKeepCreationTimesWithinTimeToLive() {
+    // given
+    creationTimes.put(1, NOW);
+
+    // when
+    creationTimes.put(2, NOW + TIME_TO_LIVE.toMillis());
+
+    // then
+    assertThat(creationTimes.get(1)).isEqualTo(NOW);
+  }
+
+  @Test
+  public void shouldIgnoreExpiredCreationTime() {
+    // given
+    creationTimes.put(1, NOW);
+
+    // when
+    creationTimes.put(2, NOW - TIME_TO_LIVE.toMillis() - 1_000);
+
+    // then
+    assertThat(creationTimes.get(2)).isEqualTo(CreationTimeBuckets.MISSING);
+    assertThat(creationTimes.size()).isOne();
+  }
+
+  @Test
+  public void shouldExpireBuckets() {
+    // given
+    creationTimes.put(1, NOW);
+    creationTimes.put(2, NOW + 5_000);
+
+    // when
+    creationTimes.expire(NOW + TIME_TO_LIVE.toMillis() + 1_000);
+
+    // then
+    assertThat(creationTimes.get(1)).isEqualTo(CreationTimeBuckets.MISSING);
+    assertThat(creationTimes.get(2)).isEqualTo(NOW + 5_000);
+    assertThat(creationTimes.size()).isOne();
+  }
+
+  @Test
+  public void shouldClear() {
+    // given
+    creationTimes.put(1, NOW);
+    creationTimes.put(2, NOW + 5_000);
+
+    // when
+    creationTimes.clear();
+
+    // then
+    assertThat(creationTimes.size()).isZero();
+    assertThat(creationTimes.get(2)).isEqualTo(CreationTimeBuckets.MISSING);
+  }
+}
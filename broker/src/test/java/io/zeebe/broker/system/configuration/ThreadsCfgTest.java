@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.ActorIdleStrategy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public final class ThreadsCfgTest {
+
+  public final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  public void shouldUseDefaults() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var threads = cfg.getThreads();
+
+    // then
+    assertThat(threads.getWorkStealingIdleThreshold()).isEqualTo(Duration.ZERO);
+    assertThat(threads.getCpuThreadAffinity()).isEmpty();
+    assertThat(threads.getCpuIdleStrategy()).isEqualTo(ActorIdleStrategy.ADAPTIVE);
+    assertThat(threads.getIoIdleStrategy()).isEqualTo(ActorIdleStrategy.ADAPTIVE);
+    assertThat(threads.getMaxIdleParkPeriod()).isEqualTo(Duration.ofMillis(1));
+    assertThat(threads.isActorProfilingEnabled()).isFalse();
+    assertThat(threads.getSlowJobThreshold()).isEqualTo(Duration.ofMillis(100));
+  }
+
+  @Test
+  public void shouldSetThreadsConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("threads-cfg", environment);
+    final var threads = cfg.getThreads();
+
+    // then
+    assertThat(threads.getCpuThreadCount()).isEqualTo(3);
+    assertThat(threads.getIoThreadCount()).isEqualTo(1);
+    assertThat(threads.getWorkStealingIdleThreshold()).isEqualTo(Duration.ofNanos(100_000));
+    assertThat(threads.getCpuThreadAffinity()).containsExactly(2, 3, 4);
+    assertThat(threads.getCpuIdleStrategy()).isEqualTo(ActorIdleStrategy.BUSY_SPIN);
+    assertThat(threads.getIoIdleStrategy()).isEqualTo(ActorIdleStrategy.PARK);
+    assertThat(threads.getMaxIdleParkPeriod()).isEqualTo(Duration.ofMillis(5));
+    assertThat(threads.isActorProfilingEnabled()).isTrue();
+    assertThat(threads.getSlowJobThreshold()).isEqualTo(Duration.ofSeconds(1));
+  }
+
+  @Test
+  public void shouldSetIdleStrategyFromEnvironment() {
+    // given
+    environment.put("zeebe.broker.threads.cpuIdleStrategy", "PARK");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getThreads().getCpuIdleStrategy()).isEqualTo(ActorIdleStrategy.PARK);
+  }
+}
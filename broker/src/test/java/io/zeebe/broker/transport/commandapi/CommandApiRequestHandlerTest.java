@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.broker.transport.backpressure.NoopRequestLimiter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
+import io.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.zeebe.protocol.record.ErrorCode;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.impl.ServerResponseImpl;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class CommandApiRequestHandlerTest {
+
+  private static final int PARTITION_ID = 1;
+  private static final long BATCH_REQUEST_ID = 7;
+
+  private final List<ServerResponse> sentResponses = new ArrayList<>();
+  private final CommandBatchResponseCollector responseCollector =
+      new CommandBatchResponseCollector(sentResponses::add);
+  private final CommandApiRequestHandler handler = new CommandApiRequestHandler(responseCollector);
+
+  private LogStreamRecordWriter recordWriter;
+  private LogStreamBatchWriter batchWriter;
+
+  @Before
+  public void setUp() {
+    recordWriter = mock(LogStreamRecordWriter.class, RETURNS_SELF);
+    batchWriter = mock(LogStreamBatchWriter.class, RETURNS_DEEP_STUBS);
+    handler.addPartition(PARTITION_ID, recordWriter, batchWriter, new NoopRequestLimiter<>());
+  }
+
+  @Test
+  public void shouldAnswerBatchIfSingleWriteOfCommandFails() {
+    // given - the batch doesn't fit, and only the first command can be written on its own
+    when(batchWriter.tryWrite()).thenReturn(-1L);
+    when(recordWriter.tryWrite()).thenReturn(1L, -1L);
+
+    // when
+    sendBatch(2);
+
+    // then - the batch waits for the response of the written command
+    assertThat(sentResponses).isEmpty();
+
+    // when
+    responseCollector.sendResponse(
+        new ServerResponseImpl()
+            .setPartitionId(PARTITION_ID)
+            .setRequestId(CommandBatchResponseCollector.BATCH_REQUEST_ID_OFFSET)
+            .buffer(BufferUtil.wrapString("published")));
+
+    // then
+    assertThat(sentResponses).hasSize(1);
+    final ExecuteCommandBatchResponse batchResponse = readBatchResponse(sentResponses.get(0));
+    assertThat(batchResponse.getResponseCount()).isEqualTo(2);
+    assertThat(BufferUtil.bufferAsString(batchResponse.getResponse(0))).isEqualTo("published");
+
+    final ErrorResponse errorResponse = new ErrorResponse();
+    final DirectBuffer response = batchResponse.getResponse(1);
+    errorResponse.wrap(response, 0, response.capacity());
+    assertThat(errorResponse.getErrorCode()).isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+  }
+
+  @Test
+  public void shouldAnswerBatchIfNoCommandCanBeWritten() {
+    // given
+    when(batchWriter.tryWrite()).thenReturn(-1L);
+    when(recordWriter.tryWrite()).thenReturn(-1L);
+
+    // when
+    sendBatch(3);
+
+    // then
+    assertThat(sentResponses).hasSize(1);
+    assertThat(sentResponses.get(0).getRequestId()).isEqualTo(BATCH_REQUEST_ID);
+    assertThat(readBatchResponse(sentResponses.get(0)).getResponseCount()).isEqualTo(3);
+  }
+
+  private void sendBatch(final int commandCount) {
+    final MessageRecord message =
+        new MessageRecord().setName("message").setCorrelationKey("key").setTimeToLive(0);
+    final UnsafeBuffer value = new UnsafeBuffer(new byte[message.getLength()]);
+    message.write(value, 0);
+
+    final ExecuteCommandBatchRequest batchRequest =
+        new ExecuteCommandBatchRequest().setPartitionId(PARTITION_ID);
+    for (int i = 0; i < commandCount; i++) {
+      batchRequest.addCommand(
+          new ExecuteCommandRequest()
+              .setPartitionId(PARTITION_ID)
+              .setValueType(ValueType.MESSAGE)
+              .setIntent(MessageIntent.PUBLISH)
+              .setValue(value, 0, value.capacity()));
+    }
+
+    final UnsafeBuffer request = new UnsafeBuffer(new byte[batchRequest.getLength()]);
+    batchRequest.write(request, 0);
+    handler.onRequest(
+        sentResponses::add, PARTITION_ID, BATCH_REQUEST_ID, request, 0, request.capacity());
+  }
+
+  private static ExecuteCommandBatchResponse readBatchResponse(final ServerResponse response) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(buffer, 0);
+
+    final ExecuteCommandBatchResponse batchResponse = new ExecuteCommandBatchResponse();
+    batchResponse.wrap(buffer, 0, buffer.capacity());
+    return batchResponse;
+  }
+}
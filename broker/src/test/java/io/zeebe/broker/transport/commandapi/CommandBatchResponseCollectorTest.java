@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.impl.ServerResponseImpl;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class CommandBatchResponseCollectorTest {
+
+  private static final int PARTITION_ID = 1;
+
+  private final List<ServerResponse> sentResponses = new ArrayList<>();
+  private CommandBatchResponseCollector collector;
+
+  @Before
+  public void setUp() {
+    collector = new CommandBatchResponseCollector(sentResponses::add);
+  }
+
+  @Test
+  public void shouldPassThroughResponsesOfSingleRequests() {
+    // when
+    collector.sendResponse(response(5, "single"));
+
+    // then
+    assertThat(sentResponses).hasSize(1);
+    assertThat(sentResponses.get(0).getRequestId()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldSendBatchResponseInRequestOrderOnceAllCommandsAreAnswered() {
+    // given
+    final long firstRequestId = collector.registerBatch(PARTITION_ID, 7, 3);
+
+    // when
+    collector.sendResponse(response(firstRequestId + 2, "third"));
+    collector.sendResponse(response(firstRequestId, "first"));
+
+    // then
+    assertThat(sentResponses).isEmpty();
+
+    // when
+    collector.sendResponse(response(firstRequestId + 1, "second"));
+
+    // then
+    assertThat(sentResponses).hasSize(1);
+    final ServerResponse response = sentResponses.get(0);
+    assertThat(response.getRequestId()).isEqualTo(7);
+    assertThat(response.getPartitionId()).isEqualTo(PARTITION_ID);
+
+    final ExecuteCommandBatchResponse batchResponse = read(response);
+    assertThat(batchResponse.getResponseCount()).isEqualTo(3);
+    assertThat(BufferUtil.bufferAsString(batchResponse.getResponse(0))).isEqualTo("first");
+    assertThat(BufferUtil.bufferAsString(batchResponse.getResponse(1))).isEqualTo("second");
+    assertThat(BufferUtil.bufferAsString(batchResponse.getResponse(2))).isEqualTo("third");
+  }
+
+  @Test
+  public void shouldUseDistinctRequestIdsForEveryBatchedCommand() {
+    // when
+    final long firstBatch = collector.registerBatch(PARTITION_ID, 1, 2);
+    final long secondBatch = collector.registerBatch(PARTITION_ID, 2, 2);
+
+    // then
+    assertThat(firstBatch)
+        .isGreaterThanOrEqualTo(CommandBatchResponseCollector.BATCH_REQUEST_ID_OFFSET);
+    assertThat(secondBatch).isEqualTo(firstBatch + 2);
+  }
+
+  @Test
+  public void shouldDropPendingBatchesOfRemovedPartition() {
+    // given
+    final long firstRequestId = collector.registerBatch(PARTITION_ID, 3, 1);
+
+    // when
+    collector.removePartition(PARTITION_ID);
+    collector.sendResponse(response(firstRequestId, "late"));
+
+    // then the response is not collected anymore, but passed through as is
+    assertThat(sentResponses).hasSize(1);
+    assertThat(sentResponses.get(0).getRequestId()).isEqualTo(firstRequestId);
+  }
+
+  private static ServerResponse response(final long requestId, final String content) {
+    return new ServerResponseImpl()
+        .setPartitionId(PARTITION_ID)
+        .setRequestId(requestId)
+        .buffer(BufferUtil.wrapString(content));
+  }
+
+  private static ExecuteCommandBatchResponse read(final ServerResponse response) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(buffer, 0);
+
+    final ExecuteCommandBatchResponse batchResponse = new ExecuteCommandBatchResponse();
+    batchResponse.wrap(buffer, 0, buffer.capacity());
+    return batchResponse;
+  }
+}
@@ -17,9 +17,12 @@ package io.zeebe.client;
 
 import io.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.CreateWorkflowInstancesCommandStep1;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.zeebe.client.api.command.TopologyRequestStep1;
@@ -109,6 +112,22 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   CreateWorkflowInstanceCommandStep1 newCreateInstanceCommand();
 
+  /**
+   * Command to create/start multiple workflow instances at once. The instances are created
+   * independently of each other, i.e. the response contains a separate result for each instance.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newCreateInstancesCommand()
+   *  .addInstance("my-process", CreateWorkflowInstanceCommandStep1.LATEST_VERSION, json)
+   *  .addInstance(workflowKey, variables)
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  CreateWorkflowInstancesCommandStep1 newCreateInstancesCommand();
+
   /**
    * Command to cancel a workflow instance.
    *
@@ -155,6 +174,22 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   PublishMessageCommandStep1 newPublishMessageCommand();
 
+  /**
+   * Command to publish multiple messages at once. The messages are published independently of each
+   * other, i.e. the response contains a separate result for each message.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newPublishMessagesCommand()
+   *  .addMessage("order canceled", orderId, json)
+   *  .addMessage("order canceled", otherOrderId, json)
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  PublishMessagesCommandStep1 newPublishMessagesCommand();
+
   /**
    * Command to resolve an existing incident.
    *
@@ -252,4 +287,20 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    * @return a builder for the command
    */
   ActivateJobsCommandStep1 newActivateJobsCommand();
+
+  /**
+   * Command to complete multiple jobs at once. The jobs are completed independently of each other,
+   * i.e. the response contains a separate result for each job.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(jobKey, json)
+   *  .addJob(otherJobKey)
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
 }
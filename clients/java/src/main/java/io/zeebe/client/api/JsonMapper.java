@@ -84,6 +84,20 @@ public interface JsonMapper {
    */
   Map<String, String> fromJsonAsStringMap(final String json);
 
+  /**
+   * Deserializes a single top-level field of a JSON object. Implementations should avoid to
+   * deserialize the other fields. The default implementation deserializes the whole object.
+   *
+   * @param json the JSON string of an object
+   * @param fieldName the name of the field to deserialize
+   * @return the value of the field, or {@code null} if the field doesn't exist
+   * @throws io.zeebe.client.api.command.InternalClientException on serialization/deserialization
+   *     error
+   */
+  default Object fromJsonField(final String json, final String fieldName) {
+    return fromJsonAsMap(json).get(fieldName);
+  }
+
   /**
    * Serializes an object (POJO, map, list, etc.) into an JSON string.
    *
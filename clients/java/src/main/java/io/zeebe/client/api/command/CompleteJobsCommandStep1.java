@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.command;
+
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.CompleteJobResponse;
+
+public interface CompleteJobsCommandStep1
+    extends FinalCommandStep<BatchResponse<CompleteJobResponse>> {
+
+  /**
+   * Add a job to complete without variables.
+   *
+   * @param jobKey the key of the job to complete
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CompleteJobsCommandStep1 addJob(long jobKey);
+
+  /**
+   * Add a job to complete with the given variables.
+   *
+   * @param jobKey the key of the job to complete
+   * @param variables the variables to complete the job with, either as JSON String, as stream of
+   *     JSON, as map or as object
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CompleteJobsCommandStep1 addJob(long jobKey, Object variables);
+}
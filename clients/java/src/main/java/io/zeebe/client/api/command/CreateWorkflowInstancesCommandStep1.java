@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.command;
+
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
+
+public interface CreateWorkflowInstancesCommandStep1
+    extends FinalCommandStep<BatchResponse<WorkflowInstanceEvent>> {
+
+  /**
+   * Add an instance to create of the workflow with the given key, without variables.
+   *
+   * @param workflowKey the key of the workflow
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CreateWorkflowInstancesCommandStep1 addInstance(long workflowKey);
+
+  /**
+   * Add an instance to create of the workflow with the given key.
+   *
+   * @param workflowKey the key of the workflow
+   * @param variables the initial variables of the instance, either as JSON String, as stream of
+   *     JSON, as map or as object
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CreateWorkflowInstancesCommandStep1 addInstance(long workflowKey, Object variables);
+
+  /**
+   * Add an instance to create of the workflow with the given BPMN process id and version, without
+   * variables.
+   *
+   * @param bpmnProcessId the BPMN process id of the workflow
+   * @param version the version of the workflow, or {@link
+   *     CreateWorkflowInstanceCommandStep1#LATEST_VERSION} to use the latest version
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CreateWorkflowInstancesCommandStep1 addInstance(String bpmnProcessId, int version);
+
+  /**
+   * Add an instance to create of the workflow with the given BPMN process id and version.
+   *
+   * @param bpmnProcessId the BPMN process id of the workflow
+   * @param version the version of the workflow, or {@link
+   *     CreateWorkflowInstanceCommandStep1#LATEST_VERSION} to use the latest version
+   * @param variables the initial variables of the instance, either as JSON String, as stream of
+   *     JSON, as map or as object
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CreateWorkflowInstancesCommandStep1 addInstance(
+      String bpmnProcessId, int version, Object variables);
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.command;
+
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import java.time.Duration;
+
+public interface PublishMessagesCommandStep1
+    extends FinalCommandStep<BatchResponse<PublishMessageResponse>> {
+
+  /**
+   * Add a message to publish without variables.
+   *
+   * @param messageName the name of the message
+   * @param correlationKey the correlation key value of the message
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  PublishMessagesCommandStep1 addMessage(String messageName, String correlationKey);
+
+  /**
+   * Add a message to publish with the given variables.
+   *
+   * @param messageName the name of the message
+   * @param correlationKey the correlation key value of the message
+   * @param variables the variables of the message, either as JSON String, as stream of JSON, as map
+   *     or as object
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  PublishMessagesCommandStep1 addMessage(
+      String messageName, String correlationKey, Object variables);
+
+  /**
+   * Add a message with an id to publish with the given variables. The message is rejected if
+   * another message is already published with the same id, name and correlation-key.
+   *
+   * @param messageName the name of the message
+   * @param correlationKey the correlation key value of the message
+   * @param messageId the id of the message
+   * @param variables the variables of the message, either as JSON String, as stream of JSON, as map
+   *     or as object
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  PublishMessagesCommandStep1 addMessage(
+      String messageName, String correlationKey, String messageId, Object variables);
+
+  /**
+   * Set the time-to-live of all messages of this command. If no duration is set then the default is
+   * used from the configuration.
+   *
+   * @param timeToLive the time-to-live of the messages
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  PublishMessagesCommandStep1 timeToLive(Duration timeToLive);
+}
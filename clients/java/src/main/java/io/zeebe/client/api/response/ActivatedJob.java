@@ -62,12 +62,27 @@ public interface ActivatedJob {
   /** @return JSON-formatted variables */
   String getVariables();
 
-  /** @return de-serialized variables as map */
+  /**
+   * The variables are de-serialized on the first call. Every call returns a new copy of them, so
+   * modifications of the map are not visible to later calls.
+   *
+   * @return de-serialized variables as map
+   */
   Map<String, Object> getVariablesAsMap();
 
   /** @return de-serialized variables as the given type */
   <T> T getVariablesAsType(Class<T> variableType);
 
+  /**
+   * Returns a single variable without de-serializing the other variables, unless they are already
+   * de-serialized by {@link #getVariablesAsMap()}.
+   *
+   * @param name the name of the variable
+   * @return the de-serialized value of the variable, or {@code null} if the variable doesn't exist
+   *     or its value is {@code null}
+   */
+  Object getVariable(String name);
+
   /** @return the record encoded as JSON */
   String toJson();
 }
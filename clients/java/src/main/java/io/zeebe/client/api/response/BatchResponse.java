@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.response;
+
+import java.util.List;
+
+/**
+ * The response to a batch command, e.g. {@link
+ * io.zeebe.client.ZeebeClient#newCompleteJobsCommand()}. The commands of a batch are processed
+ * independently of each other, i.e. a single failing command doesn't fail the other ones.
+ *
+ * @param <T> the response type of a single command of the batch
+ */
+public interface BatchResponse<T> {
+
+  /** @return the result of each command, in the order in which the commands were added */
+  List<BatchResult<T>> getResults();
+
+  /** @return true if all commands of the batch were successful */
+  boolean isSuccessful();
+}
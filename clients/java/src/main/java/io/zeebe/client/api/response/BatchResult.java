@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.response;
+
+import io.zeebe.client.api.command.ClientStatusException;
+
+/**
+ * The result of a single command of a batch command.
+ *
+ * @param <T> the response type of the command
+ */
+public interface BatchResult<T> {
+
+  /** @return true if the command was successful, false if it was rejected or failed */
+  boolean isSuccessful();
+
+  /**
+   * @return the response of the command, if it was successful; otherwise null. Note that some
+   *     responses are always null, e.g. the response to a job completion.
+   */
+  T getResponse();
+
+  /**
+   * @return the error of the command, if it was not successful; otherwise null. It is the same
+   *     error the corresponding single command would have failed with.
+   */
+  ClientStatusException getError();
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.worker;
+
+import io.zeebe.client.api.response.ActivatedJob;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A job handler which doesn't block the worker's thread while the job is handled, e.g. because it
+ * does non-blocking I/O. Implementations MUST be thread-safe.
+ */
+@FunctionalInterface
+public interface AsyncJobHandler {
+
+  /**
+   * Starts to handle a job and returns a stage which completes when the job is handled. The handler
+   * is called on the worker's thread, so it should return as soon as the work is started.
+   *
+   * <p>The job counts as active for the worker until the returned stage completes, i.e. the worker
+   * doesn't activate more than {@code maxJobsActive} jobs which are still being handled.
+   *
+   * <p>In case the handler throws an exception or the stage completes exceptionally, the job is
+   * failed and the job retries are automatically decremented by one, as for a {@link JobHandler}.
+   *
+   * <p>Example AsyncJobHandler implementation:
+   *
+   * <pre>
+   * (client, job) -&gt;
+   *   httpClient
+   *     .sendAsync(request, BodyHandlers.ofString())
+   *     .thenCompose(response -&gt;
+   *       client
+   *         .newCompleteCommand(job.getKey())
+   *         .variables(Map.of("status", response.statusCode()))
+   *         .send());
+   * </pre>
+   *
+   * @param client the client to complete or fail the job
+   * @param job the job to handle
+   * @return a stage which completes when the job is handled
+   */
+  CompletionStage<?> handle(JobClient client, ActivatedJob job) throws Exception;
+}
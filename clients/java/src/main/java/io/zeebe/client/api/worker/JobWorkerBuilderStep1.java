@@ -58,6 +58,31 @@ public interface JobWorkerBuilderStep1 {
      * @return the builder for this worker
      */
     JobWorkerBuilderStep3 handler(JobHandler handler);
+
+    /**
+     * Set a handler which processes the jobs asynchronously. The handler returns a stage which
+     * completes when the job is handled, instead of blocking the worker's thread until then. At the
+     * end of the processing, the handler should complete the job or mark it as failed.
+     *
+     * <p>Since the handler doesn't block a thread, the number of jobs which are handled at the same
+     * time is only limited by {@link JobWorkerBuilderStep3#maxJobsActive(int)}. This fits handlers
+     * which wait on I/O, without increasing the number of threads of the client.
+     *
+     * <p>Example AsyncJobHandler implementation:
+     *
+     * <pre>
+     * (client, job) -&gt;
+     *   paymentService
+     *     .chargeAsync(job.getVariablesAsMap())
+     *     .thenCompose(receipt -&gt; client.newCompleteCommand(job.getKey()).send());
+     * </pre>
+     *
+     * The handler must be thread-safe.
+     *
+     * @param handler the handler to process the jobs
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 asyncHandler(AsyncJobHandler handler);
   }
 
   interface JobWorkerBuilderStep3 {
@@ -191,6 +216,24 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 backoffSupplier(BackoffSupplier backoffSupplier);
 
+    /**
+     * Set the window in which the worker collects the completions of its jobs to send them in a
+     * single request, which reduces the number of requests if many short jobs are handled. The
+     * batch is sent earlier if it contains as many completions as the max jobs active.
+     *
+     * <p>This only applies to the complete commands created by the {@link JobClient} which is
+     * passed to the handler. The future of each command is still completed with the result of its
+     * own job. A batch is sent with the default request timeout of the {@link
+     * ZeebeClientConfiguration}; a command with its own request timeout is sent right away instead.
+     *
+     * <p>By default, the completions are not batched.
+     *
+     * @param window the time to wait for more completions after the first one, must be positive to
+     *     enable batching
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 completionBatchWindow(Duration window);
+
     /**
      * Open the worker and start to work on available tasks.
      *
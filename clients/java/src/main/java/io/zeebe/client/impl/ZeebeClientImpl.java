@@ -30,10 +30,13 @@ import io.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.ClientException;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.CreateWorkflowInstancesCommandStep1;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
@@ -43,10 +46,13 @@ import io.zeebe.client.api.worker.JobClient;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.zeebe.client.impl.command.ActivateJobsCommandImpl;
 import io.zeebe.client.impl.command.CancelWorkflowInstanceCommandImpl;
+import io.zeebe.client.impl.command.CompleteJobsCommandImpl;
 import io.zeebe.client.impl.command.CreateWorkflowInstanceCommandImpl;
+import io.zeebe.client.impl.command.CreateWorkflowInstancesCommandImpl;
 import io.zeebe.client.impl.command.DeployWorkflowCommandImpl;
 import io.zeebe.client.impl.command.JobUpdateRetriesCommandImpl;
 import io.zeebe.client.impl.command.PublishMessageCommandImpl;
+import io.zeebe.client.impl.command.PublishMessagesCommandImpl;
 import io.zeebe.client.impl.command.ResolveIncidentCommandImpl;
 import io.zeebe.client.impl.command.SetVariablesCommandImpl;
 import io.zeebe.client.impl.command.TopologyRequestImpl;
@@ -244,6 +250,15 @@ public final class ZeebeClientImpl implements ZeebeClient {
         credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public CreateWorkflowInstancesCommandStep1 newCreateInstancesCommand() {
+    return new CreateWorkflowInstancesCommandImpl(
+        asyncStub,
+        jsonMapper,
+        config.getDefaultRequestTimeout(),
+        credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public CancelWorkflowInstanceCommandStep1 newCancelInstanceCommand(
       final long workflowInstanceKey) {
@@ -270,6 +285,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, config, jsonMapper, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public PublishMessagesCommandStep1 newPublishMessagesCommand() {
+    return new PublishMessagesCommandImpl(
+        asyncStub, config, jsonMapper, credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public ResolveIncidentCommandStep1 newResolveIncidentCommand(final long incidentKey) {
     return new ResolveIncidentCommandImpl(
@@ -306,6 +327,15 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, config, jsonMapper, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return new CompleteJobsCommandImpl(
+        asyncStub,
+        jsonMapper,
+        config.getDefaultRequestTimeout(),
+        credentialsProvider::shouldRetryRequest);
+  }
+
   private JobClient newJobClient() {
     return new JobClientImpl(
         asyncStub, config, jsonMapper, credentialsProvider::shouldRetryRequest);
@@ -15,7 +15,9 @@
  */
 package io.zeebe.client.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -64,6 +66,33 @@ public final class ZeebeObjectMapper extends ObjectMapper implements JsonMapper
     }
   }
 
+  @Override
+  public Object fromJsonField(final String json, final String fieldName) {
+    try (final JsonParser parser = getFactory().createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new InternalClientException(
+            String.format(
+                "Failed to deserialize field '%s' of json '%s', expected an object",
+                fieldName, json));
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String currentFieldName = parser.getCurrentName();
+        final JsonToken valueToken = parser.nextToken();
+
+        if (fieldName.equals(currentFieldName)) {
+          return valueToken == JsonToken.VALUE_NULL ? null : readValue(parser, Object.class);
+        }
+        parser.skipChildren();
+      }
+      return null;
+
+    } catch (final IOException e) {
+      throw new InternalClientException(
+          String.format("Failed to deserialize field '%s' of json '%s'", fieldName, json), e);
+    }
+  }
+
   public String toJson(final Object value) {
     try {
       return writeValueAsString(value);
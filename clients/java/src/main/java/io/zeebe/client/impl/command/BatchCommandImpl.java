@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.JsonMapper;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Base class of the commands which send multiple requests of the same kind with a single gRPC call.
+ *
+ * @param <T> the response type of a single request of the batch
+ */
+public abstract class BatchCommandImpl<T> implements FinalCommandStep<BatchResponse<T>> {
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  protected BatchCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+  }
+
+  @Override
+  public FinalCommandStep<BatchResponse<T>> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  protected String toJson(final Object variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+
+    if (variables instanceof String) {
+      return jsonMapper.validateJson("variables", (String) variables);
+    } else if (variables instanceof InputStream) {
+      return jsonMapper.validateJson("variables", (InputStream) variables);
+    } else {
+      return jsonMapper.toJson(variables);
+    }
+  }
+
+  protected <GrpcResponseT> ZeebeFuture<BatchResponse<T>> send(
+      final BiConsumer<GatewayStub, StreamObserver<GrpcResponseT>> call,
+      final Function<GrpcResponseT, BatchResponse<T>> responseMapper) {
+    final RetriableClientFutureImpl<BatchResponse<T>, GrpcResponseT> future =
+        new RetriableClientFutureImpl<>(
+            responseMapper, retryPredicate, streamObserver -> send(call, streamObserver));
+
+    send(call, future);
+    return future;
+  }
+
+  private <GrpcResponseT> void send(
+      final BiConsumer<GatewayStub, StreamObserver<GrpcResponseT>> call,
+      final StreamObserver<GrpcResponseT> streamObserver) {
+    call.accept(
+        asyncStub.withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS),
+        streamObserver);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.zeebe.client.api.JsonMapper;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.BatchResult;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.impl.response.BatchResponseImpl;
+import io.zeebe.client.impl.response.BatchResultImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+public final class CompleteJobsCommandImpl extends BatchCommandImpl<CompleteJobResponse>
+    implements CompleteJobsCommandStep1 {
+
+  private final CompleteJobsRequest.Builder builder = CompleteJobsRequest.newBuilder();
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    super(asyncStub, jsonMapper, requestTimeout, retryPredicate);
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey) {
+    builder.addRequests(CompleteJobRequest.newBuilder().setJobKey(jobKey));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey, final Object variables) {
+    builder.addRequests(
+        CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables(toJson(variables)));
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchResponse<CompleteJobResponse>> send() {
+    final CompleteJobsRequest request = builder.build();
+    return send(
+        (stub, streamObserver) -> stub.completeJobs(request, streamObserver),
+        (final CompleteJobsResponse response) ->
+            new BatchResponseImpl<>(response.getResultsList(), CompleteJobsCommandImpl::toResult));
+  }
+
+  private static BatchResult<CompleteJobResponse> toResult(final CompleteJobResult result) {
+    return result.hasError()
+        ? BatchResultImpl.failure(result.getError())
+        : BatchResultImpl.success(null);
+  }
+}
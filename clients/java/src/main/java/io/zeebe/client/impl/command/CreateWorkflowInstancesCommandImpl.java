@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.zeebe.client.api.JsonMapper;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.CreateWorkflowInstancesCommandStep1;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.BatchResult;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
+import io.zeebe.client.impl.response.BatchResponseImpl;
+import io.zeebe.client.impl.response.BatchResultImpl;
+import io.zeebe.client.impl.response.CreateWorkflowInstanceResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+public final class CreateWorkflowInstancesCommandImpl
+    extends BatchCommandImpl<WorkflowInstanceEvent> implements CreateWorkflowInstancesCommandStep1 {
+
+  private final CreateWorkflowInstancesRequest.Builder builder =
+      CreateWorkflowInstancesRequest.newBuilder();
+
+  public CreateWorkflowInstancesCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    super(asyncStub, jsonMapper, requestTimeout, retryPredicate);
+  }
+
+  @Override
+  public CreateWorkflowInstancesCommandStep1 addInstance(final long workflowKey) {
+    builder.addRequests(CreateWorkflowInstanceRequest.newBuilder().setWorkflowKey(workflowKey));
+    return this;
+  }
+
+  @Override
+  public CreateWorkflowInstancesCommandStep1 addInstance(
+      final long workflowKey, final Object variables) {
+    builder.addRequests(
+        CreateWorkflowInstanceRequest.newBuilder()
+            .setWorkflowKey(workflowKey)
+            .setVariables(toJson(variables)));
+    return this;
+  }
+
+  @Override
+  public CreateWorkflowInstancesCommandStep1 addInstance(
+      final String bpmnProcessId, final int version) {
+    builder.addRequests(
+        CreateWorkflowInstanceRequest.newBuilder()
+            .setBpmnProcessId(bpmnProcessId)
+            .setVersion(version));
+    return this;
+  }
+
+  @Override
+  public CreateWorkflowInstancesCommandStep1 addInstance(
+      final String bpmnProcessId, final int version, final Object variables) {
+    builder.addRequests(
+        CreateWorkflowInstanceRequest.newBuilder()
+            .setBpmnProcessId(bpmnProcessId)
+            .setVersion(version)
+            .setVariables(toJson(variables)));
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchResponse<WorkflowInstanceEvent>> send() {
+    final CreateWorkflowInstancesRequest request = builder.build();
+    return send(
+        (stub, streamObserver) -> stub.createWorkflowInstances(request, streamObserver),
+        (final CreateWorkflowInstancesResponse response) ->
+            new BatchResponseImpl<>(
+                response.getResultsList(), CreateWorkflowInstancesCommandImpl::toResult));
+  }
+
+  private static BatchResult<WorkflowInstanceEvent> toResult(
+      final CreateWorkflowInstanceResult result) {
+    return result.hasError()
+        ? BatchResultImpl.failure(result.getError())
+        : BatchResultImpl.success(new CreateWorkflowInstanceResponseImpl(result.getResponse()));
+  }
+}
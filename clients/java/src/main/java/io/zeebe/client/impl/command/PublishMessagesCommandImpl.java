@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.zeebe.client.ZeebeClientConfiguration;
+import io.zeebe.client.api.JsonMapper;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.BatchResult;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import io.zeebe.client.impl.response.BatchResponseImpl;
+import io.zeebe.client.impl.response.BatchResultImpl;
+import io.zeebe.client.impl.response.PublishMessageResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+public final class PublishMessagesCommandImpl extends BatchCommandImpl<PublishMessageResponse>
+    implements PublishMessagesCommandStep1 {
+
+  private final PublishMessagesRequest.Builder builder = PublishMessagesRequest.newBuilder();
+  private Duration timeToLive;
+
+  public PublishMessagesCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration configuration,
+      final JsonMapper jsonMapper,
+      final Predicate<Throwable> retryPredicate) {
+    super(asyncStub, jsonMapper, configuration.getDefaultRequestTimeout(), retryPredicate);
+    timeToLive = configuration.getDefaultMessageTimeToLive();
+  }
+
+  @Override
+  public PublishMessagesCommandStep1 addMessage(
+      final String messageName, final String correlationKey) {
+    builder.addRequests(
+        PublishMessageRequest.newBuilder().setName(messageName).setCorrelationKey(correlationKey));
+    return this;
+  }
+
+  @Override
+  public PublishMessagesCommandStep1 addMessage(
+      final String messageName, final String correlationKey, final Object variables) {
+    builder.addRequests(
+        PublishMessageRequest.newBuilder()
+            .setName(messageName)
+            .setCorrelationKey(correlationKey)
+            .setVariables(toJson(variables)));
+    return this;
+  }
+
+  @Override
+  public PublishMessagesCommandStep1 addMessage(
+      final String messageName,
+      final String correlationKey,
+      final String messageId,
+      final Object variables) {
+    builder.addRequests(
+        PublishMessageRequest.newBuilder()
+            .setName(messageName)
+            .setCorrelationKey(correlationKey)
+            .setMessageId(messageId)
+            .setVariables(toJson(variables)));
+    return this;
+  }
+
+  @Override
+  public PublishMessagesCommandStep1 timeToLive(final Duration timeToLive) {
+    this.timeToLive = timeToLive;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchResponse<PublishMessageResponse>> send() {
+    for (final PublishMessageRequest.Builder message : builder.getRequestsBuilderList()) {
+      message.setTimeToLive(timeToLive.toMillis());
+    }
+
+    final PublishMessagesRequest request = builder.build();
+    return send(
+        (stub, streamObserver) -> stub.publishMessages(request, streamObserver),
+        (final PublishMessagesResponse response) ->
+            new BatchResponseImpl<>(
+                response.getResultsList(), PublishMessagesCommandImpl::toResult));
+  }
+
+  private static BatchResult<PublishMessageResponse> toResult(final PublishMessageResult result) {
+    return result.hasError()
+        ? BatchResultImpl.failure(result.getError())
+        : BatchResultImpl.success(new PublishMessageResponseImpl(result.getResponse()));
+  }
+}
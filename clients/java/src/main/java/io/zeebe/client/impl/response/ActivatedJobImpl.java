@@ -19,6 +19,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.zeebe.client.api.JsonMapper;
 import io.zeebe.client.api.response.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public final class ActivatedJobImpl implements ActivatedJob {
@@ -27,7 +30,7 @@ public final class ActivatedJobImpl implements ActivatedJob {
 
   private final long key;
   private final String type;
-  private final Map<String, String> customHeaders;
+  @JsonIgnore private final String customHeadersJson;
   private final long workflowInstanceKey;
   private final String bpmnProcessId;
   private final int workflowDefinitionVersion;
@@ -39,12 +42,17 @@ public final class ActivatedJobImpl implements ActivatedJob {
   private final long deadline;
   private final String variables;
 
+  // parsed on demand, since most handlers only read a few of the headers and variables; only
+  // copies are handed out, such that modifications by a handler don't change the parsed values
+  private volatile Map<String, String> customHeaders;
+  private volatile Map<String, Object> variablesAsMap;
+
   public ActivatedJobImpl(final JsonMapper jsonMapper, final GatewayOuterClass.ActivatedJob job) {
     this.jsonMapper = jsonMapper;
 
     key = job.getKey();
     type = job.getType();
-    customHeaders = jsonMapper.fromJsonAsStringMap(job.getCustomHeaders());
+    customHeadersJson = job.getCustomHeaders();
     worker = job.getWorker();
     retries = job.getRetries();
     deadline = job.getDeadline();
@@ -99,7 +107,12 @@ public final class ActivatedJobImpl implements ActivatedJob {
 
   @Override
   public Map<String, String> getCustomHeaders() {
-    return customHeaders;
+    Map<String, String> headers = customHeaders;
+    if (headers == null) {
+      headers = jsonMapper.fromJsonAsStringMap(customHeadersJson);
+      customHeaders = headers;
+    }
+    return new LinkedHashMap<>(headers);
   }
 
   @Override
@@ -124,7 +137,7 @@ public final class ActivatedJobImpl implements ActivatedJob {
 
   @Override
   public Map<String, Object> getVariablesAsMap() {
-    return jsonMapper.fromJsonAsMap(variables);
+    return copyOf(getParsedVariables());
   }
 
   @Override
@@ -132,6 +145,15 @@ public final class ActivatedJobImpl implements ActivatedJob {
     return jsonMapper.fromJson(variables, variableType);
   }
 
+  @Override
+  public Object getVariable(final String name) {
+    final Map<String, Object> variablesMap = variablesAsMap;
+    if (variablesMap != null) {
+      return copyOf(variablesMap.get(name));
+    }
+    return jsonMapper.fromJsonField(variables, name);
+  }
+
   @Override
   public String toJson() {
     return jsonMapper.toJson(this);
@@ -141,4 +163,32 @@ public final class ActivatedJobImpl implements ActivatedJob {
   public String toString() {
     return toJson();
   }
+
+  private Map<String, Object> getParsedVariables() {
+    Map<String, Object> variablesMap = variablesAsMap;
+    if (variablesMap == null) {
+      variablesMap = jsonMapper.fromJsonAsMap(variables);
+      variablesAsMap = variablesMap;
+    }
+    return variablesMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T copyOf(final T value) {
+    if (value instanceof Map) {
+      final Map<Object, Object> map = (Map<Object, Object>) value;
+      final Map<Object, Object> copy = new LinkedHashMap<>();
+      map.forEach((key, nestedValue) -> copy.put(key, copyOf(nestedValue)));
+      return (T) copy;
+
+    } else if (value instanceof List) {
+      final List<Object> list = (List<Object>) value;
+      final List<Object> copy = new ArrayList<>(list.size());
+      list.forEach(element -> copy.add(copyOf(element)));
+      return (T) copy;
+
+    } else {
+      return value;
+    }
+  }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.response;
+
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.BatchResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public final class BatchResponseImpl<T> implements BatchResponse<T> {
+
+  private final List<BatchResult<T>> results;
+
+  public <GrpcResultT> BatchResponseImpl(
+      final List<GrpcResultT> grpcResults,
+      final Function<GrpcResultT, BatchResult<T>> resultMapper) {
+    final List<BatchResult<T>> mappedResults = new ArrayList<>(grpcResults.size());
+    for (final GrpcResultT grpcResult : grpcResults) {
+      mappedResults.add(resultMapper.apply(grpcResult));
+    }
+
+    results = Collections.unmodifiableList(mappedResults);
+  }
+
+  @Override
+  public List<BatchResult<T>> getResults() {
+    return results;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return results.stream().allMatch(BatchResult::isSuccessful);
+  }
+
+  @Override
+  public String toString() {
+    return "BatchResponseImpl{" + "results=" + results + '}';
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.response;
+
+import io.grpc.Status;
+import io.zeebe.client.api.command.ClientStatusException;
+import io.zeebe.client.api.response.BatchResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+
+public final class BatchResultImpl<T> implements BatchResult<T> {
+
+  private final T response;
+  private final ClientStatusException error;
+
+  private BatchResultImpl(final T response, final ClientStatusException error) {
+    this.response = response;
+    this.error = error;
+  }
+
+  public static <T> BatchResult<T> success(final T response) {
+    return new BatchResultImpl<>(response, null);
+  }
+
+  public static <T> BatchResult<T> failure(final BatchItemError error) {
+    final Status status = Status.fromCodeValue(error.getCode()).withDescription(error.getMessage());
+    return new BatchResultImpl<>(null, new ClientStatusException(status, null));
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return error == null;
+  }
+
+  @Override
+  public T getResponse() {
+    return response;
+  }
+
+  @Override
+  public ClientStatusException getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return "BatchResultImpl{" + "response=" + response + ", error=" + error + '}';
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.zeebe.client.api.JsonMapper;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.impl.command.CommandWithVariables;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import java.time.Duration;
+
+/**
+ * Completes a job as part of a batch of the {@link CompleteJobBatcher}. If a request timeout is set
+ * on the command, the job is completed in a call of its own with this timeout instead.
+ */
+final class BatchedCompleteJobCommandImpl extends CommandWithVariables<CompleteJobCommandStep1>
+    implements CompleteJobCommandStep1 {
+
+  private final CompleteJobBatcher batcher;
+  private final CompleteJobRequest.Builder builder;
+  private Duration requestTimeout;
+
+  BatchedCompleteJobCommandImpl(
+      final CompleteJobBatcher batcher, final JsonMapper jsonMapper, final long key) {
+    super(jsonMapper);
+    this.batcher = batcher;
+    builder = CompleteJobRequest.newBuilder().setJobKey(key);
+  }
+
+  @Override
+  public FinalCommandStep<CompleteJobResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<CompleteJobResponse> send() {
+    if (requestTimeout != null) {
+      return batcher.send(builder.build(), requestTimeout);
+    }
+    return batcher.add(builder.build());
+  }
+
+  @Override
+  protected CompleteJobCommandStep1 setVariablesInternal(final String variables) {
+    builder.setVariables(variables);
+    return this;
+  }
+}
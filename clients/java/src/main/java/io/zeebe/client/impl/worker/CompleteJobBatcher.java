@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.ZeebeClientFutureImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Collects the completions of a job worker's jobs for a short window and sends them with a single
+ * {@code CompleteJobs} call. The future of each completion is completed with the result of its own
+ * request, i.e. it fails if only its job can't be completed.
+ *
+ * <p>The batch is sent when the window elapsed after the first completion was added, or right away
+ * when it reached its max size. The window is timed on a thread of the batcher, so the batch is
+ * also sent if the job handlers block the worker's threads while they wait for their completions. A
+ * completion with its own request timeout is sent right away in a call of its own.
+ */
+final class CompleteJobBatcher implements Closeable {
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService timer;
+  private final long windowMillis;
+  private final int maxBatchSize;
+  private final Duration requestTimeout;
+  private final Predicate<Throwable> retryPredicate;
+
+  private List<CompleteJobRequest> requests = new ArrayList<>();
+  private List<ZeebeClientFutureImpl<CompleteJobResponse, ?>> futures = new ArrayList<>();
+  private boolean isSendScheduled;
+  private boolean isClosed;
+
+  CompleteJobBatcher(
+      final GatewayStub asyncStub,
+      final Duration window,
+      final int maxBatchSize,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    windowMillis = window.toMillis();
+    this.maxBatchSize = maxBatchSize;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+
+    timer =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "zeebe-complete-job-batcher");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  ZeebeFuture<CompleteJobResponse> add(final CompleteJobRequest request) {
+    final ZeebeClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse> future =
+        new ZeebeClientFutureImpl<>();
+
+    final boolean shouldSendNow;
+    synchronized (this) {
+      requests.add(request);
+      futures.add(future);
+
+      shouldSendNow = isClosed || requests.size() >= maxBatchSize;
+      if (!shouldSendNow && !isSendScheduled) {
+        isSendScheduled = true;
+        timer.schedule(this::sendBatch, windowMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    if (shouldSendNow) {
+      sendBatch();
+    }
+    return future;
+  }
+
+  ZeebeFuture<CompleteJobResponse> send(
+      final CompleteJobRequest request, final Duration requestTimeout) {
+    final ZeebeClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse> future =
+        new ZeebeClientFutureImpl<>();
+
+    send(Collections.singletonList(request), Collections.singletonList(future), requestTimeout);
+    return future;
+  }
+
+  /** Sends the pending completions; the completions which are added afterwards are sent alone. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      isClosed = true;
+    }
+
+    timer.shutdownNow();
+    sendBatch();
+  }
+
+  private void sendBatch() {
+    final List<CompleteJobRequest> batchRequests;
+    final List<ZeebeClientFutureImpl<CompleteJobResponse, ?>> batchFutures;
+    synchronized (this) {
+      isSendScheduled = false;
+      if (requests.isEmpty()) {
+        return;
+      }
+
+      batchRequests = requests;
+      batchFutures = futures;
+      requests = new ArrayList<>();
+      futures = new ArrayList<>();
+    }
+
+    send(batchRequests, batchFutures, requestTimeout);
+  }
+
+  private void send(
+      final List<CompleteJobRequest> batchRequests,
+      final List<ZeebeClientFutureImpl<CompleteJobResponse, ?>> batchFutures,
+      final Duration requestTimeout) {
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder().addAllRequests(batchRequests).build();
+    final RetriableClientFutureImpl<CompleteJobsResponse, CompleteJobsResponse> batchFuture =
+        new RetriableClientFutureImpl<>(
+            response -> response,
+            retryPredicate,
+            streamObserver -> send(request, requestTimeout, streamObserver));
+
+    batchFuture.whenComplete(
+        (response, error) -> {
+          if (error != null) {
+            batchFutures.forEach(future -> future.completeExceptionally(error));
+          } else {
+            completeFutures(batchFutures, response.getResultsList());
+          }
+        });
+    send(request, requestTimeout, batchFuture);
+  }
+
+  private void send(
+      final CompleteJobsRequest request,
+      final Duration requestTimeout,
+      final StreamObserver<CompleteJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request, streamObserver);
+  }
+
+  private static void completeFutures(
+      final List<ZeebeClientFutureImpl<CompleteJobResponse, ?>> futures,
+      final List<CompleteJobResult> results) {
+    for (int i = 0; i < futures.size(); i++) {
+      final ZeebeClientFutureImpl<CompleteJobResponse, ?> future = futures.get(i);
+
+      if (i >= results.size()) {
+        future.completeExceptionally(
+            Status.INTERNAL
+                .withDescription("Expected a result for each job to complete, but got none")
+                .asRuntimeException());
+      } else if (results.get(i).hasError()) {
+        final BatchItemError error = results.get(i).getError();
+        future.completeExceptionally(
+            Status.fromCodeValue(error.getCode())
+                .withDescription(error.getMessage())
+                .asRuntimeException());
+      } else {
+        future.complete(null);
+      }
+    }
+  }
+}
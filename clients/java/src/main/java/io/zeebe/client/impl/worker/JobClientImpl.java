@@ -33,20 +33,38 @@ public final class JobClientImpl implements JobClient {
   private final ZeebeClientConfiguration config;
   private final JsonMapper jsonMapper;
   private final Predicate<Throwable> retryPredicate;
+  private final CompleteJobBatcher completeJobBatcher;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
       final ZeebeClientConfiguration config,
       final JsonMapper jsonMapper,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, config, jsonMapper, retryPredicate, null);
+  }
+
+  /**
+   * @param completeJobBatcher if set, the jobs are completed in batches by it instead of one
+   *     request per job; may be {@code null}
+   */
+  JobClientImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration config,
+      final JsonMapper jsonMapper,
+      final Predicate<Throwable> retryPredicate,
+      final CompleteJobBatcher completeJobBatcher) {
     this.asyncStub = asyncStub;
     this.config = config;
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
+    this.completeJobBatcher = completeJobBatcher;
   }
 
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final long jobKey) {
+    if (completeJobBatcher != null) {
+      return new BatchedCompleteJobCommandImpl(completeJobBatcher, jsonMapper, jobKey);
+    }
     return new CompleteJobCommandImpl(
         asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
   }
@@ -16,21 +16,35 @@
 package io.zeebe.client.impl.worker;
 
 import io.zeebe.client.api.response.ActivatedJob;
+import io.zeebe.client.api.worker.AsyncJobHandler;
 import io.zeebe.client.api.worker.JobClient;
 import io.zeebe.client.api.worker.JobHandler;
 import io.zeebe.client.impl.Loggers;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.slf4j.Logger;
 
 public final class JobRunnableFactory {
 
   private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+  private static final CompletableFuture<Void> HANDLED = CompletableFuture.completedFuture(null);
 
   private final JobClient jobClient;
-  private final JobHandler handler;
+  private final AsyncJobHandler handler;
 
   public JobRunnableFactory(final JobClient jobClient, final JobHandler handler) {
+    this(
+        jobClient,
+        (client, job) -> {
+          handler.handle(client, job);
+          return HANDLED;
+        });
+  }
+
+  public JobRunnableFactory(final JobClient jobClient, final AsyncJobHandler handler) {
     this.jobClient = jobClient;
     this.handler = handler;
   }
@@ -39,27 +53,62 @@ public final class JobRunnableFactory {
     return () -> executeJob(job, doneCallback);
   }
 
+  /**
+   * Calls the handler and invokes the done callback when the job is handled, i.e. when the stage
+   * returned by the handler is completed.
+   */
   private void executeJob(final ActivatedJob job, final Runnable doneCallback) {
+    final CompletionStage<?> handled;
     try {
-      handler.handle(jobClient, job);
+      handled = handler.handle(jobClient, job);
     } catch (final Exception e) {
-      LOG.warn(
-          "Worker {} failed to handle job with key {} of type {}, sending fail command to broker",
-          job.getWorker(),
-          job.getKey(),
-          job.getType(),
-          e);
-      final StringWriter stringWriter = new StringWriter();
-      final PrintWriter printWriter = new PrintWriter(stringWriter);
-      e.printStackTrace(printWriter);
-      final String message = stringWriter.toString();
-      jobClient
-          .newFailCommand(job.getKey())
-          .retries(job.getRetries() - 1)
-          .errorMessage(message)
-          .send();
-    } finally {
+      try {
+        failJob(job, e);
+      } finally {
+        doneCallback.run();
+      }
+      return;
+    }
+
+    if (handled == null || handled == HANDLED) {
       doneCallback.run();
+      return;
+    }
+
+    handled.whenComplete(
+        (result, error) -> {
+          try {
+            if (error != null) {
+              failJob(job, unwrap(error));
+            }
+          } finally {
+            doneCallback.run();
+          }
+        });
+  }
+
+  private void failJob(final ActivatedJob job, final Throwable error) {
+    LOG.warn(
+        "Worker {} failed to handle job with key {} of type {}, sending fail command to broker",
+        job.getWorker(),
+        job.getKey(),
+        job.getType(),
+        error);
+    final StringWriter stringWriter = new StringWriter();
+    final PrintWriter printWriter = new PrintWriter(stringWriter);
+    error.printStackTrace(printWriter);
+    final String message = stringWriter.toString();
+    jobClient
+        .newFailCommand(job.getKey())
+        .retries(job.getRetries() - 1)
+        .errorMessage(message)
+        .send();
+  }
+
+  private static Throwable unwrap(final Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
     }
+    return error;
   }
 }
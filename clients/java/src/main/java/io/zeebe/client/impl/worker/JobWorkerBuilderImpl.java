@@ -21,6 +21,7 @@ import static io.zeebe.client.impl.command.ArgumentUtil.ensureNotNullNorEmpty;
 
 import io.zeebe.client.ZeebeClientConfiguration;
 import io.zeebe.client.api.JsonMapper;
+import io.zeebe.client.api.worker.AsyncJobHandler;
 import io.zeebe.client.api.worker.BackoffSupplier;
 import io.zeebe.client.api.worker.JobClient;
 import io.zeebe.client.api.worker.JobHandler;
@@ -44,6 +45,7 @@ public final class JobWorkerBuilderImpl
   public static final BackoffSupplier DEFAULT_BACKOFF_SUPPLIER =
       BackoffSupplier.newBackoffBuilder().build();
   private static final Duration DEADLINE_OFFSET = Duration.ofSeconds(10);
+  private final ZeebeClientConfiguration configuration;
   private final GatewayStub gatewayStub;
   private final JobClient jobClient;
   private final JsonMapper jsonMapper;
@@ -52,6 +54,7 @@ public final class JobWorkerBuilderImpl
   private final Predicate<Throwable> retryPredicate;
   private String jobType;
   private JobHandler handler;
+  private AsyncJobHandler asyncHandler;
   private long timeout;
   private String workerName;
   private int maxJobsActive;
@@ -59,6 +62,7 @@ public final class JobWorkerBuilderImpl
   private Duration requestTimeout;
   private List<String> fetchVariables;
   private BackoffSupplier backoffSupplier;
+  private Duration completionBatchWindow;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -68,6 +72,7 @@ public final class JobWorkerBuilderImpl
       final ScheduledExecutorService executorService,
       final List<Closeable> closeables,
       final Predicate<Throwable> retryPredicate) {
+    this.configuration = configuration;
     this.gatewayStub = gatewayStub;
     this.jobClient = jobClient;
     this.jsonMapper = jsonMapper;
@@ -92,6 +97,14 @@ public final class JobWorkerBuilderImpl
   @Override
   public JobWorkerBuilderStep3 handler(final JobHandler handler) {
     this.handler = handler;
+    asyncHandler = null;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 asyncHandler(final AsyncJobHandler handler) {
+    asyncHandler = handler;
+    this.handler = null;
     return this;
   }
 
@@ -147,10 +160,18 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 completionBatchWindow(final Duration window) {
+    completionBatchWindow = window;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
-    ensureNotNull("jobHandler", handler);
+    if (asyncHandler == null) {
+      ensureNotNull("jobHandler", handler);
+    }
     ensureGreaterThan("timeout", timeout, 0L);
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
@@ -169,7 +190,11 @@ public final class JobWorkerBuilderImpl
 
     final Duration deadline = requestTimeout.plus(DEADLINE_OFFSET);
 
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
+    final JobClient workerJobClient = createJobClient();
+    final JobRunnableFactory jobRunnableFactory =
+        asyncHandler != null
+            ? new JobRunnableFactory(workerJobClient, asyncHandler)
+            : new JobRunnableFactory(workerJobClient, handler);
     final JobPoller jobPoller =
         new JobPoller(gatewayStub, requestBuilder, jsonMapper, deadline, retryPredicate);
 
@@ -184,4 +209,23 @@ public final class JobWorkerBuilderImpl
     closeables.add(jobWorker);
     return jobWorker;
   }
+
+  private JobClient createJobClient() {
+    if (completionBatchWindow == null
+        || completionBatchWindow.isNegative()
+        || completionBatchWindow.isZero()) {
+      return jobClient;
+    }
+
+    final CompleteJobBatcher completeJobBatcher =
+        new CompleteJobBatcher(
+            gatewayStub,
+            completionBatchWindow,
+            maxJobsActive,
+            configuration.getDefaultRequestTimeout(),
+            retryPredicate);
+    closeables.add(completeJobBatcher);
+    return new JobClientImpl(
+        gatewayStub, configuration, jsonMapper, retryPredicate, completeJobBatcher);
+  }
 }
@@ -16,6 +16,7 @@
 package io.zeebe.client.impl.worker;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.grpc.ManagedChannel;
 import io.grpc.Status;
@@ -25,6 +26,9 @@ import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
 import io.grpc.testing.GrpcCleanupRule;
 import io.zeebe.client.ZeebeClient;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.ClientStatusException;
+import io.zeebe.client.api.response.CompleteJobResponse;
 import io.zeebe.client.api.worker.JobHandler;
 import io.zeebe.client.impl.ZeebeClientBuilderImpl;
 import io.zeebe.client.impl.ZeebeClientImpl;
@@ -34,10 +38,20 @@ import io.zeebe.gateway.protocol.GatewayOuterClass;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.awaitility.Awaitility;
@@ -117,6 +131,174 @@ public final class JobWorkerImplTest {
                 assertThat(gateway.getTimeBetweenLatestPolls()).isGreaterThan(SLOW_POLL_THRESHOLD));
   }
 
+  @Test
+  public void shouldNotPollWhileAsyncHandlersAreInFlight() {
+    // given a gateway that responds with some jobs
+    gateway.respondWith(TestData.jobs(10));
+
+    // and a worker whose handlers don't complete until we say so
+    final List<CompletableFuture<Void>> inFlightHandlers = new CopyOnWriteArrayList<>();
+    client
+        .newWorker()
+        .jobType("test")
+        .asyncHandler(
+            (jobClient, job) -> {
+              final CompletableFuture<Void> handled = new CompletableFuture<>();
+              inFlightHandlers.add(handled);
+              return handled;
+            })
+        .maxJobsActive(10)
+        .pollInterval(Duration.ofMillis(10))
+        .open();
+    Awaitility.await().until(() -> inFlightHandlers.size() == 10);
+
+    // when
+    gateway.startMeasuring();
+
+    // then no jobs are activated while the handlers are in flight
+    Awaitility.await()
+        .during(Duration.ofMillis(300))
+        .atMost(Duration.ofSeconds(1))
+        .until(() -> gateway.getCountedPolls() == 0);
+
+    // when the handlers complete
+    inFlightHandlers.forEach(handled -> handled.complete(null));
+
+    // then new jobs are activated
+    Awaitility.await().until(() -> gateway.getCountedPolls() > 0);
+    assertThat(inFlightHandlers).hasSizeGreaterThan(10);
+  }
+
+  @Test
+  public void shouldFailJobIfAsyncHandlerCompletesExceptionally() {
+    // given
+    gateway.respondWith(TestData.jobs(1));
+
+    // when
+    client
+        .newWorker()
+        .jobType("test")
+        .asyncHandler(
+            (jobClient, job) -> {
+              final CompletableFuture<Void> handled = new CompletableFuture<>();
+              handled.completeExceptionally(new IllegalStateException("expected"));
+              return handled;
+            })
+        .open();
+
+    // then
+    Awaitility.await().until(() -> !gateway.getFailedJobs().isEmpty());
+    final FailJobRequest failedJob = gateway.getFailedJobs().get(0);
+    assertThat(failedJob.getJobKey()).isEqualTo(12);
+    assertThat(failedJob.getRetries()).isEqualTo(33);
+    assertThat(failedJob.getErrorMessage()).contains("expected");
+  }
+
+  @Test
+  public void shouldCompleteJobsInBatches() {
+    // given
+    gateway.respondWith(TestData.jobs(10));
+
+    // when
+    client
+        .newWorker()
+        .jobType("test")
+        .handler((jobClient, job) -> jobClient.newCompleteCommand(job.getKey()).send())
+        .maxJobsActive(10)
+        .completionBatchWindow(Duration.ofSeconds(10))
+        .open();
+
+    // then the batch is sent as soon as it contains the completions of all active jobs
+    Awaitility.await().until(() -> !gateway.getCompletedJobs().isEmpty());
+    final CompleteJobsRequest completedJobs = gateway.getCompletedJobs().get(0);
+    assertThat(completedJobs.getRequestsCount()).isEqualTo(10);
+    assertThat(completedJobs.getRequestsList()).allMatch(request -> request.getJobKey() == 12);
+  }
+
+  @Test
+  public void shouldCompleteEachFutureOfBatchWithItsOwnResult() {
+    // given a gateway which rejects the completions with the variable 'reject'
+    gateway.respondWith(TestData.jobs(2));
+
+    // when
+    final AtomicInteger handledJobs = new AtomicInteger();
+    final List<ZeebeFuture<CompleteJobResponse>> acceptedCompletions = new CopyOnWriteArrayList<>();
+    final List<ZeebeFuture<CompleteJobResponse>> rejectedCompletions = new CopyOnWriteArrayList<>();
+    client
+        .newWorker()
+        .jobType("test")
+        .handler(
+            (jobClient, job) -> {
+              final boolean reject = handledJobs.getAndIncrement() == 0;
+              final ZeebeFuture<CompleteJobResponse> future =
+                  jobClient
+                      .newCompleteCommand(job.getKey())
+                      .variables(Collections.singletonMap("reject", reject))
+                      .send();
+              (reject ? rejectedCompletions : acceptedCompletions).add(future);
+            })
+        .maxJobsActive(2)
+        .completionBatchWindow(Duration.ofMillis(50))
+        .open();
+
+    // then
+    Awaitility.await()
+        .until(() -> !acceptedCompletions.isEmpty() && !rejectedCompletions.isEmpty());
+    assertThat(acceptedCompletions.get(0).join()).isNull();
+    assertThatThrownBy(() -> rejectedCompletions.get(0).join())
+        .isInstanceOf(ClientStatusException.class)
+        .hasMessageContaining("rejected");
+  }
+
+  @Test
+  public void shouldSendBatchWhileHandlerWaitsForCompletion() {
+    // given
+    gateway.respondWith(TestData.jobs(1));
+
+    // when the handler blocks the only thread of the worker until its job is completed
+    final AtomicInteger completedJobs = new AtomicInteger();
+    client
+        .newWorker()
+        .jobType("test")
+        .handler(
+            (jobClient, job) -> {
+              jobClient.newCompleteCommand(job.getKey()).send().join();
+              completedJobs.incrementAndGet();
+            })
+        .maxJobsActive(10)
+        .completionBatchWindow(Duration.ofMillis(50))
+        .open();
+
+    // then
+    Awaitility.await().until(() -> completedJobs.get() > 0);
+  }
+
+  @Test
+  public void shouldCompleteJobWithOwnRequestTimeoutRightAway() {
+    // given
+    gateway.respondWith(TestData.jobs(1));
+
+    // when
+    client
+        .newWorker()
+        .jobType("test")
+        .handler(
+            (jobClient, job) ->
+                jobClient
+                    .newCompleteCommand(job.getKey())
+                    .requestTimeout(Duration.ofSeconds(5))
+                    .send())
+        .maxJobsActive(10)
+        .completionBatchWindow(Duration.ofMinutes(1))
+        .open();
+
+    // then the completion is not held back for the window
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> !gateway.getCompletedJobs().isEmpty());
+    assertThat(gateway.getCompletedJobs().get(0).getRequestsCount()).isEqualTo(1);
+  }
+
   /**
    * This mocked gateway is able to record metrics on polling for new jobs and easily switch how it
    * responds to polling.
@@ -140,6 +322,42 @@ public final class JobWorkerImplTest {
     private Instant lastPoll = null;
     private Duration timeBetweenLatestPolls = null;
 
+    private final List<FailJobRequest> failedJobs = new CopyOnWriteArrayList<>();
+    private final List<CompleteJobsRequest> completedJobs = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void completeJobs(
+        final CompleteJobsRequest request,
+        final StreamObserver<CompleteJobsResponse> responseObserver) {
+      completedJobs.add(request);
+
+      final CompleteJobsResponse.Builder response = CompleteJobsResponse.newBuilder();
+      for (int i = 0; i < request.getRequestsCount(); i++) {
+        if (request.getRequests(i).getVariables().contains("\"reject\":true")) {
+          response.addResults(
+              CompleteJobResult.newBuilder()
+                  .setError(
+                      BatchItemError.newBuilder()
+                          .setCode(Status.Code.NOT_FOUND.value())
+                          .setMessage("rejected")));
+        } else {
+          response.addResults(
+              CompleteJobResult.newBuilder()
+                  .setResponse(GatewayOuterClass.CompleteJobResponse.getDefaultInstance()));
+        }
+      }
+      responseObserver.onNext(response.build());
+      responseObserver.onCompleted();
+    }
+
+    @Override
+    public void failJob(
+        final FailJobRequest request, final StreamObserver<FailJobResponse> responseObserver) {
+      failedJobs.add(request);
+      responseObserver.onNext(FailJobResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+    }
+
     @Override
     public void activateJobs(
         final ActivateJobsRequest request,
@@ -206,6 +424,14 @@ public final class JobWorkerImplTest {
         return countedPolls;
       }
     }
+
+    public List<FailJobRequest> getFailedJobs() {
+      return failedJobs;
+    }
+
+    public List<CompleteJobsRequest> getCompletedJobs() {
+      return completedJobs;
+    }
   }
 
   private static final class TestData {
@@ -18,8 +18,10 @@ package io.zeebe.client.job;
 import static io.zeebe.client.util.JsonUtil.fromJsonAsMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import io.zeebe.client.api.command.ClientException;
+import io.zeebe.client.api.command.InternalClientException;
 import io.zeebe.client.api.response.ActivateJobsResponse;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.client.impl.response.ActivatedJobImpl;
@@ -28,7 +30,9 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 
 public final class ActivateJobsTest extends ClientTest {
@@ -246,6 +250,102 @@ public final class ActivateJobsTest extends ClientTest {
     assertThat(variablesPojo.getA()).isEqualTo(1);
   }
 
+  @Test
+  public void shouldGetSingleVariable() {
+    // given
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl(
+            new ZeebeObjectMapper(),
+            ActivatedJob.newBuilder()
+                .setCustomHeaders("{}")
+                .setVariables("{\"a\": {\"b\": [1, 2]}, \"c\": \"foo\", \"d\": null, \"e\": 3}")
+                .build());
+
+    // when - then
+    assertThat(activatedJob.getVariable("a"))
+        .isEqualTo(Collections.singletonMap("b", Arrays.asList(1, 2)));
+    assertThat(activatedJob.getVariable("c")).isEqualTo("foo");
+    assertThat(activatedJob.getVariable("d")).isNull();
+    assertThat(activatedJob.getVariable("e")).isEqualTo(3);
+    assertThat(activatedJob.getVariable("f")).isNull();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldNotShareDeserializedVariables() {
+    // given
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl(
+            new ZeebeObjectMapper(),
+            ActivatedJob.newBuilder()
+                .setCustomHeaders("{}")
+                .setVariables("{\"a\": 1, \"b\": {\"c\": [2]}}")
+                .build());
+
+    // when
+    final Map<String, Object> variables = activatedJob.getVariablesAsMap();
+    variables.put("a", 3);
+    ((Map<String, List<Object>>) variables.get("b")).get("c").add(4);
+    ((Map<String, Object>) activatedJob.getVariable("b")).put("d", 5);
+
+    // then
+    assertThat(activatedJob.getVariablesAsMap())
+        .isEqualTo(fromJsonAsMap("{\"a\": 1, \"b\": {\"c\": [2]}}"));
+    assertThat(activatedJob.getVariable("a")).isEqualTo(1);
+    assertThat(activatedJob.getVariable("b")).isEqualTo(fromJsonAsMap("{\"c\": [2]}"));
+  }
+
+  @Test
+  public void shouldNotShareDeserializedCustomHeaders() {
+    // given
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl(
+            new ZeebeObjectMapper(),
+            ActivatedJob.newBuilder()
+                .setCustomHeaders("{\"x\": \"y\"}")
+                .setVariables("{}")
+                .build());
+
+    // when
+    activatedJob.getCustomHeaders().put("x", "z");
+
+    // then
+    assertThat(activatedJob.getCustomHeaders()).containsExactly(entry("x", "y"));
+  }
+
+  @Test
+  public void shouldDeserializeCustomHeadersOnDemand() {
+    // given
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl(
+            new ZeebeObjectMapper(),
+            ActivatedJob.newBuilder().setCustomHeaders("{invalid").setVariables("{}").build());
+
+    // when - then
+    assertThatThrownBy(activatedJob::getCustomHeaders).isInstanceOf(InternalClientException.class);
+  }
+
+  @Test
+  public void shouldSerializeToJsonWithCustomHeaders() {
+    // given
+    final ActivatedJobImpl activatedJob =
+        new ActivatedJobImpl(
+            new ZeebeObjectMapper(),
+            ActivatedJob.newBuilder()
+                .setCustomHeaders("{\"x\": \"y\"}")
+                .setVariables("{\"a\": 1}")
+                .build());
+
+    // when
+    final String json = activatedJob.toJson();
+
+    // then
+    assertThat(fromJsonAsMap(json))
+        .containsEntry("customHeaders", Collections.singletonMap("x", "y"))
+        .containsEntry("variables", "{\"a\": 1}")
+        .doesNotContainKeys("customHeadersJson", "variablesAsType");
+  }
+
   static class VariablesPojo {
 
     int a;
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.grpc.Status.Code;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.BatchResult;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.client.util.JsonUtil;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final Map<String, Object> variables = Collections.singletonMap("key", "val");
+
+    // when
+    final BatchResponse<CompleteJobResponse> response =
+        client.newCompleteJobsCommand().addJob(1).addJob(2, variables).send().join();
+
+    // then
+    assertThat(response.isSuccessful()).isTrue();
+    assertThat(response.getResults()).hasSize(2);
+
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(CompleteJobRequest::getJobKey, CompleteJobRequest::getVariables)
+        .containsExactly(tuple(1L, ""), tuple(2L, JsonUtil.toJson(variables)));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        CompleteJobResult.newBuilder()
+            .setResponse(GatewayOuterClass.CompleteJobResponse.getDefaultInstance())
+            .build(),
+        CompleteJobResult.newBuilder()
+            .setError(
+                BatchItemError.newBuilder()
+                    .setCode(Code.NOT_FOUND.value())
+                    .setMessage("no such job"))
+            .build());
+
+    // when
+    final BatchResponse<CompleteJobResponse> response =
+        client.newCompleteJobsCommand().addJob(1).addJob(2).send().join();
+
+    // then
+    assertThat(response.isSuccessful()).isFalse();
+    assertThat(response.getResults())
+        .extracting(BatchResult::isSuccessful)
+        .containsExactly(true, false);
+
+    final BatchResult<CompleteJobResponse> failedResult = response.getResults().get(1);
+    assertThat(failedResult.getError().getStatusCode()).isEqualTo(Code.NOT_FOUND);
+    assertThat(failedResult.getError()).hasMessage("no such job");
+  }
+}
@@ -28,10 +28,16 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
@@ -41,6 +47,9 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHeal
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -54,6 +63,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowMetadata;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,6 +103,39 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        r ->
+            CompleteJobsResponse.newBuilder()
+                .addAllResults(
+                    Collections.nCopies(
+                        r.getRequestsCount(),
+                        CompleteJobResult.newBuilder()
+                            .setResponse(CompleteJobResponse.getDefaultInstance())
+                            .build()))
+                .build());
+    addRequestHandler(
+        PublishMessagesRequest.class,
+        r ->
+            PublishMessagesResponse.newBuilder()
+                .addAllResults(
+                    Collections.nCopies(
+                        r.getRequestsCount(),
+                        PublishMessageResult.newBuilder()
+                            .setResponse(PublishMessageResponse.getDefaultInstance())
+                            .build()))
+                .build());
+    addRequestHandler(
+        CreateWorkflowInstancesRequest.class,
+        r ->
+            CreateWorkflowInstancesResponse.newBuilder()
+                .addAllResults(
+                    Collections.nCopies(
+                        r.getRequestsCount(),
+                        CreateWorkflowInstanceResult.newBuilder()
+                            .setResponse(CreateWorkflowInstanceResponse.getDefaultInstance())
+                            .build()))
+                .build());
   }
 
   public static Partition partition(
@@ -165,6 +208,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -179,6 +229,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void createWorkflowInstances(
+      final CreateWorkflowInstancesRequest request,
+      final StreamObserver<CreateWorkflowInstancesResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void deployWorkflow(
       final DeployWorkflowRequest request,
@@ -205,6 +262,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void resolveIncident(
       final ResolveIncidentRequest request,
@@ -282,6 +346,12 @@ public final class RecordingGatewayService extends GatewayImplBase {
         request -> PublishMessageResponse.newBuilder().setKey(key).build());
   }
 
+  public void onCompleteJobsRequest(final CompleteJobResult... results) {
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        request -> CompleteJobsResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+  }
+
   public void onCreateWorkflowInstanceWithResultRequest(
       final long workflowKey,
       final String bpmnProcessId,
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import org.junit.Test;
+
+public final class CreateWorkflowInstancesTest extends ClientTest {
+
+  @Test
+  public void shouldCreateWorkflowInstances() {
+    // when
+    final BatchResponse<WorkflowInstanceEvent> response =
+        client
+            .newCreateInstancesCommand()
+            .addInstance(123)
+            .addInstance("process", CreateWorkflowInstanceCommandStep1.LATEST_VERSION)
+            .addInstance("process", 2, "{\"foo\": 1}")
+            .send()
+            .join();
+
+    // then
+    assertThat(response.getResults()).hasSize(3);
+
+    final CreateWorkflowInstancesRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(
+            CreateWorkflowInstanceRequest::getWorkflowKey,
+            CreateWorkflowInstanceRequest::getBpmnProcessId,
+            CreateWorkflowInstanceRequest::getVersion)
+        .containsExactly(tuple(123L, "", 0), tuple(0L, "process", -1), tuple(0L, "process", 2));
+    assertThat(request.getRequests(2).getVariables()).isEqualTo("{\"foo\":1}");
+
+    rule.verifyDefaultRequestTimeout();
+  }
+}
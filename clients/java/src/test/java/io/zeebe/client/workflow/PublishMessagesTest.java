@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.client.util.JsonUtil;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends ClientTest {
+
+  @Test
+  public void shouldPublishMessages() {
+    // given
+    final Map<String, Object> variables = Collections.singletonMap("key", "val");
+
+    // when
+    client
+        .newPublishMessagesCommand()
+        .addMessage("name", "a")
+        .addMessage("name", "b", variables)
+        .addMessage("name", "c", "id", variables)
+        .send()
+        .join();
+
+    // then
+    final PublishMessagesRequest request = gatewayService.getLastRequest();
+    final String json = JsonUtil.toJson(variables);
+    assertThat(request.getRequestsList())
+        .extracting(
+            PublishMessageRequest::getCorrelationKey,
+            PublishMessageRequest::getMessageId,
+            PublishMessageRequest::getVariables,
+            PublishMessageRequest::getTimeToLive)
+        .containsExactly(
+            tuple("a", "", "", Duration.ofHours(1).toMillis()),
+            tuple("b", "", json, Duration.ofHours(1).toMillis()),
+            tuple("c", "id", json, Duration.ofHours(1).toMillis()));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldSetTimeToLiveOfAllMessages() {
+    // when
+    client
+        .newPublishMessagesCommand()
+        .addMessage("name", "a")
+        .addMessage("name", "b")
+        .timeToLive(Duration.ofSeconds(5))
+        .send()
+        .join();
+
+    // then
+    final PublishMessagesRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(PublishMessageRequest::getTimeToLive)
+        .containsOnly(Duration.ofSeconds(5).toMillis());
+  }
+}
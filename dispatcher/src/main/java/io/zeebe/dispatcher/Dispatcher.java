@@ -11,16 +11,18 @@ import static io.zeebe.dispatcher.impl.PositionUtil.partitionId;
 import static io.zeebe.dispatcher.impl.PositionUtil.partitionOffset;
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.claimedFragmentIndex;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.claimedTail;
 
 import io.zeebe.dispatcher.impl.log.LogBuffer;
 import io.zeebe.dispatcher.impl.log.LogBufferAppender;
+import io.zeebe.dispatcher.impl.log.LogBufferDescriptor;
 import io.zeebe.dispatcher.impl.log.LogBufferPartition;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.FutureUtil;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.Arrays;
-import java.util.function.BiFunction;
 import org.slf4j.Logger;
 
 /** Component for sending and receiving messages between different threads. */
@@ -35,12 +37,15 @@ public class Dispatcher extends Actor {
 
   private final AtomicPosition publisherLimit;
   private final AtomicPosition publisherPosition;
-  private long recordPosition;
+  // the record position of the first fragment in the partition with the same index; it is set
+  // before the partition becomes active, so it is visible to the publishers which read the active
+  // partition id
+  private final long[] partitionRecordPositions = new long[LogBufferDescriptor.PARTITION_COUNT];
   private final String[] defaultSubscriptionNames;
   private final int maxFragmentLength;
   private final String name;
   private final int logWindowLength;
-  private Subscription[] subscriptions;
+  private volatile Subscription[] subscriptions;
   private final Runnable onClaimComplete = this::signalSubscriptions;
   private volatile boolean isClosed = false;
   private final Runnable backgroundTask = this::runBackgroundTask;
@@ -60,7 +65,7 @@ public class Dispatcher extends Actor {
     this.logAppender = logAppender;
     this.publisherLimit = publisherLimit;
     this.publisherPosition = publisherPosition;
-    recordPosition = initialPosition;
+    partitionRecordPositions[0] = initialPosition;
     this.name = name;
 
     this.logWindowLength = logWindowLength;
@@ -169,10 +174,13 @@ public class Dispatcher extends Actor {
         LogBufferAppender.claimedBatchLength(fragmentCount, batchLength));
   }
 
-  private synchronized long offer(
-      final BiFunction<LogBufferPartition, Integer, Integer> claimer,
-      final int fragmentCount,
-      final int length) {
+  /**
+   * Claims the space without a lock: the tail of the partition is moved atomically together with
+   * the count of its fragments, which determines the record position of the claimed fragments. The
+   * publisher which claims over the end of the partition writes the padding and activates the next
+   * partition, all others fail and retry on the next partition.
+   */
+  private long offer(final PartitionClaimer claimer, final int fragmentCount, final int length) {
     long newPosition = -1;
 
     if (!isClosed) {
@@ -185,21 +193,22 @@ public class Dispatcher extends Actor {
       final long position = position(activePartitionId, partitionOffset);
 
       if (position < limit) {
-        final int newOffset;
+        final long claimResult;
 
         if (length < maxFragmentLength) {
-          newOffset = claimer.apply(partition, activePartitionId);
+          claimResult = claimer.claim(partition, activePartitionId);
         } else {
           throw new IllegalArgumentException(
               String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
         }
 
-        newPosition = updatePublisherPosition(activePartitionId, newOffset);
+        final int fragmentIndex = claimedFragmentIndex(claimResult);
+        newPosition =
+            updatePublisherPosition(activePartitionId, claimedTail(claimResult), fragmentIndex);
 
         // if successful, replace internal publisher position with simple counter and return it
         if (newPosition > 0) {
-          newPosition = recordPosition;
-          recordPosition += fragmentCount;
+          newPosition = getRecordPosition(activePartitionId, fragmentIndex);
         }
         signalSubscriptions();
       }
@@ -208,12 +217,22 @@ public class Dispatcher extends Actor {
     return newPosition;
   }
 
-  private long updatePublisherPosition(final int activePartitionId, final int newOffset) {
+  private long getRecordPosition(final int partitionId, final int fragmentIndex) {
+    return partitionRecordPositions[partitionId % partitionRecordPositions.length] + fragmentIndex;
+  }
+
+  private long updatePublisherPosition(
+      final int activePartitionId, final int newOffset, final int fragmentIndex) {
     long newPosition = -1;
 
     if (newOffset > 0) {
       newPosition = position(activePartitionId, newOffset);
     } else if (newOffset == RESULT_PADDING_AT_END_OF_PARTITION) {
+      // the fragments of the next partition follow the ones which are claimed before the padding
+      final int nextPartitionId = activePartitionId + 1;
+      partitionRecordPositions[nextPartitionId % partitionRecordPositions.length] =
+          getRecordPosition(activePartitionId, fragmentIndex);
+
       logBuffer.onActivePartitionFilled(activePartitionId);
       newPosition = -2;
     }
@@ -401,4 +420,9 @@ public class Dispatcher extends Actor {
   public String toString() {
     return "Dispatcher [" + name + "]";
   }
+
+  @FunctionalInterface
+  private interface PartitionClaimer {
+    long claim(LogBufferPartition partition, int activePartitionId);
+  }
 }
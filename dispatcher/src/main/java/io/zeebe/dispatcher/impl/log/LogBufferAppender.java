@@ -17,6 +17,8 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.tailFragmentCount;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.tailOffset;
 import static org.agrona.BitUtil.align;
 import static org.agrona.UnsafeAccess.UNSAFE;
 
@@ -45,7 +47,7 @@ public class LogBufferAppender {
     final int alignedFrameLength = alignedLength(framedLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
+    final int frameOffset = tailOffset(partition.getAndAddTail(alignedFrameLength, 1));
 
     int newTail = frameOffset + alignedFrameLength;
 
@@ -68,7 +70,13 @@ public class LogBufferAppender {
     return newTail;
   }
 
-  public int claim(
+  /**
+   * Claims a fragment in the partition. Can be called concurrently.
+   *
+   * @return the claim result, see {@link #claimedTail(long)} and {@link
+   *     #claimedFragmentIndex(long)}
+   */
+  public long claim(
       final LogBufferPartition partition,
       final int activePartitionId,
       final ClaimedFragment claim,
@@ -80,7 +88,8 @@ public class LogBufferAppender {
     final int alignedFrameLength = alignedLength(framedMessageLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
+    final long tailCounter = partition.getAndAddTail(alignedFrameLength, 1);
+    final int frameOffset = tailOffset(tailCounter);
 
     int newTail = frameOffset + alignedFrameLength;
 
@@ -99,14 +108,20 @@ public class LogBufferAppender {
       newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
     }
 
-    return newTail;
+    return claimResult(tailFragmentCount(tailCounter), newTail);
   }
 
   public static int claimedFragmentLength(final int length) {
     return framedLength(length);
   }
 
-  public int claim(
+  /**
+   * Claims a batch of fragments in the partition. Can be called concurrently.
+   *
+   * @return the claim result, see {@link #claimedTail(long)} and {@link
+   *     #claimedFragmentIndex(long)}
+   */
+  public long claim(
       final LogBufferPartition partition,
       final int activePartitionId,
       final ClaimedFragmentBatch batch,
@@ -117,7 +132,8 @@ public class LogBufferAppender {
     final int alignedFrameLength = claimedBatchLength(fragmentCount, batchLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
+    final long tailCounter = partition.getAndAddTail(alignedFrameLength, fragmentCount);
+    final int frameOffset = tailOffset(tailCounter);
 
     int newTail = frameOffset + alignedFrameLength;
 
@@ -130,7 +146,7 @@ public class LogBufferAppender {
       newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
     }
 
-    return newTail;
+    return claimResult(tailFragmentCount(tailCounter), newTail);
   }
 
   public static int claimedBatchLength(final int fragmentCount, final int batchLength) {
@@ -140,6 +156,23 @@ public class LogBufferAppender {
     return align(framedMessageLength, FRAME_ALIGNMENT);
   }
 
+  public static long claimResult(final int fragmentIndex, final int newTail) {
+    return ((long) fragmentIndex << 32) | (newTail & 0xFFFF_FFFFL);
+  }
+
+  /**
+   * @return the new tail of the partition if the claim was successful, otherwise {@link
+   *     #RESULT_PADDING_AT_END_OF_PARTITION} or {@link #RESULT_END_OF_PARTITION}
+   */
+  public static int claimedTail(final long claimResult) {
+    return (int) claimResult;
+  }
+
+  /** @return the number of fragments which were claimed in the partition before this claim */
+  public static int claimedFragmentIndex(final long claimResult) {
+    return (int) (claimResult >>> 32);
+  }
+
   protected int onEndOfPartition(
       final LogBufferPartition partition, final int partitionOffset, final int activePartitionId) {
     int newTail = RESULT_END_OF_PARTITION;
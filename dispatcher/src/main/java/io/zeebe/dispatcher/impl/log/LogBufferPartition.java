@@ -44,7 +44,7 @@ public class LogBufferPartition {
 
   public void clean() {
     dataBuffer.setMemory(0, partitionSize, (byte) 0);
-    metadataBuffer.putInt(PARTITION_TAIL_COUNTER_OFFSET, 0);
+    metadataBuffer.putLong(PARTITION_TAIL_COUNTER_OFFSET, 0);
     setStatusOrdered(PARTITION_CLEAN);
   }
 
@@ -53,11 +53,36 @@ public class LogBufferPartition {
   }
 
   public int getTailCounterVolatile() {
-    return metadataBuffer.getIntVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    return tailOffset(metadataBuffer.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET));
   }
 
-  public int getAndAddTail(final int frameLength) {
-    return metadataBuffer.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, frameLength);
+  /**
+   * Moves the tail of the partition by the given length and counts the given fragments in one
+   * atomic operation, so that concurrent publishers get the same order of fragments in the buffer
+   * and by count.
+   *
+   * @return the tail counter before the operation, see {@link #tailOffset(long)} and {@link
+   *     #tailFragmentCount(long)}
+   */
+  public long getAndAddTail(final int frameLength, final int fragmentCount) {
+    return metadataBuffer.getAndAddLong(
+        PARTITION_TAIL_COUNTER_OFFSET, tailCounter(fragmentCount, frameLength));
+  }
+
+  /**
+   * The tail counter holds the number of fragments in the partition in the upper 32 bits and the
+   * offset of the tail in the lower 32 bits.
+   */
+  public static long tailCounter(final int fragmentCount, final int offset) {
+    return ((long) fragmentCount << 32) + offset;
+  }
+
+  public static int tailOffset(final long tailCounter) {
+    return (int) tailCounter;
+  }
+
+  public static int tailFragmentCount(final long tailCounter) {
+    return (int) (tailCounter >>> 32);
   }
 
   public int getPartitionSize() {
@@ -10,6 +10,8 @@ package io.zeebe.dispatcher;
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.FRAME_ALIGNMENT;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.HEADER_LENGTH;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.claimResult;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -148,7 +150,7 @@ public final class DispatcherTest {
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(claimResult(0, A_FRAGMENT_LENGTH));
 
     // if
     final long newPosition =
@@ -274,7 +276,7 @@ public final class DispatcherTest {
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(claimResult(0, A_FRAGMENT_LENGTH), claimResult(1, 2 * A_FRAGMENT_LENGTH));
 
     // when
     long newPosition =
@@ -301,7 +303,8 @@ public final class DispatcherTest {
             eq(fragmentCount),
             eq(A_MSG_PAYLOAD_LENGTH),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(
+            claimResult(0, A_FRAGMENT_LENGTH), claimResult(fragmentCount, 2 * A_FRAGMENT_LENGTH));
 
     // when
     long newPosition =
@@ -313,4 +316,44 @@ public final class DispatcherTest {
         dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
     assertThat(newPosition).isEqualTo(INITIAL_POSITION + fragmentCount);
   }
+
+  @Test
+  public void shouldContinueRecordPositionOnNextPartition() {
+    // given
+    final int fragmentCount = 3;
+    when(publisherLimit.get()).thenReturn(position(2, A_FRAGMENT_LENGTH));
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0, 0, 1);
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(claimedFragmentBatch),
+            eq(fragmentCount),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            any()))
+        .thenReturn(
+            claimResult(0, A_FRAGMENT_LENGTH),
+            claimResult(fragmentCount, RESULT_PADDING_AT_END_OF_PARTITION));
+    when(logAppender.claim(
+            eq(logBufferPartition1),
+            eq(1),
+            eq(claimedFragmentBatch),
+            eq(fragmentCount),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            any()))
+        .thenReturn(claimResult(0, A_FRAGMENT_LENGTH));
+
+    // when
+    final long firstPosition =
+        dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
+    final long paddingResult =
+        dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
+    final long nextPosition =
+        dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
+
+    // then
+    assertThat(firstPosition).isEqualTo(INITIAL_POSITION);
+    assertThat(paddingResult).isEqualTo(-2);
+    assertThat(nextPosition).isEqualTo(INITIAL_POSITION + fragmentCount);
+    verify(logBuffer).onActivePartitionFilled(0);
+  }
 }
@@ -13,7 +13,9 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.TYPE_PADDING;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.framedLength;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.claimedTail;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.tailCounter;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -77,12 +79,12 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(
-            PARTITION_TAIL_COUNTER_OFFSET, SINGLE_BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, SINGLE_BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -92,13 +94,13 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + SINGLE_BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + SINGLE_BATCH_FRAGMENT_LENGTH);
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, SINGLE_BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
     verify(metadataBufferMock)
-        .getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, SINGLE_BATCH_FRAGMENT_LENGTH);
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, SINGLE_BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -107,11 +109,13 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -121,12 +125,15 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -135,11 +142,13 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH - BATCH_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -149,12 +158,15 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -164,10 +176,12 @@ public final class LogBufferAppenderClaimBatchTest {
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH - BATCH_FRAGMENT_LENGTH + 1;
 
     // when
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -177,10 +191,13 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-2);
+    assertThat(claimedTail(claimResult)).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -200,11 +217,13 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -214,10 +233,13 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-2);
+    assertThat(claimedTail(claimResult)).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -237,11 +259,13 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -251,10 +275,13 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-1);
+    assertThat(claimedTail(claimResult)).isEqualTo(-1);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(BATCH_FRAGMENT_COUNT, BATCH_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
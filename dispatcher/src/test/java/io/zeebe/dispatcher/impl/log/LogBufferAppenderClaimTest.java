@@ -15,7 +15,9 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.framedLength;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferAppender.claimedTail;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.tailCounter;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -68,11 +70,12 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header fit into the buffer and there is more space
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -82,10 +85,11 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // the negative header was written and the claimed fragment now wraps the buffer section
@@ -106,11 +110,12 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header EXACTLY fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -120,10 +125,11 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // the negative header was written and the claimed fragment now wraps the buffer section
@@ -144,12 +150,13 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header do NOT fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if        throw new RuntimeException("File " + bufferFileName + " does not exist");
 
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -159,10 +166,11 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-2);
+    assertThat(claimedTail(claimResult)).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -184,11 +192,12 @@ public final class LogBufferAppenderClaimTest {
     // header fits the buffer)
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -198,10 +207,11 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-2);
+    assertThat(claimedTail(claimResult)).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -222,11 +232,12 @@ public final class LogBufferAppenderClaimTest {
     // that the tail is beyond the trip point
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -236,10 +247,11 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-1);
+    assertThat(claimedTail(claimResult)).isEqualTo(-1);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
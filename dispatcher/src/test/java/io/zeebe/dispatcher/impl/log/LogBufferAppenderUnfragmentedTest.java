@@ -17,6 +17,7 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.zeebe.dispatcher.impl.log.LogBufferPartition.tailCounter;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.anyInt;
@@ -66,8 +67,9 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header fit into the buffer and there is more space
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
     final int newTail =
@@ -78,7 +80,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the message is appended to the buffer
@@ -102,8 +105,9 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header EXACTLY fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
     final int newTail =
@@ -114,7 +118,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the message is appended to the buffer
@@ -135,8 +140,9 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header do NOT fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
     final int newTail =
@@ -147,7 +153,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -169,8 +176,9 @@ public final class LogBufferAppenderUnfragmentedTest {
     // header fits the buffer)
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
     final int newTail =
@@ -181,7 +189,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(-2);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -202,8 +211,9 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the tail is beyond the trip point
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    when(metadataBufferMock.getAndAddLong(
+            PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH)))
+        .thenReturn(tailCounter(0, currentTail));
 
     // if
     final int newTail =
@@ -214,7 +224,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(-1);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verify(metadataBufferMock)
+        .getAndAddLong(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(1, A_FRAGMENT_LENGTH));
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
@@ -22,7 +22,9 @@ import io.zeebe.dispatcher.Subscription;
 import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.junit.Rule;
@@ -99,6 +101,80 @@ public final class DispatcherIntegrationTest {
     assertThat(consumer.counters).contains(1, 2);
   }
 
+  @Test
+  public void shouldClaimConcurrentlyInOrderOfPositions() throws Exception {
+    // given
+    final int producerCount = 4;
+    final int fragmentsPerProducer = 10_000;
+    final int totalWork = producerCount * fragmentsPerProducer;
+
+    // a small buffer, so that the producers claim over the end of the partitions
+    final Dispatcher dispatcher =
+        Dispatchers.create("default")
+            .actorScheduler(actorSchedulerRule.get())
+            .bufferSize((int) ByteValue.ofMegabytes(1))
+            .build();
+
+    final Subscription subscription = dispatcher.openSubscription("test");
+
+    final long[] positions = new long[totalWork];
+    final FragmentHandler positionConsumer =
+        new FragmentHandler() {
+          int count = 0;
+
+          @Override
+          public int onFragment(
+              final DirectBuffer buffer,
+              final int offset,
+              final int length,
+              final int streamId,
+              final boolean isMarkedFailed) {
+            positions[count++] = buffer.getLong(offset);
+            return FragmentHandler.CONSUME_FRAGMENT_RESULT;
+          }
+        };
+
+    final Thread consumerThread =
+        new Thread(
+            () -> {
+              int consumed = 0;
+              while (consumed < totalWork) {
+                consumed += subscription.poll(positionConsumer, Integer.MAX_VALUE);
+              }
+            });
+    consumerThread.start();
+
+    // when
+    final List<Thread> producerThreads = new ArrayList<>();
+    for (int i = 0; i < producerCount; i++) {
+      final Thread producerThread =
+          new Thread(
+              () -> {
+                final ClaimedFragment claimedFragment = new ClaimedFragment();
+                for (int j = 0; j < fragmentsPerProducer; j++) {
+                  long position;
+                  while ((position = dispatcher.claimSingleFragment(claimedFragment, 8)) <= 0) {
+                    // spin
+                  }
+                  claimedFragment.getBuffer().putLong(claimedFragment.getOffset(), position);
+                  claimedFragment.commit();
+                }
+              });
+      producerThread.start();
+      producerThreads.add(producerThread);
+    }
+
+    for (final Thread producerThread : producerThreads) {
+      producerThread.join();
+    }
+    consumerThread.join();
+    dispatcher.close();
+
+    // then
+    // the fragments are read in the order of their positions, without gaps
+    assertThat(positions).containsExactly(LongStream.rangeClosed(1, totalWork).toArray());
+  }
+
   @Test
   public void testPeekBlock() throws Exception {
     final int totalWork = 10000000;
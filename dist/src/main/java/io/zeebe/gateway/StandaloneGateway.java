@@ -66,6 +66,10 @@ public class StandaloneGateway {
             .withNotifySuspect(membershipCfg.isNotifySuspect())
             .withSuspectProbes(membershipCfg.getSuspectProbes())
             .withSyncInterval(membershipCfg.getSyncInterval())
+            .withMaxGossipUpdates(membershipCfg.getMaxGossipUpdates())
+            .withGossipRetransmitMultiplier(membershipCfg.getGossipRetransmitMultiplier())
+            .withMaxLocalHealthMultiplier(membershipCfg.getMaxLocalHealthMultiplier())
+            .withMaxSuspicionTimeoutMultiplier(membershipCfg.getMaxSuspicionTimeoutMultiplier())
             .build();
 
     final var atomix =
@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class ExpressionMetrics {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private static final Histogram EVALUATION_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("expression_evaluation_latency")
+          .help("Time for evaluating an expression, including the lookup of variables (in seconds)")
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1)
+          .labelNames("type", "partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public ExpressionMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  /**
+   * @param type the expected type of the result, e.g. {@code boolean} for the condition of a
+   *     sequence flow
+   */
+  public void evaluationLatency(final String type, final long startNanos, final long endNanos) {
+    EVALUATION_LATENCY
+        .labels(type, partitionIdLabel)
+        .observe((endNanos - startNanos) / NANOS_PER_SECOND);
+  }
+}
@@ -55,10 +55,31 @@ public final class StreamProcessorMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter RECOVERY_RECORDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_recovery_records_total")
+          .help("Number of records scanned or replayed while recovering the stream processor")
+          .labelNames("phase", "partition")
+          .register();
+
+  private static final Gauge RECOVERY_REMAINING_POSITIONS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_recovery_remaining_positions")
+          .help("Number of log positions left to replay until the stream processor is recovered")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
+  // resolved once, since they are incremented for every record on recovery
+  private final Counter.Child recoveryRecordsScanned;
+  private final Counter.Child recoveryRecordsReplayed;
 
   public StreamProcessorMetrics(final int partitionId) {
     partitionIdLabel = String.valueOf(partitionId);
+    recoveryRecordsScanned = RECOVERY_RECORDS.labels("scanned", partitionIdLabel);
+    recoveryRecordsReplayed = RECOVERY_RECORDS.labels("replayed", partitionIdLabel);
   }
 
   private void event(final String action) {
@@ -95,6 +116,18 @@ public final class StreamProcessorMetrics {
     STARTUP_RECOVERY_TIME.labels(partitionIdLabel).set(durationMillis);
   }
 
+  public void recoveryRecordScanned() {
+    recoveryRecordsScanned.inc();
+  }
+
+  public void recoveryRecordReplayed() {
+    recoveryRecordsReplayed.inc();
+  }
+
+  public void recoveryRemainingPositions(final long remainingPositions) {
+    RECOVERY_REMAINING_POSITIONS.labels(partitionIdLabel).set(remainingPositions);
+  }
+
   public void setLastProcessedPosition(final long position) {
     LAST_PROCESSED_POSITION.labels(partitionIdLabel).set(position);
   }
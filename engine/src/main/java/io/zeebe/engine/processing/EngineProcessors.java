@@ -10,6 +10,7 @@ package io.zeebe.engine.processing;
 import static io.zeebe.protocol.record.intent.DeploymentIntent.CREATE;
 
 import io.zeebe.el.ExpressionLanguageFactory;
+import io.zeebe.engine.metrics.ExpressionMetrics;
 import io.zeebe.engine.processing.common.CatchEventBehavior;
 import io.zeebe.engine.processing.common.ExpressionProcessor;
 import io.zeebe.engine.processing.deployment.DeploymentCreateProcessor;
@@ -34,6 +35,7 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.DeploymentDistributionIntent;
 import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ActorScheduler;
 import java.util.function.Consumer;
 
 public final class EngineProcessors {
@@ -59,7 +61,9 @@ public final class EngineProcessors {
     final var variablesState = zeebeState.getVariableState();
     final var expressionProcessor =
         new ExpressionProcessor(
-            ExpressionLanguageFactory.createExpressionLanguage(), variablesState::getVariable);
+            ExpressionLanguageFactory.createExpressionLanguage(),
+            variablesState::getVariable,
+            new ExpressionMetrics(partitionId));
 
     final CatchEventBehavior catchEventBehavior =
         new CatchEventBehavior(
@@ -75,6 +79,7 @@ public final class EngineProcessors {
         writers,
         partitionsCount,
         actor,
+        processingContext.getActorScheduler(),
         deploymentDistributor);
     addMessageProcessors(subscriptionCommandSender, zeebeState, typedRecordProcessors, writers);
 
@@ -85,7 +90,8 @@ public final class EngineProcessors {
             typedRecordProcessors,
             subscriptionCommandSender,
             catchEventBehavior,
-            writers);
+            writers,
+            maxFragmentSize);
 
     addJobProcessors(
         zeebeState, typedRecordProcessors, onJobsAvailableCallback, maxFragmentSize, writers);
@@ -101,7 +107,8 @@ public final class EngineProcessors {
       final TypedRecordProcessors typedRecordProcessors,
       final SubscriptionCommandSender subscriptionCommandSender,
       final CatchEventBehavior catchEventBehavior,
-      final Writers writers) {
+      final Writers writers,
+      final int maxFragmentSize) {
     final DueDateTimerChecker timerChecker = new DueDateTimerChecker(zeebeState.getTimerState());
     return WorkflowEventProcessors.addWorkflowProcessors(
         zeebeState,
@@ -110,7 +117,8 @@ public final class EngineProcessors {
         subscriptionCommandSender,
         catchEventBehavior,
         timerChecker,
-        writers);
+        writers,
+        maxFragmentSize);
   }
 
   private static void addDeploymentRelatedProcessorAndServices(
@@ -123,6 +131,7 @@ public final class EngineProcessors {
       final Writers writers,
       final int partitionsCount,
       final ActorControl actor,
+      final ActorScheduler actorScheduler,
       final DeploymentDistributor deploymentDistributor) {
 
     // on deployment partition CREATE Command is received and processed
@@ -135,6 +144,7 @@ public final class EngineProcessors {
             partitionsCount,
             writers,
             actor,
+            actorScheduler,
             deploymentDistributor);
     typedRecordProcessors.onCommand(ValueType.DEPLOYMENT, CREATE, processor);
 
@@ -94,6 +94,25 @@ public interface BpmnElementProcessor<T extends ExecutableFlowElement> {
     throw new UnsupportedOperationException("This method is replaced by onActivate");
   }
 
+  /**
+   * The activated element continues its activation, which it requested by writing a continue
+   * activation command. The state of the element is not changed by this step.
+   *
+   * <p>Possible actions:
+   *
+   * <ul>
+   *   <li>initialize the next child elements - if the element is a container which initializes its
+   *       child elements in multiple steps (e.g. a parallel multi-instance body)
+   * </ul>
+   *
+   * @param element the instance of the BPMN element that is executed
+   * @param context workflow instance-related data of the element that is executed
+   */
+  default void onContinueActivation(final T element, final BpmnElementContext context) {
+    throw new UnsupportedOperationException(
+        String.format("Expected '%s' to not continue its activation", getClass().getSimpleName()));
+  }
+
   /**
    * The element is going to be left. Perform every action to leave the element and continue with
    * the next element.
@@ -49,7 +49,8 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<WorkflowI
       final ExpressionProcessor expressionProcessor,
       final CatchEventBehavior catchEventBehavior,
       final ZeebeState zeebeState,
-      final Writers writers) {
+      final Writers writers,
+      final int maxFragmentSize) {
     workflowState = zeebeState.getWorkflowState();
 
     final var bpmnBehaviors =
@@ -62,7 +63,7 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<WorkflowI
             catchEventBehavior,
             this::getContainerProcessor,
             writers);
-    processors = new BpmnElementProcessors(bpmnBehaviors);
+    processors = new BpmnElementProcessors(bpmnBehaviors, maxFragmentSize);
 
     stateTransitionGuard = bpmnBehaviors.stateTransitionGuard();
     stateTransitionBehavior = bpmnBehaviors.stateTransitionBehavior();
@@ -134,6 +135,9 @@ public final class BpmnStreamProcessor implements TypedRecordProcessor<WorkflowI
           processor.onTerminating(element, context);
         }
         break;
+      case CONTINUE_ELEMENT_ACTIVATION:
+        processor.onContinueActivation(element, context);
+        break;
         // legacy behavior for not migrated processors
       case ELEMENT_ACTIVATING:
         processor.onActivating(element, context);
@@ -66,6 +66,9 @@ public final class WorkflowInstanceStateTransitionGuard {
             WorkflowInstanceIntent.ELEMENT_ACTIVATING,
             WorkflowInstanceIntent.ELEMENT_ACTIVATED,
             WorkflowInstanceIntent.ELEMENT_COMPLETING);
+      case CONTINUE_ELEMENT_ACTIVATION:
+        return hasElementInstanceWithState(context, WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+            .flatMap(ok -> hasActiveFlowScopeInstance(context));
 
       case ELEMENT_ACTIVATING:
       case ELEMENT_ACTIVATED:
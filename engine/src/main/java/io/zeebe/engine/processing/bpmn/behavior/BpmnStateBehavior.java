@@ -21,10 +21,10 @@ import io.zeebe.engine.state.mutable.MutableEventScopeInstanceState;
 import io.zeebe.engine.state.mutable.MutableVariableState;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
 public final class BpmnStateBehavior {
@@ -64,6 +64,16 @@ public final class BpmnStateBehavior {
     elementInstanceState.updateInstance(context.getFlowScopeKey(), modifier);
   }
 
+  public DirectBuffer getMultiInstanceInputCollection(final BpmnElementContext context) {
+    return elementInstanceState.getMultiInstanceInputCollection(context.getElementInstanceKey());
+  }
+
+  public void setMultiInstanceInputCollection(
+      final BpmnElementContext context, final DirectBuffer inputCollection) {
+    elementInstanceState.setMultiInstanceInputCollection(
+        context.getElementInstanceKey(), inputCollection);
+  }
+
   public JobState getJobState() {
     return jobState;
   }
@@ -123,12 +133,14 @@ public final class BpmnStateBehavior {
   }
 
   public List<BpmnElementContext> getChildInstances(final BpmnElementContext context) {
-    return elementInstanceState.getChildren(context.getElementInstanceKey()).stream()
-        .map(
-            childInstance ->
+    final List<BpmnElementContext> childInstances = new ArrayList<>();
+    elementInstanceState.visitChildren(
+        context.getElementInstanceKey(),
+        childInstance ->
+            childInstances.add(
                 context.copy(
-                    childInstance.getKey(), childInstance.getValue(), childInstance.getState()))
-        .collect(Collectors.toList());
+                    childInstance.getKey(), childInstance.getValue(), childInstance.getState())));
+    return childInstances;
   }
 
   public ElementInstance createChildElementInstance(
@@ -151,6 +151,19 @@ public final class BpmnStateTransitionBehavior {
     return transitionedContext;
   }
 
+  /**
+   * Writes a command to continue the activation of the activated element instance. An element that
+   * is activated in multiple steps continues its activation when it processes this command, without
+   * changing its state.
+   */
+  public void continueActivation(final BpmnElementContext context) {
+    final var elementInstance = stateBehavior.getElementInstance(context);
+    commandWriter.appendFollowUpCommand(
+        elementInstance.getKey(),
+        WorkflowInstanceIntent.CONTINUE_ELEMENT_ACTIVATION,
+        elementInstance.getValue());
+  }
+
   private BpmnElementContext transitionTo(
       final BpmnElementContext context, final WorkflowInstanceIntent transition) {
     final var key = context.getElementInstanceKey();
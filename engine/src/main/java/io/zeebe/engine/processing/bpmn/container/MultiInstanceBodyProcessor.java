@@ -36,6 +36,10 @@ public final class MultiInstanceBodyProcessor
   private static final DirectBuffer NIL_VALUE = new UnsafeBuffer(MsgPackHelper.NIL);
   private static final DirectBuffer LOOP_COUNTER_VARIABLE = BufferUtil.wrapString("loopCounter");
 
+  // the estimated length of the records that are written for an inner instance, besides the length
+  // of its record value and of its input element, i.e. the activating event and the variables
+  private static final int INNER_INSTANCE_RECORDS_LENGTH = 1024;
+
   private final MutableDirectBuffer loopCounterVariableBuffer =
       new UnsafeBuffer(new byte[Long.BYTES + 1]);
   private final DirectBuffer loopCounterVariableView = new UnsafeBuffer(0, 0);
@@ -45,13 +49,24 @@ public final class MultiInstanceBodyProcessor
   private final ExpandableArrayBuffer variableBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultBuffer = new UnsafeBuffer(0, 0);
 
+  private final MsgPackReader inputCollectionReader = new MsgPackReader();
+  private final DirectBuffer itemView = new UnsafeBuffer(0, 0);
+
   private final ExpressionProcessor expressionBehavior;
   private final BpmnStateTransitionBehavior stateTransitionBehavior;
   private final BpmnEventSubscriptionBehavior eventSubscriptionBehavior;
   private final BpmnStateBehavior stateBehavior;
   private final BpmnIncidentBehavior incidentBehavior;
 
-  public MultiInstanceBodyProcessor(final BpmnBehaviors bpmnBehaviors) {
+  private final int maxInnerInstancesBatchLength;
+
+  /**
+   * @param maxFragmentSize the max length of the records which are written at once; half of it is
+   *     used for the inner instances of a parallel multi-instance body, which are activated in
+   *     batches that don't exceed it
+   */
+  public MultiInstanceBodyProcessor(final BpmnBehaviors bpmnBehaviors, final int maxFragmentSize) {
+    maxInnerInstancesBatchLength = maxFragmentSize / 2;
     stateTransitionBehavior = bpmnBehaviors.stateTransitionBehavior();
     eventSubscriptionBehavior = bpmnBehaviors.eventSubscriptionBehavior();
     stateBehavior = bpmnBehaviors.stateBehavior();
@@ -103,13 +118,26 @@ public final class MultiInstanceBodyProcessor
 
     if (loopCharacteristics.isSequential()) {
       final var firstItem = inputCollection.get(0);
-      createInnerInstance(element, context, firstItem);
+      createInnerInstance(element, context, firstItem, 1);
+      updateLoopCounter(context, 1);
 
     } else {
-      inputCollection.forEach(item -> createInnerInstance(element, context, item));
+      // the input collection is evaluated only once; the batches of inner instances are created
+      // from the stored collection
+      stateBehavior.setMultiInstanceInputCollection(context, writeArray(inputCollection));
+      createInnerInstances(
+          element, context, stateBehavior.getMultiInstanceInputCollection(context));
     }
   }
 
+  @Override
+  public void onContinueActivation(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+
+    // the next batch of inner instances of a parallel body
+    createInnerInstances(element, context, stateBehavior.getMultiInstanceInputCollection(context));
+  }
+
   @Override
   public void onCompleting(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
@@ -191,11 +219,12 @@ public final class MultiInstanceBodyProcessor
       final var inputCollection = inputCollectionOrFailure.get();
 
       final var loopCounter =
-          stateBehavior.getFlowScopeInstance(childContext).getMultiInstanceLoopCounter();
+          stateBehavior.getElementInstance(flowScopeContext).getMultiInstanceLoopCounter();
       if (loopCounter < inputCollection.size()) {
 
         final var item = inputCollection.get(loopCounter);
-        createInnerInstance(element, flowScopeContext, item);
+        createInnerInstance(element, flowScopeContext, item, loopCounter + 1);
+        updateLoopCounter(flowScopeContext, loopCounter + 1);
       }
     }
 
@@ -226,10 +255,65 @@ public final class MultiInstanceBodyProcessor
         inputCollection, context.getElementInstanceKey());
   }
 
+  /**
+   * Creates the next batch of inner instances of a parallel body, for the items of the stored input
+   * collection which have no instance yet. The batch contains as many instances as fit into the max
+   * batch length, but at least one. If items remain, the body continues its activation with the
+   * next batch when it processes the continue activation command.
+   */
+  private void createInnerInstances(
+      final ExecutableMultiInstanceBody multiInstanceBody,
+      final BpmnElementContext context,
+      final DirectBuffer inputCollection) {
+
+    final var firstLoopCounter =
+        stateBehavior.getElementInstance(context).getMultiInstanceLoopCounter();
+    final var recordValueLength = context.getRecordValue().getLength();
+
+    inputCollectionReader.wrap(inputCollection, 0, inputCollection.capacity());
+    final var size = inputCollectionReader.readArrayHeader();
+    inputCollectionReader.skipValues(firstLoopCounter);
+
+    var loopCounter = firstLoopCounter;
+    var batchLength = 0L;
+    while (loopCounter < size) {
+      final var itemOffset = inputCollectionReader.getOffset();
+      inputCollectionReader.skipValue();
+      final var itemLength = inputCollectionReader.getOffset() - itemOffset;
+
+      final var innerInstanceLength =
+          recordValueLength + itemLength + INNER_INSTANCE_RECORDS_LENGTH;
+      if (loopCounter > firstLoopCounter
+          && batchLength + innerInstanceLength > maxInnerInstancesBatchLength) {
+        break;
+      }
+
+      loopCounter += 1;
+      batchLength += innerInstanceLength;
+
+      itemView.wrap(inputCollection, itemOffset, itemLength);
+      createInnerInstance(multiInstanceBody, context, itemView, loopCounter);
+    }
+
+    // update the loop counter of the body once per batch, since the body is also updated on
+    // creating an inner instance
+    updateLoopCounter(context, loopCounter);
+
+    if (loopCounter < size) {
+      stateTransitionBehavior.continueActivation(context);
+    }
+  }
+
+  private void updateLoopCounter(final BpmnElementContext context, final int loopCounter) {
+    stateBehavior.updateElementInstance(
+        context, bodyInstance -> bodyInstance.setMultiInstanceLoopCounter(loopCounter));
+  }
+
   private void createInnerInstance(
       final ExecutableMultiInstanceBody multiInstanceBody,
       final BpmnElementContext context,
-      final DirectBuffer item) {
+      final DirectBuffer item,
+      final int loopCounter) {
 
     final var innerInstance =
         stateTransitionBehavior.activateChildInstance(
@@ -237,12 +321,7 @@ public final class MultiInstanceBodyProcessor
     final var innerInstanceContext =
         context.copy(innerInstance.getKey(), innerInstance.getValue(), innerInstance.getState());
 
-    // update loop counters
-    final var bodyInstance = stateBehavior.getElementInstance(context);
-    bodyInstance.incrementMultiInstanceLoopCounter();
-    stateBehavior.updateElementInstance(bodyInstance);
-
-    innerInstance.setMultiInstanceLoopCounter(bodyInstance.getMultiInstanceLoopCounter());
+    innerInstance.setMultiInstanceLoopCounter(loopCounter);
     stateBehavior.updateElementInstance(innerInstance);
 
     // set instance variables
@@ -271,6 +350,18 @@ public final class MultiInstanceBodyProcessor
         wrapLoopCounter(innerInstance.getMultiInstanceLoopCounter()));
   }
 
+  private DirectBuffer writeArray(final List<DirectBuffer> items) {
+    variableWriter.wrap(variableBuffer, 0);
+
+    variableWriter.writeArrayHeader(items.size());
+    items.forEach(variableWriter::writeRaw);
+
+    final var length = variableWriter.getOffset();
+
+    resultBuffer.wrap(variableBuffer, 0, length);
+    return resultBuffer;
+  }
+
   private DirectBuffer wrapLoopCounter(final int loopCounter) {
     variableWriter.wrap(loopCounterVariableBuffer, 0);
 
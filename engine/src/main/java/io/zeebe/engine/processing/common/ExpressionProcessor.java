@@ -14,6 +14,7 @@ import io.zeebe.el.EvaluationResult;
 import io.zeebe.el.Expression;
 import io.zeebe.el.ExpressionLanguage;
 import io.zeebe.el.ResultType;
+import io.zeebe.engine.metrics.ExpressionMetrics;
 import io.zeebe.engine.processing.message.MessageCorrelationKeyException;
 import io.zeebe.model.bpmn.util.time.Interval;
 import io.zeebe.protocol.record.value.ErrorType;
@@ -29,14 +30,39 @@ public final class ExpressionProcessor {
 
   private static final EvaluationContext EMPTY_EVALUATION_CONTEXT = x -> null;
 
+  // the expected result types of the evaluations, used as metrics labels
+  private static final String STRING = "string";
+  private static final String NUMBER = "number";
+  private static final String BOOLEAN = "boolean";
+  private static final String INTERVAL = "interval";
+  private static final String DATE_TIME = "date_time";
+  private static final String ANY = "any";
+  private static final String ARRAY = "array";
+  private static final String CORRELATION_KEY = "correlation_key";
+  private static final String VARIABLE_MAPPING = "variable_mapping";
+
   private final DirectBuffer resultView = new UnsafeBuffer();
 
   private final ExpressionLanguage expressionLanguage;
   private final VariableStateEvaluationContext evaluationContext;
+  private final ExpressionMetrics metrics;
 
   public ExpressionProcessor(
       final ExpressionLanguage expressionLanguage, final VariablesLookup lookup) {
+    this(expressionLanguage, lookup, null);
+  }
+
+  /**
+   * @param lookup the lookup of a single variable, which is invoked for every variable that the
+   *     evaluation accesses
+   * @param metrics the metrics to record the evaluation latency, or {@code null}
+   */
+  public ExpressionProcessor(
+      final ExpressionLanguage expressionLanguage,
+      final VariablesLookup lookup,
+      final ExpressionMetrics metrics) {
     this.expressionLanguage = expressionLanguage;
+    this.metrics = metrics;
 
     evaluationContext = new VariableStateEvaluationContext(lookup);
   }
@@ -52,7 +78,7 @@ public final class ExpressionProcessor {
    */
   public Either<Failure, String> evaluateStringExpression(
       final Expression expression, final long scopeKey) {
-    return evaluateExpressionAsEither(expression, scopeKey)
+    return evaluateExpressionAsEither(expression, scopeKey, STRING)
         .flatMap(result -> typeCheck(result, ResultType.STRING, scopeKey))
         .map(EvaluationResult::getString);
   }
@@ -83,7 +109,7 @@ public final class ExpressionProcessor {
    */
   public Either<Failure, Long> evaluateLongExpression(
       final Expression expression, final long scopeKey) {
-    return evaluateExpressionAsEither(expression, scopeKey)
+    return evaluateExpressionAsEither(expression, scopeKey, NUMBER)
         .flatMap(result -> typeCheck(result, ResultType.NUMBER, scopeKey))
         .map(EvaluationResult::getNumber)
         .map(Number::longValue);
@@ -100,7 +126,7 @@ public final class ExpressionProcessor {
    */
   public Either<Failure, Boolean> evaluateBooleanExpression(
       final Expression expression, final long scopeKey) {
-    return evaluateExpressionAsEither(expression, scopeKey)
+    return evaluateExpressionAsEither(expression, scopeKey, BOOLEAN)
         .flatMap(result -> typeCheck(result, ResultType.BOOLEAN, scopeKey))
         .map(EvaluationResult::getBoolean);
   }
@@ -116,7 +142,7 @@ public final class ExpressionProcessor {
    */
   public Either<Failure, Interval> evaluateIntervalExpression(
       final Expression expression, final long scopeKey) {
-    final var result = evaluateExpression(expression, scopeKey);
+    final var result = evaluateExpression(expression, scopeKey, INTERVAL);
     if (result.isFailure()) {
       return Either.left(new Failure(result.getFailureMessage()));
     }
@@ -157,7 +183,7 @@ public final class ExpressionProcessor {
    */
   public Either<Failure, ZonedDateTime> evaluateDateTimeExpression(
       final Expression expression, final Long scopeKey) {
-    final var result = evaluateExpression(expression, scopeKey);
+    final var result = evaluateExpression(expression, scopeKey, DATE_TIME);
     if (result.isFailure()) {
       return Either.left(new Failure(result.getFailureMessage()));
     }
@@ -193,7 +219,7 @@ public final class ExpressionProcessor {
    */
   public Either<Failure, DirectBuffer> evaluateAnyExpression(
       final Expression expression, final long scopeKey) {
-    final var evaluationResult = evaluateExpressionAsEither(expression, scopeKey);
+    final var evaluationResult = evaluateExpressionAsEither(expression, scopeKey, ANY);
     return evaluationResult.map(EvaluationResult::toBuffer);
   }
 
@@ -208,7 +234,7 @@ public final class ExpressionProcessor {
    */
   public Either<Failure, List<DirectBuffer>> evaluateArrayExpression(
       final Expression expression, final long scopeKey) {
-    final var evaluationResult = evaluateExpressionAsEither(expression, scopeKey);
+    final var evaluationResult = evaluateExpressionAsEither(expression, scopeKey, ARRAY);
     return evaluationResult
         .flatMap(result -> typeCheck(result, ResultType.ARRAY, scopeKey))
         .map(EvaluationResult::getList);
@@ -229,7 +255,7 @@ public final class ExpressionProcessor {
   public String evaluateMessageCorrelationKeyExpression(
       final Expression expression, final long scopeKey) {
 
-    final var evaluationResult = evaluateExpression(expression, scopeKey);
+    final var evaluationResult = evaluateExpression(expression, scopeKey, CORRELATION_KEY);
 
     final var resultHandler = new CorrelationKeyResultHandler(scopeKey);
     return resultHandler.apply(evaluationResult);
@@ -246,7 +272,7 @@ public final class ExpressionProcessor {
    */
   public Either<Failure, DirectBuffer> evaluateVariableMappingExpression(
       final Expression expression, final long scopeKey) {
-    return evaluateExpressionAsEither(expression, scopeKey)
+    return evaluateExpressionAsEither(expression, scopeKey, VARIABLE_MAPPING)
         .flatMap(result -> typeCheck(result, ResultType.OBJECT, scopeKey))
         .mapLeft(failure -> new Failure(failure.getMessage(), ErrorType.IO_MAPPING_ERROR, scopeKey))
         .map(EvaluationResult::toBuffer);
@@ -267,7 +293,8 @@ public final class ExpressionProcessor {
   }
 
   private EvaluationResult evaluateExpression(
-      final Expression expression, final long variableScopeKey) {
+      final Expression expression, final long variableScopeKey, final String type) {
+    final long startNanos = metrics != null ? System.nanoTime() : 0;
 
     final EvaluationContext context;
     if (variableScopeKey < 0) {
@@ -277,12 +304,17 @@ public final class ExpressionProcessor {
       context = evaluationContext;
     }
 
-    return expressionLanguage.evaluateExpression(expression, context);
+    final var result = expressionLanguage.evaluateExpression(expression, context);
+
+    if (metrics != null) {
+      metrics.evaluationLatency(type, startNanos, System.nanoTime());
+    }
+    return result;
   }
 
   private Either<Failure, EvaluationResult> evaluateExpressionAsEither(
-      final Expression expression, final long variableScopeKey) {
-    final var result = evaluateExpression(expression, variableScopeKey);
+      final Expression expression, final long variableScopeKey, final String type) {
+    final var result = evaluateExpression(expression, variableScopeKey, type);
     return result.isFailure()
         ? Either.left(
             new Failure(
@@ -37,6 +37,8 @@ import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.util.Either;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
 import java.util.List;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
@@ -63,12 +65,15 @@ public final class DeploymentCreateProcessor implements TypedRecordProcessor<Dep
       final int partitionsCount,
       final Writers writers,
       final ActorControl actor,
+      final ActorScheduler actorScheduler,
       final DeploymentDistributor deploymentDistributor) {
     workflowState = zeebeState.getWorkflowState();
     timerInstanceState = zeebeState.getTimerState();
     keyGenerator = zeebeState.getKeyGenerator();
     stateWriter = writers.state();
-    deploymentTransformer = new DeploymentTransformer(stateWriter, zeebeState, expressionProcessor);
+    deploymentTransformer =
+        new DeploymentTransformer(
+            stateWriter, zeebeState, expressionProcessor, actor, actorScheduler);
     this.catchEventBehavior = catchEventBehavior;
     this.expressionProcessor = expressionProcessor;
     messageStartEventSubscriptionManager = new MessageStartEventSubscriptionManager(workflowState);
@@ -76,6 +81,21 @@ public final class DeploymentCreateProcessor implements TypedRecordProcessor<Dep
         new DeploymentDistributionBehavior(writers, partitionsCount, deploymentDistributor, actor);
   }
 
+  @Override
+  public ActorFuture<?> prepareRecord(final TypedRecord<DeploymentRecord> command) {
+    return deploymentTransformer.prepare(command.getValue());
+  }
+
+  @Override
+  public void onClose() {
+    deploymentTransformer.close();
+  }
+
+  @Override
+  public void onFailed() {
+    deploymentTransformer.close();
+  }
+
   @Override
   public void processRecord(
       final TypedRecord<DeploymentRecord> command,
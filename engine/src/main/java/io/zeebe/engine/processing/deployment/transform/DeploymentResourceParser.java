@@ -0,0 +1,208 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deployment.transform;
+
+import io.zeebe.el.ExpressionLanguageFactory;
+import io.zeebe.engine.processing.common.ExpressionProcessor;
+import io.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.BpmnModelInstance;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+
+/**
+ * Reads, validates and transforms the BPMN resources of a deployment. These steps don't depend on
+ * the state, so the resources of a deployment with more than one resource can be handled in
+ * parallel by a bounded number of worker actors, while the caller continues when all of them are
+ * done. The results are returned in the order of the resources, so that the caller can apply them
+ * to the state in the same order as before.
+ *
+ * <p>The workers are submitted to the actor scheduler on their first use and are closed with the
+ * parser.
+ */
+final class DeploymentResourceParser {
+
+  private static final int WORKER_COUNT =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+  private final BpmnValidator validator;
+  private final ActorControl actor;
+  private final ActorScheduler actorScheduler;
+  private final int partitionId;
+  private final List<ParserWorker> workers = new ArrayList<>(WORKER_COUNT);
+  private int nextWorker;
+
+  /**
+   * @param validator the validator which is used if the resources are handled by the caller
+   * @param actor the actor which handles the parsed resources
+   * @param actorScheduler the scheduler to submit the workers to, or {@code null} if all resources
+   *     are handled by the caller
+   */
+  DeploymentResourceParser(
+      final BpmnValidator validator,
+      final ActorControl actor,
+      final ActorScheduler actorScheduler,
+      final int partitionId) {
+    this.validator = validator;
+    this.actor = actor;
+    this.actorScheduler = actorScheduler;
+    this.partitionId = partitionId;
+  }
+
+  /**
+   * Handles the resources on the calling thread.
+   *
+   * @return the parsed resources in the order of the given resources
+   */
+  List<ParsedResource> parse(final List<DirectBuffer> resources) {
+    final List<ParsedResource> parsedResources = new ArrayList<>(resources.size());
+    for (final DirectBuffer resource : resources) {
+      parsedResources.add(parse(resource, validator));
+    }
+    return parsedResources;
+  }
+
+  /**
+   * Handles the resources on the workers. Must be called from the actor.
+   *
+   * @param resources the resources to handle; they are copied, since the workers may still read
+   *     them after the caller moved on, e.g. if the caller is closed
+   * @return a future which is completed with the parsed resources in the order of the given
+   *     resources, or {@code null} if there are no workers
+   */
+  ActorFuture<List<ParsedResource>> parseAsync(final List<DirectBuffer> resources) {
+    if (actorScheduler == null) {
+      return null;
+    }
+
+    final List<ActorFuture<ParsedResource>> futures = new ArrayList<>(resources.size());
+    for (final DirectBuffer resource : resources) {
+      futures.add(nextWorker().parse(BufferUtil.cloneBuffer(resource)));
+    }
+
+    final CompletableActorFuture<List<ParsedResource>> result = new CompletableActorFuture<>();
+    actor.runOnCompletion(
+        futures,
+        error -> {
+          if (error != null) {
+            result.completeExceptionally(error);
+            return;
+          }
+
+          final List<ParsedResource> parsedResources = new ArrayList<>(futures.size());
+          for (final ActorFuture<ParsedResource> future : futures) {
+            parsedResources.add(future.join());
+          }
+          result.complete(parsedResources);
+        });
+    return result;
+  }
+
+  /** Closes the workers; resources which are not handled yet are dropped. */
+  void close() {
+    workers.forEach(ParserWorker::closeAsync);
+    workers.clear();
+  }
+
+  private ParserWorker nextWorker() {
+    if (workers.size() < WORKER_COUNT) {
+      final ParserWorker worker = new ParserWorker(partitionId, workers.size());
+      actorScheduler.submitActor(worker);
+      workers.add(worker);
+      return worker;
+    }
+
+    final ParserWorker worker = workers.get(nextWorker);
+    nextWorker = (nextWorker + 1) % workers.size();
+    return worker;
+  }
+
+  private static ParsedResource parse(final DirectBuffer resource, final BpmnValidator validator) {
+    try {
+      final BpmnModelInstance definition =
+          Bpmn.readModelFromStream(new DirectBufferInputStream(resource));
+      final String validationError = validator.validate(definition);
+
+      if (validationError == null) {
+        // transform the model to avoid unexpected failures that are not covered by the validator
+        BpmnFactory.createTransformer().transformDefinitions(definition);
+      }
+      return new ParsedResource(definition, validationError, null);
+
+    } catch (final RuntimeException e) {
+      return new ParsedResource(null, null, e);
+    }
+  }
+
+  /** Creates a view of the given buffer, which stays valid if the given buffer is wrapped again. */
+  static DirectBuffer view(final DirectBuffer buffer) {
+    return new UnsafeBuffer(buffer, 0, buffer.capacity());
+  }
+
+  static final class ParsedResource {
+
+    private final BpmnModelInstance definition;
+    private final String validationError;
+    private final RuntimeException failure;
+
+    private ParsedResource(
+        final BpmnModelInstance definition,
+        final String validationError,
+        final RuntimeException failure) {
+      this.definition = definition;
+      this.validationError = validationError;
+      this.failure = failure;
+    }
+
+    BpmnModelInstance getDefinition() {
+      return definition;
+    }
+
+    /** @return the validation error, or {@code null} if the resource is valid */
+    String getValidationError() {
+      return validationError;
+    }
+
+    /** @return the failure on reading or transforming the resource, or {@code null} if none */
+    RuntimeException getFailure() {
+      return failure;
+    }
+  }
+
+  private static final class ParserWorker extends Actor {
+
+    // the validator is not thread-safe; the expressions are validated without variables
+    private final BpmnValidator validator =
+        BpmnFactory.createValidator(
+            new ExpressionProcessor(
+                ExpressionLanguageFactory.createExpressionLanguage(), (scopeKey, name) -> null));
+    private final String name;
+
+    private ParserWorker(final int partitionId, final int index) {
+      name = "DeploymentResourceParser-" + partitionId + "-" + index;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    private ActorFuture<ParsedResource> parse(final DirectBuffer resource) {
+      return actor.call(() -> DeploymentResourceParser.parse(resource, validator));
+    }
+  }
+}
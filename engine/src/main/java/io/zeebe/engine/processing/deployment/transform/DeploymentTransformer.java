@@ -12,12 +12,12 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.processing.common.ExpressionProcessor;
 import io.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.zeebe.engine.processing.deployment.transform.DeploymentResourceParser.ParsedResource;
 import io.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.zeebe.engine.state.KeyGenerator;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.deployment.DeployedWorkflow;
 import io.zeebe.engine.state.immutable.WorkflowState;
-import io.zeebe.model.bpmn.Bpmn;
 import io.zeebe.model.bpmn.BpmnModelInstance;
 import io.zeebe.model.bpmn.instance.Process;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
@@ -25,22 +25,27 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.intent.WorkflowIntent;
 import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
-import org.agrona.io.DirectBufferInputStream;
 import org.slf4j.Logger;
 
 public final class DeploymentTransformer {
 
   private static final Logger LOG = Loggers.WORKFLOW_PROCESSOR_LOGGER;
 
-  private final BpmnValidator validator;
+  private final DeploymentResourceParser resourceParser;
+  private ActorFuture<List<ParsedResource>> preparedResources;
   private final WorkflowState workflowState;
   private final KeyGenerator keyGenerator;
   private final MessageDigest digestGenerator;
@@ -54,11 +59,18 @@ public final class DeploymentTransformer {
   public DeploymentTransformer(
       final StateWriter stateWriter,
       final ZeebeState zeebeState,
-      final ExpressionProcessor expressionProcessor) {
+      final ExpressionProcessor expressionProcessor,
+      final ActorControl actor,
+      final ActorScheduler actorScheduler) {
     this.stateWriter = stateWriter;
     workflowState = zeebeState.getWorkflowState();
     keyGenerator = zeebeState.getKeyGenerator();
-    validator = BpmnFactory.createValidator(expressionProcessor);
+    resourceParser =
+        new DeploymentResourceParser(
+            BpmnFactory.createValidator(expressionProcessor),
+            actor,
+            actorScheduler,
+            zeebeState.getPartitionId());
 
     try {
       // We get an alert by LGTM, since MD5 is a weak cryptographic hash function,
@@ -72,6 +84,23 @@ public final class DeploymentTransformer {
     }
   }
 
+  /**
+   * Starts to parse the resources of the deployment on the workers, if it has more than one
+   * resource. The parsed resources are used by the next {@link #transform(DeploymentRecord)} call.
+   *
+   * @return a future which is completed when the resources are parsed, or {@code null} if they are
+   *     parsed on transforming the deployment
+   */
+  public ActorFuture<?> prepare(final DeploymentRecord deploymentEvent) {
+    final List<DirectBuffer> resources = getResources(deploymentEvent);
+    preparedResources = resources.size() > 1 ? resourceParser.parseAsync(resources) : null;
+    return preparedResources;
+  }
+
+  public void close() {
+    resourceParser.close();
+  }
+
   public boolean transform(final DeploymentRecord deploymentEvent) {
     final StringBuilder errors = new StringBuilder();
     boolean success = true;
@@ -84,9 +113,13 @@ public final class DeploymentTransformer {
       return false;
     }
 
-    while (resourceIterator.hasNext()) {
-      final DeploymentResource deploymentResource = resourceIterator.next();
-      success &= transformResource(deploymentEvent, errors, deploymentResource);
+    final List<ParsedResource> parsedResources = takeParsedResources(deploymentEvent);
+
+    int index = 0;
+    for (final DeploymentResource deploymentResource : deploymentEvent.resources()) {
+      success &=
+          transformResource(
+              deploymentEvent, errors, deploymentResource, parsedResources.get(index++));
     }
 
     if (!success) {
@@ -100,21 +133,42 @@ public final class DeploymentTransformer {
     return success;
   }
 
+  private List<ParsedResource> takeParsedResources(final DeploymentRecord deploymentEvent) {
+    final ActorFuture<List<ParsedResource>> prepared = preparedResources;
+    preparedResources = null;
+
+    if (prepared != null && prepared.isDone() && !prepared.isCompletedExceptionally()) {
+      return prepared.join();
+    }
+    // not prepared, e.g. on reprocessing, or the workers failed
+    return resourceParser.parse(getResources(deploymentEvent));
+  }
+
+  private static List<DirectBuffer> getResources(final DeploymentRecord deploymentEvent) {
+    final List<DirectBuffer> resources = new ArrayList<>();
+    for (final DeploymentResource resource : deploymentEvent.resources()) {
+      resources.add(DeploymentResourceParser.view(resource.getResourceBuffer()));
+    }
+    return resources;
+  }
+
   private boolean transformResource(
       final DeploymentRecord deploymentEvent,
       final StringBuilder errors,
-      final DeploymentResource deploymentResource) {
+      final DeploymentResource deploymentResource,
+      final ParsedResource parsedResource) {
     boolean success = false;
     final String resourceName = deploymentResource.getResourceName();
 
     try {
-      final BpmnModelInstance definition = readWorkflowDefinition(deploymentResource);
-      final String validationError = validator.validate(definition);
+      if (parsedResource.getFailure() != null) {
+        throw parsedResource.getFailure();
+      }
 
-      if (validationError == null) {
-        // transform the model to avoid unexpected failures that are not covered by the validator
-        BpmnFactory.createTransformer().transformDefinitions(definition);
+      final BpmnModelInstance definition = parsedResource.getDefinition();
+      final String validationError = parsedResource.getValidationError();
 
+      if (validationError == null) {
         final String bpmnIdDuplicateError = checkForDuplicateBpmnId(definition, resourceName);
 
         if (bpmnIdDuplicateError == null) {
@@ -204,12 +258,6 @@ public final class DeploymentTransformer {
         && lastWorkflow.getResourceName().equals(deploymentResource.getResourceNameBuffer());
   }
 
-  private BpmnModelInstance readWorkflowDefinition(final DeploymentResource deploymentResource) {
-    final DirectBuffer resource = deploymentResource.getResourceBuffer();
-    final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
-    return Bpmn.readModelFromStream(resourceStream);
-  }
-
   public RejectionType getRejectionType() {
     return rejectionType;
   }
@@ -47,6 +47,11 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
 
+  // holds the copies of the activated jobs of the current batch; it is reused for every batch
+  // since the jobs are only referenced until the batch is written
+  private final ExpandableArrayBuffer jobBatchBuffer = new ExpandableArrayBuffer();
+  private int jobBatchBufferOffset;
+
   public JobBatchActivateProcessor(
       final MutableJobState jobState,
       final VariableState variableState,
@@ -114,6 +119,7 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
     // collect jobs for activation
     variableNames.clear();
+    jobBatchBufferOffset = 0;
     final ValueArray<StringValue> jobBatchVariables = value.variables();
 
     jobBatchVariables.forEach(
@@ -130,26 +136,30 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
           final long deadline = record.getTimestamp() + value.getTimeout();
           jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
 
+          // check the size without the variables first, to avoid collecting the variables of a
+          // job which doesn't fit into the batch anyway
+          jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
+          boolean fitsIntoBatch = remainingAmount >= 0 && fitsIntoBatch(record, jobRecord);
+
           // fetch and set variables, required here to already have the full size of the job record
           final long elementInstanceKey = jobRecord.getElementInstanceKey();
-          if (elementInstanceKey >= 0) {
+          if (fitsIntoBatch && elementInstanceKey >= 0) {
             final DirectBuffer variables = collectVariables(variableNames, elementInstanceKey);
             jobRecord.setVariables(variables);
-          } else {
-            jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
+            fitsIntoBatch = fitsIntoBatch(record, jobRecord);
           }
 
-          if (remainingAmount >= 0
-              && (record.getLength() + jobRecord.getLength()) <= maxJobBatchLength) {
+          if (fitsIntoBatch) {
 
             remainingAmount = amount.decrementAndGet();
             jobKeyIterator.add().setValue(key);
             final JobRecord arrayValueJob = jobIterator.add();
 
             // clone job record since buffer is reused during iteration
-            final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer(jobRecord.getLength());
-            jobRecord.write(buffer, 0);
-            arrayValueJob.wrap(buffer);
+            final int jobLength = jobRecord.getLength();
+            jobRecord.write(jobBatchBuffer, jobBatchBufferOffset);
+            arrayValueJob.wrap(jobBatchBuffer, jobBatchBufferOffset, jobLength);
+            jobBatchBufferOffset += jobLength;
           } else {
             value.setTruncated(true);
 
@@ -165,6 +175,11 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
         });
   }
 
+  private boolean fitsIntoBatch(
+      final TypedRecord<JobBatchRecord> record, final JobRecord jobRecord) {
+    return (record.getLength() + jobRecord.getLength()) <= maxJobBatchLength;
+  }
+
   private void activateJobs(final TypedStreamWriter streamWriter, final JobBatchRecord value) {
     final Iterator<JobRecord> iterator = value.jobs().iterator();
     final Iterator<LongValue> keyIt = value.jobKeys().iterator();
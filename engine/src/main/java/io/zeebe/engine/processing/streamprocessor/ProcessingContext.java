@@ -17,17 +17,20 @@ import io.zeebe.engine.state.EventApplier;
 import io.zeebe.engine.state.KeyGeneratorControls;
 import io.zeebe.engine.state.ZeebeDbState;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.deployment.DbWorkflowState;
 import io.zeebe.engine.state.mutable.MutableLastProcessedPositionState;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ActorScheduler;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 public final class ProcessingContext implements ReadonlyProcessingContext {
 
   private ActorControl actor;
+  private ActorScheduler actorScheduler;
   private LogStream logStream;
   private LogStreamReader logStreamReader;
   private TypedStreamWriter logStreamWriter = new NoopTypedStreamWriter();
@@ -44,12 +47,19 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private Consumer<LoggedEvent> onSkippedListener = record -> {};
   private int maxFragmentSize;
   private boolean detectReprocessingInconsistency;
+  private boolean pipelinedReprocessing;
+  private int workflowCacheCapacity = DbWorkflowState.DEFAULT_CACHE_CAPACITY;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
     return this;
   }
 
+  public ProcessingContext actorScheduler(final ActorScheduler actorScheduler) {
+    this.actorScheduler = actorScheduler;
+    return this;
+  }
+
   public ProcessingContext logStream(final LogStream logStream) {
     this.logStream = logStream;
     return this;
@@ -129,6 +139,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return actor;
   }
 
+  /** @return the scheduler of the stream processor actor, or {@code null} if it is not known */
+  public ActorScheduler getActorScheduler() {
+    return actorScheduler;
+  }
+
   @Override
   public LogStream getLogStream() {
     return logStream;
@@ -204,4 +219,22 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     this.detectReprocessingInconsistency = detectReprocessingInconsistency;
     return this;
   }
+
+  public boolean isPipelinedReprocessing() {
+    return pipelinedReprocessing;
+  }
+
+  public ProcessingContext setPipelinedReprocessing(final boolean pipelinedReprocessing) {
+    this.pipelinedReprocessing = pipelinedReprocessing;
+    return this;
+  }
+
+  public int getWorkflowCacheCapacity() {
+    return workflowCacheCapacity;
+  }
+
+  public ProcessingContext setWorkflowCacheCapacity(final int workflowCacheCapacity) {
+    this.workflowCacheCapacity = workflowCacheCapacity;
+    return this;
+  }
 }
@@ -249,6 +249,22 @@ public final class ProcessingStateMachine {
         return;
       }
 
+      final ActorFuture<?> preparation = currentProcessor.prepareRecord(typedEvent);
+      if (preparation != null) {
+        // the reader is not moved until the record is processed, so the record stays valid
+        actor.runOnCompletion(preparation, (ignored, error) -> processPreparedEvent(event));
+        return;
+      }
+    } catch (final Exception e) {
+      onProcessingFailure(event, e);
+      return;
+    }
+
+    processPreparedEvent(event);
+  }
+
+  private void processPreparedEvent(final LoggedEvent event) {
+    try {
       metrics.processingLatency(
           metadata.getRecordType(), event.getTimestamp(), processingStartTime);
 
@@ -257,13 +273,18 @@ public final class ProcessingStateMachine {
       metrics.eventProcessed();
 
       writeEvent();
-    } catch (final RecoverableException recoverableException) {
-      // recoverable
-      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING, event, recoverableException);
-      actor.runDelayed(PROCESSING_RETRY_DELAY, () -> processEvent(currentEvent));
     } catch (final Exception e) {
-      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, e);
-      onError(e, this::writeEvent);
+      onProcessingFailure(event, e);
+    }
+  }
+
+  private void onProcessingFailure(final LoggedEvent event, final Exception exception) {
+    if (exception instanceof RecoverableException) {
+      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING, event, exception);
+      actor.runDelayed(PROCESSING_RETRY_DELAY, () -> processEvent(currentEvent));
+    } else {
+      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, exception);
+      onError(exception, this::writeEvent);
     }
   }
 
@@ -324,6 +345,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              zeebeState.clearCaches();
               return true;
             },
             abortCondition);
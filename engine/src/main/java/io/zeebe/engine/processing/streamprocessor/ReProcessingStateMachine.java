@@ -10,7 +10,9 @@ package io.zeebe.engine.processing.streamprocessor;
 import io.zeebe.db.TransactionContext;
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.zeebe.engine.processing.streamprocessor.ReprocessingPrefetcher.PrefetchedRecord;
 import io.zeebe.engine.processing.streamprocessor.writers.NoopResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.ReprocessingStreamWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
@@ -20,6 +22,7 @@ import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.mutable.MutableLastProcessedPositionState;
 import io.zeebe.engine.state.mutable.MutableWorkflowState;
 import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.Protocol;
@@ -32,16 +35,15 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.value.BpmnElementType;
 import io.zeebe.util.retry.EndlessRetryStrategy;
 import io.zeebe.util.retry.RetryStrategy;
+import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongHashSet;
 import org.slf4j.Logger;
 
 /**
@@ -99,30 +101,25 @@ public final class ReProcessingStateMachine {
       "Expected that position '%d' of current event is higher then position '%d' of last event, but was not. Inconsistent log detected!";
 
   private static final Consumer<Long> NOOP_LONG_CONSUMER = (instanceKey) -> {};
+  private static final long NO_GENERATED_KEY = Long.MIN_VALUE;
 
   private static final MetadataFilter REPLAY_FILTER =
       recordMetadata ->
           recordMetadata.getRecordType() == RecordType.EVENT
               || !MigratedStreamProcessors.isMigrated(recordMetadata.getValueType());
 
-  private final RecordMetadata metadata = new RecordMetadata();
+  private RecordMetadata metadata = new RecordMetadata();
   private final ZeebeState zeebeState;
   private final KeyGeneratorControls keyGeneratorControls;
   private final MutableLastProcessedPositionState lastProcessedPositionState;
   private final ActorControl actor;
   private final ErrorRecord errorRecord = new ErrorRecord();
-  private final TypedEventImpl typedEvent;
+  private TypedEventImpl typedEvent;
 
   private final RecordValues recordValues;
   private final RecordProcessorMap recordProcessorMap;
 
-  private final EventFilter eventFilter =
-      new MetadataEventFilter(
-          new RecordProtocolVersionFilter()
-          // TODO (saig0): enable the replay filter after all stream processors are migrated (#6202)
-          // until then, we need to restore the key generator for already migrated processors
-          //          .and(REPLAY_FILTER)
-          );
+  private final EventFilter eventFilter = newEventFilter();
 
   private final LogStreamReader logStreamReader;
   private final ReprocessingStreamWriter reprocessingStreamWriter = new ReprocessingStreamWriter();
@@ -134,14 +131,15 @@ public final class ReProcessingStateMachine {
   private final RetryStrategy processRetryStrategy;
 
   private final BooleanSupplier abortCondition;
-  private final Set<Long> failedEventPositions = new HashSet<>();
+  private final LongHashSet failedEventPositions = new LongHashSet();
   // current iteration
   private long lastSourceEventPosition;
   private long lastFollowUpEventPosition;
   private long snapshotPosition;
   private long highestRecordKey = -1L;
 
-  private final Map<Long, Long> lastGeneratedKeyBySourceCommandPosition = new HashMap<>();
+  private final Long2LongHashMap lastGeneratedKeyBySourceCommandPosition =
+      new Long2LongHashMap(NO_GENERATED_KEY);
 
   private ActorFuture<Long> recoveryFuture;
   private LoggedEvent currentEvent;
@@ -149,6 +147,14 @@ public final class ReProcessingStateMachine {
   private ZeebeDbTransaction zeebeDbTransaction;
   private final boolean detectReprocessingInconsistency;
   private final MutableWorkflowState workflowState;
+  private final StreamProcessorMetrics metrics;
+  private final boolean pipelinedReprocessing;
+  private final ActorScheduler actorScheduler;
+  private final LogStream logStream;
+  private ReprocessingPrefetcher prefetcher;
+  private ActorFuture<Void> prefetcherCloseFuture = CompletableActorFuture.completed(null);
+  private ActorCondition onPrefetchedRecordAvailable;
+  private boolean isAwaitingPrefetchedRecord;
 
   public ReProcessingStateMachine(final ProcessingContext context) {
     actor = context.getActor();
@@ -167,6 +173,19 @@ public final class ReProcessingStateMachine {
     updateStateRetryStrategy = new EndlessRetryStrategy(actor);
     processRetryStrategy = new EndlessRetryStrategy(actor);
     detectReprocessingInconsistency = context.isDetectReprocessingInconsistency();
+    metrics = new StreamProcessorMetrics(context.getLogStream().getPartitionId());
+    pipelinedReprocessing = context.isPipelinedReprocessing();
+    actorScheduler = context.getActorScheduler();
+    logStream = context.getLogStream();
+  }
+
+  static EventFilter newEventFilter() {
+    return new MetadataEventFilter(
+        new RecordProtocolVersionFilter()
+        // TODO (saig0): enable the replay filter after all stream processors are migrated (#6202)
+        // until then, we need to restore the key generator for already migrated processors
+        //          .and(REPLAY_FILTER)
+        );
   }
 
   /**
@@ -181,14 +200,22 @@ public final class ReProcessingStateMachine {
     this.snapshotPosition = snapshotPosition;
 
     LOG.trace("Start scanning the log for error events.");
-    lastSourceEventPosition = scanLog(snapshotPosition);
-    LOG.trace("Finished scanning the log for error events.");
+    final long scanStartTime = System.currentTimeMillis();
+    final long scannedRecords = scanLog(snapshotPosition);
+    LOG.debug(
+        "Finished scanning {} records of the log for error events in {} ms.",
+        scannedRecords,
+        System.currentTimeMillis() - scanStartTime);
 
     if (lastSourceEventPosition > snapshotPosition) {
       LOG.info(
           "Processor starts reprocessing, until last source event position {}",
           lastSourceEventPosition);
-      logStreamReader.seekToNextEvent(snapshotPosition);
+      if (pipelinedReprocessing) {
+        startPrefetcher();
+      } else {
+        logStreamReader.seekToNextEvent(snapshotPosition);
+      }
       reprocessNextEvent();
     } else if (snapshotPosition > 0) {
       recoveryFuture.complete(snapshotPosition);
@@ -198,8 +225,17 @@ public final class ReProcessingStateMachine {
     return recoveryFuture;
   }
 
+  /**
+   * Scans the log once to collect what the replay needs to know upfront: the error-prone positions,
+   * the last source event position and the generated keys. The scan only decodes the record
+   * metadata; record values are only read for error records and for workflow instance commands,
+   * which are needed to detect migrated processors.
+   *
+   * @return the number of scanned records
+   */
   private long scanLog(final long snapshotPosition) {
-    long lastSourceEventPosition = -1L;
+    lastSourceEventPosition = -1L;
+    long scannedRecords = 0;
 
     if (logStreamReader.hasNext()) {
       lastSourceEventPosition = snapshotPosition;
@@ -214,6 +250,7 @@ public final class ReProcessingStateMachine {
               String.format(ERROR_INCONSISTENT_LOG, currentPosition, lastPosition));
         }
         lastPosition = currentPosition;
+        scannedRecords++;
 
         metadata.reset();
         newEvent.readMetadata(metadata);
@@ -241,12 +278,7 @@ public final class ReProcessingStateMachine {
           }
         }
 
-        final UnifiedRecordValue recordValue =
-            recordValues.readRecordValue(newEvent, metadata.getValueType());
-        typedEvent.wrap(newEvent, metadata, recordValue);
-
-        if (MigratedStreamProcessors.isMigrated(typedEvent)
-            && typedEvent.getRecordType() == RecordType.COMMAND) {
+        if (metadata.getRecordType() == RecordType.COMMAND && isMigratedCommand(newEvent)) {
           // store the highest key of a processed command for supporting legacy processors
           // - initialize the map to store the key of the follow-up record afterward
           lastGeneratedKeyBySourceCommandPosition.put(currentPosition, -1L);
@@ -255,19 +287,77 @@ public final class ReProcessingStateMachine {
         final var recordKey = newEvent.getKey();
         // records from other partitions should not influence the key generator of this partition
         if (Protocol.decodePartitionId(recordKey) == zeebeState.getPartitionId()) {
-          lastGeneratedKeyBySourceCommandPosition.computeIfPresent(
-              sourceEventPosition, (position, key) -> Math.max(recordKey, key));
+          final long lastGeneratedKey =
+              lastGeneratedKeyBySourceCommandPosition.get(sourceEventPosition);
+          if (lastGeneratedKey != NO_GENERATED_KEY && recordKey > lastGeneratedKey) {
+            lastGeneratedKeyBySourceCommandPosition.put(sourceEventPosition, recordKey);
+          }
 
           // remember the highest key on the stream to restore the key generator after replay
           highestRecordKey = Math.max(recordKey, highestRecordKey);
         }
+
+        metrics.recoveryRecordScanned();
       }
 
       // reset position
       logStreamReader.seek(snapshotPosition + 1);
     }
 
-    return lastSourceEventPosition;
+    return scannedRecords;
+  }
+
+  private boolean isMigratedCommand(final LoggedEvent event) {
+    final ValueType valueType = metadata.getValueType();
+    if (valueType != ValueType.WORKFLOW_INSTANCE) {
+      // all other value types can be checked by their metadata only
+      typedEvent.wrap(event, metadata, null);
+      return MigratedStreamProcessors.isMigrated(typedEvent);
+    }
+
+    final UnifiedRecordValue recordValue = recordValues.readRecordValue(event, valueType);
+    typedEvent.wrap(event, metadata, recordValue);
+    return MigratedStreamProcessors.isMigrated(typedEvent);
+  }
+
+  private void startPrefetcher() {
+    onPrefetchedRecordAvailable =
+        actor.onCondition("reprocessing-prefetched-record", this::onPrefetchedRecordAvailable);
+    prefetcher =
+        new ReprocessingPrefetcher(
+            typedEvent.getPartitionId(),
+            ReprocessingPrefetcher.DEFAULT_CAPACITY,
+            logStream,
+            snapshotPosition,
+            lastFollowUpEventPosition,
+            onPrefetchedRecordAvailable::signal,
+            abortCondition);
+    actorScheduler.submitActor(prefetcher);
+  }
+
+  /**
+   * Stops the reprocessing, e.g. if the stream processor is closed during reprocessing.
+   *
+   * @return a future which is completed when the reprocessing doesn't read the log anymore
+   */
+  ActorFuture<Void> close() {
+    closePrefetcher();
+    return prefetcherCloseFuture;
+  }
+
+  private void closePrefetcher() {
+    if (prefetcher != null) {
+      prefetcherCloseFuture = prefetcher.closeAsync();
+      prefetcher = null;
+      onPrefetchedRecordAvailable.cancel();
+    }
+  }
+
+  private void onPrefetchedRecordAvailable() {
+    if (isAwaitingPrefetchedRecord) {
+      isAwaitingPrefetchedRecord = false;
+      reprocessNextEvent();
+    }
   }
 
   private void readNextEvent() {
@@ -277,6 +367,33 @@ public final class ReProcessingStateMachine {
     }
 
     currentEvent = logStreamReader.next();
+    verifyFollowUpEventPosition();
+  }
+
+  /**
+   * Takes the next record from the prefetcher, which is already read and decoded.
+   *
+   * @return {@code true} if the record should be reprocessed
+   */
+  private boolean takePrefetchedRecord(final PrefetchedRecord record) {
+    if (record.getFailure() != null) {
+      throw record.getFailure();
+    }
+
+    if (record.isEndOfLog()) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_REPROCESSING_NO_NEXT_EVENT, lastFollowUpEventPosition));
+    }
+
+    currentEvent = record.getEvent();
+    verifyFollowUpEventPosition();
+
+    metadata = record.getMetadata();
+    typedEvent = record.getTypedEvent();
+    return !record.isFiltered();
+  }
+
+  private void verifyFollowUpEventPosition() {
     if (currentEvent.getPosition() > lastFollowUpEventPosition) {
       throw new IllegalStateException(
           String.format(
@@ -288,24 +405,40 @@ public final class ReProcessingStateMachine {
 
   private void reprocessNextEvent() {
     try {
-      readNextEvent();
+      final boolean shouldReprocess;
+      if (prefetcher != null) {
+        final PrefetchedRecord record = prefetcher.poll();
+        if (record == null) {
+          // continue when the prefetcher signals that the next record is available
+          isAwaitingPrefetchedRecord = true;
+          return;
+        }
+        shouldReprocess = takePrefetchedRecord(record);
+      } else {
+        readNextEvent();
+        shouldReprocess = eventFilter.applies(currentEvent);
+      }
 
-      if (eventFilter.applies(currentEvent)) {
+      if (shouldReprocess) {
         reprocessEvent(currentEvent);
       } else {
         onRecordReprocessed(currentEvent);
       }
 
     } catch (final RuntimeException e) {
+      closePrefetcher();
       recoveryFuture.completeExceptionally(e);
     }
   }
 
   private void reprocessEvent(final LoggedEvent currentEvent) {
 
+    final boolean isDecoded = prefetcher != null;
     try {
-      metadata.reset();
-      currentEvent.readMetadata(metadata);
+      if (!isDecoded) {
+        metadata.reset();
+        currentEvent.readMetadata(metadata);
+      }
 
       eventProcessor =
           recordProcessorMap.get(
@@ -314,9 +447,11 @@ public final class ReProcessingStateMachine {
       LOG.error(ERROR_MESSAGE_ON_EVENT_FAILED_SKIP_EVENT, currentEvent, e);
     }
 
-    final UnifiedRecordValue value =
-        recordValues.readRecordValue(currentEvent, metadata.getValueType());
-    typedEvent.wrap(currentEvent, metadata, value);
+    if (!isDecoded) {
+      final UnifiedRecordValue value =
+          recordValues.readRecordValue(currentEvent, metadata.getValueType());
+      typedEvent.wrap(currentEvent, metadata, value);
+    }
 
     if (detectReprocessingInconsistency) {
       verifyRecordMatchesToReprocessing(typedEvent);
@@ -335,6 +470,7 @@ public final class ReProcessingStateMachine {
               final boolean onRetry = zeebeDbTransaction != null;
               if (onRetry) {
                 zeebeDbTransaction.rollback();
+                zeebeState.clearCaches();
               }
               zeebeDbTransaction = transactionContext.getCurrentTransaction();
               zeebeDbTransaction.run(operationOnProcessing);
@@ -391,8 +527,11 @@ public final class ReProcessingStateMachine {
 
       } else if (currentEvent.getRecordType() == RecordType.COMMAND) {
         // restore the key generator because it is used by not yet migrated processors
-        Optional.ofNullable(lastGeneratedKeyBySourceCommandPosition.get(currentEvent.getPosition()))
-            .ifPresent(keyGeneratorControls::setKeyIfHigher);
+        final long lastGeneratedKey =
+            lastGeneratedKeyBySourceCommandPosition.get(currentEvent.getPosition());
+        if (lastGeneratedKey != NO_GENERATED_KEY) {
+          keyGeneratorControls.setKeyIfHigher(lastGeneratedKey);
+        }
       }
 
     } else if (recordPosition <= lastSourceEventPosition && eventProcessor != null) {
@@ -452,10 +591,20 @@ public final class ReProcessingStateMachine {
     reprocessingStreamWriter.removeRecord(
         currentEvent.getKey(), currentEvent.getSourceEventPosition());
 
+    final long position = currentEvent.getPosition();
+    metrics.recoveryRecordReplayed();
+    metrics.recoveryRemainingPositions(lastFollowUpEventPosition - position);
+
+    if (prefetcher != null) {
+      // the record must not be accessed anymore, its slot is reused by the prefetcher
+      prefetcher.release();
+    }
+
     // do reprocessing until the last source event but read until the last follow-up event to check
     // for inconsistent reprocessing records
-    if (currentEvent.getPosition() >= lastFollowUpEventPosition) {
-      LOG.info(LOG_STMT_REPROCESSING_FINISHED, currentEvent.getPosition());
+    if (position >= lastFollowUpEventPosition) {
+      LOG.info(LOG_STMT_REPROCESSING_FINISHED, position);
+      closePrefetcher();
 
       // reset the position to the first event where the processing should start
       logStreamReader.seekToNextEvent(lastSourceEventPosition);
@@ -469,6 +618,7 @@ public final class ReProcessingStateMachine {
   private void onRecovered(final long lastProcessedPosition) {
     keyGeneratorControls.setKeyIfHigher(highestRecordKey);
 
+    metrics.recoveryRemainingPositions(0);
     failedEventPositions.clear();
     lastGeneratedKeyBySourceCommandPosition.clear();
 
@@ -0,0 +1,301 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor;
+
+import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamReader;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorCondition;
+import io.zeebe.util.sched.SchedulingHints;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.util.function.BooleanSupplier;
+import org.agrona.ExpandableArrayBuffer;
+import org.slf4j.Logger;
+
+/**
+ * Reads and decodes the records to reprocess on an I/O bound actor, so that the stream processor
+ * actor only has to apply them to the state. The records are handed over in order through a bounded
+ * ring of reusable slots, which are owned by the reader until they are published and by the
+ * consumer until they are released.
+ *
+ * <p>The records are read with an own log stream reader, which is closed together with the actor.
+ */
+final class ReprocessingPrefetcher extends Actor {
+
+  static final int DEFAULT_CAPACITY = 64;
+
+  private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
+
+  private final PrefetchedRecord[] records;
+  private final int mask;
+  private final String name;
+  private final LogStream logStream;
+  private final long snapshotPosition;
+  private final long lastPosition;
+  private final Runnable onRecordAvailable;
+  private final BooleanSupplier abortCondition;
+  private final EventFilter eventFilter = ReProcessingStateMachine.newEventFilter();
+
+  private LogStreamReader logStreamReader;
+  private RuntimeException openFailure;
+  private ActorCondition onSlotReleased;
+  private boolean hasReadLastRecord;
+
+  private volatile long publishedCount;
+  private volatile long releasedCount;
+  private volatile boolean isConsumerWaiting;
+  private volatile boolean isProducerWaiting;
+  private volatile boolean isClosed;
+
+  /**
+   * @param snapshotPosition the position after which the records are read
+   * @param lastPosition the position of the last record to read
+   * @param onRecordAvailable called from the reader actor when a record is published while the
+   *     consumer waits for one
+   * @param abortCondition stops the reading if it is met, e.g. if the stream processor is closed
+   *     during reprocessing
+   */
+  ReprocessingPrefetcher(
+      final int partitionId,
+      final int capacity,
+      final LogStream logStream,
+      final long snapshotPosition,
+      final long lastPosition,
+      final Runnable onRecordAvailable,
+      final BooleanSupplier abortCondition) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException(
+          String.format("Expected capacity to be a power of two, but was '%d'", capacity));
+    }
+
+    this.logStream = logStream;
+    this.snapshotPosition = snapshotPosition;
+    this.lastPosition = lastPosition;
+    this.onRecordAvailable = onRecordAvailable;
+    this.abortCondition = abortCondition;
+
+    records = new PrefetchedRecord[capacity];
+    for (int i = 0; i < capacity; i++) {
+      records[i] = new PrefetchedRecord(partitionId);
+    }
+    mask = capacity - 1;
+    name = "ReprocessingPrefetcher-" + partitionId;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    actor.setSchedulingHints(SchedulingHints.ioBound());
+    onSlotReleased = actor.onCondition("reprocessing-slot-released", this::readRecords);
+
+    actor.runOnCompletionBlockingCurrentPhase(
+        logStream.newLogStreamReader(),
+        (reader, error) -> {
+          if (error == null) {
+            logStreamReader = reader;
+            logStreamReader.seekToNextEvent(snapshotPosition);
+          } else {
+            openFailure =
+                new IllegalStateException("Expected to open a reader to reprocess the log", error);
+          }
+        });
+  }
+
+  @Override
+  protected void onActorStarted() {
+    readRecords();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+  }
+
+  /**
+   * Stops the reading and closes the actor. Records which are not yet consumed are dropped.
+   *
+   * @return a future which is completed when the actor is closed, i.e. when it doesn't read the log
+   *     anymore
+   */
+  @Override
+  public ActorFuture<Void> closeAsync() {
+    // stops a running read before the close is processed
+    isClosed = true;
+    return super.closeAsync();
+  }
+
+  /**
+   * @return the next record in order, or {@code null} if no record is available yet; in that case
+   *     the consumer is notified when the next record is published
+   */
+  PrefetchedRecord poll() {
+    if (releasedCount == publishedCount) {
+      isConsumerWaiting = true;
+      if (releasedCount == publishedCount) {
+        return null;
+      }
+    }
+
+    isConsumerWaiting = false;
+    return records[(int) releasedCount & mask];
+  }
+
+  /** Hands the slot of the record returned by {@link #poll()} back to the reader. */
+  void release() {
+    releasedCount = releasedCount + 1;
+
+    if (isProducerWaiting) {
+      onSlotReleased.signal();
+    }
+  }
+
+  private void readRecords() {
+    while (!hasReadLastRecord) {
+      final PrefetchedRecord record = claim();
+      if (record == null) {
+        // continue when the consumer releases a slot
+        return;
+      }
+
+      readRecord(record);
+      publish();
+    }
+  }
+
+  private void readRecord(final PrefetchedRecord record) {
+    if (openFailure != null) {
+      record.failure(openFailure);
+      hasReadLastRecord = true;
+      return;
+    }
+
+    try {
+      if (logStreamReader.hasNext()) {
+        final LoggedEvent event = logStreamReader.next();
+        record.read(event, eventFilter);
+        hasReadLastRecord = event.getPosition() >= lastPosition;
+      } else {
+        record.endOfLog();
+        hasReadLastRecord = true;
+      }
+    } catch (final RuntimeException e) {
+      LOG.error("Unexpected error on reading the records to reprocess", e);
+      record.failure(e);
+      hasReadLastRecord = true;
+    }
+  }
+
+  private PrefetchedRecord claim() {
+    if (isClosed || abortCondition.getAsBoolean()) {
+      return null;
+    }
+
+    if (publishedCount - releasedCount > mask) {
+      isProducerWaiting = true;
+      if (publishedCount - releasedCount > mask) {
+        return null;
+      }
+    }
+
+    isProducerWaiting = false;
+    return records[(int) publishedCount & mask];
+  }
+
+  private void publish() {
+    publishedCount = publishedCount + 1;
+
+    if (isConsumerWaiting) {
+      onRecordAvailable.run();
+    }
+  }
+
+  /** A slot of the ring, which holds a copy of the record and its decoded metadata and value. */
+  static final class PrefetchedRecord {
+
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final RecordValues recordValues = new RecordValues();
+    private final TypedEventImpl typedEvent;
+
+    private boolean isEndOfLog;
+    private boolean isFiltered;
+    private RuntimeException failure;
+
+    private PrefetchedRecord(final int partitionId) {
+      typedEvent = new TypedEventImpl(partitionId);
+    }
+
+    private void read(final LoggedEvent rawEvent, final EventFilter eventFilter) {
+      isEndOfLog = false;
+      failure = null;
+
+      // copy the record, since the reader reuses its buffer for the next record
+      rawEvent.write(buffer, 0);
+      event.wrap(buffer, 0);
+
+      isFiltered = !eventFilter.applies(event);
+      if (isFiltered) {
+        return;
+      }
+
+      metadata.reset();
+      event.readMetadata(metadata);
+      final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
+      typedEvent.wrap(event, metadata, value);
+    }
+
+    private void endOfLog() {
+      isEndOfLog = true;
+      failure = null;
+    }
+
+    private void failure(final RuntimeException failure) {
+      isEndOfLog = false;
+      this.failure = failure;
+    }
+
+    LoggedEvent getEvent() {
+      return event;
+    }
+
+    RecordMetadata getMetadata() {
+      return metadata;
+    }
+
+    TypedEventImpl getTypedEvent() {
+      return typedEvent;
+    }
+
+    /** @return {@code true} if the record is not reprocessed because of the event filter */
+    boolean isFiltered() {
+      return isFiltered;
+    }
+
+    /** @return {@code true} if the log has no record anymore, the slot holds no record then */
+    boolean isEndOfLog() {
+      return isEndOfLog;
+    }
+
+    /** @return the failure on reading the record, or {@code null} if it was read successfully */
+    RuntimeException getFailure() {
+      return failure;
+    }
+  }
+}
@@ -23,7 +23,9 @@ import io.zeebe.util.health.HealthMonitorable;
 import io.zeebe.util.health.HealthStatus;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorCondition;
+import io.zeebe.util.sched.ActorPriority;
 import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
@@ -59,6 +61,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
   private ActorCondition onCommitPositionUpdatedCondition;
   private long snapshotPosition = -1L;
   private ProcessingStateMachine processingStateMachine;
+  private ReProcessingStateMachine reProcessingStateMachine;
 
   private volatile Phase phase = Phase.REPROCESSING;
 
@@ -119,8 +122,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
       healthCheckTick();
       openFuture.complete(null);
 
-      final ReProcessingStateMachine reProcessingStateMachine =
-          new ReProcessingStateMachine(processingContext);
+      reProcessingStateMachine = new ReProcessingStateMachine(processingContext);
 
       recoverFuture = reProcessingStateMachine.startRecover(snapshotPosition);
 
@@ -143,7 +145,13 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
   @Override
   protected void onActorClosing() {
-    tearDown();
+    if (reProcessingStateMachine != null) {
+      // the stream processor is closed after the reprocessing stopped reading the log
+      actor.runOnCompletionBlockingCurrentPhase(
+          reProcessingStateMachine.close(), (nothing, error) -> tearDown());
+    } else {
+      tearDown();
+    }
   }
 
   @Override
@@ -179,6 +187,10 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     closeFuture = CompletableActorFuture.completed(null);
     isOpened.set(false);
     lifecycleAwareListeners.forEach(StreamProcessorLifecycleAware::onFailed);
+    if (reProcessingStateMachine != null) {
+      // the actor doesn't run jobs anymore, so the reprocessing is closed without waiting for it
+      reProcessingStateMachine.close();
+    }
     tearDown();
   }
 
@@ -232,7 +244,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     if (isOpened.compareAndSet(false, true)) {
       shouldProcess = !pauseOnStart;
       openFuture = new CompletableActorFuture<>();
-      actorScheduler.submitActor(this);
+      // home the processor on the same thread as the other actors of the partition
+      final int hints =
+          SchedulingHints.setAffinityKey(
+              partitionId, SchedulingHints.cpuBound(ActorPriority.REGULAR));
+      actorScheduler.submitActor(this, hints);
     }
     return openFuture;
   }
@@ -269,7 +285,9 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
   private ZeebeDbState recoverState() {
     final TransactionContext transactionContext = zeebeDb.createContext();
-    final ZeebeDbState zeebeState = new ZeebeDbState(partitionId, zeebeDb, transactionContext);
+    final ZeebeDbState zeebeState =
+        new ZeebeDbState(
+            partitionId, zeebeDb, transactionContext, processingContext.getWorkflowCacheCapacity());
 
     processingContext.transactionContext(transactionContext);
     processingContext.zeebeState(zeebeState);
@@ -41,6 +41,7 @@ public final class StreamProcessorBuilder {
 
   public StreamProcessorBuilder actorScheduler(final ActorScheduler actorScheduler) {
     this.actorScheduler = actorScheduler;
+    processingContext.actorScheduler(actorScheduler);
     return this;
   }
 
@@ -76,6 +77,16 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder pipelinedReprocessing(final boolean pipelinedReprocessing) {
+    processingContext.setPipelinedReprocessing(pipelinedReprocessing);
+    return this;
+  }
+
+  public StreamProcessorBuilder workflowCacheCapacity(final int workflowCacheCapacity) {
+    processingContext.setWorkflowCacheCapacity(workflowCacheCapacity);
+    return this;
+  }
+
   public StreamProcessorBuilder eventApplierFactory(
       final Function<ZeebeState, EventApplier> eventApplierFactory) {
     this.eventApplierFactory = eventApplierFactory;
@@ -11,6 +11,7 @@ import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.util.sched.future.ActorFuture;
 import java.util.function.Consumer;
 
 // todo (#6202): remove TypedStreamWriter from this interface's method signatures
@@ -19,6 +20,20 @@ import java.util.function.Consumer;
 public interface TypedRecordProcessor<T extends UnifiedRecordValue>
     extends StreamProcessorLifecycleAware {
 
+  /**
+   * Called before the record is processed, to do expensive work which doesn't depend on the state
+   * outside of the stream processor actor, e.g. on other actors. The record is processed when the
+   * returned future is completed, whether it is completed successfully or not. The record is not
+   * prepared on reprocessing.
+   *
+   * @param record the record which is processed next
+   * @return a future which is completed when the record is prepared, or {@code null} if the record
+   *     can be processed right away
+   */
+  default ActorFuture<?> prepareRecord(final TypedRecord<T> record) {
+    return null;
+  }
+
   /** @see #processRecord(TypedRecord, TypedResponseWriter, TypedStreamWriter, Consumer) */
   default void processRecord(
       final TypedRecord<T> record,
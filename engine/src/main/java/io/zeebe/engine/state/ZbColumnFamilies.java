@@ -81,5 +81,8 @@ public enum ZbColumnFamilies {
 
   EXPORTER,
 
-  AWAIT_WORKLOW_RESULT
+  AWAIT_WORKLOW_RESULT,
+
+  // multi-instance
+  MULTI_INSTANCE_INPUT_COLLECTION
 }
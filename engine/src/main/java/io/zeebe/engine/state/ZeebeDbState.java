@@ -75,12 +75,22 @@ public class ZeebeDbState implements ZeebeState {
       final int partitionId,
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext) {
+    this(partitionId, zeebeDb, transactionContext, DbWorkflowState.DEFAULT_CACHE_CAPACITY);
+  }
+
+  /** @param workflowCacheCapacity the maximum number of workflows which are kept in memory */
+  public ZeebeDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int workflowCacheCapacity) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyGenerator = new DbKeyGenerator(partitionId, zeebeDb, transactionContext);
 
     variableState = new DbVariableState(zeebeDb, transactionContext, keyGenerator);
-    workflowState = new DbWorkflowState(zeebeDb, transactionContext);
+    workflowState =
+        new DbWorkflowState(partitionId, zeebeDb, transactionContext, workflowCacheCapacity);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
@@ -181,6 +191,12 @@ public class ZeebeDbState implements ZeebeState {
     return eventScopeInstanceState;
   }
 
+  @Override
+  public void clearCaches() {
+    variableState.clearCache();
+    elementInstanceState.clearCache();
+  }
+
   @Override
   public boolean isEmpty(final ZbColumnFamilies column) {
     final var newContext = zeebeDb.createContext();
@@ -58,6 +58,12 @@ public interface ZeebeState {
 
   boolean isEmpty(final ZbColumnFamilies column);
 
+  /**
+   * Clears the caches of the states. Must be called if a transaction is rolled back, since the
+   * caches may contain changes of this transaction.
+   */
+  void clearCaches();
+
   /**
    * Iterates over all entries for a given column family and presents each entry to the consumer.
    *
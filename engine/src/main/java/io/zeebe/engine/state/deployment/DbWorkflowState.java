@@ -15,6 +15,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
 import io.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.zeebe.engine.processing.deployment.model.element.ExecutableWorkflow;
@@ -27,8 +28,8 @@ import io.zeebe.model.bpmn.BpmnModelInstance;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.WorkflowRecord;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,13 +41,23 @@ import org.agrona.io.DirectBufferInputStream;
 
 public final class DbWorkflowState implements MutableWorkflowState {
 
+  /** The maximum number of workflows which are kept in memory per partition. */
+  public static final int DEFAULT_CACHE_CAPACITY = 1_000;
+
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
 
+  // the in-memory state is a cache of the persisted workflows, the least recently used workflows
+  // are evicted if it exceeds the capacity and are transformed again on the next access
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
       workflowsByProcessIdAndVersion = new HashMap<>();
-  private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
+  private final Long2ObjectHashMap<CachedWorkflow> workflowsByKey = new Long2ObjectHashMap<>();
+  // the access order of the cached workflows, from the least to the most recently used one
+  private CachedWorkflow leastRecentlyUsed;
+  private CachedWorkflow mostRecentlyUsed;
+  private final int cacheCapacity;
+  private final WorkflowCacheMetrics metrics;
 
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
@@ -66,7 +77,20 @@ public final class DbWorkflowState implements MutableWorkflowState {
   private final NextValueManager versionManager;
 
   public DbWorkflowState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext) {
+    this(partitionId, zeebeDb, transactionContext, DEFAULT_CACHE_CAPACITY);
+  }
+
+  public DbWorkflowState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int cacheCapacity) {
+    this.cacheCapacity = cacheCapacity;
+    metrics = new WorkflowCacheMetrics(partitionId);
+
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -87,8 +111,6 @@ public final class DbWorkflowState implements MutableWorkflowState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.WORKFLOW_CACHE_DIGEST_BY_ID, transactionContext, workflowId, digest);
 
-    workflowsByKey = new Long2ObjectHashMap<>();
-
     versionManager =
         new NextValueManager(
             DEFAULT_VERSION_VALUE, zeebeDb, transactionContext, ZbColumnFamilies.WORKFLOW_VERSION);
@@ -157,6 +179,7 @@ public final class DbWorkflowState implements MutableWorkflowState {
         new DeployedWorkflow(executableWorkflow, copiedWorkflow);
 
     addWorkflowToInMemoryState(deployedWorkflow);
+    evictLeastRecentlyUsedWorkflows();
 
     return deployedWorkflow;
   }
@@ -169,7 +192,13 @@ public final class DbWorkflowState implements MutableWorkflowState {
 
   private void addWorkflowToInMemoryState(final DeployedWorkflow deployedWorkflow) {
     final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
-    workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
+    final CachedWorkflow cachedWorkflow = new CachedWorkflow(deployedWorkflow);
+    final CachedWorkflow replacedWorkflow =
+        workflowsByKey.put(deployedWorkflow.getKey(), cachedWorkflow);
+    if (replacedWorkflow != null) {
+      unlink(replacedWorkflow);
+    }
+    linkAsMostRecentlyUsed(cachedWorkflow);
 
     final Long2ObjectHashMap<DeployedWorkflow> versionMap =
         workflowsByProcessIdAndVersion.computeIfAbsent(
@@ -179,6 +208,81 @@ public final class DbWorkflowState implements MutableWorkflowState {
     versionMap.put(version, deployedWorkflow);
   }
 
+  private void evictLeastRecentlyUsedWorkflows() {
+    while (workflowsByKey.size() > cacheCapacity && leastRecentlyUsed != null) {
+      final DeployedWorkflow evictedWorkflow = leastRecentlyUsed.workflow;
+      workflowsByKey.remove(evictedWorkflow.getKey());
+      unlink(leastRecentlyUsed);
+
+      final DirectBuffer bpmnProcessId = evictedWorkflow.getBpmnProcessId();
+      final Long2ObjectHashMap<DeployedWorkflow> versionMap =
+          workflowsByProcessIdAndVersion.get(bpmnProcessId);
+      if (versionMap != null) {
+        versionMap.remove(evictedWorkflow.getVersion());
+        if (versionMap.isEmpty()) {
+          workflowsByProcessIdAndVersion.remove(bpmnProcessId);
+        }
+      }
+
+      metrics.workflowEvicted();
+    }
+
+    metrics.setCacheSize(workflowsByKey.size());
+  }
+
+  /** Returns the cached workflow and marks it as recently used, or null if it is not cached. */
+  private DeployedWorkflow getCachedWorkflow(final long key) {
+    final CachedWorkflow cachedWorkflow = workflowsByKey.get(key);
+    if (cachedWorkflow == null) {
+      return null;
+    }
+
+    if (cachedWorkflow != mostRecentlyUsed) {
+      unlink(cachedWorkflow);
+      linkAsMostRecentlyUsed(cachedWorkflow);
+    }
+    return cachedWorkflow.workflow;
+  }
+
+  private void linkAsMostRecentlyUsed(final CachedWorkflow cachedWorkflow) {
+    cachedWorkflow.previous = mostRecentlyUsed;
+    cachedWorkflow.next = null;
+    if (mostRecentlyUsed != null) {
+      mostRecentlyUsed.next = cachedWorkflow;
+    } else {
+      leastRecentlyUsed = cachedWorkflow;
+    }
+    mostRecentlyUsed = cachedWorkflow;
+  }
+
+  private void unlink(final CachedWorkflow cachedWorkflow) {
+    if (cachedWorkflow.previous != null) {
+      cachedWorkflow.previous.next = cachedWorkflow.next;
+    } else {
+      leastRecentlyUsed = cachedWorkflow.next;
+    }
+    if (cachedWorkflow.next != null) {
+      cachedWorkflow.next.previous = cachedWorkflow.previous;
+    } else {
+      mostRecentlyUsed = cachedWorkflow.previous;
+    }
+    cachedWorkflow.previous = null;
+    cachedWorkflow.next = null;
+  }
+
+  /** Returns the cached workflow and marks it as recently used, or null if it is not cached. */
+  private DeployedWorkflow getCachedWorkflow(
+      final Long2ObjectHashMap<DeployedWorkflow> versionMap, final long version) {
+    final DeployedWorkflow deployedWorkflow = versionMap != null ? versionMap.get(version) : null;
+    if (deployedWorkflow != null) {
+      getCachedWorkflow(deployedWorkflow.getKey());
+      metrics.cacheHit();
+    } else {
+      metrics.cacheMiss();
+    }
+    return deployedWorkflow;
+  }
+
   @Override
   public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
     final Long2ObjectHashMap<DeployedWorkflow> versionMap =
@@ -187,16 +291,10 @@ public final class DbWorkflowState implements MutableWorkflowState {
     workflowId.wrapBuffer(processId);
     final long latestVersion = versionManager.getCurrentValue(processId);
 
-    DeployedWorkflow deployedWorkflow;
-    if (versionMap == null) {
-      deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedWorkflow = versionMap.get(latestVersion);
-      if (deployedWorkflow == null) {
-        deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-      }
-    }
-    return deployedWorkflow;
+    final DeployedWorkflow deployedWorkflow = getCachedWorkflow(versionMap, latestVersion);
+    return deployedWorkflow != null
+        ? deployedWorkflow
+        : lookupWorkflowByIdAndPersistedVersion(latestVersion);
   }
 
   private DeployedWorkflow lookupWorkflowByIdAndPersistedVersion(final long latestVersion) {
@@ -217,14 +315,8 @@ public final class DbWorkflowState implements MutableWorkflowState {
     final Long2ObjectHashMap<DeployedWorkflow> versionMap =
         workflowsByProcessIdAndVersion.get(processId);
 
-    if (versionMap != null) {
-      final DeployedWorkflow deployedWorkflow = versionMap.get(version);
-      return deployedWorkflow != null
-          ? deployedWorkflow
-          : lookupPersistenceState(processId, version);
-    } else {
-      return lookupPersistenceState(processId, version);
-    }
+    final DeployedWorkflow deployedWorkflow = getCachedWorkflow(versionMap, version);
+    return deployedWorkflow != null ? deployedWorkflow : lookupPersistenceState(processId, version);
   }
 
   private DeployedWorkflow lookupPersistenceState(final DirectBuffer processId, final int version) {
@@ -235,14 +327,7 @@ public final class DbWorkflowState implements MutableWorkflowState {
         workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (workflowWithVersionAndId != null) {
-      updateInMemoryState(workflowWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(workflowWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -250,11 +335,13 @@ public final class DbWorkflowState implements MutableWorkflowState {
 
   @Override
   public DeployedWorkflow getWorkflowByKey(final long key) {
-    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
+    final DeployedWorkflow deployedWorkflow = getCachedWorkflow(key);
 
     if (deployedWorkflow != null) {
+      metrics.cacheHit();
       return deployedWorkflow;
     } else {
+      metrics.cacheMiss();
       return lookupPersistenceStateForWorkflowByKey(key);
     }
   }
@@ -264,9 +351,7 @@ public final class DbWorkflowState implements MutableWorkflowState {
 
     final PersistedWorkflow workflowWithKey = workflowColumnFamily.get(this.workflowKey);
     if (workflowWithKey != null) {
-      updateInMemoryState(workflowWithKey);
-
-      return workflowsByKey.get(workflowKey);
+      return updateInMemoryState(workflowWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -274,26 +359,27 @@ public final class DbWorkflowState implements MutableWorkflowState {
 
   @Override
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach(workflow -> workflows.add(getOrLoadWorkflow(workflow)));
+    return workflows;
   }
 
   @Override
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach(
+        workflow -> {
+          if (BufferUtil.equals(workflow.getBpmnProcessId(), bpmnProcessId)) {
+            workflows.add(getOrLoadWorkflow(workflow));
+          }
+        });
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach(this::updateInMemoryState);
+  private DeployedWorkflow getOrLoadWorkflow(final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = getCachedWorkflow(persistedWorkflow.getKey());
+    return deployedWorkflow != null ? deployedWorkflow : updateInMemoryState(persistedWorkflow);
   }
 
   @Override
@@ -338,4 +424,15 @@ public final class DbWorkflowState implements MutableWorkflowState {
 
     return element;
   }
+
+  /** An entry of the workflow cache, which is linked to its neighbours in the access order. */
+  private static final class CachedWorkflow {
+    private final DeployedWorkflow workflow;
+    private CachedWorkflow previous;
+    private CachedWorkflow next;
+
+    private CachedWorkflow(final DeployedWorkflow workflow) {
+      this.workflow = workflow;
+    }
+  }
 }
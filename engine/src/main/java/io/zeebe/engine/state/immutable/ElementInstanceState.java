@@ -12,6 +12,7 @@ import io.zeebe.engine.state.instance.ElementInstance;
 import io.zeebe.engine.state.instance.IndexedRecord;
 import io.zeebe.engine.state.instance.StoredRecord;
 import java.util.List;
+import org.agrona.DirectBuffer;
 
 public interface ElementInstanceState {
 
@@ -21,9 +22,26 @@ public interface ElementInstanceState {
 
   List<ElementInstance> getChildren(long parentKey);
 
+  /**
+   * Visits the child instances of the given element instance in the order of their keys, without
+   * collecting them first. Each visited instance is a copy, and the visitor may modify the state.
+   *
+   * @param parentKey the key of the element instance
+   * @param visitor the visitor which is called for each child instance, until it returns {@code
+   *     false}
+   */
+  void visitChildren(long parentKey, ElementInstanceVisitor visitor);
+
   List<IndexedRecord> getDeferredRecords(long scopeKey);
 
   IndexedRecord getFailedRecord(long key);
 
   AwaitWorkflowInstanceResultMetadata getAwaitResultRequestMetadata(long workflowInstanceKey);
+
+  DirectBuffer getMultiInstanceInputCollection(long multiInstanceBodyKey);
+
+  @FunctionalInterface
+  interface ElementInstanceVisitor {
+    boolean visit(ElementInstance instance);
+  }
 }
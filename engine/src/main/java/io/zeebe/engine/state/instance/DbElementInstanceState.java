@@ -23,6 +23,8 @@ import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class DbElementInstanceState implements MutableElementInstanceState {
@@ -50,14 +52,29 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   private final ColumnFamily<DbLong, AwaitWorkflowInstanceResultMetadata>
       awaitWorkflowInstanceResultMetadataColumnFamily;
 
+  // (multi-instance body key) => (evaluated input collection)
+  private final MultiInstanceInputCollection inputCollection;
+  private final ColumnFamily<DbLong, MultiInstanceInputCollection> inputCollectionColumnFamily;
+
   private final MutableVariableState variableState;
 
+  private final ElementInstanceCache cache;
+
   public DbElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final MutableVariableState variableState) {
+    this(zeebeDb, transactionContext, variableState, ElementInstanceCache.DEFAULT_CAPACITY);
+  }
+
+  public DbElementInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final MutableVariableState variableState,
+      final int cacheCapacity) {
 
     this.variableState = variableState;
+    cache = new ElementInstanceCache(cacheCapacity);
 
     elementInstanceKey = new DbLong();
     parentKey = new DbLong();
@@ -101,6 +118,14 @@ public final class DbElementInstanceState implements MutableElementInstanceState
             transactionContext,
             elementInstanceKey,
             awaitResultMetadata);
+
+    inputCollection = new MultiInstanceInputCollection();
+    inputCollectionColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MULTI_INSTANCE_INPUT_COLLECTION,
+            transactionContext,
+            elementInstanceKey,
+            inputCollection);
   }
 
   @Override
@@ -124,6 +149,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
       updateInstance(parent);
     }
     updateInstance(instance);
+    cache.putNewInstance(key);
 
     return instance;
   }
@@ -149,8 +175,11 @@ public final class DbElementInstanceState implements MutableElementInstanceState
       variableState.removeScope(key);
 
       awaitWorkflowInstanceResultMetadataColumnFamily.delete(elementInstanceKey);
+      inputCollectionColumnFamily.delete(elementInstanceKey);
 
       final long parentKey = instance.getParentKey();
+      cache.removeInstance(key, parentKey);
+
       if (parentKey > 0) {
         final ElementInstance parentInstance = getInstance(parentKey);
         if (parentInstance == null) {
@@ -226,19 +255,45 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   }
 
   private void writeElementInstance(final ElementInstance instance) {
-    elementInstanceKey.wrapLong(instance.getKey());
-    parentKey.wrapLong(instance.getParentKey());
+    final long key = instance.getKey();
+    final long parentKey = instance.getParentKey();
+    elementInstanceKey.wrapLong(key);
+    this.parentKey.wrapLong(parentKey);
 
     elementInstanceColumnFamily.put(elementInstanceKey, instance);
-    parentChildColumnFamily.put(parentChildKey, DbNil.INSTANCE);
-    variableState.createScope(elementInstanceKey.getValue(), parentKey.getValue());
+    cache.putInstance(instance);
+
+    // the relation to the parent doesn't change, so it's only written when the instance is created
+    if (!cache.hasChildKey(parentKey, key)) {
+      parentChildColumnFamily.put(parentChildKey, DbNil.INSTANCE);
+      variableState.createScope(key, parentKey);
+      cache.addChildKey(parentKey, key);
+    }
+  }
+
+  @Override
+  public void setMultiInstanceInputCollection(
+      final long multiInstanceBodyKey, final DirectBuffer inputCollection) {
+    elementInstanceKey.wrapLong(multiInstanceBodyKey);
+    this.inputCollection.set(inputCollection);
+    inputCollectionColumnFamily.put(elementInstanceKey, this.inputCollection);
   }
 
   @Override
   public ElementInstance getInstance(final long key) {
+    final ElementInstance cachedInstance = cache.getInstance(key);
+    if (cachedInstance != null) {
+      return cachedInstance;
+    }
+
     elementInstanceKey.wrapLong(key);
     final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
-    return copyElementInstance(elementInstance);
+    if (elementInstance == null) {
+      return null;
+    }
+
+    cache.putInstance(elementInstance);
+    return cache.getInstance(key);
   }
 
   @Override
@@ -250,21 +305,48 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   @Override
   public List<ElementInstance> getChildren(final long parentKey) {
     final List<ElementInstance> children = new ArrayList<>();
+    visitChildren(parentKey, children::add);
+    return children;
+  }
+
+  @Override
+  public void visitChildren(final long parentKey, final ElementInstanceVisitor visitor) {
     final ElementInstance parentInstance = getInstance(parentKey);
-    if (parentInstance != null) {
-      this.parentKey.wrapLong(parentKey);
+    if (parentInstance == null) {
+      return;
+    }
 
-      parentChildColumnFamily.whileEqualPrefix(
-          this.parentKey,
-          (key, value) -> {
-            final DbLong childKey = key.getSecond();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
+    // the child keys are collected first, so that the visitor can modify the state
+    final long[] childKeys = getChildKeys(parentKey);
+    for (final long childKey : childKeys) {
+      final ElementInstance childInstance = getInstance(childKey);
+      if (childInstance != null && !visitor.visit(childInstance)) {
+        return;
+      }
+    }
+  }
 
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
-          });
+  private long[] getChildKeys(final long parentKey) {
+    final long[] cachedChildKeys = cache.getChildKeys(parentKey);
+    if (cachedChildKeys != null) {
+      return cachedChildKeys;
     }
-    return children;
+
+    final LongHashSet childKeys = new LongHashSet();
+    this.parentKey.wrapLong(parentKey);
+    parentChildColumnFamily.whileEqualPrefix(
+        this.parentKey,
+        (key, value) -> {
+          childKeys.add(key.getSecond().getValue());
+        });
+
+    cache.putChildKeys(parentKey, childKeys);
+    return cache.getChildKeys(parentKey);
+  }
+
+  @Override
+  public void clearCache() {
+    cache.clear();
   }
 
   @Override
@@ -289,6 +371,13 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     return awaitWorkflowInstanceResultMetadataColumnFamily.get(elementInstanceKey);
   }
 
+  @Override
+  public DirectBuffer getMultiInstanceInputCollection(final long multiInstanceBodyKey) {
+    elementInstanceKey.wrapLong(multiInstanceBodyKey);
+    final var inputCollection = inputCollectionColumnFamily.get(elementInstanceKey);
+    return inputCollection != null ? inputCollection.get() : null;
+  }
+
   private void setRecordKeys(final long scopeKey, final long recordKey, final Purpose purpose) {
     recordParentKey.wrapLong(scopeKey);
     stateKey.wrapByte((byte) purpose.ordinal());
@@ -336,19 +425,6 @@ public final class DbElementInstanceState implements MutableElementInstanceState
         });
   }
 
-  private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
-    if (elementInstance != null) {
-      final byte[] bytes = new byte[elementInstance.getLength()];
-      final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
-
-      elementInstance.write(buffer, 0);
-      final ElementInstance copiedElementInstance = new ElementInstance();
-      copiedElementInstance.wrap(buffer, 0, elementInstance.getLength());
-      return copiedElementInstance;
-    }
-    return null;
-  }
-
   @FunctionalInterface
   public interface RecordVisitor {
 
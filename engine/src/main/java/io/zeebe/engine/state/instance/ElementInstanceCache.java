@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import java.util.Arrays;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the element instances which were recently read or written, and the keys of their child
+ * instances, to avoid reading them from the state again while a workflow instance is active.
+ *
+ * <p>The instances are kept in their serialized form, so a cached instance is a single byte array
+ * which is never modified, and each read creates a new instance from it. The cache is written
+ * through: every change is written to the state as well as to the cache. The child keys of an
+ * instance are only cached if they are complete, i.e. if the instance was created or its children
+ * were read from the state. Both caches are cleared if they exceed the capacity.
+ */
+final class ElementInstanceCache {
+
+  static final int DEFAULT_CAPACITY = 10_000;
+
+  private final int capacity;
+  private final Long2ObjectHashMap<byte[]> instances = new Long2ObjectHashMap<>();
+  private final Long2ObjectHashMap<LongHashSet> childKeysByParent = new Long2ObjectHashMap<>();
+  private int childKeyCount;
+
+  ElementInstanceCache(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /** @return a new copy of the cached instance, or {@code null} if it is not cached */
+  ElementInstance getInstance(final long key) {
+    final byte[] bytes = instances.get(key);
+    if (bytes == null) {
+      return null;
+    }
+
+    final ElementInstance instance = new ElementInstance();
+    instance.wrap(new UnsafeBuffer(bytes), 0, bytes.length);
+    return instance;
+  }
+
+  void putInstance(final ElementInstance instance) {
+    if (instances.size() >= capacity) {
+      instances.clear();
+    }
+
+    final byte[] bytes = new byte[instance.getLength()];
+    instance.write(new UnsafeBuffer(bytes), 0);
+    instances.put(instance.getKey(), bytes);
+  }
+
+  /** Registers a new instance, which doesn't have any child instances yet. */
+  void putNewInstance(final long key) {
+    putChildKeys(key, new LongHashSet());
+  }
+
+  /**
+   * @return the keys of the child instances in ascending order, or {@code null} if they are not
+   *     cached
+   */
+  long[] getChildKeys(final long parentKey) {
+    final LongHashSet childKeys = childKeysByParent.get(parentKey);
+    if (childKeys == null) {
+      return null;
+    }
+
+    final long[] keys = new long[childKeys.size()];
+    int index = 0;
+    final LongHashSet.LongIterator iterator = childKeys.iterator();
+    while (iterator.hasNext()) {
+      keys[index++] = iterator.nextValue();
+    }
+    // keep the order of the state, which iterates the children by key
+    Arrays.sort(keys);
+    return keys;
+  }
+
+  /** Caches the complete set of the child keys of the given instance. */
+  void putChildKeys(final long parentKey, final LongHashSet childKeys) {
+    if (childKeyCount + childKeys.size() >= capacity) {
+      clearChildKeys();
+    }
+
+    final LongHashSet previousChildKeys = childKeysByParent.put(parentKey, childKeys);
+    if (previousChildKeys != null) {
+      childKeyCount -= previousChildKeys.size();
+    }
+    childKeyCount += childKeys.size();
+  }
+
+  /**
+   * @return {@code true} if the given instance is cached as child of the given parent, which means
+   *     that it is stored as child in the state
+   */
+  boolean hasChildKey(final long parentKey, final long childKey) {
+    final LongHashSet childKeys = childKeysByParent.get(parentKey);
+    return childKeys != null && childKeys.contains(childKey);
+  }
+
+  void addChildKey(final long parentKey, final long childKey) {
+    final LongHashSet childKeys = childKeysByParent.get(parentKey);
+    if (childKeys != null && childKeys.add(childKey)) {
+      childKeyCount += 1;
+    }
+  }
+
+  void removeInstance(final long key, final long parentKey) {
+    instances.remove(key);
+
+    final LongHashSet childKeys = childKeysByParent.remove(key);
+    if (childKeys != null) {
+      childKeyCount -= childKeys.size();
+    }
+
+    final LongHashSet siblingKeys = childKeysByParent.get(parentKey);
+    if (siblingKeys != null && siblingKeys.remove(key)) {
+      childKeyCount -= 1;
+    }
+  }
+
+  void clear() {
+    instances.clear();
+    clearChildKeys();
+  }
+
+  private void clearChildKeys() {
+    childKeysByParent.clear();
+    childKeyCount = 0;
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import io.zeebe.db.DbValue;
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.BinaryProperty;
+import org.agrona.DirectBuffer;
+
+public final class MultiInstanceInputCollection extends UnpackedObject implements DbValue {
+  private final BinaryProperty inputCollectionProp = new BinaryProperty("inputCollection");
+
+  public MultiInstanceInputCollection() {
+    declareProperty(inputCollectionProp);
+  }
+
+  public DirectBuffer get() {
+    return inputCollectionProp.getValue();
+  }
+
+  public void set(final DirectBuffer inputCollection) {
+    inputCollectionProp.setValue(inputCollection);
+  }
+}
@@ -14,6 +14,7 @@ import io.zeebe.engine.state.instance.StoredRecord.Purpose;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
 
 public interface MutableElementInstanceState extends ElementInstanceState {
 
@@ -43,4 +44,12 @@ public interface MutableElementInstanceState extends ElementInstanceState {
 
   void setAwaitResultRequestMetadata(
       long workflowInstanceKey, AwaitWorkflowInstanceResultMetadata metadata);
+
+  void setMultiInstanceInputCollection(long multiInstanceBodyKey, DirectBuffer inputCollection);
+
+  /**
+   * Clears the cached element instances. Must be called if a transaction is rolled back, since the
+   * cache may contain changes of this transaction.
+   */
+  void clearCache();
 }
@@ -41,4 +41,10 @@ public interface MutableVariableState extends VariableState {
   void setTemporaryVariables(long scopeKey, DirectBuffer variables);
 
   void removeTemporaryVariables(long scopeKey);
+
+  /**
+   * Clears the cached scope hierarchy and variable lookups. Must be called if a transaction is
+   * rolled back, since the cache may contain changes of this transaction.
+   */
+  void clearCache();
 }
@@ -63,13 +63,24 @@ public class DbVariableState implements MutableVariableState {
   // setting variables
   private final KeyGenerator keyGenerator;
 
+  private final VariableResolutionCache resolutionCache;
+
   private VariableListener listener;
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final KeyGenerator keyGenerator) {
+    this(zeebeDb, transactionContext, keyGenerator, VariableResolutionCache.DEFAULT_CAPACITY);
+  }
+
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final KeyGenerator keyGenerator,
+      final int cacheCapacity) {
     this.keyGenerator = keyGenerator;
+    resolutionCache = new VariableResolutionCache(cacheCapacity);
 
     childKey = new DbLong();
     childParentColumnFamily =
@@ -138,6 +149,8 @@ public class DbVariableState implements MutableVariableState {
     if (currentVariable == null) {
       newVariable.setKey(keyGenerator.nextKey());
       variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+      // the variable may hide a variable with the same name in a parent scope
+      resolutionCache.removeResolvedScopes(name, nameOffset, nameLength);
 
       if (listener != null) {
         final long rootScopeKey = getRootScopeKey(scopeKey);
@@ -173,6 +186,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.put(this.childKey, this.parentKey);
+    resolutionCache.putParentScope(childKey, parentKey);
   }
 
   @Override
@@ -183,6 +197,7 @@ public class DbVariableState implements MutableVariableState {
 
     childKey.wrapLong(scopeKey);
     childParentColumnFamily.delete(childKey);
+    resolutionCache.removeScope(scopeKey);
   }
 
   @Override
@@ -245,12 +260,24 @@ public class DbVariableState implements MutableVariableState {
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
 
+    final long resolvedScopeKey =
+        resolutionCache.getResolvedScope(scopeKey, name, nameOffset, nameLength);
+    if (resolvedScopeKey != VariableResolutionCache.MISSING_SCOPE) {
+      final VariableInstance variable =
+          getVariableLocal(resolvedScopeKey, name, nameOffset, nameLength);
+
+      if (variable != null) {
+        return variable.getValue();
+      }
+    }
+
     long currentScopeKey = scopeKey;
     do {
       final VariableInstance variable =
           getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
       if (variable != null) {
+        resolutionCache.putResolvedScope(scopeKey, name, nameOffset, nameLength, currentScopeKey);
         return variable.getValue();
       }
 
@@ -300,16 +327,26 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+    // look up the requested variables directly instead of iterating over all variables of each
+    // scope, since usually only a few of them are requested
+    long currentScope = scopeKey;
+    do {
+      for (final DirectBuffer name : names) {
+        if (variablesToCollect.contains(name)) {
+          final VariableInstance variable =
+              getVariableLocal(currentScope, name, 0, name.capacity());
 
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+          if (variable != null) {
+            writer.writeString(name);
+            writer.writeRaw(variable.getValue());
+
+            variablesToCollect.remove(name);
+          }
+        }
+      }
+
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -371,10 +408,25 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    final long cachedParentScopeKey = resolutionCache.getParentScope(childScopeKey);
+    if (cachedParentScopeKey != VariableResolutionCache.MISSING_SCOPE) {
+      return cachedParentScopeKey;
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    if (parentScopeKey == null) {
+      return NO_PARENT;
+    }
+
+    resolutionCache.putParentScope(childScopeKey, parentScopeKey.get());
+    return parentScopeKey.get();
+  }
+
+  @Override
+  public void clearCache() {
+    resolutionCache.clear();
   }
 
   private boolean hasVariableLocal(final long scopeKey, final DirectBuffer name) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.variable;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the parent of the variable scopes and the scope in which a variable is found when looking
+ * it up from a given scope, to avoid walking up the scope hierarchy in the state on every lookup.
+ *
+ * <p>The parent of a scope doesn't change while the scope exists, so it and the resolved scopes
+ * starting from this scope are kept until the scope is removed. A resolved scope is only a hint:
+ * the variable must still be read from the resolved scope, and the hints of a variable name are
+ * dropped if a variable with this name is created in any scope. Both caches are cleared if they
+ * exceed the capacity.
+ */
+final class VariableResolutionCache {
+
+  static final int DEFAULT_CAPACITY = 10_000;
+  static final long MISSING_SCOPE = Long.MIN_VALUE;
+
+  private final int capacity;
+  private final Long2LongHashMap parentScopes = new Long2LongHashMap(MISSING_SCOPE);
+  private final Object2ObjectHashMap<DirectBuffer, Long2LongHashMap> resolvedScopesByName =
+      new Object2ObjectHashMap<>();
+  private final UnsafeBuffer nameView = new UnsafeBuffer(0, 0);
+  private int resolvedScopeCount;
+
+  VariableResolutionCache(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /** @return the parent of the given scope, or {@link #MISSING_SCOPE} if it is not cached */
+  long getParentScope(final long scopeKey) {
+    return parentScopes.get(scopeKey);
+  }
+
+  void putParentScope(final long scopeKey, final long parentScopeKey) {
+    if (parentScopes.size() >= capacity) {
+      parentScopes.clear();
+    }
+    parentScopes.put(scopeKey, parentScopeKey);
+  }
+
+  /** Drops the parent and the resolved scopes of the given scope, since its key may be reused. */
+  void removeScope(final long scopeKey) {
+    parentScopes.remove(scopeKey);
+
+    if (resolvedScopeCount > 0) {
+      for (final Long2LongHashMap resolvedScopes : resolvedScopesByName.values()) {
+        if (resolvedScopes.remove(scopeKey) != MISSING_SCOPE) {
+          resolvedScopeCount -= 1;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the scope in which the variable was found when looking it up from the given scope, or
+   *     {@link #MISSING_SCOPE} if it is not cached
+   */
+  long getResolvedScope(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    nameView.wrap(name, nameOffset, nameLength);
+    final Long2LongHashMap resolvedScopes = resolvedScopesByName.get(nameView);
+    return resolvedScopes != null ? resolvedScopes.get(scopeKey) : MISSING_SCOPE;
+  }
+
+  void putResolvedScope(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final long resolvedScopeKey) {
+    if (resolvedScopeCount >= capacity) {
+      clearResolvedScopes();
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    Long2LongHashMap resolvedScopes = resolvedScopesByName.get(nameView);
+    if (resolvedScopes == null) {
+      final UnsafeBuffer nameCopy = new UnsafeBuffer(new byte[nameLength]);
+      nameCopy.putBytes(0, name, nameOffset, nameLength);
+
+      resolvedScopes = new Long2LongHashMap(MISSING_SCOPE);
+      resolvedScopesByName.put(nameCopy, resolvedScopes);
+    }
+
+    if (resolvedScopes.put(scopeKey, resolvedScopeKey) == MISSING_SCOPE) {
+      resolvedScopeCount += 1;
+    }
+  }
+
+  /** Drops the resolved scopes of the given variable name, e.g. if the variable is created. */
+  void removeResolvedScopes(final DirectBuffer name, final int nameOffset, final int nameLength) {
+    nameView.wrap(name, nameOffset, nameLength);
+    final Long2LongHashMap resolvedScopes = resolvedScopesByName.remove(nameView);
+    if (resolvedScopes != null) {
+      resolvedScopeCount -= resolvedScopes.size();
+    }
+  }
+
+  void clear() {
+    parentScopes.clear();
+    clearResolvedScopes();
+  }
+
+  private void clearResolvedScopes() {
+    resolvedScopesByName.clear();
+    resolvedScopeCount = 0;
+  }
+}
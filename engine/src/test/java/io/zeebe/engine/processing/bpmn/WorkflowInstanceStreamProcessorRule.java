@@ -119,7 +119,8 @@ public final class WorkflowInstanceStreamProcessorRule extends ExternalResource
               new CatchEventBehavior(
                   zeebeState, expressionProcessor, mockSubscriptionCommandSender, 1),
               new DueDateTimerChecker(zeebeState.getTimerState()),
-              processingContext.getWriters());
+              processingContext.getWriters(),
+              processingContext.getMaxFragmentSize());
 
           JobEventProcessors.addJobProcessors(
               typedRecordProcessors, zeebeState, type -> {}, Integer.MAX_VALUE);
@@ -18,8 +18,11 @@ import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.zeebe.protocol.record.intent.TimerIntent;
+import io.zeebe.protocol.record.intent.VariableIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
 import io.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.zeebe.protocol.record.value.WorkflowInstanceRecordValue;
 import io.zeebe.test.util.record.RecordingExporter;
 import io.zeebe.test.util.record.RecordingExporterTestWatcher;
 import java.time.Duration;
@@ -27,6 +30,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
@@ -144,6 +148,55 @@ public final class MultiInstanceSubProcessTest {
             tuple("sub-process-end", WorkflowInstanceIntent.ELEMENT_COMPLETED));
   }
 
+  @Test
+  public void shouldCompleteAllSubProcessesOfLargeInputCollection() {
+    // given
+    ENGINE.deployment().withXmlResource(EMPTY_SUB_PROCESS).deploy();
+
+    // the inner instances don't fit into one batch of records
+    final var inputCollection = IntStream.range(0, 5_000).boxed().collect(Collectors.toList());
+
+    // when
+    final long workflowInstanceKey =
+        ENGINE
+            .workflowInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION, inputCollection)
+            .create();
+
+    // then
+    final List<Record<WorkflowInstanceRecordValue>> completedSubProcesses =
+        RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+            .withWorkflowInstanceKey(workflowInstanceKey)
+            .limitToWorkflowInstanceCompleted()
+            .withElementId(SUB_PROCESS_ELEMENT_ID)
+            .asList();
+
+    assertThat(completedSubProcesses)
+        .hasSize(inputCollection.size() + 1)
+        .extracting(r -> r.getValue().getBpmnElementType())
+        .last()
+        .isEqualTo(BpmnElementType.MULTI_INSTANCE_BODY);
+
+    // the body is activated once and continues its activation for every following batch
+    assertThat(
+            RecordingExporter.workflowInstanceRecords()
+                .withWorkflowInstanceKey(workflowInstanceKey)
+                .limitToWorkflowInstanceCompleted()
+                .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+                .map(Record::getIntent))
+        .containsOnlyOnce(WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+        .contains(WorkflowInstanceIntent.CONTINUE_ELEMENT_ACTIVATION);
+
+    assertThat(
+            RecordingExporter.variableRecords(VariableIntent.CREATED)
+                .withWorkflowInstanceKey(workflowInstanceKey)
+                .withName(INPUT_ELEMENT)
+                .limit(inputCollection.size()))
+        .extracting(r -> Integer.parseInt(r.getValue().getValue()))
+        .containsExactlyElementsOf(inputCollection);
+  }
+
   @Test
   public void shouldCancelSubProcessOnTermination() {
     // given
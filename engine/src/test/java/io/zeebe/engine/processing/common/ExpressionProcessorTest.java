@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.common;
+
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.el.ExpressionLanguage;
+import io.zeebe.el.ExpressionLanguageFactory;
+import io.zeebe.engine.state.mutable.MutableVariableState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExpressionProcessorTest {
+
+  private static final long WORKFLOW_KEY = 123;
+  private static final long PARENT_SCOPE_KEY = 1;
+  private static final long CHILD_SCOPE_KEY = 2;
+
+  @Rule public final ZeebeStateRule zeebeStateRule = new ZeebeStateRule();
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage();
+
+  private MutableVariableState variableState;
+  private ExpressionProcessor expressionProcessor;
+
+  @Before
+  public void setUp() {
+    variableState = zeebeStateRule.getZeebeState().getVariableState();
+    variableState.createScope(PARENT_SCOPE_KEY, -1);
+    variableState.createScope(CHILD_SCOPE_KEY, PARENT_SCOPE_KEY);
+
+    expressionProcessor = new ExpressionProcessor(expressionLanguage, variableState::getVariable);
+  }
+
+  @Test
+  public void shouldEvaluateExpressionWithVariablesOfDifferentScopes() {
+    // given
+    setVariable(PARENT_SCOPE_KEY, "x", "1");
+    setVariable(PARENT_SCOPE_KEY, "y", "2");
+    setVariable(CHILD_SCOPE_KEY, "x", "10");
+
+    // when
+    final var result =
+        expressionProcessor.evaluateLongExpression(
+            expressionLanguage.parseExpression("=x + y"), CHILD_SCOPE_KEY);
+
+    // then
+    assertThat(result.get()).isEqualTo(12L);
+  }
+
+  @Test
+  public void shouldEvaluateExpressionWithMissingVariable() {
+    // given
+    setVariable(PARENT_SCOPE_KEY, "x", "1");
+
+    // when
+    final var result =
+        expressionProcessor.evaluateBooleanExpression(
+            expressionLanguage.parseExpression("=x = 1 and y = null"), CHILD_SCOPE_KEY);
+
+    // then
+    assertThat(result.get()).isTrue();
+  }
+
+  @Test
+  public void shouldEvaluateExpressionWithNestedAndLocalVariables() {
+    // given
+    setVariable(PARENT_SCOPE_KEY, "order", "{'items':[1,2,3]}");
+    setVariable(CHILD_SCOPE_KEY, "factor", "2");
+
+    // when
+    final var result =
+        expressionProcessor.evaluateArrayExpression(
+            expressionLanguage.parseExpression("=for item in order.items return item * factor"),
+            CHILD_SCOPE_KEY);
+
+    // then
+    assertThat(result.get()).containsExactly(asMsgPack("2"), asMsgPack("4"), asMsgPack("6"));
+  }
+
+  @Test
+  public void shouldEvaluateExpressionsWithChangedVariables() {
+    // given
+    setVariable(PARENT_SCOPE_KEY, "x", "1");
+    setVariable(PARENT_SCOPE_KEY, "y", "2");
+    final var expression = expressionLanguage.parseExpression("=x + y");
+    expressionProcessor.evaluateLongExpression(expression, CHILD_SCOPE_KEY);
+
+    // when
+    setVariable(CHILD_SCOPE_KEY, "y", "5");
+    final var result = expressionProcessor.evaluateLongExpression(expression, CHILD_SCOPE_KEY);
+
+    // then
+    assertThat(result.get()).isEqualTo(6L);
+  }
+
+  private void setVariable(final long scopeKey, final String name, final String value) {
+    variableState.setVariableLocal(scopeKey, WORKFLOW_KEY, wrapString(name), asMsgPack(value));
+  }
+}
@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
 import io.zeebe.engine.util.EngineRule;
+import io.zeebe.engine.util.client.DeploymentClient;
 import io.zeebe.model.bpmn.Bpmn;
 import io.zeebe.model.bpmn.BpmnModelInstance;
 import io.zeebe.model.bpmn.builder.ProcessBuilder;
@@ -642,6 +643,63 @@ public final class CreateDeploymentTest {
                 + "'INVALID_CYCLE_EXPRESSION')\n");
   }
 
+  @Test
+  public void shouldDeployMultipleResourcesInOrder() {
+    // given
+    final DeploymentClient deployment = ENGINE.deployment();
+    for (int i = 0; i < 10; i++) {
+      deployment.withXmlResource(
+          "p" + i + ".bpmn", Bpmn.createExecutableProcess("process" + i).startEvent().done());
+    }
+
+    // when
+    final Record<DeploymentRecordValue> deployed = deployment.deploy();
+
+    // then
+    final List<DeployedWorkflow> workflows = deployed.getValue().getDeployedWorkflows();
+    assertThat(workflows)
+        .extracting(DeployedWorkflow::getResourceName)
+        .containsExactly(
+            "p0.bpmn", "p1.bpmn", "p2.bpmn", "p3.bpmn", "p4.bpmn", "p5.bpmn", "p6.bpmn", "p7.bpmn",
+            "p8.bpmn", "p9.bpmn");
+    assertThat(workflows)
+        .extracting(DeployedWorkflow::getWorkflowKey)
+        .isSortedAccordingTo(Long::compare);
+  }
+
+  @Test
+  public void shouldRejectDeploymentWithMultipleInvalidResourcesInOrder() {
+    // given
+    final BpmnModelInstance validDefinition =
+        Bpmn.createExecutableProcess("process1").startEvent().done();
+    final BpmnModelInstance invalidDefinition =
+        Bpmn.createExecutableProcess("process2")
+            .startEvent("start-event-1")
+            .timerWithCycleExpression("INVALID_CYCLE_EXPRESSION")
+            .done();
+
+    // when
+    final Record<DeploymentRecordValue> deploymentRejection =
+        ENGINE
+            .deployment()
+            .withXmlResource("p1.bpmn", validDefinition)
+            .withXmlResource("not a bpmn".getBytes(UTF_8), "p2.bpmn")
+            .withXmlResource("p3.bpmn", invalidDefinition)
+            .expectRejection()
+            .deploy();
+
+    // then
+    assertThat(deploymentRejection.getRejectionReason())
+        .startsWith(
+            "Expected to deploy new resources, but encountered the following errors:\n'p2.bpmn': ")
+        .endsWith(
+            "'p3.bpmn': - Element: start-event-1\n"
+                + "    - ERROR: Invalid timer cycle expression ("
+                + "failed to evaluate expression "
+                + "'INVALID_CYCLE_EXPRESSION': no variable found for name "
+                + "'INVALID_CYCLE_EXPRESSION')\n");
+  }
+
   private DeployedWorkflow findWorkflow(
       final List<DeployedWorkflow> workflows, final String processId) {
     return workflows.stream()
@@ -93,7 +93,8 @@ public final class IncidentStreamProcessorRule extends ExternalResource {
                   new CatchEventBehavior(
                       zeebeState, expressionProcessor, mockSubscriptionCommandSender, 1),
                   mockTimerEventScheduler,
-                  processingContext.getWriters());
+                  processingContext.getWriters(),
+                  processingContext.getMaxFragmentSize());
 
           JobEventProcessors.addJobProcessors(
               typedRecordProcessors, zeebeState, type -> {}, Integer.MAX_VALUE);
@@ -371,6 +371,50 @@ public final class ActivateJobsTest {
     assertThat(jobActivated.getCustomHeaders()).isEqualTo(jobRecordValue.getCustomHeaders());
   }
 
+  @Test
+  public void shouldFetchVariablesOfEachJobInBatches() {
+    // given
+    final int jobCount = 6;
+    ENGINE.deployment().withXmlResource(PROCESS_ID, MODEL_SUPPLIER.apply(taskType)).deploy();
+    IntStream.range(0, jobCount)
+        .forEach(
+            i ->
+                ENGINE
+                    .workflowInstance()
+                    .ofBpmnProcessId(PROCESS_ID)
+                    .withVariables("{'index':" + i + ", 'text':'" + "x".repeat(i * 100) + "'}")
+                    .create());
+    waitUntil(
+        () -> jobRecords(JobIntent.CREATED).withType(taskType).limit(jobCount).count() == jobCount);
+
+    // when
+    final List<JobRecordValue> activatedJobs =
+        IntStream.range(0, 2)
+            .mapToObj(
+                i ->
+                    ENGINE
+                        .jobs()
+                        .withType(taskType)
+                        .withMaxJobsToActivate(jobCount / 2)
+                        .activate()
+                        .getValue()
+                        .getJobs())
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+
+    // then
+    assertThat(activatedJobs).hasSize(jobCount);
+    assertThat(activatedJobs)
+        .allSatisfy(
+            job -> {
+              final int index = ((Number) job.getVariables().get("index")).intValue();
+              assertThat(job.getVariables()).containsEntry("text", "x".repeat(index * 100));
+            });
+    assertThat(activatedJobs)
+        .extracting(job -> ((Number) job.getVariables().get("index")).intValue())
+        .containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5);
+  }
+
   @Test
   public void shouldLimitJobsInBatch() {
     // given
@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor;
+
+import static io.zeebe.protocol.record.intent.WorkflowInstanceIntent.ELEMENT_ACTIVATED;
+import static io.zeebe.protocol.record.intent.WorkflowInstanceIntent.ELEMENT_ACTIVATING;
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.zeebe.engine.util.StreamProcessorRule;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.ValueType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.verification.VerificationWithTimeout;
+
+public final class PipelinedReprocessingTest {
+
+  private static final VerificationWithTimeout TIMEOUT = timeout(5_000L);
+  // more records than the prefetcher can hold at once
+  private static final int RECORD_COUNT = ReprocessingPrefetcher.DEFAULT_CAPACITY * 4;
+
+  @Rule public final StreamProcessorRule streamProcessorRule = new StreamProcessorRule();
+
+  @Before
+  public void setUp() {
+    streamProcessorRule.withPipelinedReprocessing();
+  }
+
+  @Test
+  public void shouldReprocessAllRecordsInOrder() {
+    // given
+    final List<Long> positions =
+        IntStream.range(0, RECORD_COUNT)
+            .mapToObj(i -> streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, i))
+            .collect(Collectors.toList());
+    final long lastSourcePosition = positions.get(positions.size() - 1);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(
+        ELEMENT_ACTIVATED, RECORD_COUNT, lastSourcePosition);
+    awaitActivatedEvent();
+
+    final List<Long> reprocessedPositions = new CopyOnWriteArrayList<>();
+    final List<Long> reprocessedInstanceKeys = new CopyOnWriteArrayList<>();
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    doAnswer(
+            invocation -> {
+              final TypedRecord<WorkflowInstanceRecord> record = invocation.getArgument(1);
+              reprocessedPositions.add(invocation.getArgument(0));
+              reprocessedInstanceKeys.add(record.getValue().getWorkflowInstanceKey());
+              return null;
+            })
+        .when(typedRecordProcessor)
+        .processRecord(anyLong(), any(), any(), any(), any());
+
+    // when
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE, ELEMENT_ACTIVATING, typedRecordProcessor));
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT).onRecovered(any());
+    assertThat(reprocessedPositions).containsExactlyElementsOf(positions);
+    assertThat(reprocessedInstanceKeys)
+        .containsExactlyElementsOf(
+            IntStream.range(0, RECORD_COUNT)
+                .mapToObj(Long::valueOf)
+                .collect(Collectors.toCollection(ArrayList::new)));
+  }
+
+  @Test
+  public void shouldContinueProcessingAfterReprocessing() {
+    // given
+    final long position = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, position);
+    awaitActivatedEvent();
+
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE, ELEMENT_ACTIVATING, typedRecordProcessor));
+    verify(typedRecordProcessor, TIMEOUT).onRecovered(any());
+
+    // when
+    final long newPosition = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 2);
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT)
+        .processRecord(eq(newPosition), any(), any(), any(), any());
+  }
+
+  @Test
+  public void shouldStopReadingWhenClosedDuringReprocessing() {
+    // given
+    long lastSourcePosition = -1;
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      lastSourcePosition = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, i);
+    }
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(
+        ELEMENT_ACTIVATED, RECORD_COUNT, lastSourcePosition);
+    awaitActivatedEvent();
+
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    doAnswer(
+            invocation -> {
+              // slow down the reprocessing, such that it is still running on close
+              Thread.sleep(5);
+              return null;
+            })
+        .when(typedRecordProcessor)
+        .processRecord(anyLong(), any(), any(), any(), any());
+
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            (processors, context) ->
+                processors.onEvent(
+                    ValueType.WORKFLOW_INSTANCE, ELEMENT_ACTIVATING, typedRecordProcessor));
+    verify(typedRecordProcessor, TIMEOUT.atLeastOnce())
+        .processRecord(anyLong(), any(), any(), any(), any());
+
+    // when
+    streamProcessorRule.closeStreamProcessor();
+
+    // then
+    // the stream processor is only closed after the prefetcher stopped reading the log
+    assertThat(streamProcessor.isClosed()).isTrue();
+    verify(typedRecordProcessor, never()).onRecovered(any());
+  }
+
+  private void awaitActivatedEvent() {
+    waitUntil(
+        () ->
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(ELEMENT_ACTIVATED)
+                .exists());
+  }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import io.prometheus.client.CollectorRegistry;
 import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
@@ -92,6 +93,41 @@ public final class StreamProcessorReprocessingTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldReportRecoveryProgress() {
+    // given
+    final double scannedBefore = recoveryRecords("scanned");
+    final double replayedBefore = recoveryRecords("replayed");
+
+    final long position = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, position);
+    waitUntil(
+        () ->
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(ELEMENT_ACTIVATED)
+                .exists());
+
+    // when
+    final TypedRecordProcessor typedRecordProcessor = mock(TypedRecordProcessor.class);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE, ELEMENT_ACTIVATING, typedRecordProcessor));
+    verify(typedRecordProcessor, TIMEOUT.times(1)).onRecovered(any());
+
+    // then
+    assertThat(recoveryRecords("scanned") - scannedBefore).isEqualTo(2);
+    assertThat(recoveryRecords("replayed") - replayedBefore).isEqualTo(2);
+    assertThat(
+            CollectorRegistry.defaultRegistry.getSampleValue(
+                "zeebe_stream_processor_recovery_remaining_positions",
+                new String[] {"partition"},
+                new String[] {"0"}))
+        .isZero();
+  }
+
   @Test
   public void shouldStopProcessingWhenPaused() throws Exception {
     // given - bunch of events to reprocess
@@ -685,4 +721,13 @@ public final class StreamProcessorReprocessingTest {
 
     assertThat(streamProcessor.getLastProcessedPositionAsync().get()).isEqualTo(snapshotPosition);
   }
+
+  private static double recoveryRecords(final String phase) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_stream_processor_recovery_records_total",
+            new String[] {"phase", "partition"},
+            new String[] {phase, "0"});
+    return value == null ? 0 : value;
+  }
 }
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
@@ -37,6 +38,7 @@ import io.zeebe.protocol.record.value.BpmnElementType;
 import io.zeebe.test.util.TestUtil;
 import io.zeebe.util.exception.RecoverableException;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
@@ -173,6 +175,31 @@ public final class StreamProcessorTest {
             });
   }
 
+  @Test
+  public void shouldProcessRecordWhenItIsPrepared() {
+    // given
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    final CompletableActorFuture<Void> preparation = new CompletableActorFuture<>();
+    doAnswer(invocation -> preparation).when(typedRecordProcessor).prepareRecord(any());
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                typedRecordProcessor));
+
+    final long position =
+        streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    verify(typedRecordProcessor, TIMEOUT).prepareRecord(any());
+
+    // when
+    verify(typedRecordProcessor, never()).processRecord(anyLong(), any(), any(), any(), any());
+    preparation.complete(null);
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT).processRecord(eq(position), any(), any(), any(), any());
+  }
+
   @Test
   public void shouldRetryProcessingRecordOnRecoverableException() {
     // given
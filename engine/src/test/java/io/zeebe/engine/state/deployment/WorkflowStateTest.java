@@ -517,6 +517,54 @@ public final class WorkflowStateTest {
     Assertions.assertThat(latestWorkflow.getVersion()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflowFromCache() {
+    // given
+    final var cachedWorkflowState =
+        new DbWorkflowState(
+            Protocol.DEPLOYMENT_PARTITION, stateRule.getDb(), stateRule.getDb().createContext(), 2);
+    cachedWorkflowState.putDeployment(creatingDeploymentRecord(zeebeState, "first", 1));
+    cachedWorkflowState.putDeployment(creatingDeploymentRecord(zeebeState, "second", 1));
+    cachedWorkflowState.putDeployment(creatingDeploymentRecord(zeebeState, "third", 1));
+
+    final DeployedWorkflow first =
+        cachedWorkflowState.getLatestWorkflowVersionByProcessId(wrapString("first"));
+    final DeployedWorkflow second =
+        cachedWorkflowState.getLatestWorkflowVersionByProcessId(wrapString("second"));
+    cachedWorkflowState.getWorkflowByKey(first.getKey());
+
+    // when
+    cachedWorkflowState.getLatestWorkflowVersionByProcessId(wrapString("third"));
+
+    // then
+    assertThat(cachedWorkflowState.getWorkflowByKey(first.getKey())).isSameAs(first);
+    assertThat(cachedWorkflowState.getWorkflowByProcessIdAndVersion(wrapString("second"), 1))
+        .isNotSameAs(second)
+        .extracting(DeployedWorkflow::getKey)
+        .isEqualTo(second.getKey());
+  }
+
+  @Test
+  public void shouldGetAllWorkflowsIfTheyExceedTheCacheCapacity() {
+    // given
+    final var cachedWorkflowState =
+        new DbWorkflowState(
+            Protocol.DEPLOYMENT_PARTITION, stateRule.getDb(), stateRule.getDb().createContext(), 1);
+    cachedWorkflowState.putDeployment(creatingDeploymentRecord(zeebeState, "processId", 1));
+    cachedWorkflowState.putDeployment(creatingDeploymentRecord(zeebeState, "processId", 2));
+    cachedWorkflowState.putDeployment(creatingDeploymentRecord(zeebeState, "otherId", 1));
+
+    // when
+    final Collection<DeployedWorkflow> workflows =
+        cachedWorkflowState.getWorkflowsByBpmnProcessId(wrapString("processId"));
+
+    // then
+    Assertions.assertThat(workflows).extracting(DeployedWorkflow::getVersion).containsOnly(1, 2);
+    Assertions.assertThat(workflows)
+        .allSatisfy(workflow -> assertThat(workflow.getWorkflow()).isNotNull());
+    assertThat(cachedWorkflowState.getWorkflows()).hasSize(3);
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(final ZeebeState zeebeState) {
     return creatingDeploymentRecord(zeebeState, "processId");
   }
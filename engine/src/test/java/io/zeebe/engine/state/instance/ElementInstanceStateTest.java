@@ -11,7 +11,10 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static java.util.function.Predicate.not;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.TransactionContext;
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeDbState;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.instance.StoredRecord.Purpose;
 import io.zeebe.engine.state.mutable.MutableElementInstanceState;
@@ -21,6 +24,7 @@ import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.protocol.record.value.BpmnElementType;
 import io.zeebe.test.util.MsgPackUtil;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -457,6 +461,126 @@ public final class ElementInstanceStateTest {
     assertThat(metadata.getRequestStreamId()).isEqualTo(streamId);
   }
 
+  @Test
+  public void shouldVisitChildrenInOrderOfKeys() {
+    // given
+    final WorkflowInstanceRecord workflowInstanceRecord = createWorkflowInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance, 103, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance, 101, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance, 102, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    elementInstanceState.visitChildren(
+        100L,
+        child -> {
+          visitedKeys.add(child.getKey());
+          return child.getKey() < 102;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(101L, 102L);
+  }
+
+  @Test
+  public void shouldModifyStateWhileVisitingChildren() {
+    // given
+    final WorkflowInstanceRecord workflowInstanceRecord = createWorkflowInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance, 101, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance, 102, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    elementInstanceState.visitChildren(
+        100L,
+        child -> {
+          visitedKeys.add(child.getKey());
+          elementInstanceState.removeInstance(child.getKey());
+          return true;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(101L, 102L);
+    assertThat(elementInstanceState.getChildren(100L)).isEmpty();
+    assertElementInstance(elementInstanceState.getInstance(100L), 0);
+  }
+
+  @Test
+  public void shouldGetChildrenStoredBeforeReadingThem() {
+    // given
+    final WorkflowInstanceRecord workflowInstanceRecord = createWorkflowInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance, 101, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+
+    // when
+    final var otherState =
+        new ZeebeDbState(stateRule.getDb(), stateRule.getDb().createContext())
+            .getElementInstanceState();
+    final var otherParentInstance = otherState.getInstance(100L);
+    otherState.newInstance(
+        otherParentInstance,
+        102,
+        workflowInstanceRecord,
+        WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+
+    // then
+    assertThat(otherState.getChildren(100L))
+        .extracting(ElementInstance::getKey)
+        .containsExactly(101L, 102L);
+  }
+
+  @Test
+  public void shouldNotGetChangesOfRolledBackTransactionAfterClearingCaches() throws Exception {
+    // given
+    final TransactionContext transactionContext = stateRule.getDb().createContext();
+    final ZeebeDbState state = new ZeebeDbState(stateRule.getDb(), transactionContext);
+    final MutableElementInstanceState instanceState = state.getElementInstanceState();
+
+    final WorkflowInstanceRecord workflowInstanceRecord = createWorkflowInstanceRecord();
+    final ElementInstance parentInstance =
+        instanceState.newInstance(
+            100, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    instanceState.newInstance(
+        parentInstance, 101, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          instanceState.removeInstance(101L);
+          instanceState.newInstance(
+              instanceState.getInstance(100L),
+              102,
+              workflowInstanceRecord,
+              WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+        });
+
+    // when
+    transaction.rollback();
+    state.clearCaches();
+
+    // then
+    assertThat(instanceState.getInstance(101L)).isNotNull();
+    assertThat(instanceState.getInstance(102L)).isNull();
+    assertThat(instanceState.getChildren(100L))
+        .extracting(ElementInstance::getKey)
+        .containsExactly(101L);
+    assertElementInstance(instanceState.getInstance(100L), 1);
+  }
+
   private void assertElementInstance(final ElementInstance elementInstance, final int childCount) {
     Assertions.assertThat(elementInstance.getKey()).isEqualTo(100);
     Assertions.assertThat(elementInstance.getState())
@@ -16,7 +16,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.zeebe.db.TransactionContext;
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.zeebe.engine.state.ZeebeDbState;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.immutable.VariableState;
 import io.zeebe.engine.state.instance.ElementInstance;
@@ -231,6 +234,25 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1, 'c': 3}");
   }
 
+  @Test
+  public void shouldNotCollectHiddenVariablesByName() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child, Arrays.asList(wrapString("a"), wrapString("b")));
+
+    // then
+    assertEquality(variablesDocument, "{'a': 1, 'b': 3}");
+  }
+
   @Test
   public void shouldCollectOnlyExistingVariablesByName() {
     // given
@@ -339,6 +361,86 @@ public final class VariableStateTest {
     assertThat(parentScopeKey).isEqualTo(VariableState.NO_PARENT);
   }
 
+  @Test
+  public void shouldGetVariableOfChildScopeCreatedAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+  }
+
+  @Test
+  public void shouldNotGetRemovedVariableAfterLookup() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    variableState.removeAllVariables(parent);
+
+    // then
+    assertThat(variableState.getVariable(child, wrapString("a"))).isNull();
+  }
+
+  @Test
+  public void shouldGetVariableOfRecreatedScope() {
+    // given
+    final long otherParent = child2;
+    declareScope(parent);
+    declareScope(otherParent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(otherParent, wrapString("a"), asMsgPack("2"));
+
+    variableState.createScope(child, parent);
+    variableState.getVariable(child, wrapString("a"));
+    variableState.removeScope(child);
+
+    // when
+    variableState.createScope(child, otherParent);
+
+    // then
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(otherParent);
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+    variableState.removeScope(child);
+  }
+
+  @Test
+  public void shouldGetVariableOfRolledBackTransactionAfterClearingCache() throws Exception {
+    // given
+    final TransactionContext transactionContext = ZEEBE_STATE_RULE.getDb().createContext();
+    final MutableVariableState state =
+        new ZeebeDbState(ZEEBE_STATE_RULE.getDb(), transactionContext).getVariableState();
+    state.createScope(parent, VariableState.NO_PARENT);
+    state.createScope(child, parent);
+    state.setVariableLocal(parent, WORKFLOW_KEY, wrapString("a"), asMsgPack("1"));
+    state.setVariableLocal(child, WORKFLOW_KEY, wrapString("a"), asMsgPack("2"));
+
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          state.removeAllVariables(child);
+          state.getVariable(child, wrapString("a"));
+        });
+
+    // when
+    transaction.rollback();
+    state.clearCache();
+
+    // then
+    assertEquality(state.getVariable(child, wrapString("a")), "2");
+    state.removeScope(child);
+    state.removeScope(parent);
+  }
+
   @Test
   public void shouldGetVariableByName() {
     // given
@@ -48,7 +48,9 @@ public class ListLogStorage implements LogStorage {
       final ByteBuffer blockBuffer,
       final AppendListener listener) {
     try {
-      final var entry = new Entry(lowestPosition, highestPosition, blockBuffer);
+      // the block buffer is reused by the appender after it is written
+      final var data = ByteBuffer.allocate(blockBuffer.remaining()).put(blockBuffer).flip();
+      final var entry = new Entry(lowestPosition, highestPosition, data);
       entries.add(entry);
       final var index = entries.size();
       positionIndexMapping.put(lowestPosition, index);
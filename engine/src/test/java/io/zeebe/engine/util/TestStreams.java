@@ -79,6 +79,7 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
 
   private Function<ZeebeState, EventApplier> eventApplierFactory = EventAppliers::new;
+  private boolean pipelinedReprocessing = false;
 
   public TestStreams(
       final TemporaryFolder dataDirectory,
@@ -107,6 +108,10 @@ public final class TestStreams {
     this.eventApplierFactory = eventApplierFactory;
   }
 
+  public void withPipelinedReprocessing(final boolean pipelinedReprocessing) {
+    this.pipelinedReprocessing = pipelinedReprocessing;
+  }
+
   public CommandResponseWriter getMockedResponseWriter() {
     return mockCommandResponseWriter;
   }
@@ -255,6 +260,7 @@ public final class TestStreams {
             .onProcessedListener(mockOnProcessedListener)
             .streamProcessorFactory(factory)
             .detectReprocessingInconsistency(detectReprocessingInconsistency)
+            .pipelinedReprocessing(pipelinedReprocessing)
             .eventApplierFactory(eventApplierFactory)
             .build();
     streamProcessor.openAsync(false).join(15, TimeUnit.SECONDS);
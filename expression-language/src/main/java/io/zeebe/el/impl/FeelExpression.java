@@ -8,7 +8,11 @@
 package io.zeebe.el.impl;
 
 import io.zeebe.el.Expression;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import org.agrona.DirectBuffer;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
@@ -18,8 +22,23 @@ public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
 
+  // if the expression only accesses a variable or a nested property of it (e.g. 'order.id') then
+  // the variable name and the keys of the properties, otherwise empty
+  private final String pathVariableName;
+  private final DirectBuffer[] pathKeys;
+
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+
+    final List<String> variablePath = extractVariablePath(expression.expression());
+    if (variablePath.isEmpty()) {
+      pathVariableName = null;
+      pathKeys = null;
+    } else {
+      pathVariableName = variablePath.get(0);
+      pathKeys =
+          variablePath.stream().skip(1).map(BufferUtil::wrapString).toArray(DirectBuffer[]::new);
+    }
   }
 
   @Override
@@ -59,10 +78,45 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  private static List<String> extractVariablePath(final Exp expression) {
+    if (expression instanceof PathExpression) {
+      final var path = (PathExpression) expression;
+      final var variablePath = extractVariablePath(path.path());
+      if (!variablePath.isEmpty()) {
+        variablePath.add(path.key());
+      }
+      return variablePath;
+    }
+    if (expression instanceof Ref) {
+      final var variablePath = new ArrayList<String>();
+      final var names = ((Ref) expression).names().iterator();
+      while (names.hasNext()) {
+        variablePath.add(names.next());
+      }
+      return variablePath;
+    }
+    return new ArrayList<>();
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
 
+  /** @return {@code true} if the expression only accesses a variable or a nested property of it */
+  boolean isVariablePath() {
+    return pathVariableName != null;
+  }
+
+  /** @return the name of the accessed variable if {@link #isVariablePath()} */
+  String getPathVariableName() {
+    return pathVariableName;
+  }
+
+  /** @return the keys of the accessed nested properties if {@link #isVariablePath()} */
+  DirectBuffer[] getPathKeys() {
+    return pathKeys;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -39,6 +39,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
+  private final VariablePathEvaluator variablePathEvaluator = new VariablePathEvaluator();
 
   private final FeelEngine feelEngine;
 
@@ -81,6 +82,13 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     } else if (expression instanceof FeelExpression) {
       final var feelExpression = (FeelExpression) expression;
+
+      if (feelExpression.isVariablePath()) {
+        final var result = variablePathEvaluator.evaluate(feelExpression, context);
+        if (result != null) {
+          return result;
+        }
+      }
       return evaluateFeelExpression(expression, context, feelExpression);
     }
 
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl;
+
+import io.zeebe.el.EvaluationResult;
+import io.zeebe.el.Expression;
+import io.zeebe.el.ResultType;
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackToken;
+import io.zeebe.msgpack.spec.MsgPackType;
+import io.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/** The result of an evaluation that is already a MessagePack encoded value, e.g. a variable. */
+final class MessagePackEvaluationResult implements EvaluationResult {
+
+  private final MsgPackReader reader = new MsgPackReader();
+
+  private final Expression expression;
+  private final DirectBuffer value;
+  private final MsgPackType type;
+
+  MessagePackEvaluationResult(final Expression expression, final DirectBuffer value) {
+    this.expression = expression;
+    this.value = value;
+
+    type = readValue().getType();
+  }
+
+  @Override
+  public String getExpression() {
+    return expression.getExpression();
+  }
+
+  @Override
+  public boolean isFailure() {
+    return false;
+  }
+
+  @Override
+  public String getFailureMessage() {
+    return null;
+  }
+
+  @Override
+  public ResultType getType() {
+    switch (type) {
+      case NIL:
+        return ResultType.NULL;
+      case BOOLEAN:
+        return ResultType.BOOLEAN;
+      case INTEGER:
+      case FLOAT:
+        return ResultType.NUMBER;
+      case STRING:
+        return ResultType.STRING;
+      case ARRAY:
+        return ResultType.ARRAY;
+      case MAP:
+        return ResultType.OBJECT;
+      default:
+        return null;
+    }
+  }
+
+  @Override
+  public DirectBuffer toBuffer() {
+    return value;
+  }
+
+  @Override
+  public String getString() {
+    return type == MsgPackType.STRING
+        ? BufferUtil.bufferAsString(readValue().getValueBuffer())
+        : null;
+  }
+
+  @Override
+  public Boolean getBoolean() {
+    return type == MsgPackType.BOOLEAN ? readValue().getBooleanValue() : null;
+  }
+
+  @Override
+  public Number getNumber() {
+    switch (type) {
+      case INTEGER:
+        return readValue().getIntegerValue();
+      case FLOAT:
+        return readValue().getFloatValue();
+      default:
+        return null;
+    }
+  }
+
+  @Override
+  public Duration getDuration() {
+    return null;
+  }
+
+  @Override
+  public Period getPeriod() {
+    return null;
+  }
+
+  @Override
+  public ZonedDateTime getDateTime() {
+    return null;
+  }
+
+  @Override
+  public List<DirectBuffer> getList() {
+    if (type != MsgPackType.ARRAY) {
+      return null;
+    }
+
+    final int size = readValue().getSize();
+    final List<DirectBuffer> items = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      final int itemOffset = reader.getOffset();
+      reader.skipValue();
+      items.add(BufferUtil.cloneBuffer(value, itemOffset, reader.getOffset() - itemOffset));
+    }
+    return items;
+  }
+
+  private MsgPackToken readValue() {
+    reader.wrap(value, 0, value.capacity());
+    return reader.readToken();
+  }
+
+  @Override
+  public String toString() {
+    return "MessagePackEvaluationResult{" + "expression=" + expression + ", type=" + type + '}';
+  }
+}
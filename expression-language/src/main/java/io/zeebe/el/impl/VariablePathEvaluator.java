@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl;
+
+import io.zeebe.el.EvaluationContext;
+import io.zeebe.el.EvaluationResult;
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackToken;
+import io.zeebe.msgpack.spec.MsgPackType;
+import io.zeebe.msgpack.spec.MsgpackReaderException;
+import io.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * Evaluates an expression that only accesses a variable or a nested property of it (e.g. {@code
+ * =order.customer.id}) by reading the value directly from the MessagePack encoded variable, without
+ * transforming it into a FEEL value and back.
+ *
+ * <p>It handles only the cases in which the result is the same as of the FEEL evaluation. In any
+ * other case (e.g. the variable or property doesn't exist, a property is accessed on a list, or the
+ * value contains a float which FEEL may convert into an integer), it returns {@code null} and the
+ * expression must be evaluated by FEEL instead.
+ */
+final class VariablePathEvaluator {
+
+  private final MsgPackReader reader = new MsgPackReader();
+
+  /**
+   * @return the result of the evaluation, or {@code null} if the expression must be evaluated by
+   *     FEEL instead
+   */
+  EvaluationResult evaluate(final FeelExpression expression, final EvaluationContext context) {
+    final DirectBuffer variable = context.getVariable(expression.getPathVariableName());
+    if (variable == null || variable.capacity() == 0) {
+      return null;
+    }
+
+    try {
+      reader.wrap(variable, 0, variable.capacity());
+
+      for (final DirectBuffer key : expression.getPathKeys()) {
+        if (!readToEntry(key)) {
+          return null;
+        }
+      }
+
+      final int valueOffset = reader.getOffset();
+      if (!skipSupportedValue()) {
+        return null;
+      }
+      final int valueLength = reader.getOffset() - valueOffset;
+
+      return new MessagePackEvaluationResult(
+          expression, BufferUtil.cloneBuffer(variable, valueOffset, valueLength));
+
+    } catch (final MsgpackReaderException e) {
+      return null;
+    }
+  }
+
+  /** Moves the reader to the value of the given key, if the current value is a map. */
+  private boolean readToEntry(final DirectBuffer key) {
+    final MsgPackToken token = reader.readToken();
+    if (token.getType() != MsgPackType.MAP) {
+      return false;
+    }
+
+    final int size = token.getSize();
+    for (int i = 0; i < size; i++) {
+      final MsgPackToken keyToken = reader.readToken();
+      if (keyToken.getType() == MsgPackType.STRING
+          && BufferUtil.equals(keyToken.getValueBuffer(), key)) {
+        return true;
+      }
+      reader.skipValue();
+    }
+    return false;
+  }
+
+  /**
+   * Skips the current value if FEEL would transform it back into the same MessagePack value. Maps
+   * are kept as they are, but floats and binaries are transformed.
+   */
+  private boolean skipSupportedValue() {
+    final MsgPackToken token = reader.readToken();
+    switch (token.getType()) {
+      case NIL:
+      case BOOLEAN:
+      case INTEGER:
+      case STRING:
+        return true;
+      case MAP:
+        reader.skipValues(2L * token.getSize());
+        return true;
+      case ARRAY:
+        final int size = token.getSize();
+        for (int i = 0; i < size; i++) {
+          if (!skipSupportedValue()) {
+            return false;
+          }
+        }
+        return true;
+      default:
+        return false;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el;
+
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.junit.Test;
+
+/**
+ * Expressions that only access a variable or a nested property of it are not evaluated by FEEL. The
+ * results must be the same as the FEEL evaluation, which is enforced here by an expression that is
+ * always evaluated by FEEL.
+ */
+public class VariablePathExpressionTest {
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage();
+
+  @Test
+  public void shouldAccessNestedString() {
+    final var variable = asMsgPack("{'y':{'z':'foo'}}");
+
+    final var result = evaluateAndCompare("x.y.z", variable);
+
+    assertThat(result.getType()).isEqualTo(ResultType.STRING);
+    assertThat(result.getString()).isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldAccessNestedNumber() {
+    final var variable = asMsgPack("{'y':{'z':12}}");
+
+    final var result = evaluateAndCompare("x.y.z", variable);
+
+    assertThat(result.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(result.getNumber()).isEqualTo(12L);
+  }
+
+  @Test
+  public void shouldAccessNestedBoolean() {
+    final var variable = asMsgPack("{'y':true}");
+
+    final var result = evaluateAndCompare("x.y", variable);
+
+    assertThat(result.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(result.getBoolean()).isTrue();
+  }
+
+  @Test
+  public void shouldAccessNestedNull() {
+    final var variable = asMsgPack("{'y':null}");
+
+    final var result = evaluateAndCompare("x.y", variable);
+
+    assertThat(result.getType()).isEqualTo(ResultType.NULL);
+  }
+
+  @Test
+  public void shouldAccessNestedContext() {
+    final var variable = asMsgPack("{'y':{'z':1, 'w':'a'}}");
+
+    final var result = evaluateAndCompare("x.y", variable);
+
+    assertThat(result.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(result.toBuffer()).isEqualTo(asMsgPack("{'z':1, 'w':'a'}"));
+  }
+
+  @Test
+  public void shouldAccessNestedList() {
+    final var variable = asMsgPack("{'y':[1, 'a', {'z':2}, [3]]}");
+
+    final var result = evaluateAndCompare("x.y", variable);
+
+    assertThat(result.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(result.getList())
+        .containsExactly(asMsgPack("1"), asMsgPack("'a'"), asMsgPack("{'z':2}"), asMsgPack("[3]"));
+  }
+
+  @Test
+  public void shouldAccessNestedFloat() {
+    final var variable = asMsgPack("{'y':2.0, 'z':[1.5]}");
+
+    assertThat(evaluateAndCompare("x.y", variable).getNumber()).isEqualTo(2L);
+    assertThat(evaluateAndCompare("x.z", variable).getType()).isEqualTo(ResultType.ARRAY);
+  }
+
+  @Test
+  public void shouldAccessPropertyOfListOfContexts() {
+    final var variable = asMsgPack("[{'y':1}, {'y':2}]");
+
+    final var result = evaluateAndCompare("x.y", variable);
+
+    assertThat(result.getType()).isEqualTo(ResultType.ARRAY);
+  }
+
+  @Test
+  public void shouldAccessNonExistingProperty() {
+    final var variable = asMsgPack("{'y':1}");
+
+    evaluateAndCompare("x.z", variable);
+  }
+
+  @Test
+  public void shouldAccessPropertyOfNonContext() {
+    final var variable = asMsgPack("1");
+
+    evaluateAndCompare("x.y", variable);
+  }
+
+  @Test
+  public void shouldAccessNonExistingVariable() {
+    final var result = evaluate("x.y", Map.of());
+    final var feelResult = evaluate(feelOnly("x.y"), Map.of());
+
+    assertThat(result.isFailure()).isEqualTo(feelResult.isFailure());
+    assertThat(result.getType()).isEqualTo(feelResult.getType());
+  }
+
+  private EvaluationResult evaluateAndCompare(final String path, final DirectBuffer variable) {
+    final var result = evaluate(path, Map.of("x", variable));
+    final var feelResult = evaluate(feelOnly(path), Map.of("x", variable));
+
+    assertThat(result.isFailure()).isEqualTo(feelResult.isFailure());
+    assertThat(result.getType()).isEqualTo(feelResult.getType());
+    if (!feelResult.isFailure()) {
+      assertThat(result.toBuffer()).isEqualTo(feelResult.toBuffer());
+    }
+    return result;
+  }
+
+  private static String feelOnly(final String path) {
+    return String.format("if true then %s else null", path);
+  }
+
+  private EvaluationResult evaluate(final String expression, final Map<String, DirectBuffer> vars) {
+    final var parsedExpression = expressionLanguage.parseExpression("=" + expression);
+    assertThat(parsedExpression.isValid())
+        .describedAs(parsedExpression.getFailureMessage())
+        .isTrue();
+
+    return expressionLanguage.evaluateExpression(parsedExpression, vars::get);
+  }
+}
@@ -10,25 +10,32 @@ package io.zeebe.gateway;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.zeebe.gateway.grpc.ServerStreamObserver;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo.Builder;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
@@ -38,6 +45,8 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHeal
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -51,6 +60,9 @@ import io.zeebe.util.VersionUtil;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 public final class EndpointManager {
@@ -59,6 +71,7 @@ public final class EndpointManager {
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
 
   public EndpointManager(
       final BrokerClient brokerClient, final ActivateJobsHandler activateJobsHandler) {
@@ -153,6 +166,18 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toCompleteJobRequest,
+        ResponseMapper::toCompleteJobResult,
+        ResponseMapper::toCompleteJobResult,
+        ResponseMapper::toCompleteJobsResponse,
+        responseObserver);
+  }
+
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
       final ServerStreamObserver<CreateWorkflowInstanceResponse> responseObserver) {
@@ -182,6 +207,18 @@ public final class EndpointManager {
     }
   }
 
+  public void createWorkflowInstances(
+      final CreateWorkflowInstancesRequest request,
+      final ServerStreamObserver<CreateWorkflowInstancesResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toCreateWorkflowInstanceRequest,
+        ResponseMapper::toCreateWorkflowInstanceResult,
+        ResponseMapper::toCreateWorkflowInstanceResult,
+        ResponseMapper::toCreateWorkflowInstancesResponse,
+        responseObserver);
+  }
+
   public void deployWorkflow(
       final DeployWorkflowRequest request,
       final ServerStreamObserver<DeployWorkflowResponse> responseObserver) {
@@ -223,6 +260,18 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toPublishMessageRequest,
+        ResponseMapper::toPublishMessageResult,
+        ResponseMapper::toPublishMessageResult,
+        ResponseMapper::toPublishMessagesResponse,
+        responseObserver);
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
@@ -355,6 +404,74 @@ public final class EndpointManager {
         timeout);
   }
 
+  /**
+   * Sends all requests at once, grouped by partition, and responds with one result per request once
+   * all of them are answered. A request which fails does not fail the others; its error is mapped
+   * like the error of the equivalent single request and returned as its result.
+   */
+  private <GrpcRequestT, BrokerResponseT, GrpcResultT, GrpcResponseT> void sendBatchRequest(
+      final List<GrpcRequestT> grpcRequests,
+      final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
+      final BrokerResponseMapper<BrokerResponseT, GrpcResultT> resultMapper,
+      final Function<BatchItemError, GrpcResultT> errorResultMapper,
+      final Function<List<GrpcResultT>, GrpcResponseT> responseMapper,
+      final ServerStreamObserver<GrpcResponseT> streamObserver) {
+    final int requestCount = grpcRequests.size();
+    final BatchResults<GrpcResultT, GrpcResponseT> results =
+        new BatchResults<>(requestCount, responseMapper, streamObserver);
+    if (requestCount == 0) {
+      results.respond();
+      return;
+    }
+
+    final List<BrokerRequest<BrokerResponseT>> brokerRequests = new ArrayList<>(requestCount);
+    final List<Integer> brokerRequestIndexes = new ArrayList<>(requestCount);
+
+    for (int i = 0; i < requestCount; i++) {
+      try {
+        brokerRequests.add(requestMapper.apply(grpcRequests.get(i)));
+        brokerRequestIndexes.add(i);
+      } catch (final Exception e) {
+        results.set(i, errorResultMapper.apply(toBatchItemError(e)));
+      }
+    }
+
+    final List<CompletableFuture<BrokerResponse<BrokerResponseT>>> responseFutures =
+        brokerClient.sendRequestsWithRetry(brokerRequests);
+    for (int i = 0; i < responseFutures.size(); i++) {
+      final int index = brokerRequestIndexes.get(i);
+      responseFutures
+          .get(i)
+          .whenComplete(
+              (response, error) -> {
+                GrpcResultT result = null;
+                Throwable failure = error;
+                if (failure == null) {
+                  try {
+                    result = resultMapper.apply(response.getKey(), response.getResponse());
+                  } catch (final RuntimeException e) {
+                    failure = e;
+                  }
+                }
+
+                // every request must get a result, otherwise the batch is never answered
+                results.set(
+                    index,
+                    failure == null ? result : errorResultMapper.apply(toBatchItemError(failure)));
+              });
+    }
+  }
+
+  private BatchItemError toBatchItemError(final Throwable error) {
+    final Status status = errorMapper.mapError(error).getStatus();
+    final String description = status.getDescription();
+
+    return BatchItemError.newBuilder()
+        .setCode(status.getCode().value())
+        .setMessage(description == null ? "" : description)
+        .build();
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
@@ -364,4 +481,38 @@ public final class EndpointManager {
     streamObserver.onNext(grpcResponse);
     streamObserver.onCompleted();
   }
+
+  private static final class BatchResults<GrpcResultT, GrpcResponseT> {
+    private final AtomicReferenceArray<GrpcResultT> results;
+    private final AtomicInteger remaining;
+    private final Function<List<GrpcResultT>, GrpcResponseT> responseMapper;
+    private final ServerStreamObserver<GrpcResponseT> streamObserver;
+
+    private BatchResults(
+        final int count,
+        final Function<List<GrpcResultT>, GrpcResponseT> responseMapper,
+        final ServerStreamObserver<GrpcResponseT> streamObserver) {
+      results = new AtomicReferenceArray<>(count);
+      remaining = new AtomicInteger(count);
+      this.responseMapper = responseMapper;
+      this.streamObserver = streamObserver;
+    }
+
+    private void set(final int index, final GrpcResultT result) {
+      results.set(index, result);
+      if (remaining.decrementAndGet() == 0) {
+        respond();
+      }
+    }
+
+    private void respond() {
+      final List<GrpcResultT> orderedResults = new ArrayList<>(results.length());
+      for (int i = 0; i < results.length(); i++) {
+        orderedResults.add(results.get(i));
+      }
+
+      streamObserver.onNext(responseMapper.apply(orderedResults));
+      streamObserver.onCompleted();
+    }
+  }
 }
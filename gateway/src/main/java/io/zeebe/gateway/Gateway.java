@@ -15,9 +15,11 @@ import io.grpc.netty.NettyServerBuilder;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.BrokerClientImpl;
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.gateway.impl.configuration.JobActivationCfg;
 import io.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.ConcurrentActivateJobsHandler;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.zeebe.util.VersionUtil;
@@ -104,6 +106,12 @@ public final class Gateway {
           buildLongPollingHandler(brokerClient);
       actorScheduler.submitActor(longPollingHandler);
       activateJobsHandler = longPollingHandler;
+    } else if (gatewayCfg.getJobActivation().isConcurrentPartitionPolling()) {
+      final ConcurrentActivateJobsHandler concurrentHandler =
+          new ConcurrentActivateJobsHandler(
+              brokerClient, gatewayCfg.getJobActivation().getEmptyPartitionTimeout());
+      concurrentHandler.subscribeJobAvailableNotification();
+      activateJobsHandler = concurrentHandler;
     } else {
       activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
     }
@@ -182,7 +190,12 @@ public final class Gateway {
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    final JobActivationCfg jobActivationCfg = gatewayCfg.getJobActivation();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setConcurrentPartitionPolling(jobActivationCfg.isConcurrentPartitionPolling())
+        .setEmptyPartitionTimeout(jobActivationCfg.getEmptyPartitionTimeout())
+        .build();
   }
 
   public void listenAndServe() throws InterruptedException, IOException {
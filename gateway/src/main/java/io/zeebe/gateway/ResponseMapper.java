@@ -12,13 +12,20 @@ import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
@@ -34,6 +41,7 @@ import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCrea
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceResultRecord;
 import java.util.Iterator;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
@@ -62,6 +70,22 @@ public final class ResponseMapper {
     return PublishMessageResponse.newBuilder().setKey(key).build();
   }
 
+  public static PublishMessageResult toPublishMessageResult(
+      final long key, final Object brokerResponse) {
+    return PublishMessageResult.newBuilder()
+        .setResponse(toPublishMessageResponse(key, brokerResponse))
+        .build();
+  }
+
+  public static PublishMessageResult toPublishMessageResult(final BatchItemError error) {
+    return PublishMessageResult.newBuilder().setError(error).build();
+  }
+
+  public static PublishMessagesResponse toPublishMessagesResponse(
+      final List<PublishMessageResult> results) {
+    return PublishMessagesResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static UpdateJobRetriesResponse toUpdateJobRetriesResponse(
       final long key, final JobRecord brokerResponse) {
     return UpdateJobRetriesResponse.getDefaultInstance();
@@ -81,6 +105,21 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  public static CompleteJobResult toCompleteJobResult(
+      final long key, final JobRecord brokerResponse) {
+    return CompleteJobResult.newBuilder()
+        .setResponse(toCompleteJobResponse(key, brokerResponse))
+        .build();
+  }
+
+  public static CompleteJobResult toCompleteJobResult(final BatchItemError error) {
+    return CompleteJobResult.newBuilder().setError(error).build();
+  }
+
+  public static CompleteJobsResponse toCompleteJobsResponse(final List<CompleteJobResult> results) {
+    return CompleteJobsResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static CreateWorkflowInstanceResponse toCreateWorkflowInstanceResponse(
       final long key, final WorkflowInstanceCreationRecord brokerResponse) {
     return CreateWorkflowInstanceResponse.newBuilder()
@@ -91,6 +130,23 @@ public final class ResponseMapper {
         .build();
   }
 
+  public static CreateWorkflowInstanceResult toCreateWorkflowInstanceResult(
+      final long key, final WorkflowInstanceCreationRecord brokerResponse) {
+    return CreateWorkflowInstanceResult.newBuilder()
+        .setResponse(toCreateWorkflowInstanceResponse(key, brokerResponse))
+        .build();
+  }
+
+  public static CreateWorkflowInstanceResult toCreateWorkflowInstanceResult(
+      final BatchItemError error) {
+    return CreateWorkflowInstanceResult.newBuilder().setError(error).build();
+  }
+
+  public static CreateWorkflowInstancesResponse toCreateWorkflowInstancesResponse(
+      final List<CreateWorkflowInstanceResult> results) {
+    return CreateWorkflowInstancesResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static CreateWorkflowInstanceWithResultResponse toCreateWorkflowInstanceWithResultResponse(
       final long key, final WorkflowInstanceResultRecord brokerResponse) {
     return CreateWorkflowInstanceWithResultResponse.newBuilder()
@@ -11,6 +11,7 @@ import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -66,6 +67,17 @@ public interface BrokerClient extends AutoCloseable {
   <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(
       BrokerRequest<T> request, Duration requestTimeout);
 
+  /**
+   * Sends all given requests like {@link #sendRequestWithRetry(BrokerRequest)}, but groups the
+   * requests by partition and sends the requests of the same partition as batch requests,
+   * regardless of whether command coalescing is enabled.
+   *
+   * @param requests requests to send
+   * @return one future per request, in the order of the given requests
+   */
+  <T> List<CompletableFuture<BrokerResponse<T>>> sendRequestsWithRetry(
+      List<? extends BrokerRequest<T>> requests);
+
   /**
    * Sends a request to the partition if request specifies a partition, otherwise assign a partition
    * send it to it. If leader for that partition is not reachable the request will be resend until a
@@ -18,11 +18,13 @@ import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.configuration.ClusterCfg;
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.protocol.impl.encoding.TopologyDelta;
 import io.zeebe.transport.impl.AtomixClientTransportAdapter;
 import io.zeebe.util.exception.UncheckedExecutionException;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +42,7 @@ public final class BrokerClientImpl implements BrokerClient {
   private final AtomixCluster atomixCluster;
   private final boolean ownsActorScheduler;
   private final BrokerRequestManager requestManager;
+  private final CompletableFuture<Subscription> topologyDeltaSubscription;
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
 
@@ -85,6 +88,14 @@ public final class BrokerClientImpl implements BrokerClient {
         .getMembers()
         .forEach(
             member -> topologyManager.event(new ClusterMembershipEvent(Type.MEMBER_ADDED, member)));
+    topologyDeltaSubscription =
+        atomixCluster
+            .getEventService()
+            .subscribe(
+                TopologyDelta.TOPIC,
+                TopologyDelta::fromBytes,
+                topologyManager::onTopologyDelta,
+                Runnable::run);
 
     final var messagingService = atomixCluster.getMessagingService();
     final var atomixTransportAdapter = new AtomixClientTransportAdapter(messagingService);
@@ -94,7 +105,8 @@ public final class BrokerClientImpl implements BrokerClient {
             atomixTransportAdapter,
             topologyManager,
             new RoundRobinDispatchStrategy(topologyManager),
-            clusterCfg.getRequestTimeout());
+            clusterCfg.getRequestTimeout(),
+            configuration.getCommandCoalescing());
     actorScheduler.submitActor(requestManager);
   }
 
@@ -114,6 +126,7 @@ public final class BrokerClientImpl implements BrokerClient {
     if (jobAvailableSubscription != null) {
       jobAvailableSubscription.close();
     }
+    topologyDeltaSubscription.thenAccept(Subscription::close);
 
     if (ownsActorScheduler) {
       try {
@@ -152,6 +165,12 @@ public final class BrokerClientImpl implements BrokerClient {
     return requestManager.sendRequestWithRetry(request, requestTimeout);
   }
 
+  @Override
+  public <T> List<CompletableFuture<BrokerResponse<T>>> sendRequestsWithRetry(
+      final List<? extends BrokerRequest<T>> requests) {
+    return requestManager.sendRequestsWithRetry(requests);
+  }
+
   @Override
   public <T> void sendRequestWithRetry(
       final BrokerRequest<T> request,
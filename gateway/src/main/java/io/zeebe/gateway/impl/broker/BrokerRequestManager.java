@@ -20,21 +20,29 @@ import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
 import io.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.impl.configuration.CommandCoalescingCfg;
 import io.zeebe.gateway.metrics.GatewayMetrics;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.SubscriptionUtil;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
 import io.zeebe.protocol.record.ErrorCode;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
 import io.zeebe.protocol.record.MessageHeaderDecoder;
 import io.zeebe.transport.ClientRequest;
 import io.zeebe.transport.ClientTransport;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 
 final class BrokerRequestManager extends Actor {
 
@@ -45,16 +53,41 @@ final class BrokerRequestManager extends Actor {
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
+  private final boolean coalescingEnabled;
+  private final int maxBatchSize;
+  private final int maxBatchBytes;
+  private final Int2ObjectHashMap<CommandBatch> pendingCommands = new Int2ObjectHashMap<>();
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManagerImpl topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
       final Duration requestTimeout) {
+    this(
+        clientTransport,
+        topologyManager,
+        dispatchStrategy,
+        requestTimeout,
+        new CommandCoalescingCfg());
+  }
+
+  BrokerRequestManager(
+      final ClientTransport clientTransport,
+      final BrokerTopologyManagerImpl topologyManager,
+      final RequestDispatchStrategy dispatchStrategy,
+      final Duration requestTimeout,
+      final CommandCoalescingCfg coalescingCfg) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    coalescingEnabled = coalescingCfg.isEnabled();
+    maxBatchSize =
+        Math.max(
+            1,
+            Math.min(
+                coalescingCfg.getMaxBatchSize(), ExecuteCommandBatchRequest.MAX_COMMAND_COUNT));
+    maxBatchBytes = coalescingCfg.getMaxBatchBytes();
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -112,49 +145,242 @@ final class BrokerRequestManager extends Actor {
       final TransportRequestSender sender,
       final Duration requestTimeout) {
 
-    final BrokerAddressProvider nodeIdProvider;
+    final BrokerAddressProvider nodeIdProvider =
+        tryDetermineBrokerNodeIdProvider(request, returnFuture);
+    if (nodeIdProvider == null) {
+      return;
+    }
+
+    if (shouldCoalesce(request, requestTimeout)) {
+      coalesce(new PendingCommand<>(request, returnFuture, sender));
+      return;
+    }
+
+    final ActorFuture<DirectBuffer> responseFuture =
+        sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
+    final long startTime = System.currentTimeMillis();
+
+    actor.runOnCompletion(
+        responseFuture,
+        (clientResponse, error) ->
+            onResponse(request, returnFuture, clientResponse, error, startTime));
+  }
+
+  <T> List<CompletableFuture<BrokerResponse<T>>> sendRequestsWithRetry(
+      final List<? extends BrokerRequest<T>> requests) {
+    final List<CompletableFuture<BrokerResponse<T>>> responseFutures =
+        new ArrayList<>(requests.size());
+    final List<PendingCommand<?>> commands = new ArrayList<>(requests.size());
+
+    for (final BrokerRequest<T> request : requests) {
+      final CompletableFuture<BrokerResponse<T>> responseFuture = new CompletableFuture<>();
+      responseFutures.add(responseFuture);
+
+      try {
+        request.serializeValue();
+        commands.add(new PendingCommand<>(request, responseFuture, SENDER_WITH_RETRY));
+      } catch (final RuntimeException e) {
+        // fail only this request, the others of the batch are still sent
+        responseFuture.completeExceptionally(e);
+      }
+    }
+
+    actor.run(() -> sendCommands(commands));
+    return responseFutures;
+  }
+
+  private void sendCommands(final List<PendingCommand<?>> commands) {
+    final Int2ObjectHashMap<List<PendingCommand<?>>> commandsByPartition =
+        new Int2ObjectHashMap<>();
+
+    for (final PendingCommand<?> command : commands) {
+      try {
+        if (!command.request.isCoalescable()) {
+          command.sendRequest();
+        } else if (command.determinePartition()) {
+          commandsByPartition
+              .computeIfAbsent(command.request.getPartitionId(), partitionId -> new ArrayList<>())
+              .add(command);
+        }
+      } catch (final RuntimeException e) {
+        command.fail(e);
+      }
+    }
+
+    commandsByPartition.forEach(this::sendInBatches);
+  }
+
+  private void sendInBatches(final int partitionId, final List<PendingCommand<?>> commands) {
+    CommandBatch batch = new CommandBatch();
+    for (final PendingCommand<?> command : commands) {
+      if (!batch.canAdd(command)) {
+        sendBatch(partitionId, batch.commands);
+        batch = new CommandBatch();
+      }
+      batch.add(command);
+    }
+
+    sendBatch(partitionId, batch.commands);
+  }
+
+  /**
+   * @return the provider of the broker address, or null if the request can't be delivered, in which
+   *     case the given future was already completed exceptionally
+   */
+  private <T> BrokerAddressProvider tryDetermineBrokerNodeIdProvider(
+      final BrokerRequest<T> request, final CompletableFuture<BrokerResponse<T>> returnFuture) {
     try {
-      nodeIdProvider = determineBrokerNodeIdProvider(request);
+      return determineBrokerNodeIdProvider(request);
     } catch (final PartitionNotFoundException e) {
       returnFuture.completeExceptionally(e);
       GatewayMetrics.registerFailedRequest(
           request.getPartitionId(), request.getType(), "PARTITION_NOT_FOUND");
-      return;
     } catch (final NoTopologyAvailableException e) {
       returnFuture.completeExceptionally(e);
       GatewayMetrics.registerFailedRequest(
           request.getPartitionId(), request.getType(), "NO_TOPOLOGY");
+    }
+
+    return null;
+  }
+
+  private <T> void onResponse(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final DirectBuffer clientResponse,
+      final Throwable error,
+      final long startTime) {
+    RequestResult result = null;
+    try {
+      if (error == null) {
+        final BrokerResponse<T> response = request.getResponse(clientResponse);
+
+        result = handleResponse(response, returnFuture);
+        if (result.wasProcessed()) {
+          final long elapsedTime = System.currentTimeMillis() - startTime;
+          GatewayMetrics.registerSuccessfulRequest(
+              request.getPartitionId(), request.getType(), elapsedTime);
+          return;
+        }
+      } else {
+        returnFuture.completeExceptionally(error);
+      }
+    } catch (final RuntimeException e) {
+      returnFuture.completeExceptionally(new ClientResponseException(e));
+    }
+
+    registerFailure(request, result, error);
+  }
+
+  /**
+   * Only requests with the default timeout are coalesced, since all commands of a batch share the
+   * same transport request and with it the same timeout.
+   */
+  private boolean shouldCoalesce(final BrokerRequest<?> request, final Duration timeout) {
+    return coalescingEnabled
+        && request.isCoalescable()
+        && request.getPartitionId() >= 0
+        && timeout.equals(requestTimeout);
+  }
+
+  private void coalesce(final PendingCommand<?> command) {
+    final int partitionId = command.request.getPartitionId();
+
+    CommandBatch batch = pendingCommands.get(partitionId);
+    if (batch != null && !batch.canAdd(command)) {
+      flushPendingCommands(partitionId);
+      batch = null;
+    }
+
+    if (batch == null) {
+      batch = new CommandBatch();
+      pendingCommands.put(partitionId, batch);
+      // the flush is queued behind all requests which were already submitted to this actor, such
+      // that concurrent requests for the same partition end up in the same batch
+      actor.submit(() -> flushPendingCommands(partitionId));
+    }
+
+    batch.add(command);
+    if (batch.isFull()) {
+      flushPendingCommands(partitionId);
+    }
+  }
+
+  private void flushPendingCommands(final int partitionId) {
+    final CommandBatch batch = pendingCommands.remove(partitionId);
+    if (batch == null) {
+      // already flushed, because the batch was full
       return;
     }
 
-    final ActorFuture<DirectBuffer> responseFuture =
-        sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
-    final long startTime = System.currentTimeMillis();
+    sendBatch(partitionId, batch.commands);
+  }
 
-    actor.runOnCompletion(
-        responseFuture,
-        (clientResponse, error) -> {
-          RequestResult result = null;
-          try {
-            if (error == null) {
-              final BrokerResponse<T> response = request.getResponse(clientResponse);
-
-              result = handleResponse(response, returnFuture);
-              if (result.wasProcessed()) {
-                final long elapsedTime = System.currentTimeMillis() - startTime;
-                GatewayMetrics.registerSuccessfulRequest(
-                    request.getPartitionId(), request.getType(), elapsedTime);
-                return;
-              }
-            } else {
-              returnFuture.completeExceptionally(error);
-            }
-          } catch (final RuntimeException e) {
-            returnFuture.completeExceptionally(new ClientResponseException(e));
-          }
-
-          registerFailure(request, result, error);
-        });
+  private void sendBatch(final int partitionId, final List<PendingCommand<?>> batch) {
+    GatewayMetrics.registerCommandBatch(partitionId, batch.size());
+
+    if (batch.size() == 1) {
+      final PendingCommand<?> command = batch.get(0);
+      try {
+        command.send(partitionId);
+      } catch (final RuntimeException e) {
+        command.fail(e);
+      }
+      return;
+    }
+
+    final ExecuteCommandBatchRequest batchRequest =
+        new ExecuteCommandBatchRequest().setPartitionId(partitionId);
+    TransportRequestSender sender = SENDER_WITHOUT_RETRY;
+    for (final PendingCommand<?> command : batch) {
+      batchRequest.addCommand(command.request);
+      if (command.sender == SENDER_WITH_RETRY) {
+        sender = SENDER_WITH_RETRY;
+      }
+    }
+
+    try {
+      final ActorFuture<DirectBuffer> responseFuture =
+          sender.send(
+              clientTransport,
+              new BrokerAddressProvider(partitionId),
+              new CommandBatchRequest(partitionId, batchRequest),
+              requestTimeout);
+      final long startTime = System.currentTimeMillis();
+
+      actor.runOnCompletion(
+          responseFuture,
+          (clientResponse, error) -> onBatchResponse(batch, clientResponse, error, startTime));
+    } catch (final RuntimeException e) {
+      batch.forEach(command -> command.fail(e));
+    }
+  }
+
+  private void onBatchResponse(
+      final List<PendingCommand<?>> batch,
+      final DirectBuffer clientResponse,
+      final Throwable error,
+      final long startTime) {
+    final ExecuteCommandBatchResponse batchResponse = new ExecuteCommandBatchResponse();
+
+    if (error == null && isBatchResponse(clientResponse)) {
+      batchResponse.wrap(clientResponse, 0, clientResponse.capacity());
+    }
+
+    final boolean isCompleteBatchResponse = batchResponse.getResponseCount() == batch.size();
+    for (int i = 0; i < batch.size(); i++) {
+      // a single error response, e.g. if the broker is not the leader, applies to all commands
+      final DirectBuffer response =
+          isCompleteBatchResponse ? batchResponse.getResponse(i) : clientResponse;
+      batch.get(i).onResponse(response, error, startTime);
+    }
+  }
+
+  private static boolean isBatchResponse(final DirectBuffer response) {
+    final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+    headerDecoder.wrap(response, 0);
+    return headerDecoder.schemaId() == ExecuteCommandBatchResponseDecoder.SCHEMA_ID
+        && headerDecoder.templateId() == ExecuteCommandBatchResponseDecoder.TEMPLATE_ID;
   }
 
   private <T> void registerFailure(
@@ -285,6 +511,101 @@ final class BrokerRequestManager extends Actor {
     }
   }
 
+  private final class PendingCommand<T> {
+    private final BrokerRequest<T> request;
+    private final CompletableFuture<BrokerResponse<T>> returnFuture;
+    private final TransportRequestSender sender;
+
+    private PendingCommand(
+        final BrokerRequest<T> request,
+        final CompletableFuture<BrokerResponse<T>> returnFuture,
+        final TransportRequestSender sender) {
+      this.request = request;
+      this.returnFuture = returnFuture;
+      this.sender = sender;
+    }
+
+    /** @return true if a partition was determined, false if the command was already rejected */
+    private boolean determinePartition() {
+      return tryDetermineBrokerNodeIdProvider(request, returnFuture) != null;
+    }
+
+    private void sendRequest() {
+      sendRequestInternal(request, returnFuture, sender, requestTimeout);
+    }
+
+    private void send(final int partitionId) {
+      final ActorFuture<DirectBuffer> responseFuture =
+          sender.send(
+              clientTransport, new BrokerAddressProvider(partitionId), request, requestTimeout);
+      final long startTime = System.currentTimeMillis();
+
+      actor.runOnCompletion(
+          responseFuture, (clientResponse, error) -> onResponse(clientResponse, error, startTime));
+    }
+
+    private void onResponse(
+        final DirectBuffer clientResponse, final Throwable error, final long startTime) {
+      BrokerRequestManager.this.onResponse(request, returnFuture, clientResponse, error, startTime);
+    }
+
+    private void fail(final Throwable error) {
+      returnFuture.completeExceptionally(error);
+    }
+  }
+
+  /**
+   * Commands for the same partition which are sent in one request. A batch is bounded by the number
+   * of commands and by its encoded length; a single command which exceeds the length on its own is
+   * still sent, alone.
+   */
+  private final class CommandBatch {
+    private final List<PendingCommand<?>> commands = new ArrayList<>();
+    private int length = ExecuteCommandBatchRequest.EMPTY_BATCH_LENGTH;
+
+    private boolean canAdd(final PendingCommand<?> command) {
+      return commands.isEmpty()
+          || (commands.size() < maxBatchSize
+              && length + ExecuteCommandBatchRequest.getFramedLength(command.request)
+                  <= maxBatchBytes);
+    }
+
+    private void add(final PendingCommand<?> command) {
+      commands.add(command);
+      length += ExecuteCommandBatchRequest.getFramedLength(command.request);
+    }
+
+    private boolean isFull() {
+      return commands.size() >= maxBatchSize || length >= maxBatchBytes;
+    }
+  }
+
+  private static final class CommandBatchRequest implements ClientRequest {
+    private final int partitionId;
+    private final ExecuteCommandBatchRequest batchRequest;
+
+    private CommandBatchRequest(
+        final int partitionId, final ExecuteCommandBatchRequest batchRequest) {
+      this.partitionId = partitionId;
+      this.batchRequest = batchRequest;
+    }
+
+    @Override
+    public int getPartitionId() {
+      return partitionId;
+    }
+
+    @Override
+    public int getLength() {
+      return batchRequest.getLength();
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      batchRequest.write(buffer, offset);
+    }
+  }
+
   private static class RequestResult {
     private final boolean processed;
     private final ErrorCode errorCode;
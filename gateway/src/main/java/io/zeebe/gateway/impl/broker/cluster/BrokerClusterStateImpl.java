@@ -191,6 +191,12 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     return partitionLeaders.get(partition);
   }
 
+  /** @return the term of the current leader of the partition, or -1 if it has no leader */
+  public long getPartitionLeaderTerm(final int partition) {
+    final Long term = partitionLeaderTerms.get(partition);
+    return term != null ? term : -1L;
+  }
+
   @Override
   public List<Integer> getFollowersForPartition(final int partition) {
     return partitionFollowers.get(partition);
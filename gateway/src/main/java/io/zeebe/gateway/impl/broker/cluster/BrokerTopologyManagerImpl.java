@@ -13,24 +13,42 @@ import io.atomix.cluster.ClusterMembershipEvent;
 import io.atomix.cluster.ClusterMembershipEvent.Type;
 import io.atomix.cluster.ClusterMembershipEventListener;
 import io.atomix.cluster.Member;
+import io.atomix.cluster.MemberId;
 import io.zeebe.gateway.Loggers;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.impl.encoding.TopologyDelta;
 import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
 public final class BrokerTopologyManagerImpl extends Actor
     implements BrokerTopologyManager, ClusterMembershipEventListener {
 
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+  private static final String SOURCE_GOSSIP = "gossip";
+  private static final String SOURCE_DELTA = "delta";
 
   protected final AtomicReference<BrokerClusterStateImpl> topology;
   private final Supplier<Set<Member>> membersSupplier;
   private final GatewayTopologyMetrics topologyMetrics = new GatewayTopologyMetrics();
 
+  // the following state is only accessed by the actor
+  // member id -> the last processed broker info, to skip unchanged member properties
+  private final Map<MemberId, String> processedBrokerInfos = new HashMap<>();
+  // node id -> the member id of the broker, to forget its broker info when it is removed
+  private final Int2ObjectHashMap<MemberId> memberIds = new Int2ObjectHashMap<>();
+  // node id -> the version of the last applied topology delta
+  private final Int2ObjectHashMap<Long> deltaVersions = new Int2ObjectHashMap<>();
+  // partition id -> the leader which was applied from a delta but not received by gossip yet
+  private final Int2ObjectHashMap<DeltaLeader> deltaLeaders = new Int2ObjectHashMap<>();
+
   public BrokerTopologyManagerImpl(final Supplier<Set<Member>> membersSupplier) {
     this.membersSupplier = membersSupplier;
     topology = new AtomicReference<>(null);
@@ -52,15 +70,71 @@ public final class BrokerTopologyManagerImpl extends Actor
       return;
     }
 
-    final BrokerClusterStateImpl newTopology = new BrokerClusterStateImpl(topology.get());
+    BrokerClusterStateImpl newTopology = null;
     for (final Member member : members) {
+      final String encodedBrokerInfo = BrokerInfo.getEncodedProperty(member.properties());
+      if (encodedBrokerInfo == null
+          || encodedBrokerInfo.equals(processedBrokerInfos.get(member.id()))) {
+        continue;
+      }
+
       final BrokerInfo brokerInfo = BrokerInfo.fromProperties(member.properties());
       if (brokerInfo != null) {
+        if (newTopology == null) {
+          newTopology = new BrokerClusterStateImpl(topology.get());
+        }
         newTopology.addBrokerIfAbsent(brokerInfo.getNodeId());
-        processProperties(brokerInfo, newTopology);
+        processProperties(member.id(), brokerInfo, encodedBrokerInfo, newTopology);
       }
     }
-    topology.set(newTopology);
+
+    if (newTopology != null) {
+      topology.set(newTopology);
+      updateMetrics(newTopology);
+    }
+  }
+
+  /**
+   * Applies a leader change which was sent directly by the broker, before the change reaches the
+   * gateway by gossip. The deltas of a broker are only applied in order of their version, and a
+   * leader is only replaced by a leader of a higher term, so an outdated delta doesn't override a
+   * newer topology.
+   */
+  public void onTopologyDelta(final TopologyDelta delta) {
+    actor.run(
+        () -> {
+          final int nodeId = delta.getNodeId();
+          final int partitionId = delta.getPartitionId();
+          final BrokerClusterStateImpl currentTopology = topology.get();
+
+          final boolean isApplicable =
+              delta.getVersion() > deltaVersions.getOrDefault(nodeId, -1L)
+                  && currentTopology != null
+                  && currentTopology.getBrokers().contains(nodeId)
+                  && currentTopology.getPartitionLeaderTerm(partitionId) < delta.getTerm();
+          topologyMetrics.topologyUpdate(SOURCE_DELTA, isApplicable);
+          if (!isApplicable) {
+            // the broker is not known yet (its address is missing) or the delta is outdated
+            LOG.trace("Ignore topology delta {}", delta);
+            return;
+          }
+
+          final long now = ActorClock.currentTimeMillis();
+          topologyMetrics.deltaLatency(partitionId, now - delta.getTimestamp());
+          LOG.debug(
+              "Received new leader {} of partition {} at term {} by delta.",
+              nodeId,
+              partitionId,
+              delta.getTerm());
+
+          deltaVersions.put(nodeId, Long.valueOf(delta.getVersion()));
+          deltaLeaders.put(partitionId, new DeltaLeader(nodeId, delta.getTerm(), now));
+
+          final BrokerClusterStateImpl newTopology = new BrokerClusterStateImpl(currentTopology);
+          newTopology.setPartitionLeader(partitionId, nodeId, delta.getTerm());
+          topology.set(newTopology);
+          updateMetrics(newTopology);
+        });
   }
 
   @Override
@@ -78,18 +152,26 @@ public final class BrokerTopologyManagerImpl extends Actor
   public void event(final ClusterMembershipEvent event) {
     final Member subject = event.subject();
     final Type eventType = event.type();
+    final String encodedBrokerInfo = BrokerInfo.getEncodedProperty(subject.properties());
     final BrokerInfo brokerInfo = BrokerInfo.fromProperties(subject.properties());
 
     if (brokerInfo != null) {
       actor.call(
           () -> {
+            if (eventType != Type.MEMBER_REMOVED
+                && encodedBrokerInfo.equals(processedBrokerInfos.get(subject.id()))) {
+              LOG.trace("Received {} for broker {} without changes.", eventType, brokerInfo);
+              topologyMetrics.topologyUpdate(SOURCE_GOSSIP, false);
+              return;
+            }
+
             final BrokerClusterStateImpl newTopology = new BrokerClusterStateImpl(topology.get());
 
             switch (eventType) {
               case MEMBER_ADDED:
                 LOG.debug("Received new broker {}.", brokerInfo);
                 newTopology.addBrokerIfAbsent(brokerInfo.getNodeId());
-                processProperties(brokerInfo, newTopology);
+                processProperties(subject.id(), brokerInfo, encodedBrokerInfo, newTopology);
                 break;
 
               case METADATA_CHANGED:
@@ -100,12 +182,15 @@ public final class BrokerTopologyManagerImpl extends Actor
                     brokerInfo.getPartitionLeaderTerms(),
                     brokerInfo.getPartitionHealthStatuses());
                 newTopology.addBrokerIfAbsent(brokerInfo.getNodeId());
-                processProperties(brokerInfo, newTopology);
+                processProperties(subject.id(), brokerInfo, encodedBrokerInfo, newTopology);
                 break;
 
               case MEMBER_REMOVED:
                 LOG.debug("Received broker was removed {}.", brokerInfo);
                 newTopology.removeBroker(brokerInfo.getNodeId());
+                processedBrokerInfos.remove(memberIds.remove(brokerInfo.getNodeId()));
+                // a restarted broker starts with new versions
+                deltaVersions.remove(brokerInfo.getNodeId());
                 break;
 
               case REACHABILITY_CHANGED:
@@ -123,7 +208,16 @@ public final class BrokerTopologyManagerImpl extends Actor
 
   // Update topology information based on the distributed event
   private void processProperties(
-      final BrokerInfo distributedBrokerInfo, final BrokerClusterStateImpl newTopology) {
+      final MemberId memberId,
+      final BrokerInfo distributedBrokerInfo,
+      final String encodedBrokerInfo,
+      final BrokerClusterStateImpl newTopology) {
+    processedBrokerInfos.put(memberId, encodedBrokerInfo);
+    final MemberId previousMemberId = memberIds.put(distributedBrokerInfo.getNodeId(), memberId);
+    if (previousMemberId != null && !previousMemberId.equals(memberId)) {
+      processedBrokerInfos.remove(previousMemberId);
+    }
+    topologyMetrics.topologyUpdate(SOURCE_GOSSIP, true);
 
     newTopology.setClusterSize(distributedBrokerInfo.getClusterSize());
     newTopology.setPartitionsCount(distributedBrokerInfo.getPartitionsCount());
@@ -133,8 +227,10 @@ public final class BrokerTopologyManagerImpl extends Actor
 
     distributedBrokerInfo.consumePartitions(
         newTopology::addPartitionIfAbsent,
-        (leaderPartitionId, term) ->
-            newTopology.setPartitionLeader(leaderPartitionId, nodeId, term),
+        (leaderPartitionId, term) -> {
+          newTopology.setPartitionLeader(leaderPartitionId, nodeId, term);
+          onGossipLeader(leaderPartitionId, nodeId, term);
+        },
         followerPartitionId -> newTopology.addPartitionFollower(followerPartitionId, nodeId),
         inactivePartitionId -> newTopology.addPartitionInactive(inactivePartitionId, nodeId));
 
@@ -151,6 +247,19 @@ public final class BrokerTopologyManagerImpl extends Actor
     newTopology.setBrokerVersionIfPresent(nodeId, distributedBrokerInfo.getVersion());
   }
 
+  private void onGossipLeader(final int partitionId, final int nodeId, final long term) {
+    final DeltaLeader deltaLeader = deltaLeaders.get(partitionId);
+    if (deltaLeader == null || deltaLeader.term > term) {
+      return;
+    }
+
+    if (deltaLeader.nodeId == nodeId && deltaLeader.term == term) {
+      topologyMetrics.gossipLag(
+          partitionId, ActorClock.currentTimeMillis() - deltaLeader.appliedAtMillis);
+    }
+    deltaLeaders.remove(partitionId);
+  }
+
   private void updateMetrics(final BrokerClusterState topology) {
     final var partitions = topology.getPartitions();
     partitions.forEach(
@@ -166,4 +275,16 @@ public final class BrokerTopologyManagerImpl extends Actor
           }
         });
   }
+
+  private static final class DeltaLeader {
+    private final int nodeId;
+    private final long term;
+    private final long appliedAtMillis;
+
+    private DeltaLeader(final int nodeId, final long term, final long appliedAtMillis) {
+      this.nodeId = nodeId;
+      this.term = term;
+      this.appliedAtMillis = appliedAtMillis;
+    }
+  }
 }
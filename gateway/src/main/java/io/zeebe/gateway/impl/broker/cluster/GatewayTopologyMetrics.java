@@ -7,7 +7,9 @@
  */
 package io.zeebe.gateway.impl.broker.cluster;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class GatewayTopologyMetrics {
   private static final Gauge PARTITION_ROLE =
@@ -18,6 +20,40 @@ public class GatewayTopologyMetrics {
           .labelNames("partition", "broker")
           .register();
 
+  private static final Counter TOPOLOGY_UPDATES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_topology_updates_total")
+          .help(
+              "Number of topology updates received from the brokers, by source (gossip or delta)"
+                  + " and whether they changed the topology")
+          .labelNames("source", "applied")
+          .register();
+
+  private static final Histogram DELTA_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("gateway_topology_delta_latency")
+          .help(
+              "Time between a broker sending a leader change and the gateway applying it (in"
+                  + " seconds), based on the clocks of both")
+          .buckets(0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram GOSSIP_LAG =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("gateway_topology_gossip_lag")
+          .help(
+              "Time between applying a leader change from a delta and receiving it by gossip (in"
+                  + " seconds), i.e. how much longer the topology would have been stale without"
+                  + " deltas")
+          .buckets(0.01, 0.05, 0.1, 0.5, 1, 2.5, 5, 10, 30)
+          .labelNames("partition")
+          .register();
+
+  private static final double MILLIS_PER_SECOND = 1_000d;
   private static final int FOLLOWER = 0;
   private static final int LEADER = 3;
 
@@ -28,4 +64,18 @@ public class GatewayTopologyMetrics {
   public void setFollower(final int partition, final int broker) {
     PARTITION_ROLE.labels(String.valueOf(partition), String.valueOf(broker)).set(FOLLOWER);
   }
+
+  public void topologyUpdate(final String source, final boolean applied) {
+    TOPOLOGY_UPDATES.labels(source, String.valueOf(applied)).inc();
+  }
+
+  public void deltaLatency(final int partition, final long latencyMillis) {
+    DELTA_LATENCY
+        .labels(String.valueOf(partition))
+        .observe(Math.max(0, latencyMillis) / MILLIS_PER_SECOND);
+  }
+
+  public void gossipLag(final int partition, final long lagMillis) {
+    GOSSIP_LAG.labels(String.valueOf(partition)).observe(lagMillis / MILLIS_PER_SECOND);
+  }
 }
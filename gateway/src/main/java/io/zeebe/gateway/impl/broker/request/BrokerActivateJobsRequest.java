@@ -49,6 +49,22 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /**
+   * @return a new request with the same values, e.g. to send the request to multiple partitions
+   *     concurrently
+   */
+  public BrokerActivateJobsRequest copy() {
+    final BrokerActivateJobsRequest copy = new BrokerActivateJobsRequest(requestDto.getType());
+    copy.requestDto.wrap(BufferUtil.createCopy(requestDto));
+    return copy;
+  }
+
+  @Override
+  public boolean isCoalescable() {
+    // activation responses can be large and are answered with a long polling timeout
+    return false;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
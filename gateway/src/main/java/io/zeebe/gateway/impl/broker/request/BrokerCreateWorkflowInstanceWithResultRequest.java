@@ -51,6 +51,12 @@ public final class BrokerCreateWorkflowInstanceWithResultRequest
     return this;
   }
 
+  @Override
+  public boolean isCoalescable() {
+    // only answered once the workflow instance completed, which would delay the whole batch
+    return false;
+  }
+
   @Override
   public WorkflowInstanceCreationRecord getRequestWriter() {
     return requestDto;
@@ -28,6 +28,12 @@ public final class BrokerDeployWorkflowRequest extends BrokerExecuteCommand<Depl
     return this;
   }
 
+  @Override
+  public boolean isCoalescable() {
+    // deployments can be large and take considerably longer to process than other commands
+    return false;
+  }
+
   @Override
   public DeploymentRecord getRequestWriter() {
     return requestDto;
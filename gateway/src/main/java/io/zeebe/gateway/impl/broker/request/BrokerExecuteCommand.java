@@ -71,6 +71,11 @@ public abstract class BrokerExecuteCommand<T> extends BrokerRequest<T> {
     return true;
   }
 
+  @Override
+  public boolean isCoalescable() {
+    return true;
+  }
+
   @Override
   protected void setSerializedValue(final DirectBuffer buffer) {
     request.setValue(buffer, 0, buffer.capacity());
@@ -42,6 +42,17 @@ public abstract class BrokerRequest<T> implements ClientRequest {
 
   public abstract boolean requiresPartitionId();
 
+  /**
+   * A coalescable request may be sent to the partition leader together with other requests in one
+   * batch. As a batch is only answered once all of its commands are processed, long running
+   * requests should never be coalesced.
+   *
+   * @return true if the request may be sent as part of a batch
+   */
+  public boolean isCoalescable() {
+    return false;
+  }
+
   // public so we can do assertions in tests
   public abstract BufferWriter getRequestWriter();
 
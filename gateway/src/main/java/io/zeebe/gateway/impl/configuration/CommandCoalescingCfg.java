@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.configuration;
+
+import java.util.Objects;
+
+public final class CommandCoalescingCfg {
+
+  private boolean enabled = ConfigurationDefaults.DEFAULT_COMMAND_COALESCING_ENABLED;
+  private int maxBatchSize = ConfigurationDefaults.DEFAULT_COMMAND_COALESCING_MAX_BATCH_SIZE;
+  private int maxBatchBytes = ConfigurationDefaults.DEFAULT_COMMAND_COALESCING_MAX_BATCH_BYTES;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public CommandCoalescingCfg setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public CommandCoalescingCfg setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public int getMaxBatchBytes() {
+    return maxBatchBytes;
+  }
+
+  public CommandCoalescingCfg setMaxBatchBytes(final int maxBatchBytes) {
+    this.maxBatchBytes = maxBatchBytes;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, maxBatchSize, maxBatchBytes);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final CommandCoalescingCfg that = (CommandCoalescingCfg) o;
+    return enabled == that.enabled
+        && maxBatchSize == that.maxBatchSize
+        && maxBatchBytes == that.maxBatchBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "CommandCoalescingCfg{"
+        + "enabled="
+        + enabled
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", maxBatchBytes="
+        + maxBatchBytes
+        + '}';
+  }
+}
@@ -21,6 +21,11 @@ public final class ConfigurationDefaults {
   public static final int DEFAULT_MAX_MESSAGE_COUNT = 16;
   public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(15);
   public static final boolean DEFAULT_LONG_POLLING_ENABLED = true;
+  public static final boolean DEFAULT_COMMAND_COALESCING_ENABLED = false;
+  public static final int DEFAULT_COMMAND_COALESCING_MAX_BATCH_SIZE = 32;
+  public static final int DEFAULT_COMMAND_COALESCING_MAX_BATCH_BYTES = 1024 * 1024;
+  public static final boolean DEFAULT_CONCURRENT_PARTITION_POLLING = false;
+  public static final Duration DEFAULT_EMPTY_PARTITION_TIMEOUT = Duration.ofSeconds(10);
   public static final boolean DEFAULT_TLS_ENABLED = false;
 
   public static final String DEFAULT_CLUSTER_NAME = "zeebe-cluster";
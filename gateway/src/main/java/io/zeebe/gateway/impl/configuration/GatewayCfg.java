@@ -25,6 +25,8 @@ public class GatewayCfg {
   private MonitoringCfg monitoring = new MonitoringCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
+  private CommandCoalescingCfg commandCoalescing = new CommandCoalescingCfg();
+  private JobActivationCfg jobActivation = new JobActivationCfg();
   private boolean initialized = false;
 
   public void init() {
@@ -95,9 +97,35 @@ public class GatewayCfg {
     return this;
   }
 
+  public CommandCoalescingCfg getCommandCoalescing() {
+    return commandCoalescing;
+  }
+
+  public GatewayCfg setCommandCoalescing(final CommandCoalescingCfg commandCoalescing) {
+    this.commandCoalescing = commandCoalescing;
+    return this;
+  }
+
+  public JobActivationCfg getJobActivation() {
+    return jobActivation;
+  }
+
+  public GatewayCfg setJobActivation(final JobActivationCfg jobActivation) {
+    this.jobActivation = jobActivation;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, monitoring, security, longPolling);
+    return Objects.hash(
+        network,
+        cluster,
+        threads,
+        monitoring,
+        security,
+        longPolling,
+        commandCoalescing,
+        jobActivation);
   }
 
   @Override
@@ -114,7 +142,9 @@ public class GatewayCfg {
         && Objects.equals(threads, that.threads)
         && Objects.equals(monitoring, that.monitoring)
         && Objects.equals(security, that.security)
-        && Objects.equals(longPolling, that.longPolling);
+        && Objects.equals(longPolling, that.longPolling)
+        && Objects.equals(commandCoalescing, that.commandCoalescing)
+        && Objects.equals(jobActivation, that.jobActivation);
   }
 
   @Override
@@ -132,6 +162,10 @@ public class GatewayCfg {
         + security
         + ", longPollingCfg="
         + longPolling
+        + ", commandCoalescingCfg="
+        + commandCoalescing
+        + ", jobActivationCfg="
+        + jobActivation
         + '}';
   }
 
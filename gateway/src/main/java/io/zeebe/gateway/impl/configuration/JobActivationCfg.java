@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.configuration;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public final class JobActivationCfg {
+
+  private boolean concurrentPartitionPolling =
+      ConfigurationDefaults.DEFAULT_CONCURRENT_PARTITION_POLLING;
+  private Duration emptyPartitionTimeout = ConfigurationDefaults.DEFAULT_EMPTY_PARTITION_TIMEOUT;
+
+  public boolean isConcurrentPartitionPolling() {
+    return concurrentPartitionPolling;
+  }
+
+  public JobActivationCfg setConcurrentPartitionPolling(final boolean concurrentPartitionPolling) {
+    this.concurrentPartitionPolling = concurrentPartitionPolling;
+    return this;
+  }
+
+  public Duration getEmptyPartitionTimeout() {
+    return emptyPartitionTimeout;
+  }
+
+  public JobActivationCfg setEmptyPartitionTimeout(final Duration emptyPartitionTimeout) {
+    this.emptyPartitionTimeout = emptyPartitionTimeout;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(concurrentPartitionPolling, emptyPartitionTimeout);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobActivationCfg that = (JobActivationCfg) o;
+    return concurrentPartitionPolling == that.concurrentPartitionPolling
+        && Objects.equals(emptyPartitionTimeout, that.emptyPartitionTimeout);
+  }
+
+  @Override
+  public String toString() {
+    return "JobActivationCfg{"
+        + "concurrentPartitionPolling="
+        + concurrentPartitionPolling
+        + ", emptyPartitionTimeout="
+        + emptyPartitionTimeout
+        + '}';
+  }
+}
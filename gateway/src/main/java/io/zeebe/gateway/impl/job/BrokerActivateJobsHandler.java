@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/** Sends the requests to activate jobs to the partitions, on behalf of an activate jobs handler. */
+interface BrokerActivateJobsHandler {
+
+  /**
+   * Activates up to the given amount of jobs from the partitions.
+   *
+   * @param partitionsCount the number of partitions
+   * @param request the request to send to the partitions
+   * @param maxJobsToActivate the max amount of jobs to activate from all partitions
+   * @param type the type of the jobs
+   * @param onResponse called for each response which contains jobs
+   * @param onError called if the request is rejected; no more responses are passed then
+   * @param onCompleted called with the amount of jobs which were not activated and whether a
+   *     partition responded with {@code RESOURCE_EXHAUSTED}, once all partitions are done
+   */
+  void activateJobs(
+      int partitionsCount,
+      BrokerActivateJobsRequest request,
+      int maxJobsToActivate,
+      String type,
+      Consumer<ActivateJobsResponse> onResponse,
+      Consumer<Throwable> onError,
+      BiConsumer<Integer, Boolean> onCompleted);
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import static io.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler.isRejection;
+import static io.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler.wasResourceExhausted;
+import static io.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
+
+import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.RequestMapper;
+import io.zeebe.gateway.ResponseMapper;
+import io.zeebe.gateway.grpc.ServerStreamObserver;
+import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.PartitionIdIterator;
+import io.zeebe.gateway.impl.broker.RequestDispatchStrategy;
+import io.zeebe.gateway.impl.broker.RoundRobinDispatchStrategy;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Activates jobs from all partitions concurrently, instead of one partition after another. The
+ * amount of jobs to activate is split between the partitions, and the partitions which may have
+ * more jobs are asked again with the remaining amount until enough jobs are activated or all
+ * partitions are exhausted.
+ *
+ * <p>The partitions which had no jobs of a type are skipped until jobs of this type are available
+ * again, see {@link PartitionJobAvailability}. Use {@link #subscribeJobAvailableNotification()} or
+ * forward the notifications to {@link #onJobsAvailable(String)} to track the availability.
+ */
+public final class ConcurrentActivateJobsHandler
+    implements ActivateJobsHandler, BrokerActivateJobsHandler {
+
+  private final Map<String, RequestDispatchStrategy> jobTypeToNextPartitionId =
+      new ConcurrentHashMap<>();
+  private final BrokerClient brokerClient;
+  private final BrokerTopologyManager topologyManager;
+  private final PartitionJobAvailability partitionJobAvailability;
+
+  public ConcurrentActivateJobsHandler(
+      final BrokerClient brokerClient, final Duration emptyPartitionTimeout) {
+    this.brokerClient = brokerClient;
+    topologyManager = brokerClient.getTopologyManager();
+    partitionJobAvailability = new PartitionJobAvailability(emptyPartitionTimeout.toMillis());
+  }
+
+  public void subscribeJobAvailableNotification() {
+    brokerClient.subscribeJobAvailableNotification(
+        LongPollingActivateJobsHandler.JOBS_AVAILABLE_TOPIC, this::onJobsAvailable);
+  }
+
+  public void onJobsAvailable(final String jobType) {
+    partitionJobAvailability.onJobsAvailable(jobType);
+  }
+
+  @Override
+  public void activateJobs(
+      final ActivateJobsRequest request,
+      final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology != null) {
+      activateJobs(
+          topology.getPartitionsCount(),
+          RequestMapper.toActivateJobsRequest(request),
+          request.getMaxJobsToActivate(),
+          request.getType(),
+          responseObserver::onNext,
+          responseObserver::onError,
+          (remainingAmount, resourceExhaustedWasPresent) -> responseObserver.onCompleted());
+    }
+  }
+
+  @Override
+  public void activateJobs(
+      final int partitionsCount,
+      final BrokerActivateJobsRequest request,
+      final int maxJobsToActivate,
+      final String type,
+      final Consumer<ActivateJobsResponse> onResponse,
+      final Consumer<Throwable> onError,
+      final BiConsumer<Integer, Boolean> onCompleted) {
+    final List<Integer> partitionIds = new ArrayList<>(partitionsCount);
+    final long now = currentTimeMillis();
+    partitionIdIteratorForType(type, partitionsCount)
+        .forEachRemaining(
+            partitionId -> {
+              if (!partitionJobAvailability.isEmpty(type, partitionId, now)) {
+                partitionIds.add(partitionId);
+              }
+            });
+
+    final Activation activation =
+        new Activation(request, maxJobsToActivate, type, onResponse, onError, onCompleted);
+    activation.activateJobs(partitionIds);
+  }
+
+  private PartitionIdIterator partitionIdIteratorForType(
+      final String jobType, final int partitionsCount) {
+    final RequestDispatchStrategy nextPartitionSupplier =
+        jobTypeToNextPartitionId.computeIfAbsent(
+            jobType, t -> new RoundRobinDispatchStrategy(topologyManager));
+    return new PartitionIdIterator(
+        nextPartitionSupplier.determinePartition(), partitionsCount, topologyManager);
+  }
+
+  /**
+   * The state of a single activation. The responses of the partitions are handled one at a time, so
+   * that the callbacks are not invoked concurrently.
+   */
+  private final class Activation {
+
+    private final BrokerActivateJobsRequest request;
+    private final String jobType;
+    private final Consumer<ActivateJobsResponse> onResponse;
+    private final Consumer<Throwable> onError;
+    private final BiConsumer<Integer, Boolean> onCompleted;
+    private final long notificationCount;
+
+    // partitions which were not asked yet or may have more jobs
+    private List<Integer> nextPartitionIds = new ArrayList<>();
+    private int remainingAmount;
+    private int pendingRequests;
+    private boolean resourceExhaustedWasPresent;
+    private boolean isRejected;
+
+    private Activation(
+        final BrokerActivateJobsRequest request,
+        final int maxJobsToActivate,
+        final String jobType,
+        final Consumer<ActivateJobsResponse> onResponse,
+        final Consumer<Throwable> onError,
+        final BiConsumer<Integer, Boolean> onCompleted) {
+      this.request = request;
+      remainingAmount = maxJobsToActivate;
+      this.jobType = jobType;
+      this.onResponse = onResponse;
+      this.onError = onError;
+      this.onCompleted = onCompleted;
+      notificationCount = partitionJobAvailability.getNotificationCount(jobType);
+    }
+
+    private void activateJobs(final List<Integer> partitionIds) {
+      final List<BrokerActivateJobsRequest> requests;
+      synchronized (this) {
+        final int partitionsToAsk = Math.min(partitionIds.size(), remainingAmount);
+        if (partitionsToAsk <= 0) {
+          onCompleted.accept(remainingAmount, resourceExhaustedWasPresent);
+          return;
+        }
+
+        // split the remaining amount between the partitions; the first ones get the remainder
+        final int amountPerPartition = remainingAmount / partitionsToAsk;
+        final int remainder = remainingAmount % partitionsToAsk;
+
+        requests = new ArrayList<>(partitionsToAsk);
+        for (int i = 0; i < partitionsToAsk; i++) {
+          final BrokerActivateJobsRequest partitionRequest = request.copy();
+          partitionRequest.setPartitionId(partitionIds.get(i));
+          partitionRequest.setMaxJobsToActivate(amountPerPartition + (i < remainder ? 1 : 0));
+          requests.add(partitionRequest);
+        }
+
+        nextPartitionIds =
+            new ArrayList<>(partitionIds.subList(partitionsToAsk, partitionIds.size()));
+        pendingRequests = partitionsToAsk;
+      }
+
+      for (final BrokerActivateJobsRequest partitionRequest : requests) {
+        brokerClient
+            .sendRequest(partitionRequest)
+            .whenComplete(
+                (response, error) -> {
+                  if (error == null) {
+                    onPartitionResponse(partitionRequest, response);
+                  } else {
+                    onPartitionError(partitionRequest, error);
+                  }
+                });
+      }
+    }
+
+    private void onPartitionResponse(
+        final BrokerActivateJobsRequest partitionRequest,
+        final BrokerResponse<JobBatchRecord> response) {
+      final List<Integer> partitionIds;
+      synchronized (this) {
+        if (isRejected) {
+          return;
+        }
+
+        final int partitionId = partitionRequest.getPartitionId();
+        final ActivateJobsResponse grpcResponse =
+            ResponseMapper.toActivateJobsResponse(response.getKey(), response.getResponse());
+        final int jobsCount = grpcResponse.getJobsCount();
+        if (jobsCount > 0) {
+          onResponse.accept(grpcResponse);
+          remainingAmount -= jobsCount;
+        }
+
+        final boolean isTruncated = response.getResponse().getTruncated();
+        final int requestedAmount = partitionRequest.getRequestWriter().getMaxJobsToActivate();
+        if (jobsCount > 0 && (isTruncated || jobsCount >= requestedAmount)) {
+          // the partition may have more jobs
+          nextPartitionIds.add(partitionId);
+        } else if (jobsCount == 0 && !isTruncated) {
+          partitionJobAvailability.markEmpty(
+              jobType, partitionId, notificationCount, currentTimeMillis());
+        }
+
+        partitionIds = onRequestCompleted();
+      }
+
+      if (partitionIds != null) {
+        activateJobs(partitionIds);
+      }
+    }
+
+    private void onPartitionError(
+        final BrokerActivateJobsRequest partitionRequest, final Throwable error) {
+      final List<Integer> partitionIds;
+      synchronized (this) {
+        if (isRejected) {
+          return;
+        }
+
+        if (isRejection(error)) {
+          isRejected = true;
+          onError.accept(error);
+          return;
+        }
+
+        if (wasResourceExhausted(error)) {
+          resourceExhaustedWasPresent = true;
+        } else {
+          Loggers.GATEWAY_LOGGER.warn(
+              "Failed to activate jobs for type {} from partition {}",
+              jobType,
+              partitionRequest.getPartitionId(),
+              error);
+        }
+
+        partitionIds = onRequestCompleted();
+      }
+
+      if (partitionIds != null) {
+        activateJobs(partitionIds);
+      }
+    }
+
+    /** @return the partitions to ask next, if all pending requests are completed */
+    private List<Integer> onRequestCompleted() {
+      pendingRequests -= 1;
+      if (pendingRequests > 0) {
+        return null;
+      }
+
+      final List<Integer> partitionIds = nextPartitionIds;
+      nextPartitionIds = new ArrayList<>();
+      return partitionIds;
+    }
+  }
+}
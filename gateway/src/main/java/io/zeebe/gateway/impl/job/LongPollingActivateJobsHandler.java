@@ -16,6 +16,7 @@ import io.zeebe.gateway.Loggers;
 import io.zeebe.gateway.grpc.ServerStreamObserver;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.configuration.ConfigurationDefaults;
 import io.zeebe.gateway.metrics.LongPollingMetrics;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
@@ -35,12 +36,13 @@ import org.slf4j.Logger;
  */
 public final class LongPollingActivateJobsHandler extends Actor implements ActivateJobsHandler {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
 
-  private final RoundRobinActivateJobsHandler activateJobsHandler;
+  private final BrokerActivateJobsHandler activateJobsHandler;
+  private final ConcurrentActivateJobsHandler concurrentActivateJobsHandler;
   private final BrokerClient brokerClient;
 
   // jobType -> state
@@ -56,9 +58,18 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int failedAttemptThreshold) {
+      final int failedAttemptThreshold,
+      final boolean concurrentPartitionPolling,
+      final Duration emptyPartitionTimeout) {
     this.brokerClient = brokerClient;
-    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+    if (concurrentPartitionPolling) {
+      concurrentActivateJobsHandler =
+          new ConcurrentActivateJobsHandler(brokerClient, emptyPartitionTimeout);
+      activateJobsHandler = concurrentActivateJobsHandler;
+    } else {
+      concurrentActivateJobsHandler = null;
+      activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+    }
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
@@ -127,6 +138,9 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
 
   private void onNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    if (concurrentActivateJobsHandler != null) {
+      concurrentActivateJobsHandler.onJobsAvailable(jobType);
+    }
 
     actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
   }
@@ -282,6 +296,9 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private boolean concurrentPartitionPolling =
+        ConfigurationDefaults.DEFAULT_CONCURRENT_PARTITION_POLLING;
+    private Duration emptyPartitionTimeout = ConfigurationDefaults.DEFAULT_EMPTY_PARTITION_TIMEOUT;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -303,10 +320,29 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       return this;
     }
 
+    /**
+     * @param concurrentPartitionPolling whether the partitions are asked for jobs concurrently,
+     *     skipping the partitions without jobs, see {@link ConcurrentActivateJobsHandler}
+     */
+    public Builder setConcurrentPartitionPolling(final boolean concurrentPartitionPolling) {
+      this.concurrentPartitionPolling = concurrentPartitionPolling;
+      return this;
+    }
+
+    public Builder setEmptyPartitionTimeout(final Duration emptyPartitionTimeout) {
+      this.emptyPartitionTimeout = emptyPartitionTimeout;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient,
+          longPollingTimeout,
+          probeTimeoutMillis,
+          minEmptyResponses,
+          concurrentPartitionPolling,
+          emptyPartitionTimeout);
     }
   }
 }
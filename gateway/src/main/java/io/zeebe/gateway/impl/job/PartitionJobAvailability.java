@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the partitions which had no jobs of a type to activate, so that they can be skipped
+ * when activating jobs of this type. The jobs available notification of the brokers doesn't contain
+ * the partition, so a notification for a type marks all partitions as available again. A partition
+ * is also considered available again after the empty partition timeout, in case a notification was
+ * missed.
+ *
+ * <p>To not miss a notification which is received while a request is in flight, a partition is only
+ * marked as empty if no notification for the type was received since the request was sent.
+ */
+final class PartitionJobAvailability {
+
+  private final Map<String, JobTypeAvailability> jobTypes = new ConcurrentHashMap<>();
+  private final long emptyPartitionTimeoutMillis;
+
+  PartitionJobAvailability(final long emptyPartitionTimeoutMillis) {
+    this.emptyPartitionTimeoutMillis = emptyPartitionTimeoutMillis;
+  }
+
+  /** @return the number of notifications received for the type, to pass to {@link #markEmpty} */
+  long getNotificationCount(final String jobType) {
+    return getJobTypeAvailability(jobType).notifications.get();
+  }
+
+  boolean isEmpty(final String jobType, final int partitionId, final long currentTimeMillis) {
+    final JobTypeAvailability availability = jobTypes.get(jobType);
+    if (availability == null) {
+      return false;
+    }
+
+    final Long emptyUntil = availability.emptyPartitions.get(partitionId);
+    return emptyUntil != null && emptyUntil > currentTimeMillis;
+  }
+
+  void markEmpty(
+      final String jobType,
+      final int partitionId,
+      final long notificationCount,
+      final long currentTimeMillis) {
+    final JobTypeAvailability availability = getJobTypeAvailability(jobType);
+    if (availability.notifications.get() == notificationCount) {
+      availability.emptyPartitions.put(
+          partitionId, currentTimeMillis + emptyPartitionTimeoutMillis);
+
+      if (availability.notifications.get() != notificationCount) {
+        // a notification was received concurrently and may have been cleared before the put
+        availability.emptyPartitions.remove(partitionId);
+      }
+    }
+  }
+
+  void onJobsAvailable(final String jobType) {
+    final JobTypeAvailability availability = jobTypes.get(jobType);
+    if (availability != null) {
+      availability.notifications.incrementAndGet();
+      availability.emptyPartitions.clear();
+    }
+  }
+
+  private JobTypeAvailability getJobTypeAvailability(final String jobType) {
+    return jobTypes.computeIfAbsent(jobType, type -> new JobTypeAvailability());
+  }
+
+  private static final class JobTypeAvailability {
+    private final AtomicLong notifications = new AtomicLong();
+    // partition id -> time until which the partition is considered empty
+    private final Map<Integer, Long> emptyPartitions = new ConcurrentHashMap<>();
+  }
+}
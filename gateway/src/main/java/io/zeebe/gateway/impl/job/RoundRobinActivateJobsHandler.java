@@ -32,7 +32,8 @@ import java.util.function.Consumer;
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
  */
-public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
+public final class RoundRobinActivateJobsHandler
+    implements ActivateJobsHandler, BrokerActivateJobsHandler {
 
   private final Map<String, RequestDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
@@ -62,6 +63,7 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     }
   }
 
+  @Override
   public void activateJobs(
       final int partitionsCount,
       final BrokerActivateJobsRequest request,
@@ -170,11 +172,11 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     }
   }
 
-  private boolean isRejection(final Throwable error) {
+  static boolean isRejection(final Throwable error) {
     return error != null && BrokerRejectionException.class.isAssignableFrom(error.getClass());
   }
 
-  private boolean wasResourceExhausted(final Throwable error) {
+  static boolean wasResourceExhausted(final Throwable error) {
     if (error instanceof BrokerErrorException) {
       final BrokerErrorException brokerError = (BrokerErrorException) error;
       return brokerError.getError().getCode() == ErrorCode.RESOURCE_EXHAUSTED;
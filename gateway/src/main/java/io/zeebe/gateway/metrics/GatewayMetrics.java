@@ -36,6 +36,15 @@ public final class GatewayMetrics {
           .labelNames("partition", "requestType")
           .register();
 
+  private static final Histogram COMMAND_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("gateway_command_batch_size")
+          .help("Number of commands which were coalesced into one request to a partition leader")
+          .labelNames("partition")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
   private GatewayMetrics() {}
 
   public static void registerSuccessfulRequest(
@@ -49,4 +58,8 @@ public final class GatewayMetrics {
     FAILED_REQUESTS.labels(Long.toString(partition), requestType, error).inc();
     TOTAL_REQUESTS.labels(Long.toString(partition), requestType).inc();
   }
+
+  public static void registerCommandBatch(final long partition, final int batchSize) {
+    COMMAND_BATCH_SIZE.labels(Long.toString(partition)).observe(batchSize);
+  }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.Status.Code;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult.ResultCase;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.test.util.JsonUtil;
+import io.zeebe.test.util.MsgPackUtil;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestsAndResponses() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+
+    final String variables = JsonUtil.toJson(Collections.singletonMap("key", "value"));
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(1).setVariables(variables))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(2))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getResultCase)
+        .containsExactly(ResultCase.RESPONSE, ResultCase.RESPONSE);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(r -> ((BrokerCompleteJobRequest) r).getKey())
+        .containsExactly(1L, 2L);
+
+    final BrokerCompleteJobRequest brokerRequest =
+        (BrokerCompleteJobRequest) brokerClient.getBrokerRequests().get(0);
+    assertThat(brokerRequest.getIntent()).isEqualTo(JobIntent.COMPLETE);
+    final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
+    MsgPackUtil.assertEqualityExcluding(brokerRequestValue.getVariablesBuffer(), variables);
+  }
+
+  @Test
+  public void shouldReturnErrorOnlyForFailedRequest() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (RequestHandler<BrokerCompleteJobRequest, BrokerResponse<JobRecord>>)
+            brokerRequest -> {
+              if (brokerRequest.getKey() == 2) {
+                return new BrokerRejectionResponse<>(
+                    new BrokerRejection(
+                        JobIntent.COMPLETE, 2, RejectionType.NOT_FOUND, "no such job"));
+              }
+              return stub.handle(brokerRequest);
+            });
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(1))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(2))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(3))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getResultCase)
+        .containsExactly(ResultCase.RESPONSE, ResultCase.ERROR, ResultCase.RESPONSE);
+
+    final CompleteJobResult failedResult = response.getResults(1);
+    assertThat(failedResult.getError().getCode()).isEqualTo(Code.NOT_FOUND.value());
+    assertThat(failedResult.getError().getMessage()).contains("no such job");
+  }
+
+  @Test
+  public void shouldRespondToEmptyBatch() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+}
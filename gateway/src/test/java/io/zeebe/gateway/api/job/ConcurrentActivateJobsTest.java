@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public final class ConcurrentActivateJobsTest extends GatewayTest {
+
+  private static final int PARTITIONS_COUNT = 8;
+  private static final String TYPE = "test";
+
+  public ConcurrentActivateJobsTest(final boolean isLongPollingEnabled) {
+    super(getConfig(isLongPollingEnabled));
+  }
+
+  @Parameters(name = "{index}: longPolling.enabled[{0}]")
+  public static Iterable<Object[]> data() {
+    return Arrays.asList(new Object[][] {{true}, {false}});
+  }
+
+  private static GatewayCfg getConfig(final boolean isLongPollingEnabled) {
+    final var config = new GatewayCfg();
+    config.getLongPolling().setEnabled(isLongPollingEnabled);
+    config.getJobActivation().setConcurrentPartitionPolling(true);
+    return config;
+  }
+
+  @Test
+  public void shouldSplitAmountBetweenPartitions() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs(TYPE, 20);
+
+    // when
+    final List<ActivateJobsResponse> responses = activateJobs(20);
+
+    // then
+    assertThat(responses.stream().mapToInt(ActivateJobsResponse::getJobsCount).sum()).isEqualTo(20);
+    assertThat(getActivateRequests())
+        .hasSize(PARTITIONS_COUNT)
+        .extracting(request -> request.getRequestWriter().getMaxJobsToActivate())
+        .containsOnly(2, 3)
+        .matches(amounts -> amounts.stream().mapToInt(Integer::intValue).sum() == 20);
+    assertThat(getActivateRequests())
+        .extracting(BrokerRequest::getPartitionId)
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldAskPartitionsWithMoreJobsAgain() {
+    // given only the first asked partition has jobs
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs(TYPE, 2);
+
+    // when
+    final List<ActivateJobsResponse> responses = activateJobs(16);
+
+    // then the partition which returned all requested jobs is asked again
+    assertThat(responses.stream().mapToInt(ActivateJobsResponse::getJobsCount).sum()).isEqualTo(2);
+    final List<BrokerActivateJobsRequest> requests = getActivateRequests();
+    assertThat(requests).hasSize(PARTITIONS_COUNT + 1);
+    assertThat(requests.get(PARTITIONS_COUNT).getPartitionId())
+        .isEqualTo(requests.get(0).getPartitionId());
+    assertThat(requests.get(PARTITIONS_COUNT).getRequestWriter().getMaxJobsToActivate())
+        .isEqualTo(14);
+  }
+
+  @Test
+  public void shouldSkipEmptyPartitions() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    activateJobs(10);
+    brokerClient.getBrokerRequests().clear();
+
+    // when
+    final List<ActivateJobsResponse> responses = activateJobs(10);
+
+    // then
+    assertThat(responses).isEmpty();
+    assertThat(getActivateRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldAskEmptyPartitionsAgainWhenJobsAreAvailable() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    activateJobs(10);
+    brokerClient.getBrokerRequests().clear();
+
+    // when
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(TYPE);
+    final List<ActivateJobsResponse> responses = activateJobs(10);
+
+    // then
+    assertThat(responses).hasSize(1);
+    assertThat(Protocol.decodePartitionId(responses.get(0).getJobs(0).getKey()))
+        .isBetween(Protocol.START_PARTITION_ID, Protocol.START_PARTITION_ID + PARTITIONS_COUNT);
+    assertThat(getActivateRequests()).hasSize(PARTITIONS_COUNT);
+  }
+
+  private List<ActivateJobsResponse> activateJobs(final int maxJobsToActivate) {
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(TYPE)
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .setRequestTimeout(-1)
+            .build();
+
+    final List<ActivateJobsResponse> responses = new ArrayList<>();
+    final Iterator<ActivateJobsResponse> iterator = client.activateJobs(request);
+    iterator.forEachRemaining(responses::add);
+    return responses;
+  }
+
+  private List<BrokerActivateJobsRequest> getActivateRequests() {
+    return brokerClient.getBrokerRequests().stream()
+        .filter(BrokerActivateJobsRequest.class::isInstance)
+        .map(BrokerActivateJobsRequest.class::cast)
+        .collect(Collectors.toList());
+  }
+}
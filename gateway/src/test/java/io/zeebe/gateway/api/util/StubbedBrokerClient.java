@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
@@ -70,6 +71,12 @@ public final class StubbedBrokerClient implements BrokerClient {
     throw new UnsupportedOperationException("not implemented");
   }
 
+  @Override
+  public <T> List<CompletableFuture<BrokerResponse<T>>> sendRequestsWithRetry(
+      final List<? extends BrokerRequest<T>> requests) {
+    return requests.stream().map(this::sendRequestWithRetry).collect(Collectors.toList());
+  }
+
   @Override
   public <T> void sendRequestWithRetry(
       final BrokerRequest<T> request,
@@ -120,6 +127,10 @@ public final class StubbedBrokerClient implements BrokerClient {
     jobsAvailableHandler.accept(type);
   }
 
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
+  }
+
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
     assertThat(brokerRequests).hasSize(1);
     return (T) brokerRequests.get(0);
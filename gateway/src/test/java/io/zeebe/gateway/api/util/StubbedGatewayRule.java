@@ -8,7 +8,9 @@
 package io.zeebe.gateway.api.util;
 
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.gateway.impl.configuration.JobActivationCfg;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.ConcurrentActivateJobsHandler;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
@@ -31,8 +33,20 @@ public final class StubbedGatewayRule extends ExternalResource {
 
   private static ActivateJobsHandler getActivateJobsHandler(
       final GatewayCfg config, final StubbedBrokerClient brokerClient) {
+    final JobActivationCfg jobActivationCfg = config.getJobActivation();
     if (config.getLongPolling().isEnabled()) {
-      return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+      return LongPollingActivateJobsHandler.newBuilder()
+          .setBrokerClient(brokerClient)
+          .setConcurrentPartitionPolling(jobActivationCfg.isConcurrentPartitionPolling())
+          .setEmptyPartitionTimeout(jobActivationCfg.getEmptyPartitionTimeout())
+          .build();
+    }
+    if (jobActivationCfg.isConcurrentPartitionPolling()) {
+      final ConcurrentActivateJobsHandler handler =
+          new ConcurrentActivateJobsHandler(
+              brokerClient, jobActivationCfg.getEmptyPartitionTimeout());
+      handler.subscribeJobAvailableNotification();
+      return handler;
     }
     return new RoundRobinActivateJobsHandler(brokerClient);
   }
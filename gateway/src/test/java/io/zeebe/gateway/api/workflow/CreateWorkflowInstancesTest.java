@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.workflow;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
+import org.junit.Test;
+
+public final class CreateWorkflowInstancesTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestsAndResponses() {
+    // given
+    final CreateWorkflowInstanceStub stub = new CreateWorkflowInstanceStub();
+    stub.registerWith(brokerClient);
+
+    final CreateWorkflowInstancesRequest request =
+        CreateWorkflowInstancesRequest.newBuilder()
+            .addRequests(CreateWorkflowInstanceRequest.newBuilder().setWorkflowKey(1))
+            .addRequests(
+                CreateWorkflowInstanceRequest.newBuilder()
+                    .setBpmnProcessId(stub.getProcessId())
+                    .setVersion(-1))
+            .build();
+
+    // when
+    final CreateWorkflowInstancesResponse response = client.createWorkflowInstances(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CreateWorkflowInstanceResult::getResponse)
+        .extracting(CreateWorkflowInstanceResponse::getWorkflowInstanceKey)
+        .containsExactly(stub.getWorkflowInstanceKey(), stub.getWorkflowInstanceKey());
+
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(r -> ((BrokerCreateWorkflowInstanceRequest) r).getRequestWriter())
+        .extracting(r -> r.getWorkflowKey(), r -> bufferAsString(r.getBpmnProcessIdBuffer()))
+        .containsExactly(tuple(1L, ""), tuple(0L, stub.getProcessId()));
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.workflow;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult.ResultCase;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestsAndResponses() {
+    // given
+    new PublishMessageStub().registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addRequests(
+                PublishMessageRequest.newBuilder().setName("message").setCorrelationKey("a"))
+            .addRequests(
+                PublishMessageRequest.newBuilder().setName("message").setCorrelationKey("b"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(PublishMessageResult::getResultCase)
+        .containsExactly(ResultCase.RESPONSE, ResultCase.RESPONSE);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(
+            r ->
+                bufferAsString(
+                    ((BrokerPublishMessageRequest) r).getRequestWriter().getCorrelationKeyBuffer()))
+        .containsExactly("a", "b");
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.broker;
+
+import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.AtomixCluster;
+import io.atomix.cluster.Node;
+import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
+import io.atomix.utils.net.Address;
+import io.zeebe.gateway.cmd.BrokerRejectionException;
+import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.BrokerClientImpl;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.msgpack.value.DocumentValue;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.test.broker.protocol.brokerapi.StubBrokerRule;
+import io.zeebe.test.util.MsgPackUtil;
+import io.zeebe.test.util.socket.SocketUtil;
+import io.zeebe.util.sched.clock.ControlledActorClock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class BrokerClientCommandCoalescingTest {
+
+  private static final int COMMAND_COUNT = 100;
+  private static final int MAX_BATCH_BYTES = 64 * 1024;
+
+  @Rule public final StubBrokerRule broker = new StubBrokerRule();
+  private BrokerClient client;
+  private AtomixCluster atomixCluster;
+
+  @Before
+  public void setUp() {
+    final GatewayCfg configuration = new GatewayCfg();
+    configuration
+        .getCluster()
+        .setHost("0.0.0.0")
+        .setPort(SocketUtil.getNextAddress().getPort())
+        .setContactPoint(io.zeebe.util.SocketUtil.toHostAndPortString(broker.getSocketAddress()))
+        .setRequestTimeout(Duration.ofSeconds(3));
+    configuration
+        .getCommandCoalescing()
+        .setEnabled(true)
+        .setMaxBatchSize(16)
+        .setMaxBatchBytes(MAX_BATCH_BYTES);
+    configuration.init();
+
+    final var stubAddress = Address.from(broker.getCurrentStubHost(), broker.getCurrentStubPort());
+    final var stubNode = Node.builder().withAddress(stubAddress).build();
+    atomixCluster =
+        AtomixCluster.builder()
+            .withPort(SocketUtil.getNextAddress().getPort())
+            .withMemberId("gateway")
+            .withClusterId("cluster")
+            .withMembershipProvider(
+                BootstrapDiscoveryProvider.builder().withNodes(List.of(stubNode)).build())
+            .build();
+    atomixCluster.start().join();
+
+    client = new BrokerClientImpl(configuration, atomixCluster, new ControlledActorClock());
+
+    final BrokerClusterStateImpl topology = new BrokerClusterStateImpl();
+    topology.addPartitionIfAbsent(START_PARTITION_ID);
+    topology.setPartitionLeader(START_PARTITION_ID, 0, 1);
+    topology.addBrokerIfAbsent(0);
+    topology.setBrokerAddressIfPresent(0, stubAddress.toString());
+
+    ((BrokerTopologyManagerImpl) client.getTopologyManager()).setTopology(topology);
+  }
+
+  @After
+  public void tearDown() {
+    client.close();
+    atomixCluster.stop().join();
+  }
+
+  @Test
+  public void shouldAnswerEveryCoalescedCommandIndividually() {
+    // given
+    broker.jobs().registerCompleteCommand();
+
+    // when
+    final List<CompletableFuture<BrokerResponse<JobRecord>>> responses = new ArrayList<>();
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      responses.add(client.sendRequestWithRetry(newCompleteJobRequest(i)));
+    }
+
+    // then
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      assertThat(responses.get(i).join().getKey()).isEqualTo(jobKey(i));
+    }
+
+    assertThat(broker.getReceivedCommandRequests()).hasSize(COMMAND_COUNT);
+    assertThat(broker.getReceivedBatchRequests())
+        .isNotEmpty()
+        .allSatisfy(batchSize -> assertThat(batchSize).isBetween(2, 16));
+  }
+
+  @Test
+  public void shouldCompleteCommandsOfSameBatchWithTheirOwnResult() {
+    // given
+    broker.jobs().registerCompleteCommand();
+    broker.jobs().registerFailCommand(b -> b.rejection(RejectionType.NOT_FOUND, "no job"));
+
+    // when
+    final List<CompletableFuture<BrokerResponse<JobRecord>>> completions = new ArrayList<>();
+    final List<CompletableFuture<BrokerResponse<JobRecord>>> failures = new ArrayList<>();
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      completions.add(client.sendRequest(newCompleteJobRequest(i)));
+      failures.add(client.sendRequest(new BrokerFailJobRequest(jobKey(i), 0)));
+    }
+
+    // then
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      assertThat(completions.get(i).join().getKey()).isEqualTo(jobKey(i));
+      assertThatThrownBy(failures.get(i)::join)
+          .hasCauseInstanceOf(BrokerRejectionException.class)
+          .hasMessageContaining("no job");
+    }
+  }
+
+  @Test
+  public void shouldSplitBatchByEncodedLength() {
+    // given
+    broker.jobs().registerCompleteCommand();
+    final DirectBuffer variables = MsgPackUtil.asMsgPack("payload", "x".repeat(10 * 1024));
+
+    final List<BrokerCompleteJobRequest> requests = new ArrayList<>();
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      requests.add(new BrokerCompleteJobRequest(jobKey(i), variables));
+    }
+
+    // when
+    final List<CompletableFuture<BrokerResponse<JobRecord>>> responses =
+        client.sendRequestsWithRetry(requests);
+
+    // then
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      assertThat(responses.get(i).join().getKey()).isEqualTo(jobKey(i));
+    }
+
+    // only a few of the commands fit into a batch, far less than the maximum count
+    assertThat(broker.getReceivedBatchRequests())
+        .isNotEmpty()
+        .allSatisfy(batchSize -> assertThat(batchSize).isBetween(2, 6));
+  }
+
+  private static BrokerCompleteJobRequest newCompleteJobRequest(final int index) {
+    return new BrokerCompleteJobRequest(jobKey(index), DocumentValue.EMPTY_DOCUMENT);
+  }
+
+  private static long jobKey(final int index) {
+    return Protocol.encodePartitionId(START_PARTITION_ID, index);
+  }
+}
@@ -29,9 +29,11 @@ import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerError;
 import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.zeebe.msgpack.value.DocumentValue;
 import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCreationRecord;
 import io.zeebe.protocol.record.ErrorCode;
 import io.zeebe.protocol.record.RejectionType;
@@ -47,7 +49,9 @@ import io.zeebe.test.util.socket.SocketUtil;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.After;
@@ -136,6 +140,28 @@ public final class BrokerClientTest {
         });
   }
 
+  @Test
+  public void shouldSendRequestsOfSamePartitionAsSingleBatch() {
+    // given
+    broker.jobs().registerCompleteCommand();
+    final List<Long> jobKeys =
+        List.of(
+            Protocol.encodePartitionId(START_PARTITION_ID, 1),
+            Protocol.encodePartitionId(START_PARTITION_ID, 2),
+            Protocol.encodePartitionId(START_PARTITION_ID, 3));
+
+    // when
+    final List<CompletableFuture<BrokerResponse<JobRecord>>> responses =
+        client.sendRequestsWithRetry(
+            jobKeys.stream()
+                .map(key -> new BrokerCompleteJobRequest(key, DocumentValue.EMPTY_DOCUMENT))
+                .collect(Collectors.toList()));
+
+    // then
+    assertThat(responses).extracting(r -> r.join().getKey()).containsExactlyElementsOf(jobKeys);
+    assertThat(broker.getReceivedBatchRequests()).containsExactly(jobKeys.size());
+  }
+
   @Test
   public void shouldReturnErrorOnReadResponseFailure() {
     // given
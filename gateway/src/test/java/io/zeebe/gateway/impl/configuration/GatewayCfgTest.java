@@ -135,6 +135,10 @@ public final class GatewayCfgTest {
     assertThat(membershipCfg.getSuspectProbes()).isEqualTo(5);
     assertThat(membershipCfg.getFailureTimeout()).isEqualTo(Duration.ofSeconds(20));
     assertThat(membershipCfg.getSyncInterval()).isEqualTo(Duration.ofSeconds(25));
+    assertThat(membershipCfg.getMaxGossipUpdates()).isEqualTo(16);
+    assertThat(membershipCfg.getGossipRetransmitMultiplier()).isEqualTo(4);
+    assertThat(membershipCfg.getMaxLocalHealthMultiplier()).isEqualTo(4);
+    assertThat(membershipCfg.getMaxSuspicionTimeoutMultiplier()).isEqualTo(6);
   }
 
   @Test
@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public final class PartitionJobAvailabilityTest {
+
+  private static final String TYPE = "test";
+  private static final long TIMEOUT = 1_000;
+
+  private final PartitionJobAvailability availability = new PartitionJobAvailability(TIMEOUT);
+
+  @Test
+  public void shouldConsiderPartitionsAvailableByDefault() {
+    // then
+    assertThat(availability.isEmpty(TYPE, 1, 0)).isFalse();
+  }
+
+  @Test
+  public void shouldMarkPartitionAsEmpty() {
+    // when
+    availability.markEmpty(TYPE, 1, availability.getNotificationCount(TYPE), 0);
+
+    // then
+    assertThat(availability.isEmpty(TYPE, 1, 0)).isTrue();
+    assertThat(availability.isEmpty(TYPE, 2, 0)).isFalse();
+    assertThat(availability.isEmpty("other", 1, 0)).isFalse();
+  }
+
+  @Test
+  public void shouldConsiderPartitionAvailableAfterTimeout() {
+    // given
+    availability.markEmpty(TYPE, 1, availability.getNotificationCount(TYPE), 0);
+
+    // then
+    assertThat(availability.isEmpty(TYPE, 1, TIMEOUT - 1)).isTrue();
+    assertThat(availability.isEmpty(TYPE, 1, TIMEOUT)).isFalse();
+  }
+
+  @Test
+  public void shouldConsiderPartitionsAvailableOnNotification() {
+    // given
+    availability.markEmpty(TYPE, 1, availability.getNotificationCount(TYPE), 0);
+    availability.markEmpty(TYPE, 2, availability.getNotificationCount(TYPE), 0);
+
+    // when
+    availability.onJobsAvailable(TYPE);
+
+    // then
+    assertThat(availability.isEmpty(TYPE, 1, 0)).isFalse();
+    assertThat(availability.isEmpty(TYPE, 2, 0)).isFalse();
+  }
+
+  @Test
+  public void shouldNotMarkPartitionAsEmptyIfNotifiedWhileRequestWasInFlight() {
+    // given
+    final long notificationCount = availability.getNotificationCount(TYPE);
+
+    // when
+    availability.onJobsAvailable(TYPE);
+    availability.markEmpty(TYPE, 1, notificationCount, 0);
+
+    // then
+    assertThat(availability.isEmpty(TYPE, 1, 0)).isFalse();
+  }
+}
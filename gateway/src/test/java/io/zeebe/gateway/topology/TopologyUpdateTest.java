@@ -17,6 +17,7 @@ import io.atomix.cluster.Member;
 import io.atomix.cluster.MemberConfig;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.impl.encoding.TopologyDelta;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.time.Duration;
@@ -257,6 +258,80 @@ public final class TopologyUpdateTest {
             });
   }
 
+  @Test
+  public void shouldUpdateLeaderOnTopologyDelta() {
+    // given
+    final BrokerInfo oldLeader = createBroker(0).setLeaderForPartition(1, 1);
+    topologyManager.event(createMemberAddedEvent(oldLeader));
+    topologyManager.event(createMemberAddedEvent(createBroker(1)));
+    waitUntil(
+        () ->
+            topologyManager.getTopology() != null
+                && topologyManager.getTopology().getBrokers().size() == 2);
+
+    // when
+    topologyManager.onTopologyDelta(createLeaderDelta(1, 1, 2, 1));
+
+    // then
+    waitUntil(() -> topologyManager.getTopology().getLeaderForPartition(1) == 1);
+  }
+
+  @Test
+  public void shouldIgnoreOutdatedTopologyDelta() {
+    // given
+    topologyManager.event(createMemberAddedEvent(createBroker(0)));
+    topologyManager.event(createMemberAddedEvent(createBroker(1)));
+    waitUntil(
+        () ->
+            topologyManager.getTopology() != null
+                && topologyManager.getTopology().getBrokers().size() == 2);
+    topologyManager.onTopologyDelta(createLeaderDelta(0, 1, 2, 5));
+    waitUntil(() -> topologyManager.getTopology().getLeaderForPartition(1) == 0);
+
+    // when
+    topologyManager.onTopologyDelta(createLeaderDelta(1, 1, 1, 6));
+    topologyManager.onTopologyDelta(createLeaderDelta(0, 2, 3, 4));
+    topologyManager.onTopologyDelta(createLeaderDelta(1, 3, 3, 1));
+
+    // then only the delta with the higher term and version is applied
+    waitUntil(() -> topologyManager.getTopology().getLeaderForPartition(3) == 1);
+    assertThat(topologyManager.getTopology().getLeaderForPartition(1)).isZero();
+    assertThat(topologyManager.getTopology().getLeaderForPartition(2)).isEqualTo(NODE_ID_NULL);
+  }
+
+  @Test
+  public void shouldNotOverrideLeaderOfTopologyDeltaByOutdatedGossip() {
+    // given
+    final BrokerInfo oldLeader = createBroker(0).setLeaderForPartition(1, 1);
+    topologyManager.event(createMemberAddedEvent(oldLeader));
+    topologyManager.event(createMemberAddedEvent(createBroker(1).setFollowerForPartition(1)));
+    waitUntil(
+        () ->
+            topologyManager.getTopology() != null
+                && topologyManager.getTopology().getBrokers().size() == 2);
+    topologyManager.onTopologyDelta(createLeaderDelta(1, 1, 2, 1));
+    waitUntil(() -> topologyManager.getTopology().getLeaderForPartition(1) == 1);
+
+    // when the outdated member properties are checked again
+    actorClock.addTime(Duration.ofSeconds(10));
+    topologyManager.event(createMemberUpdateEvent(oldLeader));
+    topologyManager.event(createMemberAddedEvent(createBroker(2)));
+
+    // then
+    waitUntil(() -> topologyManager.getTopology().getBrokers().contains(2));
+    assertThat(topologyManager.getTopology().getLeaderForPartition(1)).isEqualTo(1);
+  }
+
+  private TopologyDelta createLeaderDelta(
+      final int brokerId, final int partitionId, final long term, final long version) {
+    return new TopologyDelta()
+        .setNodeId(brokerId)
+        .setPartitionId(partitionId)
+        .setTerm(term)
+        .setVersion(version)
+        .setTimestamp(actorClock.getCurrentTimeInMillis());
+  }
+
   private BrokerInfo createBroker(final int brokerId) {
     final BrokerInfo broker =
         new BrokerInfo()
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+import io.zeebe.util.Environment;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for more data if the block is smaller than the target size while other appends are in
+ * flight. The time to wait grows with the in flight appends relative to the current limit: if
+ * nothing is in flight the block is appended immediately, as the storage is idle; close to the
+ * limit the appender waits up to the max linger time.
+ *
+ * <p>Like the back pressure, it is only configured via environment variables, since the appender
+ * can't access the broker configuration.
+ */
+public final class AdaptiveAppendBatchPolicy implements AppendBatchPolicy {
+
+  public static final String ENV_APPENDER_BATCHING = "ZEEBE_APPENDER_BATCHING";
+  public static final String ENV_APPENDER_BATCH_TARGET_SIZE = "ZEEBE_APPENDER_BATCH_TARGET_SIZE";
+  public static final String ENV_APPENDER_BATCH_MAX_LINGER_MICROS =
+      "ZEEBE_APPENDER_BATCH_MAX_LINGER_MICROS";
+
+  static final int DEFAULT_TARGET_SIZE = 32 * 1024;
+  static final long DEFAULT_MAX_LINGER_MICROS = 200;
+
+  private final int targetBlockSize;
+  private final long maxLingerNanos;
+
+  public AdaptiveAppendBatchPolicy(final int targetBlockSize, final long maxLingerMicros) {
+    this.targetBlockSize = targetBlockSize;
+    maxLingerNanos = TimeUnit.MICROSECONDS.toNanos(maxLingerMicros);
+  }
+
+  /**
+   * @return the policy configured by the environment, or {@link AppendBatchPolicy#IMMEDIATE} if the
+   *     batching is disabled
+   */
+  public static AppendBatchPolicy ofEnvironment(
+      final Environment environment, final int maxBlockSize) {
+    if (!environment.getBool(ENV_APPENDER_BATCHING).orElse(true)) {
+      return IMMEDIATE;
+    }
+
+    final int targetBlockSize =
+        environment.getInt(ENV_APPENDER_BATCH_TARGET_SIZE).orElse(DEFAULT_TARGET_SIZE);
+    final long maxLingerMicros =
+        environment.getLong(ENV_APPENDER_BATCH_MAX_LINGER_MICROS).orElse(DEFAULT_MAX_LINGER_MICROS);
+    return new AdaptiveAppendBatchPolicy(Math.min(targetBlockSize, maxBlockSize), maxLingerMicros);
+  }
+
+  @Override
+  public long getMaxLingerNanos(final int blockLength, final int inflight, final int limit) {
+    if (blockLength >= targetBlockSize || inflight <= 0 || limit <= 0) {
+      return 0;
+    }
+
+    final double load = Math.min(1.0, (double) inflight / limit);
+    return (long) (maxLingerNanos * load);
+  }
+
+  public int getTargetBlockSize() {
+    return targetBlockSize;
+  }
+
+  public long getMaxLingerNanos() {
+    return maxLingerNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveAppendBatchPolicy{"
+        + "targetBlockSize="
+        + targetBlockSize
+        + ", maxLingerNanos="
+        + maxLingerNanos
+        + '}';
+  }
+}
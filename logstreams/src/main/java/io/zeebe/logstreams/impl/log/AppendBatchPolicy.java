@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+/**
+ * Decides how long the {@link LogStorageAppender} may wait for more data before it appends a block,
+ * to trade some latency for fewer and larger entries in the log storage.
+ */
+@FunctionalInterface
+public interface AppendBatchPolicy {
+
+  /** Appends every block as soon as it is available. */
+  AppendBatchPolicy IMMEDIATE = (blockLength, inflight, limit) -> 0;
+
+  /**
+   * @param blockLength the length of the block which is available
+   * @param inflight the number of appended blocks which are not committed yet
+   * @param limit the current limit of in flight appends, or 0 if there is no limit
+   * @return the time in nanoseconds which the appender may wait for more data after it peeked the
+   *     first data of the block, or 0 to append the block immediately
+   */
+  long getMaxLingerNanos(int blockLength, int inflight, int limit);
+}
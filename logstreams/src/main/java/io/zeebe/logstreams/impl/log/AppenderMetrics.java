@@ -43,6 +43,23 @@ public class AppenderMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_batch_size")
+          .help("Size of the blocks appended to the log in bytes")
+          .exponentialBuckets(256, 4, 8)
+          .labelNames("partition")
+          .register();
+  private static final Histogram BATCH_LINGER_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("log_appender_batch_linger_time")
+          .help("Time the appender waited for more data before appending a block in seconds")
+          .buckets(0.00001, 0.00005, 0.0001, 0.0002, 0.0005, 0.001, 0.005, 0.01)
+          .labelNames("partition")
+          .register();
+
   private final String partitionLabel;
 
   public AppenderMetrics(final String partitionLabel) {
@@ -64,4 +81,9 @@ public class AppenderMetrics {
   public void commitLatency(final long startTime, final long currentTime) {
     COMMIT_LATENCY.labels(partitionLabel).observe((currentTime - startTime) / 1000f);
   }
+
+  public void appendBatch(final int blockLength, final long lingerNanos) {
+    BATCH_SIZE.labels(partitionLabel).observe(blockLength);
+    BATCH_LINGER_TIME.labels(partitionLabel).observe(lingerNanos / 1_000_000_000d);
+  }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import org.agrona.BitUtil;
+
+/**
+ * A small pool of heap buffers which the appender copies the peeked blocks into, to avoid
+ * allocating a new buffer for every block. A buffer is taken before the block is appended to the
+ * storage and released when the storage has written it (or failed to), since the storage doesn't
+ * access the block afterwards.
+ *
+ * <p>The pool is not thread-safe; it must only be accessed from the appender actor.
+ */
+final class BlockBufferPool {
+
+  static final int DEFAULT_CAPACITY = 4;
+
+  private final ArrayDeque<ByteBuffer> buffers;
+  private final int capacity;
+  private final int maxBlockSize;
+
+  BlockBufferPool(final int capacity, final int maxBlockSize) {
+    this.capacity = capacity;
+    this.maxBlockSize = maxBlockSize;
+    buffers = new ArrayDeque<>(capacity);
+  }
+
+  /**
+   * @return a cleared buffer with a capacity of at least the given length, either from the pool or
+   *     a newly allocated one
+   */
+  ByteBuffer take(final int length) {
+    final Iterator<ByteBuffer> iterator = buffers.iterator();
+    while (iterator.hasNext()) {
+      final ByteBuffer buffer = iterator.next();
+      if (buffer.capacity() >= length) {
+        iterator.remove();
+        return buffer.clear();
+      }
+    }
+
+    // round up the capacity so that the buffer can be reused for slightly larger blocks
+    final int capacity =
+        Math.max(length, Math.min(maxBlockSize, BitUtil.findNextPositivePowerOfTwo(length)));
+    return ByteBuffer.allocate(capacity);
+  }
+
+  /**
+   * Returns the buffer to the pool. If the pool is full, the buffer replaces the smallest pooled
+   * buffer if that one is smaller, otherwise it is dropped.
+   */
+  void release(final ByteBuffer buffer) {
+    if (buffers.size() >= capacity) {
+      ByteBuffer smallest = buffer;
+      for (final ByteBuffer pooled : buffers) {
+        if (pooled.capacity() < smallest.capacity()) {
+          smallest = pooled;
+        }
+      }
+
+      if (smallest == buffer) {
+        return;
+      }
+      removeByIdentity(smallest);
+    }
+
+    buffers.addLast(buffer.clear());
+  }
+
+  private void removeByIdentity(final ByteBuffer buffer) {
+    // ByteBuffer#equals compares the content, not the identity
+    final Iterator<ByteBuffer> iterator = buffers.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next() == buffer) {
+        iterator.remove();
+        return;
+      }
+    }
+  }
+
+  int size() {
+    return buffers.size();
+  }
+}
@@ -9,27 +9,35 @@ package io.zeebe.logstreams.impl.log;
 
 import io.atomix.raft.RaftException.NoLeader;
 import io.zeebe.logstreams.storage.LogStorage.AppendListener;
+import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
 
 public final class Listener implements AppendListener {
   private final LogStorageAppender appender;
   private final long highestPosition;
   private final long startTime;
+  private final ByteBuffer blockBuffer;
 
   public Listener(
-      final LogStorageAppender appender, final long highestPosition, final long startTime) {
+      final LogStorageAppender appender,
+      final long highestPosition,
+      final long startTime,
+      final ByteBuffer blockBuffer) {
     this.appender = appender;
     this.highestPosition = highestPosition;
     this.startTime = startTime;
+    this.blockBuffer = blockBuffer;
   }
 
   @Override
   public void onWrite(final long address) {
-    appender.notifyWritePosition(highestPosition, startTime);
+    appender.notifyWritePosition(highestPosition, startTime, blockBuffer);
   }
 
   @Override
   public void onWriteError(final Throwable error) {
+    appender.releaseBlockBuffer(blockBuffer);
+
     if (error instanceof NoSuchElementException || error instanceof NoLeader) {
       // Not a failure. It is probably during transition to follower.
       LogStorageAppender.LOG.debug(
@@ -33,13 +33,14 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.function.LongConsumer;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
 /** Consume the write buffer and append the blocks to the distributedlog. */
 public class LogStorageAppender extends Actor implements HealthMonitorable {
 
   public static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
+  private static final long NOT_LINGERING = -1;
   private static final Map<String, AlgorithmCfg> ALGORITHM_CFG =
       Map.of("vegas", new AppenderVegasCfg(), "gradient2", new AppenderGradient2Cfg());
 
@@ -52,6 +53,9 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   private final Environment env;
   private final LoggedEventImpl positionReader = new LoggedEventImpl();
   private final AppenderMetrics appenderMetrics;
+  private final BlockBufferPool blockBufferPool;
+  private final AppendBatchPolicy appendBatchPolicy;
+  private long lingerStartNanos = NOT_LINGERING;
   private FailureListener failureListener;
   private final ActorFuture<Void> closeFuture;
   private final LongConsumer commitPositionListener;
@@ -70,12 +74,16 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     this.logStorage = logStorage;
     this.writeBufferSubscription = writeBufferSubscription;
     maxAppendBlockSize = maxBlockSize;
+    blockBufferPool = new BlockBufferPool(BlockBufferPool.DEFAULT_CAPACITY, maxBlockSize);
     appendBackpressureMetrics = new AppendBackpressureMetrics(partitionId);
 
     final boolean isBackpressureEnabled =
         env.getBool(BackpressureConstants.ENV_BP_APPENDER).orElse(true);
     appendEntryLimiter =
         isBackpressureEnabled ? initBackpressure(partitionId) : initNoBackpressure(partitionId);
+    appendBatchPolicy = AdaptiveAppendBatchPolicy.ofEnvironment(env, maxBlockSize);
+    LOG.debug(
+        "Configured log appender batching at partition {} as {}", partitionId, appendBatchPolicy);
     closeFuture = new CompletableActorFuture<>();
   }
 
@@ -109,16 +117,25 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   }
 
   private void appendBlock(final BlockPeek blockPeek) {
-    final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
-    final int bytes = rawBuffer.remaining();
-    final ByteBuffer copiedBuffer = ByteBuffer.allocate(bytes).put(rawBuffer).flip();
-    final Tuple<Long, Long> positions = readLowestHighestPosition(copiedBuffer);
+    final Tuple<Long, Long> positions = readLowestHighestPosition(blockPeek.getBuffer());
 
     // Commit position is the position of the last event.
     appendBackpressureMetrics.newEntryToAppend();
     if (appendEntryLimiter.tryAcquire(positions.getRight())) {
-      final var listener = new Listener(this, positions.getRight(), ActorClock.currentTimeMillis());
-      logStorage.append(positions.getLeft(), positions.getRight(), copiedBuffer, listener);
+      final long lingerNanos =
+          lingerStartNanos == NOT_LINGERING ? 0 : System.nanoTime() - lingerStartNanos;
+      lingerStartNanos = NOT_LINGERING;
+      appenderMetrics.appendBatch(blockPeek.getBlockLength(), lingerNanos);
+
+      // the block is copied, since the dispatcher can only release it after it is consumed; the
+      // copy is returned to the pool when the storage has written it
+      final ByteBuffer rawBuffer = blockPeek.getRawBuffer();
+      final ByteBuffer blockBuffer = blockBufferPool.take(rawBuffer.remaining());
+      blockBuffer.put(rawBuffer).flip();
+
+      final var listener =
+          new Listener(this, positions.getRight(), ActorClock.currentTimeMillis(), blockBuffer);
+      logStorage.append(positions.getLeft(), positions.getRight(), blockBuffer, listener);
 
       blockPeek.markCompleted();
     } else {
@@ -167,15 +184,35 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
 
   private void onWriteBufferAvailable() {
     final BlockPeek blockPeek = new BlockPeek();
-    if (writeBufferSubscription.peekBlock(blockPeek, maxAppendBlockSize, true) > 0) {
+    final int blockLength = writeBufferSubscription.peekBlock(blockPeek, maxAppendBlockSize, true);
+    if (blockLength > 0 && !shouldLinger(blockLength)) {
       appendBlock(blockPeek);
     } else {
       actor.yield();
     }
   }
 
-  private Tuple<Long, Long> readLowestHighestPosition(final ByteBuffer buffer) {
-    final var view = new UnsafeBuffer(buffer);
+  /**
+   * Waits for more data if the block is small while other appends are in flight, as decided by the
+   * {@link AppendBatchPolicy}. The block is not consumed while lingering, so it is peeked again
+   * including the data which was written in the meantime.
+   */
+  private boolean shouldLinger(final int blockLength) {
+    final long maxLingerNanos =
+        appendBatchPolicy.getMaxLingerNanos(
+            blockLength, appendEntryLimiter.getInflight(), appendEntryLimiter.getLimit());
+    if (maxLingerNanos <= 0) {
+      return false;
+    }
+
+    final long now = System.nanoTime();
+    if (lingerStartNanos == NOT_LINGERING) {
+      lingerStartNanos = now;
+    }
+    return now - lingerStartNanos < maxLingerNanos;
+  }
+
+  private Tuple<Long, Long> readLowestHighestPosition(final DirectBuffer view) {
     final var positions = new Tuple<>(Long.MAX_VALUE, Long.MIN_VALUE);
     var offset = 0;
 
@@ -212,13 +249,19 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     actor.run(() -> onFailure(error));
   }
 
+  void releaseBlockBuffer(final ByteBuffer blockBuffer) {
+    actor.run(() -> blockBufferPool.release(blockBuffer));
+  }
+
   void releaseBackPressure(final long highestPosition) {
     actor.run(() -> appendEntryLimiter.onCommit(highestPosition));
   }
 
-  void notifyWritePosition(final long highestPosition, final long startTime) {
+  void notifyWritePosition(
+      final long highestPosition, final long startTime, final ByteBuffer blockBuffer) {
     actor.run(
         () -> {
+          blockBufferPool.release(blockBuffer);
           appenderMetrics.setLastAppendedPosition(highestPosition);
           appenderMetrics.appendLatency(startTime, ActorClock.currentTimeMillis());
         });
@@ -21,7 +21,9 @@ import io.zeebe.util.health.FailureListener;
 import io.zeebe.util.health.HealthStatus;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorCondition;
+import io.zeebe.util.sched.ActorPriority;
 import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.channel.ActorConditions;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
@@ -283,8 +285,12 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
                         maxFrameLength,
                         this::setCommitPosition);
 
+                // home the appender on the same thread as the other actors of the partition
+                final int hints =
+                    SchedulingHints.setAffinityKey(
+                        partitionId, SchedulingHints.cpuBound(ActorPriority.REGULAR));
                 actorScheduler
-                    .submitActor(appender)
+                    .submitActor(appender, hints)
                     .onComplete(
                         (v, t) -> {
                           if (t != null) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.Environment;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public final class AdaptiveAppendBatchPolicyTest {
+
+  private static final int TARGET_SIZE = 1024;
+  private static final long MAX_LINGER_MICROS = 100;
+  private static final long MAX_LINGER_NANOS = TimeUnit.MICROSECONDS.toNanos(MAX_LINGER_MICROS);
+
+  private final AdaptiveAppendBatchPolicy policy =
+      new AdaptiveAppendBatchPolicy(TARGET_SIZE, MAX_LINGER_MICROS);
+
+  @Test
+  public void shouldNotLingerIfNothingIsInFlight() {
+    assertThat(policy.getMaxLingerNanos(1, 0, 10)).isZero();
+  }
+
+  @Test
+  public void shouldNotLingerIfBlockReachedTargetSize() {
+    assertThat(policy.getMaxLingerNanos(TARGET_SIZE, 10, 10)).isZero();
+  }
+
+  @Test
+  public void shouldNotLingerWithoutLimit() {
+    assertThat(policy.getMaxLingerNanos(1, 10, 0)).isZero();
+  }
+
+  @Test
+  public void shouldLingerRelativeToInFlightAppends() {
+    assertThat(policy.getMaxLingerNanos(1, 1, 10)).isEqualTo(MAX_LINGER_NANOS / 10);
+    assertThat(policy.getMaxLingerNanos(1, 5, 10)).isEqualTo(MAX_LINGER_NANOS / 2);
+    assertThat(policy.getMaxLingerNanos(1, 10, 10)).isEqualTo(MAX_LINGER_NANOS);
+  }
+
+  @Test
+  public void shouldNotLingerLongerThanMaxLinger() {
+    assertThat(policy.getMaxLingerNanos(1, 20, 10)).isEqualTo(MAX_LINGER_NANOS);
+  }
+
+  @Test
+  public void shouldConfigurePolicyByEnvironment() {
+    // given
+    final var environment =
+        new Environment(
+            Map.of(
+                AdaptiveAppendBatchPolicy.ENV_APPENDER_BATCH_TARGET_SIZE, "2048",
+                AdaptiveAppendBatchPolicy.ENV_APPENDER_BATCH_MAX_LINGER_MICROS, "500"));
+
+    // when
+    final var configured = AdaptiveAppendBatchPolicy.ofEnvironment(environment, 4096);
+
+    // then
+    assertThat(configured).isInstanceOf(AdaptiveAppendBatchPolicy.class);
+    assertThat(((AdaptiveAppendBatchPolicy) configured).getTargetBlockSize()).isEqualTo(2048);
+    assertThat(((AdaptiveAppendBatchPolicy) configured).getMaxLingerNanos())
+        .isEqualTo(TimeUnit.MICROSECONDS.toNanos(500));
+  }
+
+  @Test
+  public void shouldLimitTargetSizeToMaxBlockSize() {
+    // when
+    final var configured = AdaptiveAppendBatchPolicy.ofEnvironment(new Environment(Map.of()), 1024);
+
+    // then
+    assertThat(((AdaptiveAppendBatchPolicy) configured).getTargetBlockSize()).isEqualTo(1024);
+  }
+
+  @Test
+  public void shouldDisableBatchingByEnvironment() {
+    // given
+    final var environment =
+        new Environment(Map.of(AdaptiveAppendBatchPolicy.ENV_APPENDER_BATCHING, "false"));
+
+    // when
+    final var configured = AdaptiveAppendBatchPolicy.ofEnvironment(environment, 4096);
+
+    // then
+    assertThat(configured).isSameAs(AppendBatchPolicy.IMMEDIATE);
+  }
+}
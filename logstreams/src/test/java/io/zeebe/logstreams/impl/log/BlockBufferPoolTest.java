@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.impl.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public final class BlockBufferPoolTest {
+
+  private static final int MAX_BLOCK_SIZE = 1024;
+
+  private final BlockBufferPool pool = new BlockBufferPool(2, MAX_BLOCK_SIZE);
+
+  @Test
+  public void shouldAllocateBufferIfPoolIsEmpty() {
+    // when
+    final ByteBuffer buffer = pool.take(100);
+
+    // then
+    assertThat(buffer.capacity()).isEqualTo(128);
+    assertThat(buffer.position()).isZero();
+    assertThat(buffer.isDirect()).isFalse();
+  }
+
+  @Test
+  public void shouldNotRoundUpBeyondMaxBlockSize() {
+    // when
+    final ByteBuffer buffer = pool.take(MAX_BLOCK_SIZE - 1);
+    final ByteBuffer largerBuffer = pool.take(MAX_BLOCK_SIZE + 1);
+
+    // then
+    assertThat(buffer.capacity()).isEqualTo(MAX_BLOCK_SIZE);
+    assertThat(largerBuffer.capacity()).isEqualTo(MAX_BLOCK_SIZE + 1);
+  }
+
+  @Test
+  public void shouldReuseReleasedBuffer() {
+    // given
+    final ByteBuffer buffer = pool.take(100);
+    buffer.putLong(1L).flip();
+
+    // when
+    pool.release(buffer);
+    final ByteBuffer reusedBuffer = pool.take(64);
+
+    // then
+    assertThat(reusedBuffer).isSameAs(buffer);
+    assertThat(reusedBuffer.position()).isZero();
+    assertThat(reusedBuffer.limit()).isEqualTo(reusedBuffer.capacity());
+    assertThat(pool.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotReuseTooSmallBuffer() {
+    // given
+    final ByteBuffer buffer = pool.take(100);
+    pool.release(buffer);
+
+    // when
+    final ByteBuffer largerBuffer = pool.take(200);
+
+    // then
+    assertThat(largerBuffer).isNotSameAs(buffer);
+    assertThat(largerBuffer.capacity()).isEqualTo(256);
+    assertThat(pool.size()).isOne();
+  }
+
+  @Test
+  public void shouldReplaceSmallestBufferIfPoolIsFull() {
+    // given
+    final ByteBuffer small = pool.take(10);
+    final ByteBuffer medium = pool.take(100);
+    final ByteBuffer large = pool.take(1000);
+    pool.release(small);
+    pool.release(medium);
+
+    // when
+    pool.release(large);
+
+    // then
+    assertThat(pool.size()).isEqualTo(2);
+    assertThat(pool.take(1000)).isSameAs(large);
+    assertThat(pool.take(100)).isSameAs(medium);
+  }
+
+  @Test
+  public void shouldDropReleasedBufferIfPoolIsFullOfLargerBuffers() {
+    // given
+    final ByteBuffer small = pool.take(10);
+    final ByteBuffer medium = pool.take(100);
+    final ByteBuffer large = pool.take(1000);
+    pool.release(medium);
+    pool.release(large);
+
+    // when
+    pool.release(small);
+
+    // then
+    assertThat(pool.size()).isEqualTo(2);
+    assertThat(pool.take(10)).isSameAs(medium);
+    assertThat(pool.take(10)).isSameAs(large);
+  }
+}
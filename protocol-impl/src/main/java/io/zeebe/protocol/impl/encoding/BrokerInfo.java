@@ -391,7 +391,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
   }
 
   public static BrokerInfo fromProperties(final Properties properties) {
-    final String property = properties.getProperty(BROKER_INFO_PROPERTY_NAME);
+    final String property = getEncodedProperty(properties);
     if (property != null) {
       return readFromString(property);
     } else {
@@ -399,6 +399,14 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     }
   }
 
+  /**
+   * @return the encoded broker info in the given member properties, e.g. to check if it changed
+   *     without decoding it, or null if the properties don't contain a broker info
+   */
+  public static String getEncodedProperty(final Properties properties) {
+    return properties.getProperty(BROKER_INFO_PROPERTY_NAME);
+  }
+
   private static BrokerInfo readFromString(final String property) {
     final byte[] bytes = BASE_64_DECODER.decode(property.getBytes(BASE_64_CHARSET));
 
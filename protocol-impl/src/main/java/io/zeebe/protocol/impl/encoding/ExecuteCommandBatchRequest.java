@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import static io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.partitionIdNullValue;
+
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder.CommandsDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.zeebe.protocol.record.MessageHeaderDecoder;
+import io.zeebe.protocol.record.MessageHeaderEncoder;
+import io.zeebe.util.buffer.BufferReader;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Carries multiple {@link ExecuteCommandRequest} frames for the same partition in one message. Each
+ * command is kept as a complete, self-contained frame, such that the receiver can handle it exactly
+ * like a single request.
+ */
+public final class ExecuteCommandBatchRequest implements BufferReader, BufferWriter {
+
+  /** The maximum number of commands a single batch can carry. */
+  public static final int MAX_COMMAND_COUNT = CommandsEncoder.countMaxValue();
+
+  /** The encoded length of a batch without any command. */
+  public static final int EMPTY_BATCH_LENGTH =
+      MessageHeaderEncoder.ENCODED_LENGTH
+          + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+          + CommandsEncoder.sbeHeaderSize();
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final ExecuteCommandBatchRequestEncoder bodyEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final ExecuteCommandBatchRequestDecoder bodyDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+
+  private final List<BufferWriter> commandWriters = new ArrayList<>();
+  private final IntArrayList commandOffsets = new IntArrayList();
+  private final IntArrayList commandLengths = new IntArrayList();
+  private final UnsafeBuffer commandView = new UnsafeBuffer(0, 0);
+  private DirectBuffer buffer;
+  private int partitionId;
+
+  public ExecuteCommandBatchRequest() {
+    reset();
+  }
+
+  public ExecuteCommandBatchRequest reset() {
+    partitionId = partitionIdNullValue();
+    commandWriters.clear();
+    commandOffsets.clear();
+    commandLengths.clear();
+    buffer = null;
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchRequest setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public ExecuteCommandBatchRequest addCommand(final BufferWriter command) {
+    if (commandWriters.size() >= MAX_COMMAND_COUNT) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to add at most %d commands to a batch, but it is already full",
+              MAX_COMMAND_COUNT));
+    }
+
+    commandWriters.add(command);
+    return this;
+  }
+
+  /** @return the number of commands which were read by the last {@link #wrap} call */
+  public int getCommandCount() {
+    return commandOffsets.size();
+  }
+
+  /**
+   * @return a view on the command frame at the given index; the view is reused, so it is only valid
+   *     until the next call of this method or {@link #wrap}
+   */
+  public DirectBuffer getCommand(final int index) {
+    commandView.wrap(buffer, commandOffsets.getInt(index), commandLengths.getInt(index));
+    return commandView;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    reset();
+
+    headerDecoder.wrap(buffer, offset);
+    bodyDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    partitionId = bodyDecoder.partitionId();
+    this.buffer = buffer;
+
+    // only remember where the commands are, to not allocate a view per command
+    for (final CommandsDecoder command : bodyDecoder.commands()) {
+      commandOffsets.addInt(bodyDecoder.limit() + CommandsDecoder.commandHeaderLength());
+      commandLengths.addInt(command.commandLength());
+      command.skipCommand();
+    }
+  }
+
+  /** @return the number of bytes the given command adds to the encoded length of a batch */
+  public static int getFramedLength(final BufferWriter command) {
+    return CommandsEncoder.commandHeaderLength() + command.getLength();
+  }
+
+  @Override
+  public int getLength() {
+    int length = EMPTY_BATCH_LENGTH;
+
+    for (final BufferWriter command : commandWriters) {
+      length += getFramedLength(command);
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    bodyEncoder.wrap(buffer, offset + headerEncoder.encodedLength()).partitionId(partitionId);
+
+    final CommandsEncoder commandsEncoder = bodyEncoder.commandsCount(commandWriters.size());
+    for (final BufferWriter command : commandWriters) {
+      commandsEncoder.next();
+
+      // write the frame in place, to avoid copying every command into an intermediate buffer
+      final int limit = bodyEncoder.limit();
+      final int commandLength = command.getLength();
+      buffer.putInt(limit, commandLength, Protocol.ENDIANNESS);
+      command.write(buffer, limit + CommandsEncoder.commandHeaderLength());
+      bodyEncoder.limit(limit + CommandsEncoder.commandHeaderLength() + commandLength);
+    }
+  }
+}
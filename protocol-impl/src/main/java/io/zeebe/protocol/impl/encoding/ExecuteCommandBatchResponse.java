@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import static io.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.partitionIdNullValue;
+
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder.ResponsesDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.ResponsesEncoder;
+import io.zeebe.protocol.record.MessageHeaderDecoder;
+import io.zeebe.protocol.record.MessageHeaderEncoder;
+import io.zeebe.util.buffer.BufferReader;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The answer to an {@link ExecuteCommandBatchRequest}. Contains one complete response frame (an
+ * {@code ExecuteCommandResponse} or an {@code ErrorResponse}) per command, in the order in which
+ * the commands were sent.
+ */
+public final class ExecuteCommandBatchResponse implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final ExecuteCommandBatchResponseEncoder bodyEncoder =
+      new ExecuteCommandBatchResponseEncoder();
+  private final ExecuteCommandBatchResponseDecoder bodyDecoder =
+      new ExecuteCommandBatchResponseDecoder();
+
+  private final List<DirectBuffer> responses = new ArrayList<>();
+  private int partitionId;
+
+  public ExecuteCommandBatchResponse() {
+    reset();
+  }
+
+  public ExecuteCommandBatchResponse reset() {
+    partitionId = partitionIdNullValue();
+    responses.clear();
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchResponse setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public ExecuteCommandBatchResponse addResponse(final DirectBuffer response) {
+    responses.add(response);
+    return this;
+  }
+
+  public int getResponseCount() {
+    return responses.size();
+  }
+
+  /** @return the response frame for the command at the given index of the batch request */
+  public DirectBuffer getResponse(final int index) {
+    return responses.get(index);
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    reset();
+
+    headerDecoder.wrap(buffer, offset);
+    bodyDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    partitionId = bodyDecoder.partitionId();
+
+    for (final ResponsesDecoder response : bodyDecoder.responses()) {
+      final UnsafeBuffer view = new UnsafeBuffer(0, 0);
+      response.wrapResponse(view);
+      responses.add(view);
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchResponseEncoder.BLOCK_LENGTH
+            + ResponsesEncoder.sbeHeaderSize();
+
+    for (final DirectBuffer response : responses) {
+      length += ResponsesEncoder.responseHeaderLength() + response.capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    bodyEncoder.wrap(buffer, offset + headerEncoder.encodedLength()).partitionId(partitionId);
+
+    final ResponsesEncoder responsesEncoder = bodyEncoder.responsesCount(responses.size());
+    for (final DirectBuffer response : responses) {
+      responsesEncoder.next().putResponse(response, 0, response.capacity());
+    }
+  }
+}
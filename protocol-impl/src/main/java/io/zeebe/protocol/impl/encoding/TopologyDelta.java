@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import static io.zeebe.protocol.Protocol.ENDIANNESS;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+import io.zeebe.util.buffer.BufferReader;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * An incremental change of the topology of a broker, which the broker sends directly to the
+ * subscribers of the {@link #TOPIC} when it becomes the leader of a partition. The full topology is
+ * still gossiped as {@link BrokerInfo} in the member properties, but this takes a few gossip rounds
+ * to reach all members.
+ *
+ * <p>The version is increased by the broker with every change of its topology, so that a receiver
+ * can drop deltas which are older than the last applied delta of the broker. The timestamp is the
+ * time at which the broker sent the delta, to measure how long it took to propagate.
+ */
+public final class TopologyDelta implements BufferReader, BufferWriter {
+
+  public static final String TOPIC = "topologyDelta";
+
+  private static final int NODE_ID_OFFSET = 0;
+  private static final int VERSION_OFFSET = NODE_ID_OFFSET + SIZE_OF_INT;
+  private static final int TIMESTAMP_OFFSET = VERSION_OFFSET + SIZE_OF_LONG;
+  private static final int PARTITION_ID_OFFSET = TIMESTAMP_OFFSET + SIZE_OF_LONG;
+  private static final int TERM_OFFSET = PARTITION_ID_OFFSET + SIZE_OF_INT;
+  private static final int LENGTH = TERM_OFFSET + SIZE_OF_LONG;
+
+  private int nodeId;
+  private long version;
+  private long timestamp;
+  private int partitionId;
+  private long term;
+
+  public int getNodeId() {
+    return nodeId;
+  }
+
+  public TopologyDelta setNodeId(final int nodeId) {
+    this.nodeId = nodeId;
+    return this;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public TopologyDelta setVersion(final long version) {
+    this.version = version;
+    return this;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public TopologyDelta setTimestamp(final long timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  /** @return the partition of which the broker became the leader */
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public TopologyDelta setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public long getTerm() {
+    return term;
+  }
+
+  public TopologyDelta setTerm(final long term) {
+    this.term = term;
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    if (length < LENGTH) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected topology delta to have a length of at least %d, but was %d",
+              LENGTH, length));
+    }
+
+    nodeId = buffer.getInt(offset + NODE_ID_OFFSET, ENDIANNESS);
+    version = buffer.getLong(offset + VERSION_OFFSET, ENDIANNESS);
+    timestamp = buffer.getLong(offset + TIMESTAMP_OFFSET, ENDIANNESS);
+    partitionId = buffer.getInt(offset + PARTITION_ID_OFFSET, ENDIANNESS);
+    term = buffer.getLong(offset + TERM_OFFSET, ENDIANNESS);
+  }
+
+  @Override
+  public int getLength() {
+    return LENGTH;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    buffer.putInt(offset + NODE_ID_OFFSET, nodeId, ENDIANNESS);
+    buffer.putLong(offset + VERSION_OFFSET, version, ENDIANNESS);
+    buffer.putLong(offset + TIMESTAMP_OFFSET, timestamp, ENDIANNESS);
+    buffer.putInt(offset + PARTITION_ID_OFFSET, partitionId, ENDIANNESS);
+    buffer.putLong(offset + TERM_OFFSET, term, ENDIANNESS);
+  }
+
+  public byte[] toBytes() {
+    return BufferUtil.bufferAsArray(BufferUtil.createCopy(this));
+  }
+
+  public static TopologyDelta fromBytes(final byte[] bytes) {
+    final TopologyDelta delta = new TopologyDelta();
+    delta.wrap(new UnsafeBuffer(bytes), 0, bytes.length);
+    return delta;
+  }
+
+  @Override
+  public String toString() {
+    return "TopologyDelta{"
+        + "nodeId="
+        + nodeId
+        + ", version="
+        + version
+        + ", timestamp="
+        + timestamp
+        + ", partitionId="
+        + partitionId
+        + ", term="
+        + term
+        + '}';
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.protocol.impl.encoding.TopologyDelta;
+import org.junit.Test;
+
+public final class TopologyDeltaTest {
+
+  @Test
+  public void shouldEncodeDecodeTopologyDelta() {
+    // given
+    final TopologyDelta delta =
+        new TopologyDelta()
+            .setNodeId(3)
+            .setVersion(1_234_567_890_123L)
+            .setTimestamp(987_654_321L)
+            .setPartitionId(24)
+            .setTerm(17);
+
+    // when
+    final TopologyDelta decoded = TopologyDelta.fromBytes(delta.toBytes());
+
+    // then
+    assertThat(decoded.getNodeId()).isEqualTo(3);
+    assertThat(decoded.getVersion()).isEqualTo(1_234_567_890_123L);
+    assertThat(decoded.getTimestamp()).isEqualTo(987_654_321L);
+    assertThat(decoded.getPartitionId()).isEqualTo(24);
+    assertThat(decoded.getTerm()).isEqualTo(17);
+  }
+
+  @Test
+  public void shouldRejectTooShortTopologyDelta() {
+    // given
+    final byte[] bytes = new byte[new TopologyDelta().getLength() - 1];
+
+    // then
+    assertThatThrownBy(() -> TopologyDelta.fromBytes(bytes))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
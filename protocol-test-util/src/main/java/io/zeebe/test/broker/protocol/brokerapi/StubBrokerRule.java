@@ -123,6 +123,11 @@ public final class StubBrokerRule extends ExternalResource {
     return channelHandler.getReceivedCommandRequests();
   }
 
+  /** @return the number of commands of every received batch request, in the received order */
+  public List<Integer> getReceivedBatchRequests() {
+    return channelHandler.getReceivedBatchRequests();
+  }
+
   public JobStubs jobs() {
     return new JobStubs(this);
   }
@@ -7,12 +7,16 @@
  */
 package io.zeebe.test.broker.protocol.brokerapi;
 
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.zeebe.protocol.record.MessageHeaderDecoder;
 import io.zeebe.test.broker.protocol.MsgPackHelper;
 import io.zeebe.transport.RequestHandler;
 import io.zeebe.transport.ServerOutput;
 import io.zeebe.transport.impl.ServerResponseImpl;
+import io.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -29,6 +33,7 @@ public final class StubRequestHandler implements RequestHandler {
   // can also be used for verification
   private final List<Object> allRequests = new CopyOnWriteArrayList<>();
   private final List<ExecuteCommandRequest> commandRequests = new CopyOnWriteArrayList<>();
+  private final List<Integer> batchRequests = new CopyOnWriteArrayList<>();
 
   private final ServerResponseImpl response = new ServerResponseImpl();
 
@@ -44,6 +49,10 @@ public final class StubRequestHandler implements RequestHandler {
     return commandRequests;
   }
 
+  List<Integer> getReceivedBatchRequests() {
+    return batchRequests;
+  }
+
   @Override
   public void onRequest(
       final ServerOutput output,
@@ -66,6 +75,8 @@ public final class StubRequestHandler implements RequestHandler {
       allRequests.add(request);
 
       requestHandled = handleRequest(output, partitionId, request, cmdRequestStubs, requestId);
+    } else if (ExecuteCommandBatchRequestDecoder.TEMPLATE_ID == headerDecoder.templateId()) {
+      requestHandled = handleBatchRequest(output, partitionId, requestId, copy, length);
     }
 
     if (!requestHandled) {
@@ -76,6 +87,50 @@ public final class StubRequestHandler implements RequestHandler {
     }
   }
 
+  private boolean handleBatchRequest(
+      final ServerOutput output,
+      final int partitionId,
+      final long requestId,
+      final DirectBuffer buffer,
+      final int length) {
+    final ExecuteCommandBatchRequest batchRequest = new ExecuteCommandBatchRequest();
+    batchRequest.wrap(buffer, 0, length);
+    batchRequests.add(batchRequest.getCommandCount());
+
+    // the stubs answer synchronously, so the responses can be collected in order
+    final ExecuteCommandBatchResponse batchResponse =
+        new ExecuteCommandBatchResponse().setPartitionId(partitionId);
+    final ServerOutput collectingOutput =
+        response -> {
+          final MutableDirectBuffer responseBuffer =
+              new UnsafeBuffer(new byte[response.getLength()]);
+          response.write(responseBuffer, 0);
+          batchResponse.addResponse(responseBuffer);
+        };
+
+    for (int i = 0; i < batchRequest.getCommandCount(); i++) {
+      // the request reads its properties lazily, so it needs its own copy of the reused view
+      final DirectBuffer command = BufferUtil.cloneBuffer(batchRequest.getCommand(i));
+      final ExecuteCommandRequest request = new ExecuteCommandRequest(msgPackHelper);
+      request.wrap(command, 0, command.capacity());
+      commandRequests.add(request);
+      allRequests.add(request);
+
+      if (!handleRequest(collectingOutput, partitionId, request, cmdRequestStubs, requestId)) {
+        return false;
+      }
+    }
+
+    if (batchResponse.getResponseCount() == batchRequest.getCommandCount()) {
+      output.sendResponse(
+          new ServerResponseImpl()
+              .setRequestId(requestId)
+              .setPartitionId(partitionId)
+              .writer(batchResponse));
+    }
+    return true;
+  }
+
   private <T> boolean handleRequest(
       final ServerOutput output,
       final int partitionId,
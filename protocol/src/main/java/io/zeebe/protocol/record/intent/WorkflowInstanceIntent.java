@@ -34,11 +34,14 @@ public enum WorkflowInstanceIntent implements WorkflowInstanceRelatedIntent {
 
   ACTIVATE_ELEMENT((short) 9),
   COMPLETE_ELEMENT((short) 10),
-  TERMINATE_ELEMENT((short) 11);
+  TERMINATE_ELEMENT((short) 11),
+
+  CONTINUE_ELEMENT_ACTIVATION((short) 12);
 
   private static final Set<WorkflowInstanceIntent> WORKFLOW_INSTANCE_COMMANDS = EnumSet.of(CANCEL);
   private static final Set<WorkflowInstanceIntent> BPMN_ELEMENT_COMMANDS =
-      EnumSet.of(ACTIVATE_ELEMENT, COMPLETE_ELEMENT, TERMINATE_ELEMENT);
+      EnumSet.of(
+          ACTIVATE_ELEMENT, COMPLETE_ELEMENT, TERMINATE_ELEMENT, CONTINUE_ELEMENT_ACTIVATION);
 
   private final short value;
   private final boolean shouldBlacklist;
@@ -82,6 +85,8 @@ public enum WorkflowInstanceIntent implements WorkflowInstanceRelatedIntent {
         return COMPLETE_ELEMENT;
       case 11:
         return TERMINATE_ELEMENT;
+      case 12:
+        return CONTINUE_ELEMENT_ACTIVATION;
       default:
         return Intent.UNKNOWN;
     }
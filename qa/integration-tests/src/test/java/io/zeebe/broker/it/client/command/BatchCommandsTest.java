@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.it.client.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.Status.Code;
+import io.zeebe.broker.it.util.GrpcClientRule;
+import io.zeebe.broker.test.EmbeddedBrokerRule;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
+import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.BatchResult;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.test.util.BrokerClassRuleHelper;
+import io.zeebe.test.util.record.RecordingExporter;
+import java.util.List;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public final class BatchCommandsTest {
+
+  private static final int COMMAND_COUNT = 10;
+
+  private static final EmbeddedBrokerRule BROKER_RULE = new EmbeddedBrokerRule();
+  private static final GrpcClientRule CLIENT_RULE = new GrpcClientRule(BROKER_RULE);
+
+  @ClassRule
+  public static RuleChain ruleChain = RuleChain.outerRule(BROKER_RULE).around(CLIENT_RULE);
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final List<Long> jobKeys = CLIENT_RULE.createJobs(helper.getJobType(), COMMAND_COUNT);
+
+    final CompleteJobsCommandStep1 command = CLIENT_RULE.getClient().newCompleteJobsCommand();
+    jobKeys.forEach(jobKey -> command.addJob(jobKey, Map.of("done", true)));
+
+    // when
+    final BatchResponse<CompleteJobResponse> response = command.send().join();
+
+    // then
+    assertThat(response.isSuccessful()).isTrue();
+    assertThat(response.getResults()).hasSize(COMMAND_COUNT);
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withType(helper.getJobType())
+                .limit(COMMAND_COUNT))
+        .extracting(r -> r.getKey())
+        .containsExactlyInAnyOrderElementsOf(jobKeys);
+  }
+
+  @Test
+  public void shouldRejectOnlyTheInvalidCommands() {
+    // given
+    final long jobKey = CLIENT_RULE.createSingleJob(helper.getJobType());
+
+    // when
+    final BatchResponse<CompleteJobResponse> response =
+        CLIENT_RULE
+            .getClient()
+            .newCompleteJobsCommand()
+            .addJob(jobKey)
+            .addJob(jobKey)
+            .send()
+            .join();
+
+    // then
+    assertThat(response.getResults()).extracting(BatchResult::isSuccessful).containsOnlyOnce(false);
+
+    final BatchResult<CompleteJobResponse> rejected =
+        response.getResults().stream().filter(r -> !r.isSuccessful()).findFirst().orElseThrow();
+    assertThat(rejected.getError().getStatusCode()).isEqualTo(Code.NOT_FOUND);
+  }
+
+  @Test
+  public void shouldPublishMessages() {
+    // given
+    final PublishMessagesCommandStep1 command = CLIENT_RULE.getClient().newPublishMessagesCommand();
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      command.addMessage(helper.getMessageName(), "key-" + i, Map.of("index", i));
+    }
+
+    // when
+    final BatchResponse<PublishMessageResponse> response = command.send().join();
+
+    // then
+    assertThat(response.isSuccessful()).isTrue();
+    assertThat(response.getResults())
+        .extracting(r -> r.getResponse().getMessageKey())
+        .doesNotHaveDuplicates()
+        .hasSize(COMMAND_COUNT);
+    assertThat(
+            RecordingExporter.messageRecords(MessageIntent.PUBLISHED)
+                .withName(helper.getMessageName())
+                .limit(COMMAND_COUNT))
+        .hasSize(COMMAND_COUNT);
+  }
+
+  @Test
+  public void shouldCreateWorkflowInstances() {
+    // given
+    final String processId = helper.getBpmnProcessId();
+    final long workflowKey =
+        CLIENT_RULE.deployWorkflow(Bpmn.createExecutableProcess(processId).startEvent().done());
+
+    // when
+    final BatchResponse<WorkflowInstanceEvent> response =
+        CLIENT_RULE
+            .getClient()
+            .newCreateInstancesCommand()
+            .addInstance(workflowKey)
+            .addInstance(processId, CreateWorkflowInstanceCommandStep1.LATEST_VERSION)
+            .addInstance("unknown-process", CreateWorkflowInstanceCommandStep1.LATEST_VERSION)
+            .send()
+            .join();
+
+    // then
+    final List<BatchResult<WorkflowInstanceEvent>> results = response.getResults();
+    assertThat(results).extracting(BatchResult::isSuccessful).containsExactly(true, true, false);
+    assertThat(results.get(0).getResponse().getWorkflowKey()).isEqualTo(workflowKey);
+    assertThat(results.get(1).getResponse().getWorkflowKey()).isEqualTo(workflowKey);
+    assertThat(results.get(2).getError().getStatusCode()).isEqualTo(Code.NOT_FOUND);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.it.client.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.broker.it.util.GrpcClientRule;
+import io.zeebe.broker.system.configuration.BrokerCfg;
+import io.zeebe.broker.test.EmbeddedBrokerRule;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.ClientException;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.test.util.BrokerClassRuleHelper;
+import io.zeebe.test.util.record.RecordingExporter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public final class CommandCoalescingTest {
+
+  private static final int COMMAND_COUNT = 50;
+
+  private static final EmbeddedBrokerRule BROKER_RULE =
+      new EmbeddedBrokerRule(CommandCoalescingTest::enableCommandCoalescing);
+  private static final GrpcClientRule CLIENT_RULE = new GrpcClientRule(BROKER_RULE);
+
+  @ClassRule
+  public static RuleChain ruleChain = RuleChain.outerRule(BROKER_RULE).around(CLIENT_RULE);
+
+  @Rule public final BrokerClassRuleHelper helper = new BrokerClassRuleHelper();
+
+  private static void enableCommandCoalescing(final BrokerCfg config) {
+    config.getGateway().getCommandCoalescing().setEnabled(true).setMaxBatchSize(8);
+    // all commands are sent at once, which should not be limited by the initial request limit
+    config.getBackpressure().setEnabled(false);
+  }
+
+  @Test
+  public void shouldCompleteConcurrentlySentJobCommands() {
+    // given
+    final List<Long> jobKeys = CLIENT_RULE.createJobs(helper.getJobType(), COMMAND_COUNT);
+
+    // when
+    final List<ZeebeFuture<CompleteJobResponse>> responses = new ArrayList<>();
+    for (final long jobKey : jobKeys) {
+      responses.add(CLIENT_RULE.getClient().newCompleteCommand(jobKey).send());
+    }
+    responses.forEach(ZeebeFuture::join);
+
+    // then
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withType(helper.getJobType())
+                .limit(COMMAND_COUNT))
+        .extracting(r -> r.getKey())
+        .containsExactlyInAnyOrderElementsOf(jobKeys);
+  }
+
+  @Test
+  public void shouldPublishConcurrentlySentMessages() {
+    // when
+    final List<ZeebeFuture<PublishMessageResponse>> responses = new ArrayList<>();
+    for (int i = 0; i < COMMAND_COUNT; i++) {
+      responses.add(
+          CLIENT_RULE
+              .getClient()
+              .newPublishMessageCommand()
+              .messageName(helper.getMessageName())
+              .correlationKey("key-" + i)
+              .send());
+    }
+
+    // then
+    assertThat(responses)
+        .extracting(r -> r.join().getMessageKey())
+        .doesNotHaveDuplicates()
+        .hasSize(COMMAND_COUNT);
+    assertThat(
+            RecordingExporter.messageRecords(MessageIntent.PUBLISHED)
+                .withName(helper.getMessageName())
+                .limit(COMMAND_COUNT))
+        .hasSize(COMMAND_COUNT);
+  }
+
+  @Test
+  public void shouldRejectOnlyTheInvalidCommandOfABatch() {
+    // given
+    final long jobKey = CLIENT_RULE.createSingleJob(helper.getJobType());
+
+    // when
+    final ZeebeFuture<CompleteJobResponse> first =
+        CLIENT_RULE.getClient().newCompleteCommand(jobKey).send();
+    final ZeebeFuture<CompleteJobResponse> second =
+        CLIENT_RULE.getClient().newCompleteCommand(jobKey).send();
+
+    // then
+    first.join();
+    assertThatThrownBy(second::join)
+        .isInstanceOf(ClientException.class)
+        .hasMessageContaining("Expected to complete job with key '" + jobKey + "'");
+  }
+}
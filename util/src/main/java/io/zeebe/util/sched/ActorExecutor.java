@@ -10,6 +10,7 @@ package io.zeebe.util.sched;
 import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
 import io.zeebe.util.sched.ActorTask.ActorLifecyclePhase;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -19,10 +20,14 @@ import java.util.concurrent.CompletableFuture;
 public final class ActorExecutor {
   private final ActorThreadGroup cpuBoundThreads;
   private final ActorThreadGroup ioBoundThreads;
+  private final boolean actorProfilingEnabled;
+  private final Duration slowJobThreshold;
 
   public ActorExecutor(final ActorSchedulerBuilder builder) {
     ioBoundThreads = builder.getIoBoundActorThreads();
     cpuBoundThreads = builder.getCpuBoundActorThreads();
+    actorProfilingEnabled = builder.isActorProfilingEnabled();
+    slowJobThreshold = builder.getSlowJobThreshold();
   }
 
   /**
@@ -64,4 +69,12 @@ public final class ActorExecutor {
   public ActorThreadGroup getIoBoundThreads() {
     return ioBoundThreads;
   }
+
+  public boolean isActorProfilingEnabled() {
+    return actorProfilingEnabled;
+  }
+
+  public Duration getSlowJobThreshold() {
+    return slowJobThreshold;
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import java.time.Duration;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.SleepingIdleStrategy;
+
+/**
+ * Determines what an {@link ActorThread} does when it has no work. Regardless of the strategy, an
+ * idle thread is woken up immediately when work is submitted to it from another thread.
+ */
+public enum ActorIdleStrategy {
+  /**
+   * Never parks the thread. Gives the lowest latency, but the thread occupies a core even if there
+   * is no work.
+   */
+  BUSY_SPIN {
+    @Override
+    public IdleStrategy newIdleStrategy(final Duration maxParkPeriod) {
+      return new BusySpinIdleStrategy();
+    }
+  },
+
+  /**
+   * Spins, then yields and finally parks the thread with an exponentially increasing period of up
+   * to the max park period.
+   */
+  ADAPTIVE {
+    @Override
+    public IdleStrategy newIdleStrategy(final Duration maxParkPeriod) {
+      return new BackoffIdleStrategy(
+          MAX_SPINS, MAX_YIELDS, MIN_PARK_PERIOD_NS, Math.max(1, maxParkPeriod.toNanos()));
+    }
+  },
+
+  /** Parks the thread for the max park period right away. Uses the least CPU when idle. */
+  PARK {
+    @Override
+    public IdleStrategy newIdleStrategy(final Duration maxParkPeriod) {
+      return new SleepingIdleStrategy(Math.max(1, maxParkPeriod.toNanos()));
+    }
+  };
+
+  public static final Duration DEFAULT_MAX_PARK_PERIOD = Duration.ofMillis(1);
+
+  private static final long MAX_SPINS = 100;
+  private static final long MAX_YIELDS = 100;
+  private static final long MIN_PARK_PERIOD_NS = 1;
+
+  /**
+   * Creates a new idle strategy instance. Idle strategies are stateful, so every thread needs its
+   * own instance.
+   *
+   * @param maxParkPeriod the maximum period a thread is parked at once
+   * @return a new idle strategy
+   */
+  public abstract IdleStrategy newIdleStrategy(Duration maxParkPeriod);
+}
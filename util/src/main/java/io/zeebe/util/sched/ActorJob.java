@@ -19,6 +19,9 @@ public final class ActorJob {
   Actor actor;
   ActorTask task;
   ActorThread actorThread;
+  /** the time the job was submitted, if actor profiling is enabled; 0 otherwise */
+  long submittedNs;
+
   private Callable<?> callable;
   private Runnable runnable;
   private Object invocationResult;
@@ -105,6 +108,7 @@ public final class ActorJob {
 
     resultFuture = null;
     subscription = null;
+    submittedNs = 0;
   }
 
   public void markDone() {
@@ -136,6 +140,11 @@ public final class ActorJob {
     return toString;
   }
 
+  /** @return the callable or runnable executed by this job, or null if there is none */
+  Object getOrigin() {
+    return callable != null ? callable : runnable;
+  }
+
   public boolean isTriggeredBySubscription() {
     return subscription != null;
   }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import io.prometheus.client.Histogram;
+import io.zeebe.util.Loggers;
+import org.slf4j.Logger;
+
+/**
+ * Per actor job metrics. Only created if actor profiling is enabled on the scheduler, since it adds
+ * two calls to {@link System#nanoTime()} per executed job.
+ */
+public final class ActorMetrics {
+
+  private static final Logger LOG = Loggers.ACTOR_LOGGER;
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private static final Histogram EXECUTION_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_job_execution_latency_seconds")
+          .help("Time an actor job executed on the actor thread, in seconds")
+          .labelNames("actorName")
+          .exponentialBuckets(0.00001, 4, 10)
+          .register();
+
+  private static final Histogram SCHEDULING_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_job_scheduling_latency_seconds")
+          .help("Time between submitting an actor job and the start of its execution, in seconds")
+          .labelNames("actorName")
+          .exponentialBuckets(0.00001, 4, 10)
+          .register();
+
+  private static final Histogram TIMER_LATENESS =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_timer_lateness_seconds")
+          .help("Time between the deadline of an actor timer and its expiry, in seconds")
+          .labelNames("actorName")
+          .exponentialBuckets(0.001, 4, 8)
+          .register();
+
+  private final String actorName;
+  private final long slowJobThresholdNs;
+  private final Histogram.Child executionLatency;
+  private final Histogram.Child schedulingLatency;
+  private final Histogram.Child timerLateness;
+
+  public ActorMetrics(final String actorName, final long slowJobThresholdNs) {
+    this.actorName = actorName;
+    this.slowJobThresholdNs = slowJobThresholdNs;
+    executionLatency = EXECUTION_LATENCY.labels(actorName);
+    schedulingLatency = SCHEDULING_LATENCY.labels(actorName);
+    timerLateness = TIMER_LATENESS.labels(actorName);
+  }
+
+  /**
+   * @param origin the runnable or callable the job executed, used to identify slow jobs
+   * @param nanos the execution time of the job
+   */
+  public void observeJobExecution(final Object origin, final long nanos) {
+    executionLatency.observe(nanos / NANOS_PER_SECOND);
+
+    if (slowJobThresholdNs > 0 && nanos > slowJobThresholdNs) {
+      LOG.warn(
+          "Job {} of actor {} took {} ms, which exceeds the slow job threshold of {} ms",
+          origin != null ? origin.getClass().getName() : "<subscription>",
+          actorName,
+          nanos / 1_000_000,
+          slowJobThresholdNs / 1_000_000);
+    }
+  }
+
+  public void observeSchedulingLatency(final long nanos) {
+    schedulingLatency.observe(nanos / NANOS_PER_SECOND);
+  }
+
+  public void observeTimerLateness(final long millis) {
+    timerLateness.observe(millis / 1_000d);
+  }
+}
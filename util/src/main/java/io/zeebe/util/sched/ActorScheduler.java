@@ -9,6 +9,7 @@ package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
@@ -43,7 +44,11 @@ public final class ActorScheduler {
    *       by the actor.
    * </ul>
    *
-   * Scheduling hints can be created using the {@link SchedulingHints} class.
+   * Additionally, an affinity key can be set to home the actor on a specific thread of its thread
+   * group. Actors sharing the same key are always queued on the same thread, e.g. the actors of one
+   * partition.
+   *
+   * <p>Scheduling hints can be created using the {@link SchedulingHints} class.
    *
    * @param actor the actor to submit
    * @param schedulingHints additional scheduling hint
@@ -51,6 +56,8 @@ public final class ActorScheduler {
   public ActorFuture<Void> submitActor(final Actor actor, final int schedulingHints) {
     final ActorTask task = actor.actor.task;
 
+    task.setAffinityKey(SchedulingHints.getAffinityKey(schedulingHints));
+
     final ActorFuture<Void> startingFuture;
     if (SchedulingHints.isCpuBound(schedulingHints)) {
       task.setPriority(SchedulingHints.getPriority(schedulingHints));
@@ -90,6 +97,13 @@ public final class ActorScheduler {
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private Duration workStealingIdleThreshold = Duration.ZERO;
+    private int[] cpuBoundActorThreadAffinity = new int[0];
+    private ActorIdleStrategy cpuBoundIdleStrategy = ActorIdleStrategy.ADAPTIVE;
+    private ActorIdleStrategy ioBoundIdleStrategy = ActorIdleStrategy.ADAPTIVE;
+    private Duration maxIdleParkPeriod = ActorIdleStrategy.DEFAULT_MAX_PARK_PERIOD;
+    private boolean actorProfilingEnabled = false;
+    private Duration slowJobThreshold = Duration.ofMillis(100);
 
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
@@ -141,6 +155,106 @@ public final class ActorScheduler {
       return this;
     }
 
+    public Duration getWorkStealingIdleThreshold() {
+      return workStealingIdleThreshold;
+    }
+
+    /**
+     * Sets how long a thread must have been idle before it steals tasks from other threads of its
+     * group. A threshold greater than zero keeps actors on their (home) thread as long as it keeps
+     * up with the work, at the cost of a higher latency when it does not.
+     *
+     * @param workStealingIdleThreshold the idle threshold; zero to steal immediately
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setWorkStealingIdleThreshold(
+        final Duration workStealingIdleThreshold) {
+      this.workStealingIdleThreshold = workStealingIdleThreshold;
+      return this;
+    }
+
+    public int[] getCpuBoundActorThreadAffinity() {
+      return Arrays.copyOf(cpuBoundActorThreadAffinity, cpuBoundActorThreadAffinity.length);
+    }
+
+    /**
+     * Pins the CPU-bound actor threads to the given CPUs: the thread with id {@code i} is pinned to
+     * {@code cpus[i % cpus.length]}. Pinning is only supported on Linux.
+     *
+     * @param cpus the ids of the CPUs; empty to not pin the threads
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setCpuBoundActorThreadAffinity(final int... cpus) {
+      cpuBoundActorThreadAffinity = Arrays.copyOf(cpus, cpus.length);
+      return this;
+    }
+
+    public ActorIdleStrategy getCpuBoundIdleStrategy() {
+      return cpuBoundIdleStrategy;
+    }
+
+    public ActorSchedulerBuilder setCpuBoundIdleStrategy(
+        final ActorIdleStrategy cpuBoundIdleStrategy) {
+      this.cpuBoundIdleStrategy = cpuBoundIdleStrategy;
+      return this;
+    }
+
+    public ActorIdleStrategy getIoBoundIdleStrategy() {
+      return ioBoundIdleStrategy;
+    }
+
+    public ActorSchedulerBuilder setIoBoundIdleStrategy(
+        final ActorIdleStrategy ioBoundIdleStrategy) {
+      this.ioBoundIdleStrategy = ioBoundIdleStrategy;
+      return this;
+    }
+
+    public Duration getMaxIdleParkPeriod() {
+      return maxIdleParkPeriod;
+    }
+
+    /**
+     * Sets the maximum period an idle thread is parked at once, if its idle strategy parks at all.
+     *
+     * @param maxIdleParkPeriod the maximum park period
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setMaxIdleParkPeriod(final Duration maxIdleParkPeriod) {
+      this.maxIdleParkPeriod = maxIdleParkPeriod;
+      return this;
+    }
+
+    public boolean isActorProfilingEnabled() {
+      return actorProfilingEnabled;
+    }
+
+    /**
+     * Enables the per actor job metrics: execution time, job count, time between submitting and
+     * executing a job and timer lateness. Jobs which execute longer than the slow job threshold are
+     * logged with the actor name and the job's origin.
+     *
+     * @param actorProfilingEnabled true to enable the job metrics
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setActorProfilingEnabled(final boolean actorProfilingEnabled) {
+      this.actorProfilingEnabled = actorProfilingEnabled;
+      return this;
+    }
+
+    public Duration getSlowJobThreshold() {
+      return slowJobThreshold;
+    }
+
+    /**
+     * @param slowJobThreshold the execution time after which a job is logged as slow, if actor
+     *     profiling is enabled; zero to not log slow jobs
+     * @return this builder
+     */
+    public ActorSchedulerBuilder setSlowJobThreshold(final Duration slowJobThreshold) {
+      this.slowJobThreshold = slowJobThreshold;
+      return this;
+    }
+
     public double[] getPriorityQuotas() {
       return Arrays.copyOf(priorityQuotas, priorityQuotas.length);
     }
@@ -50,6 +50,10 @@ public class ActorTask {
    * the priority class of the task. Only set if the task is scheduled as non-blocking, CPU-bound
    */
   private int priority = ActorPriority.REGULAR.getPriorityClass();
+  /** the affinity key of the task or -1 if the task can be queued on any thread of its group */
+  private int affinityKey = -1;
+  /** per actor job metrics; null if actor profiling is disabled */
+  private ActorMetrics metrics;
   /**
    * jobs that are submitted to this task externally. A job is submitted "internally" if it is
    * submitted from a job within the same actor while the task is in RUNNING state.
@@ -65,6 +69,10 @@ public class ActorTask {
       final ActorExecutor actorExecutor, final ActorThreadGroup actorThreadGroup) {
     this.actorExecutor = actorExecutor;
     this.actorThreadGroup = actorThreadGroup;
+    metrics =
+        actorExecutor.isActorProfilingEnabled()
+            ? new ActorMetrics(getName(), actorExecutor.getSlowJobThreshold().toNanos())
+            : null;
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -97,6 +105,7 @@ public class ActorTask {
   public void submit(final ActorJob job) {
     // get reference to jobs queue
     final Queue<ActorJob> submittedJobs = this.submittedJobs;
+    onJobSubmitted(job);
 
     // add job to queue
     if (submittedJobs.offer(job)) {
@@ -119,7 +128,11 @@ public class ActorTask {
 
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
-      currentJob.execute(runner);
+      if (metrics == null) {
+        currentJob.execute(runner);
+      } else {
+        executeCurrentJobProfiled(runner);
+      }
 
       switch (currentJob.schedulingState) {
         case TERMINATED:
@@ -165,6 +178,36 @@ public class ActorTask {
     return resubmit;
   }
 
+  private void executeCurrentJobProfiled(final ActorThread runner) {
+    final ActorJob job = currentJob;
+    final Object origin = job.getOrigin();
+    final long startNs = System.nanoTime();
+
+    if (job.submittedNs > 0) {
+      metrics.observeSchedulingLatency(startNs - job.submittedNs);
+      // the job may be executed again, e.g. if it is run until done
+      job.submittedNs = 0;
+    }
+
+    job.execute(runner);
+
+    metrics.observeJobExecution(origin, System.nanoTime() - startNs);
+  }
+
+  private void onJobSubmitted(final ActorJob job) {
+    if (metrics != null) {
+      job.submittedNs = System.nanoTime();
+    }
+  }
+
+  /** Called when a timer of this actor expired, after its deadline plus the given lateness. */
+  void onTimerExpired(final ActorJob job, final long latenessMillis) {
+    if (metrics != null) {
+      metrics.observeTimerLateness(latenessMillis);
+      job.submittedNs = System.nanoTime();
+    }
+  }
+
   private boolean onAllJobsDone() {
     boolean resubmit = false;
 
@@ -484,6 +527,14 @@ public class ActorTask {
     this.priority = priority;
   }
 
+  public int getAffinityKey() {
+    return affinityKey;
+  }
+
+  public void setAffinityKey(final int affinityKey) {
+    this.affinityKey = affinityKey;
+  }
+
   public ActorExecutor getActorExecutor() {
     return actorExecutor;
   }
@@ -515,6 +566,8 @@ public class ActorTask {
   }
 
   public void setUpdatedSchedulingHints(final int hints) {
+    affinityKey = SchedulingHints.getAffinityKey(hints);
+
     if (SchedulingHints.isCpuBound(hints)) {
       priority = SchedulingHints.getPriority(hints);
       actorThreadGroup = actorExecutor.getCpuBoundThreads();
@@ -528,6 +581,7 @@ public class ActorTask {
   }
 
   public void insertJob(final ActorJob job) {
+    onJobSubmitted(job);
     fastLaneJobs.addFirst(job);
   }
 
@@ -102,6 +102,31 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     return next == empty ? null : next;
   }
 
+  /**
+   * Counts the queued tasks by walking the queue, skipping the nodes of tasks which were stolen
+   * already. It is meant for sampling metrics and should be called by the thread which owns the
+   * queue; the count is approximate since tasks may be appended or stolen concurrently.
+   *
+   * @param limit the maximum number of nodes to visit
+   * @return the number of queued tasks, at most the given limit
+   */
+  public int countQueuedTasks(final int limit) {
+    int count = 0;
+    int visited = 0;
+    ActorTaskQueueNode node = head.next;
+
+    while (node != null && node != empty && visited < limit) {
+      if (node.task.getStateCount() == node.stateCount) {
+        count += 1;
+      }
+
+      visited += 1;
+      node = node.next;
+    }
+
+    return count;
+  }
+
   public boolean isEmpty() {
     return head == tail;
   }
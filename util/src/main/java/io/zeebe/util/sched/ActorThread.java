@@ -16,7 +16,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.agrona.UnsafeAccess;
-import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.slf4j.Logger;
 import org.slf4j.MDC;
@@ -26,6 +26,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   static final Unsafe UNSAFE = UnsafeAccess.UNSAFE;
   private static final long STATE_OFFSET;
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
+  private static final long METRICS_SAMPLE_INTERVAL_NS = TimeUnit.SECONDS.toNanos(1);
 
   static {
     try {
@@ -46,7 +47,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final TaskScheduler taskScheduler;
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
+  private final ActorThreadMetrics metrics;
   private volatile ActorThreadState state;
+  private int pinnedCpu = -1;
+  private long lastMetricsSampleNs;
 
   public ActorThread(
       final String name,
@@ -62,6 +66,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
+    metrics = new ActorThreadMetrics(threadGroup != null ? threadGroup.getGroupName() : "", name);
   }
 
   private void doWork() {
@@ -71,6 +76,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       timerJobQueue.processExpiredTimers(clock);
     }
 
+    sampleMetrics();
+
     currentTask = taskScheduler.getNextTask(clock);
 
     if (currentTask != null) {
@@ -110,6 +117,57 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  private void sampleMetrics() {
+    final long now = clock.getNanoTime();
+    if (now - lastMetricsSampleNs >= METRICS_SAMPLE_INTERVAL_NS) {
+      lastMetricsSampleNs = now;
+      idleStrategy.flushBusyTime();
+
+      if (actorThreadGroup != null) {
+        metrics.setQueueDepth(actorThreadGroup.getQueueDepth(threadId));
+      }
+    }
+  }
+
+  /**
+   * Returns true if the thread has been idle for at least the given duration. Used to delay work
+   * stealing, such that actors stay on their thread as long as that thread keeps up.
+   *
+   * @param nanos the minimal idle duration; 0 if the thread may steal immediately
+   */
+  boolean isIdleFor(final long nanos) {
+    return nanos <= 0
+        || (idleStrategy.isIdle && clock.getNanoTime() - idleStrategy.idleTimeStart >= nanos);
+  }
+
+  void onTaskStolen() {
+    metrics.taskStolen();
+  }
+
+  /**
+   * Pins the thread to the given CPU when it is started. Must be called before the thread is
+   * started.
+   *
+   * @param cpu the id of the CPU, or -1 to not pin the thread
+   */
+  public void setPinnedCpu(final int cpu) {
+    pinnedCpu = cpu;
+  }
+
+  public int getPinnedCpu() {
+    return pinnedCpu;
+  }
+
+  /**
+   * Sets the strategy which is used while the thread has no work. Must be called before the thread
+   * is started.
+   *
+   * @param strategy the idle strategy; must not be shared with other threads
+   */
+  public void setIdleStrategy(final IdleStrategy strategy) {
+    idleStrategy.strategy = strategy;
+  }
+
   public void hintWorkAvailable() {
     idleStrategy.hintWorkAvailable();
   }
@@ -184,6 +242,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   @Override
   public void run() {
+    if (pinnedCpu >= 0) {
+      CpuAffinity.pinCurrentThread(pinnedCpu);
+    }
+
     idleStrategy.init();
 
     while (state == ActorThreadState.RUNNING) {
@@ -243,19 +305,29 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   protected class ActorTaskRunnerIdleStrategy {
-    final BackoffIdleStrategy backoff =
-        new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
+    IdleStrategy strategy =
+        ActorIdleStrategy.ADAPTIVE.newIdleStrategy(ActorIdleStrategy.DEFAULT_MAX_PARK_PERIOD);
     boolean isIdle;
 
     long idleTimeStart;
     long busyTimeStart;
+    /** the time up to which the busy time of the current busy period was recorded already */
+    long busyTimeRecorded;
+
+    /** the time another thread requested to wake up this thread, or 0 if it was not requested */
+    volatile long wakeUpRequestedNs;
 
     void init() {
       isIdle = true;
-      idleTimeStart = System.nanoTime();
+      clock.update();
+      idleTimeStart = clock.getNanoTime();
     }
 
     public void hintWorkAvailable() {
+      if (isIdle && wakeUpRequestedNs == 0) {
+        wakeUpRequestedNs = System.nanoTime();
+      }
+
       LockSupport.unpark(ActorThread.this);
     }
 
@@ -263,18 +335,41 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       if (!isIdle) {
         clock.update();
         idleTimeStart = clock.getNanoTime();
+        metrics.addBusyTime(idleTimeStart - busyTimeRecorded);
+        metrics.observeBusyPeriod(idleTimeStart - busyTimeStart);
         isIdle = true;
       }
 
-      backoff.idle();
+      strategy.idle();
+      recordWakeUp();
+    }
+
+    /** Records the busy time so far, such that threads which are never idle report it too. */
+    void flushBusyTime() {
+      if (!isIdle) {
+        final long now = clock.getNanoTime();
+        metrics.addBusyTime(now - busyTimeRecorded);
+        busyTimeRecorded = now;
+      }
     }
 
     protected void onTaskExecuted() {
-      backoff.reset();
+      strategy.reset();
 
       if (isIdle) {
         busyTimeStart = clock.getNanoTime();
+        busyTimeRecorded = busyTimeStart;
+        metrics.observeIdlePeriod(busyTimeStart - idleTimeStart);
         isIdle = false;
+        recordWakeUp();
+      }
+    }
+
+    private void recordWakeUp() {
+      final long requestedNs = wakeUpRequestedNs;
+      if (requestedNs != 0) {
+        wakeUpRequestedNs = 0;
+        metrics.observeWakeUpLatency(System.nanoTime() - requestedNs);
       }
     }
   }
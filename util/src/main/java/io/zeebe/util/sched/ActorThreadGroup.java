@@ -30,7 +30,9 @@ public abstract class ActorThreadGroup {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
 
-    tasks = new MultiLevelWorkstealingGroup(numOfThreads, numOfQueuesPerThread);
+    tasks =
+        new MultiLevelWorkstealingGroup(
+            numOfThreads, numOfQueuesPerThread, builder.getWorkStealingIdleThreshold().toNanos());
 
     threads = new ActorThread[numOfThreads];
 
@@ -49,6 +51,9 @@ public abstract class ActorThreadGroup {
                   builder.getActorClock(),
                   builder.getActorTimerQueue());
 
+      thread.setPinnedCpu(getPinnedCpu(builder, t));
+      thread.setIdleStrategy(
+          getIdleStrategy(builder).newIdleStrategy(builder.getMaxIdleParkPeriod()));
       threads[t] = thread;
     }
   }
@@ -59,22 +64,52 @@ public abstract class ActorThreadGroup {
   public void submit(final ActorTask actorTask) {
     final int level = getLevel(actorTask);
 
+    final int homeThreadId = getHomeThreadId(actorTask);
+
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    if (current != null
+        && current.getActorThreadGroup() == this
+        && (homeThreadId < 0 || homeThreadId == current.getRunnerId())) {
       tasks.submit(actorTask, level, current.getRunnerId());
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      final int threadId =
+          homeThreadId >= 0 ? homeThreadId : ThreadLocalRandom.current().nextInt(numOfThreads);
       tasks.submit(actorTask, level, threadId);
       threads[threadId].hintWorkAvailable();
     }
   }
 
+  private int getHomeThreadId(final ActorTask actorTask) {
+    final int affinityKey = actorTask.getAffinityKey();
+    return affinityKey < 0 ? -1 : affinityKey % numOfThreads;
+  }
+
+  /**
+   * @param builder the scheduler builder
+   * @return the strategy the threads of this group use when they have no work
+   */
+  protected abstract ActorIdleStrategy getIdleStrategy(ActorSchedulerBuilder builder);
+
+  /**
+   * @param builder the scheduler builder
+   * @param threadId the id of the thread in this group
+   * @return the CPU the given thread should be pinned to, or -1 if it should not be pinned
+   */
+  protected int getPinnedCpu(final ActorSchedulerBuilder builder, final int threadId) {
+    return -1;
+  }
+
   protected abstract int getLevel(ActorTask actorTask);
 
   public String getGroupName() {
     return groupName;
   }
 
+  /** @return the approximate number of tasks queued on the given thread */
+  public long getQueueDepth(final int threadId) {
+    return tasks.getQueueDepth(threadId);
+  }
+
   public int getNumOfThreads() {
     return numOfThreads;
   }
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * Metrics of a single {@link ActorThread}. The children are resolved once on creation, such that
+ * updating the metrics from the thread's work loop does not need any label lookups.
+ */
+public final class ActorThreadMetrics {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private static final Counter BUSY_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_busy_time_seconds_total")
+          .help("Time the actor thread spent executing tasks, in seconds")
+          .labelNames("threadGroup", "thread")
+          .register();
+
+  private static final Counter STOLEN_TASKS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_stolen_tasks_total")
+          .help("Number of tasks the actor thread stole from the queues of other threads")
+          .labelNames("threadGroup", "thread")
+          .register();
+
+  private static final Gauge QUEUE_DEPTH =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("actor_thread_queue_depth")
+          .help("Approximate number of tasks queued on the actor thread")
+          .labelNames("threadGroup", "thread")
+          .register();
+
+  private static final Histogram BUSY_PERIOD =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_thread_busy_period_seconds")
+          .help("Duration of the periods in which the actor thread executed tasks without pause")
+          .labelNames("threadGroup", "thread")
+          .exponentialBuckets(0.00001, 4, 10)
+          .register();
+
+  private static final Histogram IDLE_PERIOD =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_thread_idle_period_seconds")
+          .help("Duration of the periods in which the actor thread had no task to execute")
+          .labelNames("threadGroup", "thread")
+          .exponentialBuckets(0.00001, 4, 10)
+          .register();
+
+  private static final Histogram WAKE_UP_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_thread_wake_up_latency_seconds")
+          .help("Time between submitting work to an idle actor thread and the thread resuming work")
+          .labelNames("threadGroup", "thread")
+          .exponentialBuckets(0.000001, 4, 10)
+          .register();
+
+  private final Counter.Child busyTime;
+  private final Histogram.Child busyPeriod;
+  private final Histogram.Child idlePeriod;
+  private final Histogram.Child wakeUpLatency;
+  private final Counter.Child stolenTasks;
+  private final Gauge.Child queueDepth;
+
+  public ActorThreadMetrics(final String threadGroup, final String thread) {
+    busyTime = BUSY_TIME.labels(threadGroup, thread);
+    stolenTasks = STOLEN_TASKS.labels(threadGroup, thread);
+    queueDepth = QUEUE_DEPTH.labels(threadGroup, thread);
+    busyPeriod = BUSY_PERIOD.labels(threadGroup, thread);
+    idlePeriod = IDLE_PERIOD.labels(threadGroup, thread);
+    wakeUpLatency = WAKE_UP_LATENCY.labels(threadGroup, thread);
+  }
+
+  public void observeBusyPeriod(final long nanos) {
+    busyPeriod.observe(nanos / NANOS_PER_SECOND);
+  }
+
+  public void observeIdlePeriod(final long nanos) {
+    idlePeriod.observe(nanos / NANOS_PER_SECOND);
+  }
+
+  public void observeWakeUpLatency(final long nanos) {
+    wakeUpLatency.observe(nanos / NANOS_PER_SECOND);
+  }
+
+  public void addBusyTime(final long nanos) {
+    busyTime.inc(nanos / NANOS_PER_SECOND);
+  }
+
+  public void taskStolen() {
+    stolenTasks.inc();
+  }
+
+  public void setQueueDepth(final long depth) {
+    queueDepth.set(depth);
+  }
+}
@@ -52,6 +52,7 @@ public final class ActorTimerQueue extends DeadlineTimerWheel {
 
     final long timerId = scheduleTimer(deadline);
     timer.setTimerId(timerId);
+    timer.setScheduledDeadline(deadline);
 
     timerJobMap.put(timerId, timer);
   }
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import com.sun.jna.Function;
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Platform;
+import io.zeebe.util.Loggers;
+import org.slf4j.Logger;
+
+/** Pins threads to a CPU. Only supported on Linux, where it uses {@code sched_setaffinity(2)}. */
+final class CpuAffinity {
+  private static final Logger LOG = Loggers.ACTOR_LOGGER;
+  /** the size of the kernel's cpu_set_t, which supports up to 1024 CPUs */
+  private static final int CPU_SET_SIZE = 1024;
+
+  private CpuAffinity() {}
+
+  /**
+   * Pins the calling thread to the given CPU. Failures are logged and otherwise ignored, since
+   * pinning is an optimization only.
+   *
+   * @param cpu the id of the CPU
+   * @return true if the thread was pinned, false otherwise
+   */
+  static boolean pinCurrentThread(final int cpu) {
+    if (cpu < 0 || cpu >= CPU_SET_SIZE) {
+      LOG.warn("Expected CPU id to be in the range [0,{}), but was {}", CPU_SET_SIZE, cpu);
+      return false;
+    }
+
+    if (!Platform.isLinux()) {
+      LOG.warn("Pinning actor threads to CPUs is only supported on Linux, ignoring CPU {}", cpu);
+      return false;
+    }
+
+    final long[] mask = new long[CPU_SET_SIZE / Long.SIZE];
+    mask[cpu / Long.SIZE] |= 1L << (cpu % Long.SIZE);
+
+    try {
+      // pid 0 refers to the calling thread
+      final Function setAffinity =
+          Function.getFunction("c", "sched_setaffinity", Function.THROW_LAST_ERROR);
+      setAffinity.invokeInt(new Object[] {0, mask.length * Long.BYTES, mask});
+      LOG.debug("Pinned thread {} to CPU {}", Thread.currentThread().getName(), cpu);
+      return true;
+    } catch (final LastErrorException | UnsatisfiedLinkError e) {
+      LOG.warn(
+          "Failed to pin thread {} to CPU {}, it will run unpinned",
+          Thread.currentThread().getName(),
+          cpu,
+          e);
+      return false;
+    }
+  }
+}
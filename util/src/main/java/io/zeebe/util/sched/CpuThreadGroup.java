@@ -26,6 +26,17 @@ public final class CpuThreadGroup extends ActorThreadGroup {
     return new PriorityScheduler(tasks::getNextTask, builder.getPriorityQuotas());
   }
 
+  @Override
+  protected int getPinnedCpu(final ActorSchedulerBuilder builder, final int threadId) {
+    final int[] cpuAffinity = builder.getCpuBoundActorThreadAffinity();
+    return cpuAffinity.length > 0 ? cpuAffinity[threadId % cpuAffinity.length] : -1;
+  }
+
+  @Override
+  protected ActorIdleStrategy getIdleStrategy(final ActorSchedulerBuilder builder) {
+    return builder.getCpuBoundIdleStrategy();
+  }
+
   @Override
   protected int getLevel(final ActorTask actorTask) {
     return actorTask.getPriority();
@@ -25,6 +25,11 @@ public final class IoThreadGroup extends ActorThreadGroup {
     return new IoScheduler(tasks);
   }
 
+  @Override
+  protected ActorIdleStrategy getIdleStrategy(final ActorSchedulerBuilder builder) {
+    return builder.getIoBoundIdleStrategy();
+  }
+
   @Override
   protected int getLevel(final ActorTask actorTask) {
     return 0;
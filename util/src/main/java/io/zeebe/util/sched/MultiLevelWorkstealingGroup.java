@@ -15,9 +15,20 @@ public final class MultiLevelWorkstealingGroup {
   private final WorkStealingGroup[] workStealingGroups;
 
   public MultiLevelWorkstealingGroup(final int numOfThreads, final int levels) {
+    this(numOfThreads, levels, 0);
+  }
+
+  /**
+   * @param numOfThreads the number of threads
+   * @param levels the number of queues per thread
+   * @param stealingIdleThresholdNs how long (in nanoseconds) a thread must have been idle before it
+   *     steals tasks from other threads; 0 to steal as soon as the own queues are empty
+   */
+  public MultiLevelWorkstealingGroup(
+      final int numOfThreads, final int levels, final long stealingIdleThresholdNs) {
     workStealingGroups = new WorkStealingGroup[levels];
     for (int i = 0; i < levels; i++) {
-      workStealingGroups[i] = new WorkStealingGroup(numOfThreads);
+      workStealingGroups[i] = new WorkStealingGroup(numOfThreads, stealingIdleThresholdNs);
     }
   }
 
@@ -28,4 +39,13 @@ public final class MultiLevelWorkstealingGroup {
   public void submit(final ActorTask task, final int level, final int threadId) {
     workStealingGroups[level].submit(task, threadId);
   }
+
+  /** @return the approximate number of queued tasks of the given thread, over all levels */
+  public long getQueueDepth(final int threadId) {
+    long depth = 0;
+    for (final WorkStealingGroup group : workStealingGroups) {
+      depth += group.getQueueDepth(threadId);
+    }
+    return depth;
+  }
 }
@@ -7,8 +7,25 @@
  */
 package io.zeebe.util.sched;
 
+/**
+ * Scheduling hints are encoded in a single int:
+ *
+ * <ul>
+ *   <li>bit 0: set if the actor is I/O-bound
+ *   <li>bits 1-7: the priority class of a CPU-bound actor
+ *   <li>bit 8: set if the actor has an affinity key
+ *   <li>bits 9-30: the affinity key; actors sharing the same key are homed on the same thread of
+ *       their thread group
+ * </ul>
+ */
 public final class SchedulingHints {
 
+  private static final int PRIORITY_SHIFT = 1;
+  private static final int PRIORITY_MASK = 0x7F << PRIORITY_SHIFT;
+  private static final int AFFINITY_FLAG = 1 << 8;
+  private static final int AFFINITY_KEY_SHIFT = 9;
+  private static final int AFFINITY_KEY_MASK = 0x3FFFFF;
+
   public static int ioBound() {
     int hints = 0;
 
@@ -39,14 +56,53 @@ public final class SchedulingHints {
   }
 
   public static boolean isIoBound(final int hints) {
-    return (hints & 1) == hints;
+    final int withoutAffinity = clearAffinityKey(hints);
+    return (withoutAffinity & 1) == withoutAffinity;
   }
 
   public static int setPriority(final short priority, final int hints) {
-    return hints | (priority << 1);
+    return hints | ((priority << PRIORITY_SHIFT) & PRIORITY_MASK);
   }
 
   public static short getPriority(final int hints) {
-    return (short) (hints >> 1);
+    return (short) ((hints & PRIORITY_MASK) >> PRIORITY_SHIFT);
+  }
+
+  /**
+   * Assigns an affinity key to the actor. The scheduler maps the key to a home thread and always
+   * queues the actor on that thread, so actors which share data (e.g. the actors of one partition)
+   * keep their working set in the same CPU caches. Other threads only steal the actor once they
+   * have been idle for longer than the configured work stealing threshold.
+   *
+   * @param affinityKey a non-negative key, e.g. the partition id
+   * @param hints the hints to extend
+   * @return the hints including the affinity key
+   */
+  public static int setAffinityKey(final int affinityKey, final int hints) {
+    if (affinityKey < 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected affinity key to be non-negative, but was %d", affinityKey));
+    }
+
+    return clearAffinityKey(hints)
+        | AFFINITY_FLAG
+        | ((affinityKey & AFFINITY_KEY_MASK) << AFFINITY_KEY_SHIFT);
+  }
+
+  public static boolean hasAffinityKey(final int hints) {
+    return (hints & AFFINITY_FLAG) == AFFINITY_FLAG;
+  }
+
+  /** @return the affinity key of the hints, or -1 if no affinity key is set */
+  public static int getAffinityKey(final int hints) {
+    if (!hasAffinityKey(hints)) {
+      return -1;
+    }
+
+    return (hints >> AFFINITY_KEY_SHIFT) & AFFINITY_KEY_MASK;
+  }
+
+  private static int clearAffinityKey(final int hints) {
+    return hints & ~AFFINITY_FLAG & ~(AFFINITY_KEY_MASK << AFFINITY_KEY_SHIFT);
   }
 }
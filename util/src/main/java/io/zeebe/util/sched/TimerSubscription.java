@@ -18,6 +18,7 @@ public final class TimerSubscription implements ActorSubscription, ScheduledTime
   private volatile boolean isDone = false;
   private volatile boolean isCanceled = false;
   private long timerId = -1L;
+  private long scheduledDeadline;
   private ActorThread thread;
 
   public TimerSubscription(
@@ -81,6 +82,11 @@ public final class TimerSubscription implements ActorSubscription, ScheduledTime
     thread.scheduleTimer(this);
   }
 
+  /** @param scheduledDeadline the absolute deadline in the time unit of the timer queue */
+  public void setScheduledDeadline(final long scheduledDeadline) {
+    this.scheduledDeadline = scheduledDeadline;
+  }
+
   public long getDeadline() {
     return deadline;
   }
@@ -91,6 +97,7 @@ public final class TimerSubscription implements ActorSubscription, ScheduledTime
 
   public void onTimerExpired(final TimeUnit timeUnit, final long now) {
     if (!isCanceled) {
+      task.onTimerExpired(job, TimeUnit.MILLISECONDS.convert(now - scheduledDeadline, timeUnit));
       isDone = true;
       task.tryWakeup();
     }
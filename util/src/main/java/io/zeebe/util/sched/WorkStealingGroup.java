@@ -13,11 +13,20 @@ import java.util.concurrent.ThreadLocalRandom;
 
 /** Workstealing group maintains a queue per thread. */
 public final class WorkStealingGroup {
+  // bounds the walk over the queue when sampling its depth
+  private static final int MAX_SAMPLED_QUEUE_DEPTH = 10_000;
+
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final long stealingIdleThresholdNs;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, 0);
+  }
+
+  public WorkStealingGroup(final int numOfThreads, final long stealingIdleThresholdNs) {
     this.numOfThreads = numOfThreads;
+    this.stealingIdleThresholdNs = stealingIdleThresholdNs;
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
@@ -44,19 +53,33 @@ public final class WorkStealingGroup {
     final ActorThread currentThread = ActorThread.current();
     ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
 
-    if (nextTask == null) {
+    if (nextTask == null && currentThread.isIdleFor(stealingIdleThresholdNs)) {
       nextTask = trySteal(currentThread);
     }
 
     return nextTask;
   }
 
+  /**
+   * Samples the number of tasks queued on the given thread. It walks the queue, so it should only
+   * be called periodically by the thread itself.
+   *
+   * @return the approximate number of tasks queued on the given thread
+   */
+  public long getQueueDepth(final int threadId) {
+    return taskQueues[threadId].countQueuedTasks(MAX_SAMPLED_QUEUE_DEPTH);
+  }
+
   /**
    * Work stealing: when this runner (aka. the "thief") has no more tasks to run, it attempts to
    * take ("steal") a task from another runner (aka. the "victim").
    *
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
+   *
+   * <p>Stealing moves the task away from the caches of the thread it was queued on. To keep actors
+   * close to their working set, a runner only becomes a thief after it has been idle for the
+   * configured threshold.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
     /*
@@ -83,6 +106,7 @@ public final class WorkStealingGroup {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          currentThread.onTaskStolen();
           return stolenActor;
         }
       }
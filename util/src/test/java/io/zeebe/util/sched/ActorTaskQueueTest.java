@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public final class ActorTaskQueueTest {
+
+  private final ActorTaskQueue queue = new ActorTaskQueue();
+
+  @Test
+  public void shouldCountQueuedTasks() {
+    // given
+    queue.append(new ActorTask(new Actor() {}));
+    queue.append(new ActorTask(new Actor() {}));
+    queue.append(new ActorTask(new Actor() {}));
+
+    // when
+    queue.pop();
+
+    // then
+    assertThat(queue.countQueuedTasks(100)).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotCountStolenTasks() {
+    // given
+    queue.append(new ActorTask(new Actor() {}));
+    queue.append(new ActorTask(new Actor() {}));
+
+    // when
+    queue.trySteal();
+
+    // then
+    assertThat(queue.countQueuedTasks(100)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldLimitCountedTasks() {
+    // given
+    queue.append(new ActorTask(new Actor() {}));
+    queue.append(new ActorTask(new Actor() {}));
+    queue.append(new ActorTask(new Actor() {}));
+
+    // when
+    final int count = queue.countQueuedTasks(2);
+
+    // then
+    assertThat(count).isEqualTo(2);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.cpubound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorPriority;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.ActorThread;
+import io.zeebe.util.sched.FutureUtil;
+import io.zeebe.util.sched.SchedulingHints;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ActorAffinityTest {
+
+  private static final int THREAD_COUNT = 4;
+
+  private ActorScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(THREAD_COUNT)
+            .setIoBoundActorThreadCount(1)
+            .setWorkStealingIdleThreshold(Duration.ofHours(1))
+            .build();
+    scheduler.start();
+  }
+
+  @After
+  public void tearDown() {
+    FutureUtil.join(scheduler.stop());
+  }
+
+  @Test
+  public void shouldEncodeAffinityKeyInSchedulingHints() {
+    // given
+    final int hints = SchedulingHints.cpuBound(ActorPriority.HIGH);
+
+    // when
+    final int hintsWithAffinity = SchedulingHints.setAffinityKey(42, hints);
+
+    // then
+    assertThat(SchedulingHints.hasAffinityKey(hints)).isFalse();
+    assertThat(SchedulingHints.getAffinityKey(hints)).isEqualTo(-1);
+    assertThat(SchedulingHints.hasAffinityKey(hintsWithAffinity)).isTrue();
+    assertThat(SchedulingHints.getAffinityKey(hintsWithAffinity)).isEqualTo(42);
+    assertThat(SchedulingHints.isCpuBound(hintsWithAffinity)).isTrue();
+    assertThat(SchedulingHints.getPriority(hintsWithAffinity))
+        .isEqualTo(ActorPriority.HIGH.getPriorityClass());
+  }
+
+  @Test
+  public void shouldKeepIoBoundHintWithAffinityKey() {
+    // when
+    final int hints = SchedulingHints.setAffinityKey(3, SchedulingHints.ioBound());
+
+    // then
+    assertThat(SchedulingHints.isIoBound(hints)).isTrue();
+    assertThat(SchedulingHints.isCpuBound(hints)).isFalse();
+    assertThat(SchedulingHints.getAffinityKey(hints)).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldRunActorsWithSameAffinityKeyOnHomeThread() {
+    // given
+    final Set<Integer> runnerIds = ConcurrentHashMap.newKeySet();
+    final ThreadRecordingActor first = new ThreadRecordingActor(runnerIds);
+    final ThreadRecordingActor second = new ThreadRecordingActor(runnerIds);
+    final int hints =
+        SchedulingHints.setAffinityKey(6, SchedulingHints.cpuBound(ActorPriority.REGULAR));
+
+    scheduler.submitActor(first, hints).join();
+    scheduler.submitActor(second, hints).join();
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      first.record().join();
+      second.record().join();
+    }
+
+    // then
+    assertThat(runnerIds).containsExactly(6 % THREAD_COUNT);
+  }
+
+  private static final class ThreadRecordingActor extends Actor {
+    private final Set<Integer> runnerIds;
+
+    private ThreadRecordingActor(final Set<Integer> runnerIds) {
+      this.runnerIds = runnerIds;
+    }
+
+    @Override
+    protected void onActorStarting() {
+      runnerIds.add(ActorThread.current().getRunnerId());
+    }
+
+    ActorFuture<Boolean> record() {
+      return actor.call(() -> runnerIds.add(ActorThread.current().getRunnerId()));
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.functional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.FutureUtil;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ActorProfilingTest {
+
+  private ActorScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .setActorProfilingEnabled(true)
+            .build();
+    scheduler.start();
+  }
+
+  @After
+  public void tearDown() {
+    FutureUtil.join(scheduler.stop());
+  }
+
+  @Test
+  public void shouldObserveExecutedJobs() {
+    // given
+    final ProfiledActor actor = new ProfiledActor();
+    scheduler.submitActor(actor).join();
+    final double executedJobs =
+        getSampleValue("zeebe_actor_job_execution_latency_seconds_count", actor);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      actor.doCall().join();
+    }
+
+    // then
+    assertThat(getSampleValue("zeebe_actor_job_execution_latency_seconds_count", actor))
+        .isGreaterThanOrEqualTo(10);
+    assertThat(getSampleValue("zeebe_actor_job_scheduling_latency_seconds_count", actor))
+        .isGreaterThanOrEqualTo(10);
+  }
+
+  @Test
+  public void shouldObserveTimerLateness() {
+    // given
+    final ProfiledActor actor = new ProfiledActor();
+    scheduler.submitActor(actor).join();
+
+    // when
+    actor.runDelayed(Duration.ofMillis(1)).join();
+
+    // then
+    assertThat(getSampleValue("zeebe_actor_timer_lateness_seconds_count", actor)).isEqualTo(1);
+  }
+
+  private static double getSampleValue(final String name, final Actor actor) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            name, new String[] {"actorName"}, new String[] {actor.getName()});
+    return value != null ? value : 0;
+  }
+
+  private static final class ProfiledActor extends Actor {
+    private final String name = "profiled-" + UUID.randomUUID();
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    ActorFuture<Void> doCall() {
+      return actor.call(() -> {});
+    }
+
+    ActorFuture<Void> runDelayed(final Duration delay) {
+      final CompletableActorFuture<Void> future = new CompletableActorFuture<>();
+      actor.run(() -> actor.runDelayed(delay, () -> future.complete(null)));
+      return future;
+    }
+  }
+}